@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client.msc;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meilisearch.sdk.json.GsonJsonHandler;
+import com.meilisearch.sdk.json.JsonHandler;
+import com.meilisearch.sdk.model.SearchResult;
+
+import io.vanslog.spring.data.meilisearch.core.SearchHit;
+import io.vanslog.spring.data.meilisearch.core.SearchHits;
+import io.vanslog.spring.data.meilisearch.core.SearchHitsImpl;
+import io.vanslog.spring.data.meilisearch.core.convert.MappingMeilisearchConverter;
+import io.vanslog.spring.data.meilisearch.core.convert.MeilisearchConverter;
+import io.vanslog.spring.data.meilisearch.core.mapping.SimpleMeilisearchMappingContext;
+
+/**
+ * Compares reading a search response with the Meilisearch Java client followed by an {@link ObjectMapper} conversion,
+ * which decodes the hits into maps and converts every map into an entity, with {@link SearchResponseReader}, which
+ * binds the hits while parsing the body.
+ * <p>
+ * Run with {@code ./mvnw -Pjmh test-compile exec:java -Dexec.args="SearchResponseReaderBenchmark -prof gc"} and
+ * compare {@code gc.alloc.rate.norm} divided by the number of hits for the allocation per hit.
+ *
+ * @author Junghoon Ban
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SearchResponseReaderBenchmark {
+
+	@Param({ "20", "1000", "10000" }) int hits;
+
+	private final JsonHandler jsonHandler = new GsonJsonHandler();
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final MeilisearchConverter converter = new MappingMeilisearchConverter(
+			new SimpleMeilisearchMappingContext());
+	private final SearchResponseReader searchResponseReader = new SearchResponseReader(converter);
+	private String body;
+
+	@Setup
+	public void setUp() {
+
+		String documents = IntStream.range(0, hits) //
+				.mapToObj(i -> "{\"id\":" + i + ",\"title\":\"Movie " + i + "\",\"description\":\"A film about "
+						+ "the number " + i + "\",\"genres\":[\"Drama\",\"Adventure\"],\"year\":" + (1950 + i % 70) + "}") //
+				.collect(Collectors.joining(","));
+
+		body = "{\"hits\":[" + documents + "],\"query\":\"movie\",\"processingTimeMs\":4,\"limit\":" + hits
+				+ ",\"offset\":0,\"estimatedTotalHits\":" + hits + "}";
+	}
+
+	@Benchmark
+	public SearchHits<Movie> clientDecodeAndConvert() throws Exception {
+
+		SearchResult result = jsonHandler.decode(body, SearchResult.class);
+		List<SearchHit<Movie>> searchHits = result.getHits().stream() //
+				.map(hit -> new SearchHit<>(objectMapper.convertValue(hit, Movie.class), result)) //
+				.toList();
+		return new SearchHitsImpl<>(Duration.ofMillis(result.getProcessingTimeMs()), searchHits);
+	}
+
+	@Benchmark
+	public SearchHits<Movie> streamingRead() {
+		return searchResponseReader.read(body, Movie.class);
+	}
+
+	public static class Movie {
+
+		private int id;
+		private String title;
+		private String description;
+		private String[] genres;
+		private int year;
+
+		public int getId() {
+			return id;
+		}
+
+		public void setId(int id) {
+			this.id = id;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+
+		public void setTitle(String title) {
+			this.title = title;
+		}
+
+		public String getDescription() {
+			return description;
+		}
+
+		public void setDescription(String description) {
+			this.description = description;
+		}
+
+		public String[] getGenres() {
+			return genres;
+		}
+
+		public void setGenres(String[] genres) {
+			this.genres = genres;
+		}
+
+		public int getYear() {
+			return year;
+		}
+
+		public void setYear(int year) {
+			this.year = year;
+		}
+	}
+}
@@ -46,4 +46,10 @@ public @interface Document {
 	 * Apply the settings to the index on repository bootstrapping.
 	 */
 	boolean applySettings() default true;
+
+	/**
+	 * Track the fields of loaded entities, so that updates only send the fields that changed since an entity was read
+	 * or written.
+	 */
+	boolean dirtyTracking() default false;
 }
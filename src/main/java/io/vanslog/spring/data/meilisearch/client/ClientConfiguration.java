@@ -15,6 +15,8 @@
  */
 package io.vanslog.spring.data.meilisearch.client;
 
+import java.time.Duration;
+
 /**
  * Interface for Meilisearch Configuration.
  *
@@ -65,4 +67,32 @@ public interface ClientConfiguration {
 	 * @return requestInterval in milliseconds
 	 */
 	int getRequestInterval();
+
+	/**
+	 * Get the timeout for connecting to the Meilisearch server.
+	 *
+	 * @return connectTimeout
+	 */
+	default Duration getConnectTimeout() {
+		return Duration.ofSeconds(10);
+	}
+
+	/**
+	 * Get the timeout for the response of an HTTP request, measured from sending the request, including its body, until
+	 * the response headers are received. Unlike {@link #getRequestTimeout()}, it does not limit the wait for a task.
+	 *
+	 * @return responseTimeout
+	 */
+	default Duration getResponseTimeout() {
+		return Duration.ofSeconds(10);
+	}
+
+	/**
+	 * Get the policy for retrying requests that failed for a transient reason.
+	 *
+	 * @return retryPolicy
+	 */
+	default RetryPolicy getRetryPolicy() {
+		return RetryPolicy.defaults();
+	}
 }
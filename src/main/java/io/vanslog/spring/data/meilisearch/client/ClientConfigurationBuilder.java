@@ -15,6 +15,8 @@
  */
 package io.vanslog.spring.data.meilisearch.client;
 
+import java.time.Duration;
+
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
@@ -28,12 +30,17 @@ public class ClientConfigurationBuilder {
 	private static final String[] DEFAULT_CLIENT_AGENT = new String[0];
 	private static final int DEFAULT_REQUEST_TIMEOUT = 5000;
 	private static final int DEFAULT_REQUEST_INTERVAL = 50;
+	private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(10);
+	private static final Duration DEFAULT_RESPONSE_TIMEOUT = Duration.ofSeconds(10);
 
 	@Nullable private String hostUrl;
 	@Nullable private String apiKey;
 	private String[] clientAgents;
 	private int requestTimeout;
 	private int requestInterval;
+	private RetryPolicy retryPolicy;
+	private Duration connectTimeout;
+	private Duration responseTimeout;
 
 	/**
 	 * Create a new {@link ClientConfigurationBuilder}.
@@ -42,6 +49,9 @@ public class ClientConfigurationBuilder {
 		this.clientAgents = DEFAULT_CLIENT_AGENT;
 		this.requestTimeout = DEFAULT_REQUEST_TIMEOUT;
 		this.requestInterval = DEFAULT_REQUEST_INTERVAL;
+		this.retryPolicy = RetryPolicy.defaults();
+		this.connectTimeout = DEFAULT_CONNECT_TIMEOUT;
+		this.responseTimeout = DEFAULT_RESPONSE_TIMEOUT;
 	}
 
 	/**
@@ -109,6 +119,49 @@ public class ClientConfigurationBuilder {
 		return this;
 	}
 
+	/**
+	 * Configure the timeout for connecting to the Meilisearch server. The default is 10 seconds.
+	 *
+	 * @param connectTimeout the connect timeout
+	 * @return {@link ClientConfigurationBuilder}
+	 */
+	public ClientConfigurationBuilder withConnectTimeout(Duration connectTimeout) {
+
+		Assert.notNull(connectTimeout, "Connect timeout must not be null");
+		Assert.isTrue(connectTimeout.isPositive(), "Connect timeout must be positive");
+		this.connectTimeout = connectTimeout;
+		return this;
+	}
+
+	/**
+	 * Configure the timeout for the response of an HTTP request, including sending its body. The default is 10 seconds.
+	 * Raise it when sending large document batches over slow connections.
+	 *
+	 * @param responseTimeout the response timeout
+	 * @return {@link ClientConfigurationBuilder}
+	 */
+	public ClientConfigurationBuilder withResponseTimeout(Duration responseTimeout) {
+
+		Assert.notNull(responseTimeout, "Response timeout must not be null");
+		Assert.isTrue(responseTimeout.isPositive(), "Response timeout must be positive");
+		this.responseTimeout = responseTimeout;
+		return this;
+	}
+
+	/**
+	 * Configure the policy for retrying requests that failed for a transient reason. Use {@link RetryPolicy#none()} to
+	 * disable retries.
+	 *
+	 * @param retryPolicy the retry policy
+	 * @return {@link ClientConfigurationBuilder}
+	 */
+	public ClientConfigurationBuilder withRetryPolicy(RetryPolicy retryPolicy) {
+
+		Assert.notNull(retryPolicy, "RetryPolicy must not be null");
+		this.retryPolicy = retryPolicy;
+		return this;
+	}
+
 	/**
 	 * Build a {@link io.vanslog.spring.data.meilisearch.client.ClientConfiguration} with the given parameters.
 	 *
@@ -118,6 +171,6 @@ public class ClientConfigurationBuilder {
 		Assert.notNull(this.hostUrl, "Host URL must not be null");
 		Assert.notNull(this.apiKey, "API Key must not be null");
 		return new DefaultClientConfiguration(this.hostUrl, this.apiKey, this.clientAgents, this.requestTimeout,
-				this.requestInterval);
+				this.requestInterval, this.retryPolicy, this.connectTimeout, this.responseTimeout);
 	}
 }
@@ -27,6 +27,9 @@ public class DefaultClientConfiguration implements ClientConfiguration {
 	private final String[] clientAgents;
 	private final int requestTimeout;
 	private final int requestInterval;
+	private final RetryPolicy retryPolicy;
+	private final Duration connectTimeout;
+	private final Duration responseTimeout;
 
 	/**
 	 * Create a new {@link DefaultClientConfiguration}.
@@ -37,11 +40,43 @@ public class DefaultClientConfiguration implements ClientConfiguration {
 	 */
 	public DefaultClientConfiguration(String hostUrl, String apiKey, String[] clientAgents, int requestTimeout,
 			int requestInterval) {
+		this(hostUrl, apiKey, clientAgents, requestTimeout, requestInterval, RetryPolicy.defaults());
+	}
+
+	/**
+	 * Create a new {@link DefaultClientConfiguration}.
+	 *
+	 * @param hostUrl the host url
+	 * @param apiKey the api key
+	 * @param clientAgents the client agents
+	 * @param retryPolicy the retry policy
+	 */
+	public DefaultClientConfiguration(String hostUrl, String apiKey, String[] clientAgents, int requestTimeout,
+			int requestInterval, RetryPolicy retryPolicy) {
+		this(hostUrl, apiKey, clientAgents, requestTimeout, requestInterval, retryPolicy, Duration.ofSeconds(10),
+				Duration.ofSeconds(10));
+	}
+
+	/**
+	 * Create a new {@link DefaultClientConfiguration}.
+	 *
+	 * @param hostUrl the host url
+	 * @param apiKey the api key
+	 * @param clientAgents the client agents
+	 * @param retryPolicy the retry policy
+	 * @param connectTimeout the timeout for connecting to the server
+	 * @param responseTimeout the timeout for the response of an HTTP request
+	 */
+	public DefaultClientConfiguration(String hostUrl, String apiKey, String[] clientAgents, int requestTimeout,
+			int requestInterval, RetryPolicy retryPolicy, Duration connectTimeout, Duration responseTimeout) {
 		this.hostUrl = hostUrl;
 		this.apiKey = apiKey;
 		this.clientAgents = clientAgents;
 		this.requestTimeout = requestTimeout;
 		this.requestInterval = requestInterval;
+		this.retryPolicy = retryPolicy;
+		this.connectTimeout = connectTimeout;
+		this.responseTimeout = responseTimeout;
 	}
 
 	@Override
@@ -68,4 +103,19 @@ public class DefaultClientConfiguration implements ClientConfiguration {
 	public int getRequestInterval() {
 		return requestInterval;
 	}
+
+	@Override
+	public Duration getConnectTimeout() {
+		return connectTimeout;
+	}
+
+	@Override
+	public Duration getResponseTimeout() {
+		return responseTimeout;
+	}
+
+	@Override
+	public RetryPolicy getRetryPolicy() {
+		return retryPolicy;
+	}
 }
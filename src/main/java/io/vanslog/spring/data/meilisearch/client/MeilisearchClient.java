@@ -28,9 +28,11 @@ import com.meilisearch.sdk.json.JsonHandler;
  */
 public class MeilisearchClient extends Client {
 
+	private final ClientConfiguration clientConfiguration;
 	private final JsonHandler jsonHandler;
 	private final int requestTimeout;
 	private final int requestInterval;
+	private final RetryBudget retryBudget;
 
 	public MeilisearchClient(ClientConfiguration clientConfiguration) {
 		this(clientConfiguration, new GsonJsonHandler());
@@ -41,9 +43,15 @@ public class MeilisearchClient extends Client {
 		super(new Config(clientConfiguration.getHostUrl(), clientConfiguration.getApiKey(), jsonHandler,
 				clientConfiguration.getClientAgents()));
 
+		this.clientConfiguration = clientConfiguration;
 		this.requestTimeout = clientConfiguration.getRequestTimeout();
 		this.requestInterval = clientConfiguration.getRequestInterval();
 		this.jsonHandler = jsonHandler;
+		this.retryBudget = new RetryBudget(clientConfiguration.getRetryPolicy());
+	}
+
+	public ClientConfiguration getClientConfiguration() {
+		return clientConfiguration;
 	}
 
 	public JsonHandler getJsonHandler() {
@@ -57,4 +65,13 @@ public class MeilisearchClient extends Client {
 	public int getRequestInterval() {
 		return requestInterval;
 	}
+
+	/**
+	 * Return the budget limiting the retries of all requests sent through this client.
+	 *
+	 * @return the retry budget
+	 */
+	public RetryBudget getRetryBudget() {
+		return retryBudget;
+	}
 }
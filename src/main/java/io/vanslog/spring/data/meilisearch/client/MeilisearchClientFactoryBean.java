@@ -15,6 +15,8 @@
  */
 package io.vanslog.spring.data.meilisearch.client;
 
+import java.time.Duration;
+
 import org.springframework.beans.factory.FactoryBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.lang.Nullable;
@@ -37,10 +39,25 @@ public final class MeilisearchClientFactoryBean implements FactoryBean<Meilisear
 	private String[] clientAgents;
 	private int requestTimeout;
 	private int requestInterval;
+	private int retryMaxAttempts;
+	private long retryInitialBackoff;
+	private long retryMaxBackoff;
+	private double retryBudgetRatio;
+	private int retryMinRetriesPerSecond;
+	@Nullable private Long connectTimeout;
+	@Nullable private Long responseTimeout;
 	@Nullable private MeilisearchClient meilisearchClient;
 
 	private MeilisearchClientFactoryBean() {
+
+		RetryPolicy retryPolicy = RetryPolicy.defaults();
+
 		this.clientAgents = new String[0];
+		this.retryMaxAttempts = retryPolicy.getMaxAttempts();
+		this.retryInitialBackoff = retryPolicy.getInitialBackoff().toMillis();
+		this.retryMaxBackoff = retryPolicy.getMaxBackoff().toMillis();
+		this.retryBudgetRatio = retryPolicy.getBudgetRatio();
+		this.retryMinRetriesPerSecond = retryPolicy.getMinRetriesPerSecond();
 	}
 
 	@Override
@@ -55,10 +72,21 @@ public final class MeilisearchClientFactoryBean implements FactoryBean<Meilisear
 
 	@Override
 	public void afterPropertiesSet() {
-		ClientConfiguration clientConfiguration = ClientConfiguration.builder().connectedTo(hostUrl).withApiKey(apiKey)
-				.withClientAgents(clientAgents).withRequestTimeout(requestTimeout).withRequestInterval(requestInterval).build();
+		RetryPolicy retryPolicy = RetryPolicy.builder().withMaxAttempts(retryMaxAttempts)
+				.withInitialBackoff(Duration.ofMillis(retryInitialBackoff)).withMaxBackoff(Duration.ofMillis(retryMaxBackoff))
+				.withBudgetRatio(retryBudgetRatio).withMinRetriesPerSecond(retryMinRetriesPerSecond).build();
 
-		meilisearchClient = new MeilisearchClient(clientConfiguration, jsonHandler);
+		ClientConfigurationBuilder builder = ClientConfiguration.builder().connectedTo(hostUrl).withApiKey(apiKey)
+				.withClientAgents(clientAgents).withRequestTimeout(requestTimeout).withRequestInterval(requestInterval)
+				.withRetryPolicy(retryPolicy);
+		if (connectTimeout != null) {
+			builder.withConnectTimeout(Duration.ofMillis(connectTimeout));
+		}
+		if (responseTimeout != null) {
+			builder.withResponseTimeout(Duration.ofMillis(responseTimeout));
+		}
+
+		meilisearchClient = new MeilisearchClient(builder.build(), jsonHandler);
 	}
 
 	/**
@@ -114,4 +142,67 @@ public final class MeilisearchClientFactoryBean implements FactoryBean<Meilisear
 	public void setRequestInterval(int requestInterval) {
 		this.requestInterval = requestInterval;
 	}
+
+	/**
+	 * Set the maximum number of attempts of a request failing for a transient reason, including the first one.
+	 *
+	 * @param retryMaxAttempts maximum attempts, {@literal 1} disables retries
+	 */
+	public void setRetryMaxAttempts(int retryMaxAttempts) {
+		this.retryMaxAttempts = retryMaxAttempts;
+	}
+
+	/**
+	 * Set the backoff before the first retry.
+	 *
+	 * @param retryInitialBackoff in milliseconds
+	 */
+	public void setRetryInitialBackoff(long retryInitialBackoff) {
+		this.retryInitialBackoff = retryInitialBackoff;
+	}
+
+	/**
+	 * Set the upper bound of the backoff between two attempts.
+	 *
+	 * @param retryMaxBackoff in milliseconds
+	 */
+	public void setRetryMaxBackoff(long retryMaxBackoff) {
+		this.retryMaxBackoff = retryMaxBackoff;
+	}
+
+	/**
+	 * Set the number of retries every request adds to the retry budget.
+	 *
+	 * @param retryBudgetRatio the budget ratio
+	 */
+	public void setRetryBudgetRatio(double retryBudgetRatio) {
+		this.retryBudgetRatio = retryBudgetRatio;
+	}
+
+	/**
+	 * Set the number of retries the retry budget allows per second regardless of the number of requests.
+	 *
+	 * @param retryMinRetriesPerSecond minimum retries per second
+	 */
+	public void setRetryMinRetriesPerSecond(int retryMinRetriesPerSecond) {
+		this.retryMinRetriesPerSecond = retryMinRetriesPerSecond;
+	}
+
+	/**
+	 * Set the timeout for connecting to the Meilisearch server.
+	 *
+	 * @param connectTimeout in milliseconds
+	 */
+	public void setConnectTimeout(long connectTimeout) {
+		this.connectTimeout = connectTimeout;
+	}
+
+	/**
+	 * Set the timeout for the response of an HTTP request.
+	 *
+	 * @param responseTimeout in milliseconds
+	 */
+	public void setResponseTimeout(long responseTimeout) {
+		this.responseTimeout = responseTimeout;
+	}
 }
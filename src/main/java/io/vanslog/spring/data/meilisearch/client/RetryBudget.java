@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.springframework.util.Assert;
+
+/**
+ * Budget limiting the retries of all requests sent through a {@link MeilisearchClient}. Every request earns
+ * {@link RetryPolicy#getBudgetRatio()} retries and {@link RetryPolicy#getMinRetriesPerSecond()} retries are earned per
+ * second, and every retry spends one. At most {@value #MIN_CAPACITY} retries, or one second worth of the minimum if
+ * that is larger, can be saved up, so that a long healthy period does not allow a burst of retries once the server
+ * starts failing.
+ *
+ * @author Junghoon Ban
+ */
+public final class RetryBudget {
+
+	static final int MIN_CAPACITY = 100;
+
+	private final double ratio;
+	private final int minRetriesPerSecond;
+	private final double capacity;
+	private final LongSupplier nanoTime;
+	private double balance;
+	private long lastRefill;
+
+	public RetryBudget(RetryPolicy policy) {
+		this(policy, System::nanoTime);
+	}
+
+	RetryBudget(RetryPolicy policy, LongSupplier nanoTime) {
+
+		Assert.notNull(policy, "RetryPolicy must not be null");
+
+		this.ratio = policy.getBudgetRatio();
+		this.minRetriesPerSecond = policy.getMinRetriesPerSecond();
+		this.capacity = Math.max(MIN_CAPACITY, minRetriesPerSecond);
+		this.nanoTime = nanoTime;
+		this.balance = minRetriesPerSecond;
+		this.lastRefill = nanoTime.getAsLong();
+	}
+
+	/**
+	 * Record a request, which earns retries for later failures.
+	 */
+	public synchronized void recordRequest() {
+
+		refill();
+		balance = Math.min(capacity, balance + ratio);
+	}
+
+	/**
+	 * Spend one retry if the budget allows it.
+	 *
+	 * @return {@literal true} if the retry may be sent
+	 */
+	public synchronized boolean tryAcquire() {
+
+		refill();
+		if (balance < 1) {
+			return false;
+		}
+		balance--;
+		return true;
+	}
+
+	/**
+	 * Return the number of retries the budget currently allows.
+	 *
+	 * @return available retries
+	 */
+	public synchronized int getAvailable() {
+
+		refill();
+		return (int) balance;
+	}
+
+	private void refill() {
+
+		long now = nanoTime.getAsLong();
+		double seconds = (double) (now - lastRefill) / TimeUnit.SECONDS.toNanos(1);
+		lastRefill = now;
+		balance = Math.min(capacity, balance + seconds * minRetriesPerSecond);
+	}
+}
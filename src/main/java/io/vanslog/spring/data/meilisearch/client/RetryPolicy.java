@@ -0,0 +1,193 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client;
+
+import java.time.Duration;
+
+import org.springframework.util.Assert;
+
+/**
+ * Policy for retrying requests that failed for a transient reason, such as a rate limited request, an unavailable
+ * gateway or a connection reset while the Meilisearch server restarts.
+ * <p>
+ * A failed request is retried up to {@link #getMaxAttempts()} times in total, waiting an exponentially growing and
+ * jittered backoff between {@link #getInitialBackoff()} and {@link #getMaxBackoff()}. Retries also draw from a
+ * {@link RetryBudget} shared by all requests of a {@link MeilisearchClient}, which allows roughly
+ * {@link #getBudgetRatio()} retries per request plus {@link #getMinRetriesPerSecond()}, so that retries cannot multiply
+ * the load on a server that is already failing.
+ *
+ * @author Junghoon Ban
+ */
+public class RetryPolicy {
+
+	private static final RetryPolicy DEFAULTS = builder().build();
+	private static final RetryPolicy NONE = builder().withMaxAttempts(1).build();
+
+	private final int maxAttempts;
+	private final Duration initialBackoff;
+	private final Duration maxBackoff;
+	private final double budgetRatio;
+	private final int minRetriesPerSecond;
+
+	private RetryPolicy(Builder builder) {
+		this.maxAttempts = builder.maxAttempts;
+		this.initialBackoff = builder.initialBackoff;
+		this.maxBackoff = builder.maxBackoff;
+		this.budgetRatio = builder.budgetRatio;
+		this.minRetriesPerSecond = builder.minRetriesPerSecond;
+	}
+
+	/**
+	 * Return the default policy.
+	 *
+	 * @return default policy
+	 */
+	public static RetryPolicy defaults() {
+		return DEFAULTS;
+	}
+
+	/**
+	 * Return a policy that never retries.
+	 *
+	 * @return policy without retries
+	 */
+	public static RetryPolicy none() {
+		return NONE;
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Return the maximum number of attempts of a request, including the first one.
+	 *
+	 * @return maximum attempts
+	 */
+	public int getMaxAttempts() {
+		return maxAttempts;
+	}
+
+	/**
+	 * Return the backoff before the first retry.
+	 *
+	 * @return initial backoff
+	 */
+	public Duration getInitialBackoff() {
+		return initialBackoff;
+	}
+
+	/**
+	 * Return the upper bound of the backoff between two attempts.
+	 *
+	 * @return maximum backoff
+	 */
+	public Duration getMaxBackoff() {
+		return maxBackoff;
+	}
+
+	/**
+	 * Return the number of retries every request adds to the retry budget.
+	 *
+	 * @return budget ratio
+	 */
+	public double getBudgetRatio() {
+		return budgetRatio;
+	}
+
+	/**
+	 * Return the number of retries the retry budget allows per second regardless of the number of requests.
+	 *
+	 * @return minimum retries per second
+	 */
+	public int getMinRetriesPerSecond() {
+		return minRetriesPerSecond;
+	}
+
+	/**
+	 * Calculate the backoff before the given retry. Half of the backoff is fixed and half is random, so that clients
+	 * failing at the same time do not retry at the same time.
+	 *
+	 * @param retry the number of the retry, starting at 1
+	 * @param random a random value between 0 (inclusive) and 1 (exclusive)
+	 * @return the backoff
+	 */
+	public Duration backoff(int retry, double random) {
+
+		long max = maxBackoff.toMillis();
+		long exponential = initialBackoff.toMillis();
+		for (int i = 1; i < retry && exponential < max; i++) {
+			exponential = exponential > max / 2 ? max : exponential * 2;
+		}
+
+		long half = exponential / 2;
+		return Duration.ofMillis(half + (long) (random * (exponential - half)));
+	}
+
+	/** Builder for {@link RetryPolicy}. */
+	public static class Builder {
+
+		private int maxAttempts = 3;
+		private Duration initialBackoff = Duration.ofMillis(100);
+		private Duration maxBackoff = Duration.ofSeconds(2);
+		private double budgetRatio = 0.1;
+		private int minRetriesPerSecond = 10;
+
+		public Builder withMaxAttempts(int maxAttempts) {
+
+			Assert.isTrue(maxAttempts > 0, "Maximum attempts must be greater than zero");
+			this.maxAttempts = maxAttempts;
+			return this;
+		}
+
+		public Builder withInitialBackoff(Duration initialBackoff) {
+
+			Assert.notNull(initialBackoff, "Initial backoff must not be null");
+			Assert.isTrue(!initialBackoff.isNegative(), "Initial backoff must not be negative");
+			this.initialBackoff = initialBackoff;
+			return this;
+		}
+
+		public Builder withMaxBackoff(Duration maxBackoff) {
+
+			Assert.notNull(maxBackoff, "Maximum backoff must not be null");
+			Assert.isTrue(!maxBackoff.isNegative(), "Maximum backoff must not be negative");
+			this.maxBackoff = maxBackoff;
+			return this;
+		}
+
+		public Builder withBudgetRatio(double budgetRatio) {
+
+			Assert.isTrue(budgetRatio >= 0, "Budget ratio must not be negative");
+			this.budgetRatio = budgetRatio;
+			return this;
+		}
+
+		public Builder withMinRetriesPerSecond(int minRetriesPerSecond) {
+
+			Assert.isTrue(minRetriesPerSecond >= 0, "Minimum retries per second must not be negative");
+			this.minRetriesPerSecond = minRetriesPerSecond;
+			return this;
+		}
+
+		public RetryPolicy build() {
+
+			Assert.isTrue(maxBackoff.compareTo(initialBackoff) >= 0,
+					"Maximum backoff must not be shorter than the initial backoff");
+			return new RetryPolicy(this);
+		}
+	}
+}
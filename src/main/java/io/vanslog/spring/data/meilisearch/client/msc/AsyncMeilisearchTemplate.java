@@ -0,0 +1,279 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client.msc;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.meilisearch.sdk.MultiSearchFederation;
+import com.meilisearch.sdk.model.Task;
+import com.meilisearch.sdk.model.TaskInfo;
+import com.meilisearch.sdk.model.TaskStatus;
+
+import io.vanslog.spring.data.meilisearch.TaskStatusException;
+import io.vanslog.spring.data.meilisearch.core.AsyncMeilisearchOperations;
+import io.vanslog.spring.data.meilisearch.core.FacetHit;
+import io.vanslog.spring.data.meilisearch.core.MeilisearchOperations;
+import io.vanslog.spring.data.meilisearch.core.SearchHits;
+import io.vanslog.spring.data.meilisearch.core.WritePriority;
+import io.vanslog.spring.data.meilisearch.core.query.BaseQuery;
+import io.vanslog.spring.data.meilisearch.core.query.FacetQuery;
+import io.vanslog.spring.data.meilisearch.core.query.SimilarQuery;
+
+/**
+ * {@link MeilisearchTemplate}-backed implementation of {@link AsyncMeilisearchOperations}. Requests are sent on the
+ * configured {@link Executor}, which uses virtual threads by default when the runtime supports them. Write operations
+ * only occupy a thread while the task is enqueued; waiting for the task is delegated to the {@link TaskTracker} of the
+ * template and does not park a thread per operation.
+ * <p>
+ * Writes are not bound to a transaction of the calling thread, as they are enqueued on executor threads. While the
+ * template defers {@link MeilisearchTemplate#setTransactionalWrites transactional writes}, they are therefore rejected
+ * within a transaction instead of being sent before it commits.
+ *
+ * @author Junghoon Ban
+ */
+public class AsyncMeilisearchTemplate implements AsyncMeilisearchOperations {
+
+	private static final String THREAD_NAME_PREFIX = "meilisearch-async-";
+
+	private final MeilisearchTemplate template;
+	private final Executor executor;
+	@Nullable private final ConsistencySession session;
+
+	public AsyncMeilisearchTemplate(MeilisearchTemplate template) {
+		this(template, defaultExecutor());
+	}
+
+	public AsyncMeilisearchTemplate(MeilisearchTemplate template, Executor executor) {
+
+		this(template, executor, null);
+	}
+
+	private AsyncMeilisearchTemplate(MeilisearchTemplate template, Executor executor,
+			@Nullable ConsistencySession session) {
+
+		Assert.notNull(template, "MeilisearchTemplate must not be null");
+		Assert.notNull(executor, "Executor must not be null");
+
+		this.template = template;
+		this.executor = executor;
+		this.session = session;
+	}
+
+	/**
+	 * Return a variant of this template running all operations within the given session. Writes record their task in
+	 * the session as soon as it is enqueued, and reads wait for the writes of the session on the index they read, so
+	 * writes can be pipelined without waiting for them before reading.
+	 *
+	 * @param session the session, see {@link MeilisearchTemplate#openSession()}
+	 * @return the template bound to the session
+	 */
+	public AsyncMeilisearchTemplate withSession(ConsistencySession session) {
+
+		Assert.notNull(session, "ConsistencySession must not be null");
+		return new AsyncMeilisearchTemplate(template, executor, session);
+	}
+
+	@Override
+	public <T> CompletableFuture<T> save(T entity) {
+		return save(Collections.singletonList(entity)).thenApply(entities -> entity);
+	}
+
+	@Override
+	public <T> CompletableFuture<List<T>> save(List<T> entities) {
+
+		rejectInTransaction("save");
+		return write(() -> template.enqueueSave(entities), "Failed to save entities.").thenApply(task -> entities);
+	}
+
+	@Override
+	public <T> CompletableFuture<T> get(String documentId, Class<T> clazz) {
+		return supply(() -> template.get(documentId, clazz));
+	}
+
+	@Override
+	public CompletableFuture<Boolean> exists(String documentId, Class<?> clazz) {
+		return supply(() -> template.exists(documentId, clazz));
+	}
+
+	@Override
+	public CompletableFuture<Set<String>> existsAll(Class<?> clazz, Collection<String> documentIds) {
+		return supply(() -> template.existsAll(clazz, documentIds));
+	}
+
+	@Override
+	public CompletableFuture<Long> count(Class<?> clazz) {
+		return supply(() -> template.count(clazz));
+	}
+
+	@Override
+	public CompletableFuture<Boolean> delete(String documentId, Class<?> clazz) {
+
+		rejectInTransaction("delete");
+		return isSucceeded(() -> template.enqueueDelete(documentId, clazz));
+	}
+
+	@Override
+	public <T> CompletableFuture<Boolean> delete(T entity) {
+
+		rejectInTransaction("delete");
+		return isSucceeded(() -> template.enqueueDelete(template.getDocumentIdFor(entity), entity.getClass()));
+	}
+
+	@Override
+	public CompletableFuture<Boolean> delete(Class<?> clazz, List<String> documentIds) {
+
+		rejectInTransaction("delete");
+		return isSucceeded(() -> template.enqueueDelete(clazz, documentIds));
+	}
+
+	@Override
+	public <T> CompletableFuture<Boolean> delete(List<T> entities) {
+
+		rejectInTransaction("delete");
+		return isSucceeded(() -> {
+			Class<?> clazz = entities.iterator().next().getClass();
+			List<String> documentIds = entities.stream().map(template::getDocumentIdFor).toList();
+			return template.enqueueDelete(clazz, documentIds);
+		});
+	}
+
+	@Override
+	public CompletableFuture<Boolean> deleteAll(Class<?> clazz) {
+
+		rejectInTransaction("deleteAll");
+		return isSucceeded(() -> template.enqueueDeleteAll(clazz));
+	}
+
+	@Override
+	public <T, Q extends BaseQuery> CompletableFuture<SearchHits<T>> search(Q query, Class<T> clazz) {
+		return supply(() -> template.search(query, clazz));
+	}
+
+	@Override
+	public <T, Q extends BaseQuery> CompletableFuture<SearchHits<T>> multiSearch(List<Q> queries, Class<T> clazz) {
+		return supply(() -> template.multiSearch(queries, clazz));
+	}
+
+	@Override
+	public <T, Q extends BaseQuery> CompletableFuture<SearchHits<T>> multiSearch(List<Q> queries,
+			MultiSearchFederation federation, Class<T> clazz) {
+		return supply(() -> template.multiSearch(queries, federation, clazz));
+	}
+
+	@Override
+	public CompletableFuture<SearchHits<FacetHit>> facetSearch(FacetQuery query, Class<?> clazz) {
+		return supply(() -> template.facetSearch(query, clazz));
+	}
+
+	@Override
+	public <T> CompletableFuture<SearchHits<T>> similarSearch(SimilarQuery query, Class<T> clazz) {
+		return supply(() -> template.similarSearch(query, clazz));
+	}
+
+	@Override
+	public MeilisearchOperations blocking() {
+		return template;
+	}
+
+	private <T> CompletableFuture<T> supply(Supplier<T> supplier) {
+
+		WritePriority priority = template.currentWritePriority();
+		Supplier<T> prioritized = priority != null ? () -> template.withWritePriority(priority, supplier) : supplier;
+
+		ConsistencySession current = currentSession();
+		if (current == null) {
+			return CompletableFuture.supplyAsync(prioritized, executor);
+		}
+		return CompletableFuture.supplyAsync(() -> template.withSession(current, prioritized), executor);
+	}
+
+	private CompletableFuture<Boolean> isSucceeded(Supplier<TaskInfo> enqueue) {
+		return track(enqueue).thenApplyAsync(task -> task.getStatus() == TaskStatus.SUCCEEDED, executor);
+	}
+
+	private CompletableFuture<Task> write(Supplier<TaskInfo> enqueue, String message) {
+		return track(enqueue).thenApplyAsync(task -> {
+			if (task.getStatus() != TaskStatus.SUCCEEDED) {
+				throw new TaskStatusException(task.getStatus(), message);
+			}
+			return task;
+		}, executor);
+	}
+
+	/**
+	 * Enqueue on the executor and resolve through the task tracker. Dependent stages are switched back to the executor
+	 * by the callers so that user callbacks never run on the tracker's poller thread.
+	 */
+	private CompletableFuture<Task> track(Supplier<TaskInfo> enqueue) {
+
+		CompletableFuture<TaskInfo> enqueued = supply(enqueue);
+		ConsistencySession current = currentSession();
+		if (current != null) {
+			current.enqueuing(enqueued);
+		}
+		return enqueued.thenCompose(taskInfo -> template.getTaskTracker().track(taskInfo.getTaskUid()));
+	}
+
+	/**
+	 * Reject a write on the calling thread, where the transaction is bound, as the executor threads do not see it.
+	 */
+	private void rejectInTransaction(String operation) {
+		template.rejectInTransaction("Asynchronous " + operation);
+	}
+
+	@Nullable
+	private ConsistencySession currentSession() {
+		return session != null ? session : template.currentSession();
+	}
+
+	/**
+	 * Create the default executor, using virtual threads if the runtime supports them and a thread per task otherwise.
+	 *
+	 * @return the default executor
+	 */
+	static Executor defaultExecutor() {
+		return defaultExecutor(THREAD_NAME_PREFIX);
+	}
+
+	/**
+	 * Create the default executor naming its threads with the given prefix.
+	 *
+	 * @param threadNamePrefix the prefix of the thread names
+	 * @return the default executor
+	 * @see #defaultExecutor()
+	 */
+	static Executor defaultExecutor(String threadNamePrefix) {
+
+		try {
+			return new VirtualThreadTaskExecutor(threadNamePrefix);
+		} catch (UnsupportedOperationException e) {
+			SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+			executor.setDaemon(true);
+			return executor;
+		}
+	}
+}
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client.msc;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.lang.Nullable;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.vanslog.spring.data.meilisearch.UncategorizedMeilisearchException;
+import io.vanslog.spring.data.meilisearch.core.BackpressureOptions;
+import io.vanslog.spring.data.meilisearch.core.BackpressureState;
+import io.vanslog.spring.data.meilisearch.core.MeilisearchInstanceOperations;
+
+/**
+ * Throttles writers while the Meilisearch task queue is backed up, see {@link BackpressureOptions}.
+ * <p>
+ * The task queue is sampled on demand by the first writer finding the previous sample older than the sample
+ * interval, so no background thread is needed and an idle application does not query the instance. The throttle fails
+ * open: if sampling fails, writers are not blocked, and the last state is kept until the next sample unless it blocked
+ * writes.
+ *
+ * @author Junghoon Ban
+ */
+class BackpressureThrottle {
+
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+
+	private final BackpressureOptions options;
+	private final Supplier<Sample> sampler;
+	private final LongSupplier nanoClock;
+	private final Sleeper sleeper;
+	@Nullable private BackpressureState state;
+	private long sampledAt;
+
+	BackpressureThrottle(BackpressureOptions options, Supplier<Sample> sampler) {
+		this(options, sampler, System::nanoTime, Thread::sleep);
+	}
+
+	BackpressureThrottle(BackpressureOptions options, Supplier<Sample> sampler, LongSupplier nanoClock,
+			Sleeper sleeper) {
+		this.options = options;
+		this.sampler = sampler;
+		this.nanoClock = nanoClock;
+		this.sleeper = sleeper;
+	}
+
+	/**
+	 * Create a sampler counting the enqueued and processing tasks with the tasks endpoint and collecting the indexes
+	 * reported as indexing by the instance stats. The tasks are counted by the total the tasks endpoint reports for a
+	 * page of a single task. Servers not reporting the total are asked again for up to the block threshold tasks, which
+	 * are counted.
+	 *
+	 * @param transport the transport to query the tasks endpoint with
+	 * @param instanceOperations the operations to read the instance stats with
+	 * @param options the throttle options
+	 * @return the sampler
+	 */
+	static Supplier<Sample> sampler(MeilisearchHttpTransport transport,
+			MeilisearchInstanceOperations instanceOperations, BackpressureOptions options) {
+
+		return () -> {
+			CompletableFuture<Long> enqueued = countTasks(transport, "enqueued", options.getBlockThreshold());
+			CompletableFuture<Long> processing = countTasks(transport, "processing", options.getBlockThreshold());
+			Set<String> indexing = instanceOperations.stats().getIndexes().entrySet().stream() //
+					.filter(index -> index.getValue().isIndexing()) //
+					.map(Map.Entry::getKey) //
+					.collect(Collectors.toSet());
+			return new Sample(join(enqueued), join(processing), indexing);
+		};
+	}
+
+	/**
+	 * Return the current state, sampling the task queue if the last sample is older than the sample interval.
+	 *
+	 * @return the current state
+	 */
+	synchronized BackpressureState state() {
+
+		long now = nanoClock.getAsLong();
+		if (state == null || now - sampledAt >= options.getSampleInterval().toNanos()) {
+			sampledAt = now;
+			try {
+				Sample sample = sampler.get();
+				state = new BackpressureState(level(sample.enqueuedTasks() + sample.processingTasks()),
+						sample.enqueuedTasks(), sample.processingTasks(), sample.indexingIndexes(), Instant.now());
+			} catch (DataAccessException e) {
+				// fail open, an unreachable tasks endpoint must not hold back writes
+				if (state == null || state.getLevel() == BackpressureState.Level.BLOCKED) {
+					state = new BackpressureState(BackpressureState.Level.NONE, 0, 0, Set.of(), Instant.now());
+				}
+			}
+		}
+		return state;
+	}
+
+	/**
+	 * Wait as long as the current state requires before a write is sent.
+	 */
+	void acquire() {
+
+		long deadline = nanoClock.getAsLong() + options.getMaxBlock().toNanos();
+		BackpressureState current = state();
+		while (current.getLevel() == BackpressureState.Level.BLOCKED) {
+			long remaining = deadline - nanoClock.getAsLong();
+			if (remaining <= 0) {
+				throw new UncategorizedMeilisearchException("Task queue backlog of " + current.getBacklog()
+						+ " tasks did not drop below " + options.getBlockThreshold() + " within " + options.getMaxBlock()
+						+ ".");
+			}
+			sleep(Math.min(options.getSampleInterval().toNanos(), remaining));
+			current = state();
+		}
+		if (current.getLevel() == BackpressureState.Level.SLOWED) {
+			sleep(slowdown(current.getBacklog()));
+		}
+	}
+
+	private BackpressureState.Level level(long backlog) {
+
+		if (backlog >= options.getBlockThreshold()) {
+			return BackpressureState.Level.BLOCKED;
+		}
+		if (backlog >= options.getSlowdownThreshold()) {
+			return BackpressureState.Level.SLOWED;
+		}
+		return BackpressureState.Level.NONE;
+	}
+
+	/**
+	 * Delay growing linearly from a fraction of the maximum slowdown at the slowdown threshold to the maximum slowdown
+	 * just below the block threshold.
+	 */
+	private long slowdown(long backlog) {
+
+		long range = options.getBlockThreshold() - options.getSlowdownThreshold();
+		double fraction = (double) (backlog - options.getSlowdownThreshold() + 1) / range;
+		return (long) (options.getMaxSlowdown().toNanos() * Math.min(1, fraction));
+	}
+
+	private void sleep(long nanos) {
+
+		try {
+			sleeper.sleep(Duration.ofNanos(nanos).toMillis());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new UncategorizedMeilisearchException("Interrupted while throttled by task queue backlog.", e);
+		}
+	}
+
+	static CompletableFuture<Long> countTasks(MeilisearchHttpTransport transport, String status, int limit) {
+
+		String path = "/tasks?statuses=" + status + "&limit=";
+		return transport.exchange("GET", path + 1, null).thenCompose(body -> {
+			JsonNode total = readTasks(body).get("total");
+			if (total != null && total.isNumber()) {
+				return CompletableFuture.completedFuture(total.asLong());
+			}
+			return transport.exchange("GET", path + limit, null)
+					.thenApply(tasks -> (long) readTasks(tasks).path("results").size());
+		});
+	}
+
+	private static JsonNode readTasks(String body) {
+
+		try {
+			return MAPPER.readTree(body);
+		} catch (JsonProcessingException e) {
+			throw new UncategorizedMeilisearchException("Failed to decode tasks.", e);
+		}
+	}
+
+	private static long join(CompletableFuture<Long> future) {
+
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new UncategorizedMeilisearchException("Interrupted while sampling task queue.", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof DataAccessException ex) {
+				throw ex;
+			}
+			throw new UncategorizedMeilisearchException("Failed to sample task queue.", e.getCause());
+		}
+	}
+
+	/**
+	 * Numbers of unfinished tasks and the indexes being indexed.
+	 */
+	record Sample(long enqueuedTasks, long processingTasks, Set<String> indexingIndexes) {}
+
+	/**
+	 * Pauses the calling thread.
+	 */
+	interface Sleeper {
+
+		void sleep(long millis) throws InterruptedException;
+	}
+}
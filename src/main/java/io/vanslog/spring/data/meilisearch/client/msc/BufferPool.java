@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client.msc;
+
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * A bounded pool of growable byte buffers. Buffers are reset when released and only kept if they did not grow beyond
+ * the retained capacity, so the pool holds at most {@code maxPooled * maxRetainedCapacity} bytes however large the
+ * payloads written through it were.
+ *
+ * @author Junghoon Ban
+ */
+final class BufferPool {
+
+	private final BlockingQueue<Buffer> buffers;
+	private final int initialCapacity;
+	private final int maxRetainedCapacity;
+
+	BufferPool(int maxPooled, int initialCapacity, int maxRetainedCapacity) {
+		this.buffers = new ArrayBlockingQueue<>(maxPooled);
+		this.initialCapacity = initialCapacity;
+		this.maxRetainedCapacity = maxRetainedCapacity;
+	}
+
+	/**
+	 * Take a buffer from the pool or create one if the pool is empty.
+	 *
+	 * @return an empty buffer
+	 */
+	Buffer acquire() {
+		Buffer buffer = buffers.poll();
+		return buffer != null ? buffer : new Buffer(initialCapacity);
+	}
+
+	/**
+	 * Return a buffer to the pool. Buffers grown beyond the retained capacity or exceeding the pool size are dropped.
+	 *
+	 * @param buffer the buffer to release
+	 */
+	void release(Buffer buffer) {
+
+		if (buffer.capacity() <= maxRetainedCapacity) {
+			buffer.reset();
+			buffers.offer(buffer);
+		}
+	}
+
+	int size() {
+		return buffers.size();
+	}
+
+	/**
+	 * A {@link ByteArrayOutputStream} giving access to its content without copying it.
+	 */
+	static final class Buffer extends ByteArrayOutputStream {
+
+		Buffer(int capacity) {
+			super(capacity);
+		}
+
+		/**
+		 * Copy bytes of the content into the given array.
+		 *
+		 * @param position the position in the content to copy from
+		 * @param target the array to copy into
+		 * @param offset the offset in the target array
+		 * @param length the number of bytes to copy
+		 */
+		synchronized void copyTo(int position, byte[] target, int offset, int length) {
+			System.arraycopy(buf, position, target, offset, length);
+		}
+
+		synchronized int capacity() {
+			return buf.length;
+		}
+
+		/**
+		 * Hash the content with {@link ContentHash#of(byte[], int, int, long)}.
+		 *
+		 * @param seed the seed
+		 * @return the hash of the content
+		 */
+		synchronized long hash(long seed) {
+			return ContentHash.of(buf, 0, count, seed);
+		}
+	}
+}
@@ -0,0 +1,406 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client.msc;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.util.Assert;
+
+import com.meilisearch.sdk.model.Task;
+import com.meilisearch.sdk.model.TaskStatus;
+
+import io.vanslog.spring.data.meilisearch.TaskStatusException;
+import io.vanslog.spring.data.meilisearch.UncategorizedMeilisearchException;
+import io.vanslog.spring.data.meilisearch.core.BufferedWriteOptions;
+
+/**
+ * Write-behind writer collecting saves and deletes from many threads and sending them per index as a few large tasks.
+ * <p>
+ * Operations are deduplicated by document id: a later save of the same document replaces the buffered one and a delete
+ * drops a buffered save. The buffer of an index is flushed once it holds {@link BufferedWriteOptions#getMaxDocuments()}
+ * document ids or {@link BufferedWriteOptions#getMaxBytes()} bytes of encoded documents, and all buffers are flushed
+ * every {@link BufferedWriteOptions#getFlushInterval()}. Flushed operations are sent from a single background thread, so
+ * the tasks of an index are enqueued in the order in which their operations were flushed.
+ * <p>
+ * Saved entities are encoded when they are buffered, so later changes to an entity are not picked up until it is saved
+ * again. Failures of background flushes are reported by the next {@link #flush()} or {@link #close()}. Call
+ * {@link #close()} on shutdown to send the remaining operations and wait for their tasks.
+ *
+ * @author Junghoon Ban
+ */
+public class BufferedMeilisearchWriter implements AutoCloseable {
+
+	private static final String THREAD_NAME = "meilisearch-buffered-writer";
+
+	private final MeilisearchTemplate template;
+	private final BufferedWriteOptions options;
+	private final ScheduledExecutorService flusher;
+	private final Map<String, IndexBuffer> buffers = new LinkedHashMap<>();
+	private final Set<CompletableFuture<Void>> inFlight = ConcurrentHashMap.newKeySet();
+	private final AtomicReference<Throwable> failure = new AtomicReference<>();
+	private boolean closed;
+
+	public BufferedMeilisearchWriter(MeilisearchTemplate template) {
+		this(template, BufferedWriteOptions.defaults());
+	}
+
+	public BufferedMeilisearchWriter(MeilisearchTemplate template, BufferedWriteOptions options) {
+
+		Assert.notNull(template, "MeilisearchTemplate must not be null");
+		Assert.notNull(options, "BufferedWriteOptions must not be null");
+
+		this.template = template;
+		this.options = options;
+		this.flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, THREAD_NAME);
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		long interval = options.getFlushInterval().toMillis();
+		this.flusher.scheduleWithFixedDelay(this::flushBuffers, interval, interval, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Buffer a save of the given entity.
+	 *
+	 * @param entity the entity to save
+	 * @param <T> the type of the entity
+	 */
+	public <T> void save(T entity) {
+
+		Assert.notNull(entity, "Entity must not be null");
+
+		Class<?> clazz = entity.getClass();
+		String documentId = template.getDocumentIdFor(entity);
+		byte[] document = template.encode(entity);
+
+		IndexBuffer full;
+		synchronized (this) {
+			IndexBuffer buffer = buffer(clazz);
+			buffer.save(documentId, document);
+			full = takeIfFull(buffer);
+		}
+		if (full != null) {
+			submit(full);
+		}
+	}
+
+	/**
+	 * Buffer saves of the given entities.
+	 *
+	 * @param entities the entities to save
+	 * @param <T> the type of the entities
+	 */
+	public <T> void saveAll(Collection<T> entities) {
+
+		Assert.notNull(entities, "Entities must not be null");
+		entities.forEach(this::save);
+	}
+
+	/**
+	 * Buffer a delete of the document with the given id.
+	 *
+	 * @param documentId the document id
+	 * @param clazz the entity class, must be annotated with
+	 *          {@link io.vanslog.spring.data.meilisearch.annotations.Document}
+	 */
+	public void delete(String documentId, Class<?> clazz) {
+
+		Assert.notNull(documentId, "Document id must not be null");
+		Assert.notNull(clazz, "Entity class must not be null");
+
+		IndexBuffer full;
+		synchronized (this) {
+			IndexBuffer buffer = buffer(clazz);
+			buffer.delete(documentId);
+			full = takeIfFull(buffer);
+		}
+		if (full != null) {
+			submit(full);
+		}
+	}
+
+	/**
+	 * Buffer a delete of the given entity.
+	 *
+	 * @param entity the entity to delete
+	 * @param <T> the type of the entity
+	 */
+	public <T> void delete(T entity) {
+
+		Assert.notNull(entity, "Entity must not be null");
+		delete(template.getDocumentIdFor(entity), entity.getClass());
+	}
+
+	/**
+	 * Send all buffered operations.
+	 *
+	 * @return a future completed once the tasks of all operations sent so far have finished, or completed exceptionally
+	 *         if one of them or a previous background flush failed
+	 */
+	public CompletableFuture<Void> flush() {
+
+		flushBuffers();
+
+		return CompletableFuture.allOf(inFlight.toArray(CompletableFuture<?>[]::new)).handle((ignored, ex) -> {
+			Throwable cause = failure.getAndSet(null);
+			if (cause != null) {
+				throw cause instanceof CompletionException completionException ? completionException
+						: new CompletionException(cause);
+			}
+			return null;
+		});
+	}
+
+	/**
+	 * Send all buffered operations, wait for their tasks and stop the background flushes. Operations buffered after the
+	 * writer was closed are rejected.
+	 */
+	@Override
+	public void close() {
+
+		synchronized (this) {
+			if (closed) {
+				return;
+			}
+			closed = true;
+		}
+
+		CompletableFuture<Void> done = flush();
+		flusher.shutdown();
+
+		try {
+			done.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new UncategorizedMeilisearchException("Interrupted while closing buffered writer.", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof DataAccessException ex) {
+				throw ex;
+			}
+			throw new UncategorizedMeilisearchException("Failed to flush buffered writer.", e.getCause());
+		}
+	}
+
+	/**
+	 * Return the number of buffered document ids that have not been sent yet.
+	 *
+	 * @return the number of buffered operations
+	 */
+	public synchronized int getBufferedCount() {
+		return buffers.values().stream().mapToInt(IndexBuffer::size).sum();
+	}
+
+	private IndexBuffer buffer(Class<?> clazz) {
+
+		Assert.state(!closed, "BufferedMeilisearchWriter is closed");
+
+		String indexUid = template.getIndexUidFor(clazz);
+		return buffers.computeIfAbsent(indexUid, uid -> new IndexBuffer(uid, template.getPrimaryKeyFor(clazz)));
+	}
+
+	private IndexBuffer takeIfFull(IndexBuffer buffer) {
+
+		if (buffer.size() < options.getMaxDocuments() && buffer.getBytes() < options.getMaxBytes()) {
+			return null;
+		}
+		return buffers.remove(buffer.getIndexUid());
+	}
+
+	private void flushBuffers() {
+
+		List<IndexBuffer> batches;
+		synchronized (this) {
+			batches = new ArrayList<>(buffers.values());
+			buffers.clear();
+		}
+		batches.forEach(this::submit);
+	}
+
+	private void submit(IndexBuffer batch) {
+
+		CompletableFuture<Void> sent;
+		try {
+			sent = CompletableFuture.supplyAsync(() -> send(batch), flusher).thenCompose(tasks -> tasks);
+		} catch (RuntimeException e) {
+			// the flusher rejects batches once it has been shut down
+			sent = CompletableFuture.failedFuture(e);
+		}
+
+		CompletableFuture<Void> tracked = sent.whenComplete((ignored, ex) -> {
+			if (ex != null) {
+				failure.compareAndSet(null, ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex);
+			}
+		});
+		inFlight.add(tracked);
+		tracked.whenComplete((ignored, ex) -> inFlight.remove(tracked));
+	}
+
+	private CompletableFuture<Void> send(IndexBuffer batch) {
+
+		List<CompletableFuture<Task>> tasks = new ArrayList<>(2);
+		TaskTracker taskTracker = template.getTaskTracker();
+
+		if (!batch.getDeletes().isEmpty()) {
+			tasks.add(taskTracker.track(
+					template.enqueueDelete(batch.getIndexUid(), new ArrayList<>(batch.getDeletes())).getTaskUid()));
+		}
+		if (!batch.getSaves().isEmpty()) {
+			byte[] documents = batch.toPayload();
+			tasks.add(taskTracker.track(template
+					.enqueueDocuments(batch.getIndexUid(), batch.getPrimaryKey(), batch.getSaves().keySet(), documents)
+					.getTaskUid()));
+		}
+
+		return CompletableFuture.allOf(tasks.toArray(CompletableFuture<?>[]::new)).thenRun(() -> {
+			for (CompletableFuture<Task> task : tasks) {
+				TaskStatus status = task.join().getStatus();
+				if (status != TaskStatus.SUCCEEDED) {
+					throw new TaskStatusException(status,
+							"Failed to write buffered documents to index " + batch.getIndexUid() + ".");
+				}
+			}
+		});
+	}
+
+	/**
+	 * Buffered operations of a single index, deduplicated by document id.
+	 */
+	static final class IndexBuffer {
+
+		private final String indexUid;
+		private final String primaryKey;
+		private final Map<String, byte[]> saves = new LinkedHashMap<>();
+		private final Set<String> deletes = new LinkedHashSet<>();
+		private long bytes;
+
+		IndexBuffer(String indexUid, String primaryKey) {
+			this.indexUid = indexUid;
+			this.primaryKey = primaryKey;
+		}
+
+		void save(String documentId, byte[] document) {
+
+			deletes.remove(documentId);
+			byte[] previous = saves.put(documentId, document);
+			bytes += document.length - (previous != null ? previous.length : 0);
+		}
+
+		void delete(String documentId) {
+
+			byte[] previous = saves.remove(documentId);
+			if (previous != null) {
+				bytes -= previous.length;
+			}
+			deletes.add(documentId);
+		}
+
+		int size() {
+			return saves.size() + deletes.size();
+		}
+
+		String getIndexUid() {
+			return indexUid;
+		}
+
+		String getPrimaryKey() {
+			return primaryKey;
+		}
+
+		Map<String, byte[]> getSaves() {
+			return saves;
+		}
+
+		/**
+		 * Join the buffered documents into a UTF-8 encoded JSON array.
+		 */
+		byte[] toPayload() {
+
+			// brackets and separators
+			byte[] payload = new byte[(int) bytes + Math.max(saves.size(), 1) + 1];
+			payload[0] = '[';
+			int position = 1;
+			for (byte[] document : saves.values()) {
+				if (position > 1) {
+					payload[position++] = ',';
+				}
+				System.arraycopy(document, 0, payload, position, document.length);
+				position += document.length;
+			}
+			payload[position] = ']';
+			return payload;
+		}
+
+		/**
+		 * Join the buffered documents into UTF-8 encoded JSON arrays of at most the given size, unless a single document
+		 * exceeds it.
+		 */
+		List<Payload> toPayloads(long maxBytes) {
+
+			List<Payload> payloads = new ArrayList<>();
+			List<String> documentIds = new ArrayList<>();
+			ByteArrayOutputStream payload = new ByteArrayOutputStream();
+			for (Map.Entry<String, byte[]> save : saves.entrySet()) {
+				byte[] document = save.getValue();
+				if (payload.size() > 0 && payload.size() + document.length + 2 > maxBytes) {
+					payload.write(']');
+					payloads.add(new Payload(documentIds, payload.toByteArray()));
+					documentIds = new ArrayList<>();
+					payload.reset();
+				}
+				payload.write(payload.size() == 0 ? '[' : ',');
+				payload.writeBytes(document);
+				documentIds.add(save.getKey());
+			}
+			if (payload.size() > 0) {
+				payload.write(']');
+				payloads.add(new Payload(documentIds, payload.toByteArray()));
+			}
+			return payloads;
+		}
+
+		Set<String> getDeletes() {
+			return deletes;
+		}
+
+		long getBytes() {
+			return bytes;
+		}
+	}
+
+	/**
+	 * Documents joined into a UTF-8 encoded JSON array together with their ids.
+	 */
+	record Payload(List<String> documentIds, byte[] documents) {
+	}
+}
@@ -0,0 +1,268 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client.msc;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.meilisearch.sdk.model.Task;
+import com.meilisearch.sdk.model.TaskInfo;
+import com.meilisearch.sdk.model.TaskStatus;
+
+import io.vanslog.spring.data.meilisearch.core.BulkIndexOptions;
+import io.vanslog.spring.data.meilisearch.core.BulkIndexResult;
+import io.vanslog.spring.data.meilisearch.core.BulkIndexResult.FailedChunk;
+import io.vanslog.spring.data.meilisearch.core.convert.MeilisearchConverter;
+
+/**
+ * Splits a list of entities into size-bounded chunks and sends them as a pipeline of {@code addDocuments} tasks.
+ * Documents are encoded one by one into the UTF-8 payload of the chunk currently being built, so only that chunk is
+ * held as JSON and chunk sizes are exact byte counts. The in-flight tasks are resolved together by the shared
+ * {@link TaskTracker}.
+ *
+ * @author Junghoon Ban
+ */
+class BulkIndexer {
+
+	private final DocumentsSender sender;
+	private final MeilisearchConverter converter;
+	private final TaskTracker taskTracker;
+
+	BulkIndexer(DocumentsSender sender, MeilisearchConverter converter, TaskTracker taskTracker) {
+
+		Assert.notNull(sender, "DocumentsSender must not be null");
+		Assert.notNull(converter, "MeilisearchConverter must not be null");
+		Assert.notNull(taskTracker, "TaskTracker must not be null");
+		this.sender = sender;
+		this.converter = converter;
+		this.taskTracker = taskTracker;
+	}
+
+	<T> BulkIndexResult index(String indexUid, String primaryKey, List<T> entities, BulkIndexOptions options) {
+
+		long start = System.nanoTime();
+		Pipeline pipeline = new Pipeline(indexUid, primaryKey, options);
+		Chunk chunk = new Chunk(0);
+		ByteArrayOutputStream document = new ByteArrayOutputStream();
+
+		for (int i = 0; i < entities.size(); i++) {
+			document.reset();
+			converter.write(entities.get(i), document);
+			int documentBytes = document.size();
+
+			if (!chunk.isEmpty() && !chunk.fits(documentBytes, pipeline.chunkSize.get(), options.getMaxBytesPerChunk())) {
+				pipeline.submit(chunk);
+				chunk = new Chunk(i);
+			}
+			chunk.add(document);
+		}
+
+		if (!chunk.isEmpty()) {
+			pipeline.submit(chunk);
+		}
+		pipeline.drain();
+
+		return new BulkIndexResult(entities.size(), pipeline.indexedDocuments, pipeline.chunks, pipeline.failedChunks,
+				Duration.ofNanos(System.nanoTime() - start));
+	}
+
+	@Nullable
+	static Duration parseDuration(@Nullable String duration) {
+
+		if (duration == null) {
+			return null;
+		}
+
+		try {
+			return Duration.parse(duration);
+		} catch (DateTimeParseException e) {
+			return null;
+		}
+	}
+
+	private class Pipeline {
+
+		private final String indexUid;
+		private final String primaryKey;
+		private final BulkIndexOptions options;
+		private final AdaptiveChunkSize chunkSize;
+		private final Deque<InFlightChunk> inFlight = new ArrayDeque<>();
+		private final List<FailedChunk> failedChunks = new ArrayList<>();
+		private int indexedDocuments;
+		private int chunks;
+
+		Pipeline(String indexUid, String primaryKey, BulkIndexOptions options) {
+			this.indexUid = indexUid;
+			this.primaryKey = primaryKey;
+			this.options = options;
+			this.chunkSize = new AdaptiveChunkSize(options);
+		}
+
+		void submit(Chunk chunk) {
+
+			while (inFlight.size() >= options.getMaxInFlight()) {
+				complete(inFlight.removeFirst());
+			}
+
+			int chunkIndex = chunks++;
+
+			try {
+				TaskInfo taskInfo = sender.send(indexUid, primaryKey, chunk.build());
+				int taskUid = taskInfo.getTaskUid();
+				inFlight.addLast(new InFlightChunk(chunkIndex, chunk.offset, chunk.documents, taskUid,
+						taskTracker.track(taskUid, options.getTaskTimeout())));
+			} catch (DataAccessException e) {
+				failedChunks.add(new FailedChunk(chunkIndex, chunk.offset, chunk.documents, null, reasonOf(e)));
+			}
+		}
+
+		void drain() {
+			while (!inFlight.isEmpty()) {
+				complete(inFlight.removeFirst());
+			}
+		}
+
+		private void complete(InFlightChunk chunk) {
+
+			Task task;
+			try {
+				task = taskTracker.await(chunk.task);
+			} catch (DataAccessException e) {
+				failedChunks.add(new FailedChunk(chunk.index, chunk.offset, chunk.documents, chunk.taskUid, reasonOf(e)));
+				return;
+			}
+
+			if (task.getStatus() == TaskStatus.SUCCEEDED) {
+				indexedDocuments += chunk.documents;
+				if (options.isAdaptive()) {
+					chunkSize.onTaskCompleted(parseDuration(task.getDuration()), chunk.documents);
+				}
+			} else {
+				failedChunks.add(new FailedChunk(chunk.index, chunk.offset, chunk.documents, chunk.taskUid,
+						"Task " + chunk.taskUid + " finished with status " + task.getStatus() + "."));
+			}
+		}
+
+		private String reasonOf(Exception e) {
+			return e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+		}
+	}
+
+	/**
+	 * Document count per chunk that follows the observed server-side task duration, scaled per document so that a short
+	 * trailing chunk does not inflate the estimate.
+	 */
+	static class AdaptiveChunkSize {
+
+		private final int min;
+		private final int max;
+		private final long targetNanos;
+		private int current;
+
+		AdaptiveChunkSize(BulkIndexOptions options) {
+			this.min = options.getMinDocumentsPerChunk();
+			this.max = options.getMaxDocumentsPerChunk();
+			this.targetNanos = options.getTargetTaskDuration().toNanos();
+			this.current = options.getDocumentsPerChunk();
+		}
+
+		int get() {
+			return current;
+		}
+
+		void onTaskCompleted(@Nullable Duration taskDuration, int documents) {
+
+			if (taskDuration == null || documents <= 0) {
+				return;
+			}
+
+			double ideal = (double) targetNanos * documents / Math.max(1L, taskDuration.toNanos());
+			double bounded = Math.max(current / 2.0, Math.min(current * 2.0, ideal));
+			current = (int) Math.max(min, Math.min(max, Math.round(bounded)));
+		}
+	}
+
+	private static class Chunk {
+
+		private final int offset;
+		private final ByteArrayOutputStream payload = new ByteArrayOutputStream();
+		private int documents;
+
+		Chunk(int offset) {
+			this.offset = offset;
+			this.payload.write('[');
+		}
+
+		boolean isEmpty() {
+			return documents == 0;
+		}
+
+		boolean fits(int documentBytes, int maxDocuments, long maxBytes) {
+			// the separator before the document and the closing bracket
+			return documents < maxDocuments && payload.size() + documentBytes + 2L <= maxBytes;
+		}
+
+		void add(ByteArrayOutputStream document) {
+
+			if (documents > 0) {
+				payload.write(',');
+			}
+			try {
+				document.writeTo(payload);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			documents++;
+		}
+
+		byte[] build() {
+			payload.write(']');
+			return payload.toByteArray();
+		}
+	}
+
+	/**
+	 * Sends a chunk of documents to an index.
+	 */
+	@FunctionalInterface
+	interface DocumentsSender {
+
+		/**
+		 * Enqueue the given documents for addition or replacement.
+		 *
+		 * @param indexUid the uid of the index
+		 * @param primaryKey the primary key of the documents
+		 * @param documents the documents as UTF-8 encoded JSON array
+		 * @return the enqueued task
+		 */
+		TaskInfo send(String indexUid, String primaryKey, byte[] documents);
+	}
+
+	private record InFlightChunk(int index, int offset, int documents, int taskUid, CompletableFuture<Task> task) {
+	}
+}
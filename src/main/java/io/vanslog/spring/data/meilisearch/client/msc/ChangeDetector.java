@@ -0,0 +1,301 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client.msc;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.lang.Nullable;
+
+import io.vanslog.spring.data.meilisearch.UncategorizedMeilisearchException;
+import io.vanslog.spring.data.meilisearch.core.ChangeDetectionOptions;
+import io.vanslog.spring.data.meilisearch.core.convert.MeilisearchConverter;
+
+/**
+ * Drops documents whose encoded form did not change since they were last saved, using a {@link ContentHashStore} per
+ * index.
+ * <p>
+ * The hashes of an index are loaded on first use from its file, or built from the documents of the index if there is
+ * no file or its number of hashes does not match the number of documents. Saving is a two-step protocol: before the
+ * changed documents are sent, their hashes are removed, and only once the task succeeded the new hashes are recorded.
+ * A crash in between, or a failure to write the file afterwards, therefore only causes documents to be sent again. If
+ * another save changed the hash of a document in the meantime, it is removed instead, as the order in which the tasks
+ * were processed is unknown.
+ *
+ * @author Junghoon Ban
+ */
+class ChangeDetector {
+
+	private static final String FILE_SUFFIX = ".hashes";
+	private static final int BUILD_BATCH_SIZE = 1024;
+	private static final int DOCUMENT_BUFFER_SIZE = 1024;
+
+	private final MeilisearchConverter converter;
+	private final EntityOperations entityOperations;
+	private final Function<Class<?>, Stream<?>> documentReader;
+	private final ToLongFunction<Class<?>> documentCounter;
+	@Nullable private final Path directory;
+	private final Map<String, IndexHashes> indexes = new ConcurrentHashMap<>();
+
+	/**
+	 * @param converter the converter encoding documents
+	 * @param entityOperations resolves index uids and document ids
+	 * @param documentReader reads all entities of a type, used to build the hashes of an index
+	 * @param documentCounter counts the documents of the index of a type
+	 * @param options the change detection options
+	 */
+	ChangeDetector(MeilisearchConverter converter, EntityOperations entityOperations,
+			Function<Class<?>, Stream<?>> documentReader, ToLongFunction<Class<?>> documentCounter,
+			ChangeDetectionOptions options) {
+		this.converter = converter;
+		this.entityOperations = entityOperations;
+		this.documentReader = documentReader;
+		this.documentCounter = documentCounter;
+		this.directory = options.getDirectory();
+	}
+
+	/**
+	 * Encode the given entities and collect those whose hash differs from the recorded one. The hashes of the changed
+	 * documents are removed until {@link #commit(Changes)} records the new ones.
+	 *
+	 * @param clazz the entity class
+	 * @param entities the entities to save
+	 * @return the changed documents
+	 */
+	Changes detect(Class<?> clazz, List<?> entities) {
+
+		IndexHashes index = index(entityOperations.getIndexUid(clazz));
+		long[] idHashes = new long[entities.size()];
+		long[] contentHashes = new long[entities.size()];
+		ByteArrayOutputStream documents = new ByteArrayOutputStream();
+		BufferPool.Buffer document = new BufferPool.Buffer(DOCUMENT_BUFFER_SIZE);
+		int count = 0;
+
+		documents.write('[');
+		synchronized (index) {
+			ContentHashStore store = index.load(clazz);
+			for (Object entity : entities) {
+				document.reset();
+				converter.write(entity, document);
+
+				long idHash = idHash(entityOperations.getDocumentId(entity));
+				long contentHash = document.hash(ContentHash.CONTENT_SEED);
+				if (store.get(idHash) != contentHash) {
+					if (count > 0) {
+						documents.write(',');
+					}
+					documents.writeBytes(document.toByteArray());
+					idHashes[count] = idHash;
+					contentHashes[count] = contentHash;
+					count++;
+				}
+			}
+			index.remove(idHashes, count);
+		}
+		documents.write(']');
+
+		return new Changes(index, documents.toByteArray(), idHashes, contentHashes, count);
+	}
+
+	/**
+	 * Record the hashes of documents whose save task succeeded.
+	 *
+	 * @param changes the changes returned by {@link #detect(Class, List)}
+	 */
+	void commit(Changes changes) {
+
+		IndexHashes index = changes.index();
+		synchronized (index) {
+			ContentHashStore store = index.store;
+			if (store == null) {
+				return;
+			}
+
+			long[] contentHashes = new long[changes.count()];
+			for (int i = 0; i < changes.count(); i++) {
+				boolean unchanged = store.get(changes.idHashes()[i]) == LongLongHashMap.NO_VALUE;
+				contentHashes[i] = unchanged ? changes.contentHashes()[i] : LongLongHashMap.NO_VALUE;
+			}
+			try {
+				store.putAll(changes.idHashes(), contentHashes, changes.count());
+			} catch (IOException e) {
+				// the hashes were removed from the file before sending, so the documents are only sent again
+			}
+		}
+	}
+
+	/**
+	 * Remove the hashes of the given documents, for example before they are deleted or changed otherwise.
+	 *
+	 * @param indexUid the uid of the index
+	 * @param documentIds the document ids
+	 */
+	void forget(String indexUid, Collection<String> documentIds) {
+
+		IndexHashes index = indexes.get(indexUid);
+		if (index == null) {
+			return;
+		}
+
+		long[] idHashes = new long[documentIds.size()];
+		int count = 0;
+		for (String documentId : documentIds) {
+			idHashes[count++] = idHash(documentId);
+		}
+		synchronized (index) {
+			index.remove(idHashes, count);
+		}
+	}
+
+	/**
+	 * Drop all hashes of an index including its file, for example because its documents were changed without hashing
+	 * them. The hashes are built from the index again on the next save.
+	 *
+	 * @param indexUid the uid of the index
+	 */
+	void invalidate(String indexUid) {
+
+		IndexHashes index = index(indexUid);
+		synchronized (index) {
+			index.invalidate();
+		}
+	}
+
+	private IndexHashes index(String indexUid) {
+		return indexes.computeIfAbsent(indexUid, IndexHashes::new);
+	}
+
+	private static long idHash(String documentId) {
+
+		byte[] bytes = documentId.getBytes(StandardCharsets.UTF_8);
+		return ContentHash.of(bytes, 0, bytes.length, ContentHash.ID_SEED);
+	}
+
+	/**
+	 * Documents that changed, as JSON array, together with their hashes.
+	 */
+	record Changes(IndexHashes index, byte[] documents, long[] idHashes, long[] contentHashes, int count) {
+
+		boolean isEmpty() {
+			return count == 0;
+		}
+	}
+
+	/**
+	 * The hashes of one index, guarded by the monitor of this object.
+	 */
+	final class IndexHashes {
+
+		private final String indexUid;
+		@Nullable private final Path file;
+		@Nullable private ContentHashStore store;
+
+		IndexHashes(String indexUid) {
+			this.indexUid = indexUid;
+			this.file = directory != null ? directory.resolve(indexUid + FILE_SUFFIX) : null;
+		}
+
+		ContentHashStore load(Class<?> clazz) {
+
+			if (store != null) {
+				return store;
+			}
+
+			try {
+				long documents;
+				try {
+					documents = documentCounter.applyAsLong(clazz);
+				} catch (DataAccessException e) {
+					// the index does not exist yet; without hashes, every document is sent
+					return store = ContentHashStore.create(file, 0);
+				}
+
+				ContentHashStore stored = file != null ? ContentHashStore.read(file) : null;
+				store = stored != null && stored.size() == documents ? stored : build(clazz, documents);
+				return store;
+			} catch (IOException e) {
+				throw new UncategorizedMeilisearchException("Failed to load content hashes of index " + indexUid + ".", e);
+			}
+		}
+
+		void remove(long[] idHashes, int count) {
+
+			if (store == null || count == 0) {
+				return;
+			}
+			try {
+				store.putAll(idHashes, new long[count], count);
+			} catch (IOException e) {
+				throw new UncategorizedMeilisearchException(
+						"Failed to write content hashes of index " + indexUid + ".", e);
+			}
+		}
+
+		void invalidate() {
+
+			try {
+				if (store != null) {
+					store.delete();
+				} else if (file != null) {
+					Files.deleteIfExists(file);
+				}
+				store = null;
+			} catch (IOException e) {
+				throw new UncategorizedMeilisearchException(
+						"Failed to delete content hashes of index " + indexUid + ".", e);
+			}
+		}
+
+		private ContentHashStore build(Class<?> clazz, long documents) throws IOException {
+
+			int expectedSize = (int) Math.min(documents, Integer.MAX_VALUE / 2);
+			ContentHashStore built = ContentHashStore.create(file, expectedSize);
+			long[] idHashes = new long[BUILD_BATCH_SIZE];
+			long[] contentHashes = new long[BUILD_BATCH_SIZE];
+			BufferPool.Buffer document = new BufferPool.Buffer(DOCUMENT_BUFFER_SIZE);
+			int count = 0;
+
+			try (Stream<?> entities = documentReader.apply(clazz)) {
+				Iterator<?> iterator = entities.iterator();
+				while (iterator.hasNext()) {
+					Object entity = iterator.next();
+					document.reset();
+					converter.write(entity, document);
+					idHashes[count] = idHash(entityOperations.getDocumentId(entity));
+					contentHashes[count] = document.hash(ContentHash.CONTENT_SEED);
+					if (++count == BUILD_BATCH_SIZE) {
+						built.putAll(idHashes, contentHashes, count);
+						count = 0;
+					}
+				}
+			}
+			built.putAll(idHashes, contentHashes, count);
+			return built;
+		}
+	}
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client.msc;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.util.Assert;
+
+import com.meilisearch.sdk.model.TaskInfo;
+
+import io.vanslog.spring.data.meilisearch.core.ConsistencyToken;
+
+/**
+ * Read-your-writes session of a {@link MeilisearchTemplate}. Writes made within the session record their task in the
+ * session {@link ConsistencyToken}, and reads made within the session wait for the last task recorded for the index
+ * they read, unless the {@link TaskTracker} has already observed that task as finished. Writes therefore do not need
+ * to wait for their tasks, while the session still reads what it wrote.
+ * <p>
+ * Sessions are opened with {@link MeilisearchTemplate#openSession()} and bound with
+ * {@link MeilisearchTemplate#withSession(ConsistencySession, java.util.function.Supplier)} or
+ * {@link AsyncMeilisearchTemplate#withSession(ConsistencySession)}. A session is safe to use from multiple threads.
+ *
+ * @author Junghoon Ban
+ */
+public class ConsistencySession {
+
+	private final TaskTracker taskTracker;
+	private final Set<CompletableFuture<?>> enqueuing = ConcurrentHashMap.newKeySet();
+	private volatile ConsistencyToken token;
+
+	ConsistencySession(TaskTracker taskTracker, ConsistencyToken token) {
+
+		Assert.notNull(taskTracker, "TaskTracker must not be null");
+		Assert.notNull(token, "ConsistencyToken must not be null");
+
+		this.taskTracker = taskTracker;
+		this.token = token;
+	}
+
+	/**
+	 * Return the token recording the last task the session enqueued on each index, waiting for writes of the session
+	 * that are not enqueued yet. The token can be handed to a client and passed to
+	 * {@link MeilisearchTemplate#openSession(ConsistencyToken)} to continue the session later.
+	 *
+	 * @return the current token
+	 */
+	public ConsistencyToken getToken() {
+
+		awaitEnqueued();
+		return token;
+	}
+
+	/**
+	 * Record the given task as the last one enqueued on the given index.
+	 *
+	 * @param indexUid the uid of the index
+	 * @param taskInfo the enqueued task
+	 * @return the given task
+	 */
+	synchronized TaskInfo record(String indexUid, TaskInfo taskInfo) {
+
+		token = token.with(indexUid, taskInfo.getTaskUid());
+		return taskInfo;
+	}
+
+	/**
+	 * Register a write whose task is not enqueued yet. Reads wait for it to be enqueued, so they know its task uid.
+	 *
+	 * @param enqueue the future completing once the task is enqueued and recorded
+	 */
+	void enqueuing(CompletableFuture<?> enqueue) {
+
+		enqueuing.add(enqueue);
+		enqueue.whenComplete((result, ex) -> enqueuing.remove(enqueue));
+	}
+
+	/**
+	 * Wait until the writes of the session on the given index are visible to reads.
+	 *
+	 * @param indexUid the uid of the index to read
+	 */
+	void await(String indexUid) {
+
+		awaitEnqueued();
+		Integer taskUid = token.getTaskUid(indexUid);
+		if (taskUid != null && !taskTracker.hasFinished(indexUid, taskUid)) {
+			taskTracker.await(taskUid);
+		}
+	}
+
+	private void awaitEnqueued() {
+
+		if (!enqueuing.isEmpty()) {
+			// failed writes are reported to their callers, only the uids of enqueued tasks are needed here
+			CompletableFuture.allOf(enqueuing.toArray(CompletableFuture[]::new)).exceptionally(ex -> null).join();
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "ConsistencySession{" + //
+				"token=" + token + //
+				'}';
+	}
+}
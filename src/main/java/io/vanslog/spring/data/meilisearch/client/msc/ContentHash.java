@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client.msc;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * 64-bit XXH64 hash of byte sequences, used to detect whether the encoded form of a document changed. Hashes are never
+ * {@literal 0}, so that {@literal 0} can mark a missing hash.
+ *
+ * @author Junghoon Ban
+ */
+final class ContentHash {
+
+	static final long ID_SEED = 0x6D65696C69L;
+	static final long CONTENT_SEED = 0;
+
+	private static final long PRIME1 = 0x9E3779B185EBCA87L;
+	private static final long PRIME2 = 0xC2B2AE3D27D4EB4FL;
+	private static final long PRIME3 = 0x165667B19E3779F9L;
+	private static final long PRIME4 = 0x85EBCA77C2B2AE63L;
+	private static final long PRIME5 = 0x27D4EB2F165667C5L;
+
+	private static final VarHandle LONG = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+	private static final VarHandle INT = MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.LITTLE_ENDIAN);
+
+	private ContentHash() {}
+
+	/**
+	 * Hash the given bytes, mapping a hash of {@literal 0} to {@literal 1}.
+	 *
+	 * @param input the bytes
+	 * @param offset the offset of the first byte
+	 * @param length the number of bytes
+	 * @param seed the seed
+	 * @return the hash, never {@literal 0}
+	 */
+	static long of(byte[] input, int offset, int length, long seed) {
+
+		long hash = xxh64(input, offset, length, seed);
+		return hash != 0 ? hash : 1;
+	}
+
+	/**
+	 * Compute the XXH64 hash of the given bytes.
+	 *
+	 * @param input the bytes
+	 * @param offset the offset of the first byte
+	 * @param length the number of bytes
+	 * @param seed the seed
+	 * @return the hash
+	 */
+	static long xxh64(byte[] input, int offset, int length, long seed) {
+
+		int position = offset;
+		int end = offset + length;
+		long hash;
+
+		if (length >= 32) {
+			long v1 = seed + PRIME1 + PRIME2;
+			long v2 = seed + PRIME2;
+			long v3 = seed;
+			long v4 = seed - PRIME1;
+			int limit = end - 32;
+			do {
+				v1 = round(v1, (long) LONG.get(input, position));
+				v2 = round(v2, (long) LONG.get(input, position + 8));
+				v3 = round(v3, (long) LONG.get(input, position + 16));
+				v4 = round(v4, (long) LONG.get(input, position + 24));
+				position += 32;
+			} while (position <= limit);
+
+			hash = Long.rotateLeft(v1, 1) + Long.rotateLeft(v2, 7) + Long.rotateLeft(v3, 12) + Long.rotateLeft(v4, 18);
+			hash = mergeRound(hash, v1);
+			hash = mergeRound(hash, v2);
+			hash = mergeRound(hash, v3);
+			hash = mergeRound(hash, v4);
+		} else {
+			hash = seed + PRIME5;
+		}
+
+		hash += length;
+
+		while (position + 8 <= end) {
+			hash ^= round(0, (long) LONG.get(input, position));
+			hash = Long.rotateLeft(hash, 27) * PRIME1 + PRIME4;
+			position += 8;
+		}
+		if (position + 4 <= end) {
+			hash ^= ((int) INT.get(input, position) & 0xFFFFFFFFL) * PRIME1;
+			hash = Long.rotateLeft(hash, 23) * PRIME2 + PRIME3;
+			position += 4;
+		}
+		while (position < end) {
+			hash ^= (input[position] & 0xFFL) * PRIME5;
+			hash = Long.rotateLeft(hash, 11) * PRIME1;
+			position++;
+		}
+
+		hash ^= hash >>> 33;
+		hash *= PRIME2;
+		hash ^= hash >>> 29;
+		hash *= PRIME3;
+		hash ^= hash >>> 32;
+		return hash;
+	}
+
+	private static long round(long accumulator, long input) {
+
+		accumulator += input * PRIME2;
+		accumulator = Long.rotateLeft(accumulator, 31);
+		return accumulator * PRIME1;
+	}
+
+	private static long mergeRound(long accumulator, long value) {
+
+		accumulator ^= round(0, value);
+		return accumulator * PRIME1 + PRIME4;
+	}
+}
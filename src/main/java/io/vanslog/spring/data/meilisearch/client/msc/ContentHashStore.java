@@ -0,0 +1,202 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client.msc;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Content hashes of the documents of one index, keyed by the hash of their document id, optionally persisted to a
+ * file.
+ * <p>
+ * The file is an append-only log of {@code (id hash, content hash)} records following a header, where a content hash
+ * of {@literal 0} removes a document. Records are appended as documents change, and the log is rewritten once it holds
+ * more than twice as many records as there are documents. A record truncated by a crash is ignored when reading.
+ *
+ * @author Junghoon Ban
+ */
+class ContentHashStore {
+
+	private static final int MAGIC = 0x4D534348;
+	private static final int VERSION = 1;
+	private static final int RECORD_SIZE = 16;
+	private static final int MIN_COMPACTION_RECORDS = 1024;
+
+	private final LongLongHashMap hashes;
+	@Nullable private final Path file;
+	private long records;
+
+	private ContentHashStore(LongLongHashMap hashes, @Nullable Path file, long records) {
+		this.hashes = hashes;
+		this.file = file;
+		this.records = records;
+	}
+
+	/**
+	 * Create an empty store, deleting the log of a previous one.
+	 *
+	 * @param file the log file or {@literal null} to keep the hashes in memory only
+	 * @param expectedSize the expected number of documents
+	 * @return the store
+	 * @throws IOException if the previous log could not be deleted
+	 */
+	static ContentHashStore create(@Nullable Path file, int expectedSize) throws IOException {
+
+		if (file != null) {
+			Files.deleteIfExists(file);
+		}
+		return new ContentHashStore(new LongLongHashMap(expectedSize), file, 0);
+	}
+
+	/**
+	 * Read a store from its log.
+	 *
+	 * @param file the log file
+	 * @return the store or {@literal null} if there is no log or it was not written by this class
+	 * @throws IOException if the log could not be read
+	 */
+	@Nullable
+	static ContentHashStore read(Path file) throws IOException {
+
+		LongLongHashMap hashes = new LongLongHashMap();
+		long records = 0;
+
+		try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+			if (input.readInt() != MAGIC || input.readInt() != VERSION) {
+				return null;
+			}
+			while (true) {
+				long idHash = input.readLong();
+				long contentHash = input.readLong();
+				if (contentHash == LongLongHashMap.NO_VALUE) {
+					hashes.remove(idHash);
+				} else {
+					hashes.put(idHash, contentHash);
+				}
+				records++;
+			}
+		} catch (NoSuchFileException e) {
+			return null;
+		} catch (EOFException e) {
+			// end of the log, possibly within a truncated record
+		}
+		return new ContentHashStore(hashes, file, records);
+	}
+
+	long get(long idHash) {
+		return hashes.get(idHash);
+	}
+
+	int size() {
+		return hashes.size();
+	}
+
+	/**
+	 * Set the content hashes of the given documents, removing those with a content hash of {@literal 0}, and append
+	 * them to the log.
+	 *
+	 * @param idHashes the id hashes
+	 * @param contentHashes the content hashes
+	 * @param count the number of documents to take from the arrays
+	 * @throws IOException if the log could not be written
+	 */
+	void putAll(long[] idHashes, long[] contentHashes, int count) throws IOException {
+
+		for (int i = 0; i < count; i++) {
+			if (contentHashes[i] == LongLongHashMap.NO_VALUE) {
+				hashes.remove(idHashes[i]);
+			} else {
+				hashes.put(idHashes[i], contentHashes[i]);
+			}
+		}
+
+		if (file == null || count == 0) {
+			return;
+		}
+		if (records + count > 2L * hashes.size() + MIN_COMPACTION_RECORDS) {
+			rewrite();
+			return;
+		}
+
+		ByteBuffer buffer = ByteBuffer.allocate(count * RECORD_SIZE);
+		for (int i = 0; i < count; i++) {
+			buffer.putLong(idHashes[i]).putLong(contentHashes[i]);
+		}
+		buffer.flip();
+
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.APPEND)) {
+			if (channel.size() == 0) {
+				channel.write(ByteBuffer.allocate(8).putInt(MAGIC).putInt(VERSION).flip());
+			}
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+		}
+		records += count;
+	}
+
+	/**
+	 * Write the log anew with one record per document, replacing the previous log atomically.
+	 *
+	 * @throws IOException if the log could not be written
+	 */
+	void rewrite() throws IOException {
+
+		if (file == null) {
+			return;
+		}
+
+		Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+		try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+			output.writeInt(MAGIC);
+			output.writeInt(VERSION);
+			hashes.<IOException> forEach((idHash, contentHash) -> {
+				output.writeLong(idHash);
+				output.writeLong(contentHash);
+			});
+		}
+		Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		records = hashes.size();
+	}
+
+	/**
+	 * Remove all hashes and the log.
+	 *
+	 * @throws IOException if the log could not be deleted
+	 */
+	void delete() throws IOException {
+
+		hashes.clear();
+		records = 0;
+		if (file != null) {
+			Files.deleteIfExists(file);
+		}
+	}
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client.msc;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import io.vanslog.spring.data.meilisearch.UncategorizedMeilisearchException;
+import io.vanslog.spring.data.meilisearch.core.convert.MeilisearchConverter;
+
+/**
+ * Remembers the documents of entities as they were last read or written, so that an update only sends the fields that
+ * changed since. Snapshots are held by soft references and dropped under memory pressure, in which case the next
+ * update sends the whole document again.
+ *
+ * @author Junghoon Ban
+ */
+class DocumentChangeTracker {
+
+	private final MeilisearchConverter converter;
+	private final ObjectMapper mapper = new ObjectMapper();
+	private final Map<Key, ObjectNode> snapshots = new ConcurrentReferenceHashMap<>();
+
+	DocumentChangeTracker(MeilisearchConverter converter) {
+		this.converter = converter;
+	}
+
+	/**
+	 * Write the given entity into a document tree with the converter.
+	 *
+	 * @param entity the entity
+	 * @return the document
+	 */
+	ObjectNode toDocument(Object entity) {
+
+		try (TokenBuffer buffer = new TokenBuffer(mapper, false)) {
+			converter.write(entity, buffer);
+			return mapper.readTree(buffer.asParser());
+		} catch (IOException e) {
+			throw new UncategorizedMeilisearchException("Failed to write document.", e);
+		}
+	}
+
+	/**
+	 * Remember the given document as the current state of a document in the index.
+	 *
+	 * @param indexUid the uid of the index
+	 * @param documentId the id of the document
+	 * @param document the document
+	 */
+	void record(String indexUid, String documentId, ObjectNode document) {
+		snapshots.put(new Key(indexUid, documentId), document);
+	}
+
+	/**
+	 * Forget the remembered state of the given documents, for example because they were deleted.
+	 *
+	 * @param indexUid the uid of the index
+	 * @param documentIds the ids of the documents
+	 */
+	void forget(String indexUid, Iterable<String> documentIds) {
+		documentIds.forEach(documentId -> snapshots.remove(new Key(indexUid, documentId)));
+	}
+
+	/**
+	 * Forget the remembered state of all documents of the given index, for example because they were written without
+	 * being tracked.
+	 *
+	 * @param indexUid the uid of the index
+	 */
+	void forgetAll(String indexUid) {
+		snapshots.keySet().removeIf(key -> key.indexUid().equals(indexUid));
+	}
+
+	/**
+	 * Return the part of the given document that changed since it was remembered.
+	 *
+	 * @param indexUid the uid of the index
+	 * @param primaryKey the primary key of the index
+	 * @param documentId the id of the document
+	 * @param document the current document
+	 * @return the changed fields with the primary key, the whole document if none was remembered, or {@literal null} if
+	 *         nothing changed
+	 */
+	@Nullable
+	ObjectNode changes(String indexUid, String primaryKey, String documentId, ObjectNode document) {
+
+		ObjectNode snapshot = snapshots.get(new Key(indexUid, documentId));
+		return snapshot != null ? diff(primaryKey, snapshot, document) : document;
+	}
+
+	/**
+	 * Encode the given documents as UTF-8 encoded JSON array.
+	 *
+	 * @param documents the documents
+	 * @return the JSON array
+	 */
+	byte[] encode(List<ObjectNode> documents) {
+
+		try {
+			return mapper.writeValueAsBytes(documents);
+		} catch (JsonProcessingException e) {
+			throw new UncategorizedMeilisearchException("Failed to encode documents.", e);
+		}
+	}
+
+	/**
+	 * Compare the top-level fields of two documents. Fields that were removed are returned as {@literal null}, which is
+	 * how a partial update clears them.
+	 *
+	 * @param primaryKey the primary key, always contained in the result
+	 * @param previous the previous document
+	 * @param current the current document
+	 * @return the changed fields with the primary key, or {@literal null} if nothing changed
+	 */
+	@Nullable
+	static ObjectNode diff(String primaryKey, ObjectNode previous, ObjectNode current) {
+
+		ObjectNode changes = current.objectNode();
+		changes.set(primaryKey, current.get(primaryKey));
+
+		Iterator<Map.Entry<String, JsonNode>> fields = current.fields();
+		while (fields.hasNext()) {
+			Map.Entry<String, JsonNode> field = fields.next();
+			if (!field.getValue().equals(previous.get(field.getKey()))) {
+				changes.set(field.getKey(), field.getValue());
+			}
+		}
+		Iterator<String> names = previous.fieldNames();
+		while (names.hasNext()) {
+			String name = names.next();
+			if (!current.has(name)) {
+				changes.putNull(name);
+			}
+		}
+		return changes.size() > 1 ? changes : null;
+	}
+
+	private record Key(String indexUid, String documentId) {
+	}
+}
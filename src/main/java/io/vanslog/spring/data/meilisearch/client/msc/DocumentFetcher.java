@@ -0,0 +1,312 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client.msc;
+
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.springframework.lang.Nullable;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meilisearch.sdk.json.JsonHandler;
+
+import io.vanslog.spring.data.meilisearch.DocumentAccessException;
+import io.vanslog.spring.data.meilisearch.UncategorizedMeilisearchException;
+
+/**
+ * Retrieves documents by their ids with as few requests as the Meilisearch server allows. Servers supporting the
+ * {@code ids} parameter of the documents fetch endpoint (v1.14 and later) are sent chunks of up to
+ * {@link #IDS_PER_REQUEST} ids, older servers are asked for each document separately. The server version is detected
+ * once with the first request. Requests are sent on {@link #MAX_CONCURRENT_REQUESTS} parallel lanes and the documents
+ * are returned in the order of the requested ids. Existence checks request only the primary key of the documents.
+ *
+ * @author Junghoon Ban
+ */
+class DocumentFetcher {
+
+	static final int IDS_PER_REQUEST = 1000;
+	static final int MAX_CONCURRENT_REQUESTS = 4;
+
+	private static final int FETCH_BY_IDS_MAJOR_VERSION = 1;
+	private static final int FETCH_BY_IDS_MINOR_VERSION = 14;
+	private static final int HTTP_NOT_FOUND = 404;
+
+	private final MeilisearchHttpTransport transport;
+	private final EntityOperations entityOperations;
+	private final InstanceResponseConverter instanceResponseConverter;
+	private final DocumentResponseReader documentResponseReader;
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	@Nullable private volatile Boolean fetchByIdsSupported;
+
+	DocumentFetcher(MeilisearchHttpTransport transport, EntityOperations entityOperations, JsonHandler jsonHandler,
+			DocumentResponseReader documentResponseReader) {
+		this.transport = transport;
+		this.entityOperations = entityOperations;
+		this.instanceResponseConverter = new InstanceResponseConverter(jsonHandler);
+		this.documentResponseReader = documentResponseReader;
+	}
+
+	/**
+	 * Retrieve the documents with the given ids. Missing documents are skipped and duplicate ids are fetched once.
+	 *
+	 * @param clazz the entity class
+	 * @param documentIds the ids of the documents
+	 * @param <T> the type of the entity
+	 * @return a future completed with the documents in the order of the given ids
+	 */
+	<T> CompletableFuture<List<T>> fetch(Class<T> clazz, Collection<String> documentIds) {
+
+		Set<String> ids = new LinkedHashSet<>(documentIds);
+		if (ids.isEmpty()) {
+			return CompletableFuture.completedFuture(List.of());
+		}
+
+		Map<String, T> documents = new ConcurrentHashMap<>(ids.size());
+		return isFetchByIdsSupported().thenCompose(supported -> supported //
+				? onLanes(chunk(ids, IDS_PER_REQUEST), chunk -> fetchChunk(clazz, chunk, documents)) //
+				: onLanes(chunk(ids, 1), chunk -> fetchSingle(clazz, chunk.get(0), documents))) //
+				.thenApply(ignored -> inRequestedOrder(ids, documents));
+	}
+
+	/**
+	 * Check whether a document with the given id exists. Only the primary key of the document is requested and a missing
+	 * document is recognized by its status code, without raising an exception.
+	 *
+	 * @param clazz the entity class
+	 * @param documentId the id of the document
+	 * @return a future completed with {@literal true} if the document exists
+	 */
+	CompletableFuture<Boolean> exists(Class<?> clazz, String documentId) {
+
+		return transport.send("GET", primaryKeyPath(clazz, documentId), null).thenApply(response -> {
+			if (isDocumentNotFound(response)) {
+				return false;
+			}
+			transport.handle(response);
+			return true;
+		});
+	}
+
+	/**
+	 * Check which of the given document ids exist. Only the primary keys of the documents are requested, with a single
+	 * request per {@link #IDS_PER_REQUEST} ids on servers that support fetching documents by ids.
+	 *
+	 * @param clazz the entity class
+	 * @param documentIds the ids of the documents
+	 * @return a future completed with the existing ids in the order of the given ids
+	 */
+	CompletableFuture<Set<String>> existing(Class<?> clazz, Collection<String> documentIds) {
+
+		Set<String> ids = new LinkedHashSet<>(documentIds);
+		if (ids.isEmpty()) {
+			return CompletableFuture.completedFuture(Set.of());
+		}
+
+		Set<String> existing = ConcurrentHashMap.newKeySet(ids.size());
+		return isFetchByIdsSupported().thenCompose(supported -> supported //
+				? onLanes(chunk(ids, IDS_PER_REQUEST), chunk -> fetchPrimaryKeys(clazz, chunk, existing)) //
+				: onLanes(chunk(ids, 1), chunk -> exists(clazz, chunk.get(0)).thenAccept(exists -> {
+					if (exists) {
+						existing.add(chunk.get(0));
+					}
+				}))) //
+				.thenApply(ignored -> {
+					Set<String> ordered = new LinkedHashSet<>(existing.size());
+					for (String id : ids) {
+						if (existing.contains(id)) {
+							ordered.add(id);
+						}
+					}
+					return ordered;
+				});
+	}
+
+	/**
+	 * Whether a server of the given version accepts ids on the documents fetch endpoint.
+	 *
+	 * @param packageVersion the package version reported by the server, e.g. {@code 1.14.0}
+	 * @return {@literal true} if documents can be fetched by ids
+	 */
+	static boolean supportsFetchByIds(@Nullable String packageVersion) {
+
+		if (packageVersion == null) {
+			return false;
+		}
+
+		String[] parts = packageVersion.split("[.-]");
+		try {
+			int major = Integer.parseInt(parts[0]);
+			int minor = parts.length > 1 ? Integer.parseInt(parts[1]) : 0;
+			return major > FETCH_BY_IDS_MAJOR_VERSION
+					|| (major == FETCH_BY_IDS_MAJOR_VERSION && minor >= FETCH_BY_IDS_MINOR_VERSION);
+		} catch (NumberFormatException e) {
+			return false;
+		}
+	}
+
+	private CompletableFuture<Boolean> isFetchByIdsSupported() {
+
+		Boolean supported = this.fetchByIdsSupported;
+		if (supported != null) {
+			return CompletableFuture.completedFuture(supported);
+		}
+
+		// a failed lookup falls back to single requests without caching, so the next call detects again
+		return transport.exchange("GET", "/version", null) //
+				.thenApply(json -> {
+					boolean detected = supportsFetchByIds(instanceResponseConverter.mapVersion(json).getPackageVersion());
+					this.fetchByIdsSupported = detected;
+					return detected;
+				}) //
+				.exceptionally(ex -> false);
+	}
+
+	private <T> CompletableFuture<Void> fetchChunk(Class<T> clazz, List<String> ids, Map<String, T> documents) {
+
+		return transport.exchange("POST", documentsPath(clazz) + "/fetch", fetchBody(ids, null)).thenAccept(json -> {
+			for (T document : documentResponseReader.readPage(json, clazz).results()) {
+				documents.put(entityOperations.getDocumentId(document), document);
+			}
+		});
+	}
+
+	private CompletableFuture<Void> fetchPrimaryKeys(Class<?> clazz, List<String> ids, Set<String> existing) {
+
+		String primaryKey = entityOperations.getPrimaryKey(clazz);
+		return transport.exchange("POST", documentsPath(clazz) + "/fetch", fetchBody(ids, primaryKey))
+				.thenAccept(json -> {
+					try {
+						for (JsonNode document : objectMapper.readTree(json).path("results")) {
+							existing.add(document.path(primaryKey).asText());
+						}
+					} catch (JsonProcessingException e) {
+						throw new UncategorizedMeilisearchException("Failed to decode response.", e);
+					}
+				});
+	}
+
+	private boolean isDocumentNotFound(HttpResponse<String> response) {
+
+		if (response.statusCode() != HTTP_NOT_FOUND) {
+			return false;
+		}
+		try {
+			String code = objectMapper.readTree(response.body()).path("code").asText();
+			return ExceptionTranslator.DOCUMENT_NOT_FOUND.equals(code);
+		} catch (JsonProcessingException e) {
+			return false;
+		}
+	}
+
+	private static Map<String, Object> fetchBody(List<String> ids, @Nullable String field) {
+
+		Map<String, Object> body = new LinkedHashMap<>();
+		body.put("ids", ids);
+		if (field != null) {
+			body.put("fields", List.of(field));
+		}
+		body.put("limit", ids.size());
+		return body;
+	}
+
+	private <T> CompletableFuture<Void> fetchSingle(Class<T> clazz, String id, Map<String, T> documents) {
+
+		String path = documentsPath(clazz) + "/" + MeilisearchHttpTransport.encodePathSegment(id);
+		return transport.exchange("GET", path, null) //
+				.<Void> handle((json, ex) -> {
+					if (ex == null) {
+						documents.put(id, documentResponseReader.read(json, clazz));
+						return null;
+					}
+					Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+					if (cause instanceof DocumentAccessException) {
+						return null;
+					}
+					throw new CompletionException(cause);
+				});
+	}
+
+	private String primaryKeyPath(Class<?> clazz, String documentId) {
+		return documentsPath(clazz) + "/" + MeilisearchHttpTransport.encodePathSegment(documentId) + "?fields="
+				+ MeilisearchHttpTransport.encodePathSegment(entityOperations.getPrimaryKey(clazz));
+	}
+
+	private String documentsPath(Class<?> clazz) {
+		return "/indexes/" + MeilisearchHttpTransport.encodePathSegment(entityOperations.getIndexUid(clazz))
+				+ "/documents";
+	}
+
+	/**
+	 * Send the requests for the given chunks on up to {@link #MAX_CONCURRENT_REQUESTS} lanes, each of which sends its
+	 * chunks one after another.
+	 */
+	private static CompletableFuture<Void> onLanes(List<List<String>> chunks,
+			Function<List<String>, CompletableFuture<Void>> request) {
+
+		int laneCount = Math.min(MAX_CONCURRENT_REQUESTS, chunks.size());
+		CompletableFuture<?>[] lanes = new CompletableFuture<?>[laneCount];
+		for (int lane = 0; lane < laneCount; lane++) {
+			CompletableFuture<Void> requests = CompletableFuture.completedFuture(null);
+			for (int i = lane; i < chunks.size(); i += laneCount) {
+				List<String> chunk = chunks.get(i);
+				requests = requests.thenCompose(ignored -> request.apply(chunk));
+			}
+			lanes[lane] = requests;
+		}
+		return CompletableFuture.allOf(lanes);
+	}
+
+	private static List<List<String>> chunk(Set<String> ids, int chunkSize) {
+
+		List<List<String>> chunks = new ArrayList<>((ids.size() + chunkSize - 1) / chunkSize);
+		List<String> chunk = new ArrayList<>(Math.min(chunkSize, ids.size()));
+		for (String id : ids) {
+			chunk.add(id);
+			if (chunk.size() == chunkSize) {
+				chunks.add(chunk);
+				chunk = new ArrayList<>(chunkSize);
+			}
+		}
+		if (!chunk.isEmpty()) {
+			chunks.add(chunk);
+		}
+		return chunks;
+	}
+
+	private static <T> List<T> inRequestedOrder(Set<String> ids, Map<String, T> documents) {
+
+		List<T> ordered = new ArrayList<>(documents.size());
+		for (String id : ids) {
+			T document = documents.get(id);
+			if (document != null) {
+				ordered.add(document);
+			}
+		}
+		return ordered;
+	}
+}
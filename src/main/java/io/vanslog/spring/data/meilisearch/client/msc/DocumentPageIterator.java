@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client.msc;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.lang.Nullable;
+
+import io.vanslog.spring.data.meilisearch.UncategorizedMeilisearchException;
+
+/**
+ * {@link CloseableIterator} walking the documents endpoint in pages of a fixed size. While the current page is consumed,
+ * the next page is already requested on the given {@link Executor}, so at most two pages are held in memory regardless
+ * of the size of the index. Documents written to the index while it is walked may be skipped or returned twice, since
+ * pages are addressed by offset.
+ *
+ * @param <T> the type of the entity
+ * @author Junghoon Ban
+ */
+final class DocumentPageIterator<T> implements CloseableIterator<T> {
+
+	private final PageReader<T> reader;
+	private final int pageSize;
+	private final Executor executor;
+
+	private int nextOffset;
+	private boolean exhausted;
+	private boolean closed;
+	@Nullable private Iterator<T> current;
+	@Nullable private CompletableFuture<List<T>> prefetch;
+
+	DocumentPageIterator(PageReader<T> reader, int pageSize, Executor executor) {
+		this.reader = reader;
+		this.pageSize = pageSize;
+		this.executor = executor;
+	}
+
+	@Override
+	public boolean hasNext() {
+
+		while (current == null || !current.hasNext()) {
+			if (closed || exhausted) {
+				return false;
+			}
+
+			List<T> page = await(prefetch != null ? prefetch : requestNextPage());
+			prefetch = null;
+
+			if (page.size() < pageSize) {
+				exhausted = true;
+			} else {
+				prefetch = requestNextPage();
+			}
+			current = page.iterator();
+		}
+		return true;
+	}
+
+	@Override
+	public T next() {
+
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		// noinspection ConstantConditions
+		return current.next();
+	}
+
+	@Override
+	public void close() {
+
+		closed = true;
+		current = null;
+		if (prefetch != null) {
+			prefetch.cancel(false);
+			prefetch = null;
+		}
+	}
+
+	private CompletableFuture<List<T>> requestNextPage() {
+
+		int offset = nextOffset;
+		nextOffset += pageSize;
+		return CompletableFuture.supplyAsync(() -> reader.read(offset, pageSize), executor);
+	}
+
+	private List<T> await(CompletableFuture<List<T>> page) {
+
+		try {
+			return page.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			close();
+			throw new UncategorizedMeilisearchException("Interrupted while reading documents.", e);
+		} catch (CancellationException e) {
+			throw new UncategorizedMeilisearchException("Reading documents was cancelled.", e);
+		} catch (ExecutionException e) {
+			close();
+			if (e.getCause() instanceof RuntimeException ex) {
+				throw ex;
+			}
+			throw new UncategorizedMeilisearchException("Failed to read documents.", e.getCause());
+		}
+	}
+
+	/**
+	 * Reads a single page of documents.
+	 *
+	 * @param <T> the type of the entity
+	 */
+	@FunctionalInterface
+	interface PageReader<T> {
+
+		List<T> read(int offset, int limit);
+	}
+}
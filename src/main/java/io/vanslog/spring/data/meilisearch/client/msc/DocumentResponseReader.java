@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client.msc;
+
+import io.vanslog.spring.data.meilisearch.UncategorizedMeilisearchException;
+import io.vanslog.spring.data.meilisearch.core.convert.MeilisearchConverter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Reads the responses of the documents endpoints of the Meilisearch HTTP API. Documents are read into entities by the
+ * {@link MeilisearchConverter} straight from the parser.
+ *
+ * @author Junghoon Ban
+ */
+final class DocumentResponseReader {
+
+	private final MeilisearchConverter converter;
+	private final JsonFactory jsonFactory = new JsonFactory();
+
+	DocumentResponseReader(MeilisearchConverter converter) {
+		this.converter = converter;
+	}
+
+	/**
+	 * Read a single document.
+	 *
+	 * @param body the response body
+	 * @param clazz the entity class
+	 * @return the entity
+	 */
+	<T> T read(String body, Class<T> clazz) {
+
+		try (JsonParser parser = jsonFactory.createParser(body)) {
+			return converter.read(clazz, parser);
+		} catch (IOException e) {
+			throw new UncategorizedMeilisearchException("Failed to read document.", e);
+		}
+	}
+
+	/**
+	 * Read a page of documents as returned by the documents fetch endpoints.
+	 *
+	 * @param body the response body
+	 * @param clazz the entity class
+	 * @return the page
+	 */
+	<T> Page<T> readPage(String body, Class<T> clazz) {
+
+		try (JsonParser parser = jsonFactory.createParser(body)) {
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				throw new IOException("Expected " + JsonToken.START_OBJECT + " but found " + parser.currentToken() + ".");
+			}
+
+			List<T> results = new ArrayList<>();
+			int offset = 0;
+			long total = 0;
+
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String field = parser.currentName();
+				JsonToken token = parser.nextToken();
+
+				if ("results".equals(field) && token == JsonToken.START_ARRAY) {
+					while (parser.nextToken() == JsonToken.START_OBJECT) {
+						results.add(converter.read(clazz, parser));
+					}
+				} else if ("offset".equals(field)) {
+					offset = parser.getValueAsInt();
+				} else if ("total".equals(field)) {
+					total = parser.getValueAsLong();
+				} else {
+					parser.skipChildren();
+				}
+			}
+			return new Page<>(results, offset, total);
+		} catch (IOException e) {
+			throw new UncategorizedMeilisearchException("Failed to read documents.", e);
+		}
+	}
+
+	/**
+	 * A page of documents.
+	 *
+	 * @param results the documents of the page
+	 * @param offset the offset of the first document of the page
+	 * @param total the total number of documents of the index
+	 * @param <T> the type of the entity
+	 */
+	record Page<T>(List<T> results, int offset, long total) {
+	}
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client.msc;
+
+import java.net.http.HttpRequest.BodyPublisher;
+
+/**
+ * A request body carrying documents for the documents endpoint, declaring the content type and encoding it is sent
+ * with.
+ *
+ * @author Junghoon Ban
+ */
+interface DocumentsBody extends BodyPublisher {
+
+	/**
+	 * Return the media type of the body.
+	 *
+	 * @return the content type
+	 */
+	String getContentType();
+
+	/**
+	 * Return whether the body is compressed with gzip.
+	 *
+	 * @return {@literal true} to send the body with {@code Content-Encoding: gzip}
+	 */
+	default boolean isGzip() {
+		return false;
+	}
+
+	/**
+	 * Return whether the body can be sent again, so that a request carrying it may be retried.
+	 *
+	 * @return {@literal true} if the body can be sent
+	 */
+	default boolean isReplayable() {
+		return true;
+	}
+}
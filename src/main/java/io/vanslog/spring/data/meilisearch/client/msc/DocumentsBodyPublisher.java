@@ -0,0 +1,496 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client.msc;
+
+import io.vanslog.spring.data.meilisearch.core.DocumentFormat;
+import io.vanslog.spring.data.meilisearch.core.IngestOptions;
+import io.vanslog.spring.data.meilisearch.core.convert.MeilisearchConverter;
+import io.vanslog.spring.data.meilisearch.core.mapping.MeilisearchPersistentEntity;
+import io.vanslog.spring.data.meilisearch.core.mapping.MeilisearchPersistentProperty;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+/**
+ * A request body streaming documents in one of the {@link DocumentFormat formats} accepted by Meilisearch, optionally
+ * compressed with gzip. Documents are serialized by the {@link MeilisearchConverter} while the HTTP client reads the
+ * body, a chunk at a time, into a buffer taken from a shared {@link BufferPool}, so the memory needed to send a batch
+ * does not depend on its size.
+ * <p>
+ * Bodies backed by a {@link Collection} are iterated again for every subscription and can be sent repeatedly. Bodies
+ * backed by an {@link Iterator} can only be sent once, which {@link #isReplayable()} reports once they were
+ * subscribed to.
+ *
+ * @author Junghoon Ban
+ */
+final class DocumentsBodyPublisher implements DocumentsBody {
+
+	static final int CHUNK_SIZE = 16 * 1024;
+
+	private static final BufferPool BUFFER_POOL = new BufferPool(32, CHUNK_SIZE * 2, 1024 * 1024);
+	private static final JsonFactory JSON_FACTORY = new JsonFactory().disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+	private final MeilisearchConverter converter;
+	private final Supplier<? extends Iterator<?>> documents;
+	private final boolean replayable;
+	private final DocumentFormat format;
+	@Nullable private final MeilisearchPersistentEntity<?> entity;
+	private final boolean gzip;
+	private final BodyPublisher delegate = BodyPublishers.ofInputStream(DocumentsInputStream::new);
+	private final AtomicBoolean subscribed = new AtomicBoolean();
+	private final AtomicLong documentCount = new AtomicLong();
+	private final AtomicLong byteCount = new AtomicLong();
+
+	private DocumentsBodyPublisher(MeilisearchConverter converter, Supplier<? extends Iterator<?>> documents,
+			boolean replayable, DocumentFormat format, @Nullable MeilisearchPersistentEntity<?> entity, boolean gzip) {
+		this.converter = converter;
+		this.documents = documents;
+		this.replayable = replayable;
+		this.format = format;
+		this.entity = entity;
+		this.gzip = gzip;
+	}
+
+	/**
+	 * Create a body sending the given documents as JSON array, replayable if they are a {@link Collection}.
+	 *
+	 * @param converter the converter to write the documents with
+	 * @param documents the documents
+	 * @return the body
+	 */
+	static DocumentsBodyPublisher of(MeilisearchConverter converter, Iterable<?> documents) {
+		return new DocumentsBodyPublisher(converter, documents::iterator, documents instanceof Collection,
+				DocumentFormat.JSON, null, false);
+	}
+
+	/**
+	 * Create a body that can be sent once sending the given documents as JSON array.
+	 *
+	 * @param converter the converter to write the documents with
+	 * @param documents the documents
+	 * @return the body
+	 */
+	static DocumentsBodyPublisher of(MeilisearchConverter converter, Iterator<?> documents) {
+		return new DocumentsBodyPublisher(converter, () -> documents, false, DocumentFormat.JSON, null, false);
+	}
+
+	/**
+	 * Return a body sending the same documents with the given options. Documents are sent as
+	 * {@link DocumentFormat#NDJSON} unless the options set a format.
+	 *
+	 * @param entity the persistent entity of the documents
+	 * @param options the ingest options
+	 * @return the body
+	 */
+	DocumentsBodyPublisher with(MeilisearchPersistentEntity<?> entity, IngestOptions options) {
+
+		DocumentFormat format = options.getFormat() != null ? options.getFormat() : DocumentFormat.NDJSON;
+		if (format == DocumentFormat.CSV) {
+			MeilisearchPersistentProperty property = firstNonSimpleProperty(entity);
+			Assert.isNull(property, () -> entity.getType().getName() + " cannot be sent as CSV as its property "
+					+ (property != null ? property.getName() : null) + " is not a simple value");
+		}
+		return new DocumentsBodyPublisher(converter, documents, replayable, format, entity, options.isGzip());
+	}
+
+	@Nullable
+	private static MeilisearchPersistentProperty firstNonSimpleProperty(MeilisearchPersistentEntity<?> entity) {
+
+		for (MeilisearchPersistentProperty property : entity) {
+			if (property.isWritable() && (property.isEntity() || property.isCollectionLike() || property.isMap())) {
+				return property;
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public long contentLength() {
+		return -1;
+	}
+
+	@Override
+	public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+
+		if (subscribed.getAndSet(true) && !replayable) {
+			subscriber.onSubscribe(new Flow.Subscription() {
+
+				@Override
+				public void request(long n) {}
+
+				@Override
+				public void cancel() {}
+			});
+			subscriber.onError(new IllegalStateException("Streamed documents cannot be sent again."));
+			return;
+		}
+		documentCount.set(0);
+		byteCount.set(0);
+		delegate.subscribe(subscriber);
+	}
+
+	/**
+	 * Return whether the body can still be sent, which is always the case for collections and for iterators until
+	 * the body was subscribed to.
+	 *
+	 * @return {@literal true} if the body can be sent
+	 */
+	@Override
+	public boolean isReplayable() {
+		return replayable || !subscribed.get();
+	}
+
+	/**
+	 * Return the number of documents written by the last subscription.
+	 *
+	 * @return the number of documents
+	 */
+	long getDocumentCount() {
+		return documentCount.get();
+	}
+
+	/**
+	 * Return the number of bytes written by the last subscription.
+	 *
+	 * @return the number of bytes
+	 */
+	long getByteCount() {
+		return byteCount.get();
+	}
+
+	@Override
+	public String getContentType() {
+		return format.getContentType();
+	}
+
+	@Override
+	public boolean isGzip() {
+		return gzip;
+	}
+
+	/**
+	 * Serializes the documents on demand, filling the pooled buffer with at least {@link #CHUNK_SIZE} bytes unless the
+	 * documents are exhausted and draining it before serializing further.
+	 */
+	private final class DocumentsInputStream extends InputStream {
+
+		private final Iterator<?> iterator = documents.get();
+		private final BufferPool.Buffer buffer = BUFFER_POOL.acquire();
+		@Nullable private final GZIPOutputStream compressor;
+		private final Encoder encoder;
+		private int position;
+		private boolean finished;
+		private boolean closed;
+
+		DocumentsInputStream() {
+			try {
+				this.compressor = gzip ? new GZIPOutputStream(buffer, 8192) : null;
+				OutputStream output = compressor != null ? compressor : buffer;
+				this.encoder = switch (format) {
+					case JSON -> new JsonArrayEncoder(converter, output);
+					case NDJSON -> new NdjsonEncoder(converter, output);
+					case CSV -> new CsvEncoder(converter, entity, output);
+				};
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+
+		@Override
+		public int read() throws IOException {
+			byte[] single = new byte[1];
+			return read(single, 0, 1) < 0 ? -1 : single[0] & 0xFF;
+		}
+
+		@Override
+		public int read(byte[] target, int offset, int length) throws IOException {
+
+			if (length == 0) {
+				return 0;
+			}
+			if (position == buffer.size() && !fill()) {
+				return -1;
+			}
+
+			int count = Math.min(length, buffer.size() - position);
+			buffer.copyTo(position, target, offset, count);
+			position += count;
+			byteCount.addAndGet(count);
+			return count;
+		}
+
+		private boolean fill() throws IOException {
+
+			if (closed) {
+				throw new IOException("Stream closed.");
+			}
+			buffer.reset();
+			position = 0;
+
+			while (!finished && buffer.size() < CHUNK_SIZE) {
+				if (iterator.hasNext()) {
+					encoder.write(iterator.next());
+					documentCount.incrementAndGet();
+				} else {
+					encoder.finish();
+					if (compressor != null) {
+						compressor.finish();
+					}
+					finished = true;
+				}
+			}
+			return buffer.size() > 0;
+		}
+
+		@Override
+		public void close() throws IOException {
+
+			if (!closed) {
+				closed = true;
+				if (compressor != null) {
+					compressor.close();
+				}
+				BUFFER_POOL.release(buffer);
+			}
+		}
+	}
+
+	/**
+	 * Writes documents to an output stream in a specific format.
+	 */
+	private interface Encoder {
+
+		/**
+		 * Write and flush a document.
+		 *
+		 * @param document the document
+		 */
+		void write(Object document) throws IOException;
+
+		/**
+		 * Complete the payload after the last document.
+		 */
+		void finish() throws IOException;
+	}
+
+	private static final class JsonArrayEncoder implements Encoder {
+
+		private final MeilisearchConverter converter;
+		private final JsonGenerator generator;
+
+		JsonArrayEncoder(MeilisearchConverter converter, OutputStream output) throws IOException {
+			this.converter = converter;
+			this.generator = JSON_FACTORY.createGenerator(output);
+			generator.writeStartArray();
+		}
+
+		@Override
+		public void write(Object document) throws IOException {
+			converter.write(document, generator);
+			generator.flush();
+		}
+
+		@Override
+		public void finish() throws IOException {
+			generator.writeEndArray();
+			generator.close();
+		}
+	}
+
+	private static final class NdjsonEncoder implements Encoder {
+
+		private final MeilisearchConverter converter;
+		private final JsonGenerator generator;
+
+		NdjsonEncoder(MeilisearchConverter converter, OutputStream output) throws IOException {
+			this.converter = converter;
+			this.generator = JSON_FACTORY.createGenerator(output).setRootValueSeparator(null);
+		}
+
+		@Override
+		public void write(Object document) throws IOException {
+			converter.write(document, generator);
+			generator.writeRaw('\n');
+			generator.flush();
+		}
+
+		@Override
+		public void finish() throws IOException {
+			generator.close();
+		}
+	}
+
+	/**
+	 * Writes a header row declaring numeric and boolean columns, followed by a row per document. Documents are written
+	 * by the converter first, so custom conversions apply to CSV as well. Missing and {@literal null} values are left
+	 * empty. The header is written with the first document, typing each column by the converted value of that document
+	 * and by the property type if the value is missing.
+	 */
+	private static final class CsvEncoder implements Encoder {
+
+		private final MeilisearchConverter converter;
+		private final OutputStream output;
+		private final Map<String, Integer> columns = new HashMap<>();
+		private final List<MeilisearchPersistentProperty> properties = new ArrayList<>();
+		private final String[] cells;
+		private final JsonToken[] values;
+		private final StringBuilder row = new StringBuilder();
+		private boolean headerWritten;
+
+		CsvEncoder(MeilisearchConverter converter, @Nullable MeilisearchPersistentEntity<?> entity,
+				OutputStream output) {
+
+			Assert.notNull(entity, "Entity must not be null for CSV");
+
+			this.converter = converter;
+			this.output = output;
+
+			for (MeilisearchPersistentProperty property : entity) {
+				if (property.isWritable()) {
+					columns.put(property.getFieldName(), properties.size());
+					properties.add(property);
+				}
+			}
+			this.cells = new String[properties.size()];
+			this.values = new JsonToken[properties.size()];
+		}
+
+		@Override
+		public void write(Object document) throws IOException {
+
+			TokenBuffer tokens = new TokenBuffer(null, false);
+			converter.write(document, tokens);
+
+			Arrays.fill(cells, null);
+			try (JsonParser parser = tokens.asParser()) {
+				parser.nextToken();
+				while (parser.nextToken() == JsonToken.FIELD_NAME) {
+					String field = parser.currentName();
+					JsonToken value = parser.nextToken();
+					if (value.isStructStart()) {
+						throw new IllegalStateException("Field " + field + " of " + document.getClass().getName()
+								+ " is not a simple value and cannot be written as CSV.");
+					}
+					Integer column = columns.get(field);
+					if (column != null && value != JsonToken.VALUE_NULL) {
+						cells[column] = parser.getText();
+						if (values[column] == null) {
+							values[column] = value;
+						}
+					}
+				}
+			}
+			if (!headerWritten) {
+				writeHeader();
+			}
+			writeRow(cells);
+		}
+
+		@Override
+		public void finish() throws IOException {
+
+			if (!headerWritten) {
+				writeHeader();
+			}
+		}
+
+		private void writeHeader() throws IOException {
+
+			String[] header = new String[properties.size()];
+			for (int i = 0; i < header.length; i++) {
+				header[i] = properties.get(i).getFieldName() + columnType(properties.get(i), values[i]);
+			}
+			headerWritten = true;
+			writeRow(header);
+		}
+
+		private void writeRow(String[] values) throws IOException {
+
+			row.setLength(0);
+			for (int i = 0; i < values.length; i++) {
+				if (i > 0) {
+					row.append(',');
+				}
+				appendCell(values[i]);
+			}
+			row.append('\n');
+			output.write(row.toString().getBytes(StandardCharsets.UTF_8));
+		}
+
+		private void appendCell(@Nullable String value) {
+
+			if (value == null) {
+				return;
+			}
+			boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0
+					|| value.indexOf('\r') >= 0;
+			if (!quote) {
+				row.append(value);
+				return;
+			}
+			row.append('"');
+			for (int i = 0; i < value.length(); i++) {
+				char c = value.charAt(i);
+				if (c == '"') {
+					row.append('"');
+				}
+				row.append(c);
+			}
+			row.append('"');
+		}
+
+		private static String columnType(MeilisearchPersistentProperty property, @Nullable JsonToken value) {
+
+			if (value != null) {
+				return value.isNumeric() ? ":number" : value.isBoolean() ? ":boolean" : "";
+			}
+
+			Class<?> type = ClassUtils.resolvePrimitiveIfNecessary(property.getType());
+			if (Number.class.isAssignableFrom(type)) {
+				return ":number";
+			}
+			return Boolean.class.equals(type) ? ":boolean" : "";
+		}
+	}
+}
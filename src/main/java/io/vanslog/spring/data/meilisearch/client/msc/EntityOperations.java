@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client.msc;
+
+import java.util.Objects;
+
+import org.springframework.util.Assert;
+
+import io.vanslog.spring.data.meilisearch.annotations.Document;
+import io.vanslog.spring.data.meilisearch.core.convert.MeilisearchConverter;
+import io.vanslog.spring.data.meilisearch.core.mapping.MeilisearchPersistentEntity;
+import io.vanslog.spring.data.meilisearch.core.mapping.MeilisearchPersistentProperty;
+
+/**
+ * Resolves index and document metadata of mapped entities. Shared by the blocking and the reactive template.
+ *
+ * @author Junghoon Ban
+ */
+class EntityOperations {
+
+	private final MeilisearchConverter meilisearchConverter;
+
+	EntityOperations(MeilisearchConverter meilisearchConverter) {
+		this.meilisearchConverter = meilisearchConverter;
+	}
+
+	<T> String getDocumentId(T entity) {
+		MeilisearchPersistentEntity<?> persistentEntity = getPersistentEntity(entity.getClass());
+		Assert.notNull(persistentEntity.getIdProperty(), "Document must have an id property.");
+
+		Object id = persistentEntity.getIdentifierAccessor(entity).getRequiredIdentifier();
+		return meilisearchConverter.convertId(id);
+	}
+
+	String getPrimaryKey(Class<?> clazz) {
+		MeilisearchPersistentProperty idProperty = getPersistentEntity(clazz).getIdProperty();
+		Assert.notNull(idProperty, "Id property must not be null.");
+		return Objects.requireNonNull(idProperty.getField()).getName();
+	}
+
+	String getIndexUid(Class<?> clazz) {
+		return getPersistentEntity(clazz).getIndexUid();
+	}
+
+	MeilisearchPersistentEntity<?> getPersistentEntity(Class<?> clazz) {
+		Document document = clazz.getAnnotation(Document.class);
+		Assert.notNull(document, "Given class must be annotated with @Document(indexUid = \"foo\")!");
+		Assert.hasText(document.indexUid(), "Given class must be annotated with @Document(indexUid = \"foo\")!");
+
+		return meilisearchConverter.getMappingContext().getRequiredPersistentEntity(clazz);
+	}
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client.msc;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.lang.Nullable;
+
+import com.meilisearch.sdk.exceptions.MeilisearchApiException;
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+
+import io.vanslog.spring.data.meilisearch.DocumentAccessException;
+import io.vanslog.spring.data.meilisearch.UncategorizedMeilisearchException;
+
+/**
+ * Translates Meilisearch client errors and API error codes into Spring's {@link DataAccessException} hierarchy.
+ *
+ * @author Junghoon Ban
+ */
+final class ExceptionTranslator {
+
+	static final String DOCUMENT_NOT_FOUND = "document_not_found";
+
+	private ExceptionTranslator() {}
+
+	/**
+	 * Translate an exception thrown by the Meilisearch Java client.
+	 *
+	 * @param e the exception to translate
+	 * @return the translated exception
+	 */
+	static DataAccessException translate(MeilisearchException e) {
+
+		if (e instanceof MeilisearchApiException ex && DOCUMENT_NOT_FOUND.equals(ex.getCode())) {
+			return new DocumentAccessException(e.getMessage(), e.getCause());
+		}
+		return new UncategorizedMeilisearchException(e.getMessage(), e.getCause());
+	}
+
+	/**
+	 * Translate an error response of the Meilisearch HTTP API.
+	 *
+	 * @param code the Meilisearch error code, may be {@literal null} if the body carried none
+	 * @param message the error message
+	 * @return the translated exception
+	 */
+	static DataAccessException translate(@Nullable String code, String message) {
+
+		if (DOCUMENT_NOT_FOUND.equals(code)) {
+			return new DocumentAccessException(message);
+		}
+		return new UncategorizedMeilisearchException(message);
+	}
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client.msc;
+
+import java.util.Set;
+
+/**
+ * Whether sending a request twice has the same effect as sending it once, which decides if it may be retried after a
+ * failure that left it unclear whether the server processed it.
+ * <p>
+ * Reads are idempotent, and so are most writes of Meilisearch: documents are replaced or deleted by their primary key
+ * and settings are replaced as a whole. Requests creating resources or running functions on documents are not.
+ *
+ * @author Junghoon Ban
+ */
+enum Idempotency {
+
+	IDEMPOTENT, NON_IDEMPOTENT;
+
+	private static final Set<String> NON_IDEMPOTENT_POSTS = Set.of("/indexes", "/keys", "/dumps", "/snapshots",
+			"/swap-indexes", "/tasks/cancel");
+
+	/**
+	 * Classify a request of the Meilisearch HTTP API.
+	 *
+	 * @param method the HTTP method
+	 * @param path the path relative to the host, may include a query string
+	 * @return the idempotency of the request
+	 */
+	static Idempotency of(String method, String path) {
+
+		int query = path.indexOf('?');
+		String resource = query < 0 ? path : path.substring(0, query);
+
+		if ("POST".equals(method) && (NON_IDEMPOTENT_POSTS.contains(resource) || resource.endsWith("/documents/edit"))) {
+			return NON_IDEMPOTENT;
+		}
+		return IDEMPOTENT;
+	}
+}
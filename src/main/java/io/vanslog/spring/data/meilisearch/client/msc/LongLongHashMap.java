@@ -0,0 +1,205 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client.msc;
+
+import org.springframework.util.Assert;
+
+/**
+ * Open addressing hash map of primitive {@code long} keys to {@code long} values, using linear probing. Entries take
+ * 16 bytes in two parallel arrays, without boxing or per-entry objects. {@literal 0} is reserved to mark free slots and
+ * can neither be used as key nor as value. Not thread-safe.
+ *
+ * @author Junghoon Ban
+ */
+class LongLongHashMap {
+
+	static final long NO_VALUE = 0;
+
+	private static final int MIN_CAPACITY = 16;
+	private static final float LOAD_FACTOR = 0.75f;
+
+	private long[] keys;
+	private long[] values;
+	private int size;
+	private int resizeThreshold;
+
+	LongLongHashMap() {
+		this(MIN_CAPACITY);
+	}
+
+	LongLongHashMap(int expectedSize) {
+		allocate(capacityFor(expectedSize));
+	}
+
+	/**
+	 * Return the value of the given key.
+	 *
+	 * @param key the key, must not be {@literal 0}
+	 * @return the value or {@link #NO_VALUE} if the key is not contained
+	 */
+	long get(long key) {
+
+		int mask = keys.length - 1;
+		for (int slot = slot(key, mask); keys[slot] != 0; slot = (slot + 1) & mask) {
+			if (keys[slot] == key) {
+				return values[slot];
+			}
+		}
+		return NO_VALUE;
+	}
+
+	/**
+	 * Associate the value with the given key.
+	 *
+	 * @param key the key, must not be {@literal 0}
+	 * @param value the value, must not be {@literal 0}
+	 * @return the previous value or {@link #NO_VALUE} if the key was not contained
+	 */
+	long put(long key, long value) {
+
+		Assert.isTrue(key != 0, "Key must not be 0");
+		Assert.isTrue(value != NO_VALUE, "Value must not be 0");
+
+		int mask = keys.length - 1;
+		int slot = slot(key, mask);
+		while (keys[slot] != 0) {
+			if (keys[slot] == key) {
+				long previous = values[slot];
+				values[slot] = value;
+				return previous;
+			}
+			slot = (slot + 1) & mask;
+		}
+
+		keys[slot] = key;
+		values[slot] = value;
+		if (++size > resizeThreshold) {
+			rehash(keys.length * 2);
+		}
+		return NO_VALUE;
+	}
+
+	/**
+	 * Remove the given key. Entries following it in its probe sequence are shifted back, so that lookups never need
+	 * tombstones.
+	 *
+	 * @param key the key
+	 * @return the removed value or {@link #NO_VALUE} if the key was not contained
+	 */
+	long remove(long key) {
+
+		int mask = keys.length - 1;
+		int slot = slot(key, mask);
+		while (keys[slot] != key) {
+			if (keys[slot] == 0) {
+				return NO_VALUE;
+			}
+			slot = (slot + 1) & mask;
+		}
+
+		long previous = values[slot];
+		int free = slot;
+		for (int next = (free + 1) & mask; keys[next] != 0; next = (next + 1) & mask) {
+			int home = slot(keys[next], mask);
+			if (((next - home) & mask) >= ((next - free) & mask)) {
+				keys[free] = keys[next];
+				values[free] = values[next];
+				free = next;
+			}
+		}
+		keys[free] = 0;
+		values[free] = NO_VALUE;
+		size--;
+		return previous;
+	}
+
+	int size() {
+		return size;
+	}
+
+	void clear() {
+		allocate(MIN_CAPACITY);
+	}
+
+	/**
+	 * Call the consumer for each entry in no particular order.
+	 *
+	 * @param consumer the consumer of keys and values
+	 * @param <E> the type of exception thrown by the consumer
+	 * @throws E if the consumer failed
+	 */
+	<E extends Exception> void forEach(EntryConsumer<E> consumer) throws E {
+
+		for (int slot = 0; slot < keys.length; slot++) {
+			if (keys[slot] != 0) {
+				consumer.accept(keys[slot], values[slot]);
+			}
+		}
+	}
+
+	private void rehash(int capacity) {
+
+		long[] oldKeys = keys;
+		long[] oldValues = values;
+		allocate(capacity);
+
+		int mask = keys.length - 1;
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldKeys[i] != 0) {
+				int slot = slot(oldKeys[i], mask);
+				while (keys[slot] != 0) {
+					slot = (slot + 1) & mask;
+				}
+				keys[slot] = oldKeys[i];
+				values[slot] = oldValues[i];
+				size++;
+			}
+		}
+	}
+
+	private void allocate(int capacity) {
+		this.keys = new long[capacity];
+		this.values = new long[capacity];
+		this.size = 0;
+		this.resizeThreshold = (int) (capacity * LOAD_FACTOR);
+	}
+
+	private static int capacityFor(int expectedSize) {
+
+		Assert.isTrue(expectedSize >= 0, "Expected size must not be negative");
+
+		long capacity = Math.max(MIN_CAPACITY, (long) Math.ceil(expectedSize / (double) LOAD_FACTOR));
+		Assert.isTrue(capacity <= 1 << 30, "Expected size is too large");
+		return Integer.highestOneBit((int) capacity - 1) << 1;
+	}
+
+	private static int slot(long key, int mask) {
+
+		long mixed = key * 0x9E3779B97F4A7C15L;
+		return (int) (mixed ^ (mixed >>> 32)) & mask;
+	}
+
+	/**
+	 * Consumer of the entries of a {@link LongLongHashMap}.
+	 *
+	 * @param <E> the type of exception thrown by the consumer
+	 */
+	@FunctionalInterface
+	interface EntryConsumer<E extends Exception> {
+
+		void accept(long key, long value) throws E;
+	}
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client.msc;
+
+import io.vanslog.spring.data.meilisearch.core.DocumentFormat;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A request body publishing a region of a memory-mapped NDJSON file. The HTTP client receives read-only slices of the
+ * mapping, so the chunk is written to the connection from the page cache without being copied onto the heap. Every
+ * subscription publishes the region from its start, so the body can be sent again.
+ *
+ * @author Junghoon Ban
+ */
+final class MappedChunkBodyPublisher implements DocumentsBody {
+
+	static final int SLICE_SIZE = 64 * 1024;
+
+	private final ByteBuffer chunk;
+
+	MappedChunkBodyPublisher(ByteBuffer chunk) {
+		this.chunk = chunk.asReadOnlyBuffer();
+	}
+
+	@Override
+	public String getContentType() {
+		return DocumentFormat.NDJSON.getContentType();
+	}
+
+	@Override
+	public long contentLength() {
+		return chunk.remaining();
+	}
+
+	@Override
+	public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+		subscriber.onSubscribe(new SliceSubscription(subscriber, chunk.duplicate()));
+	}
+
+	/**
+	 * Emits one slice per requested item. Signals are serialized by a work-in-progress counter, so requests issued from
+	 * within {@code onNext} do not recurse.
+	 */
+	private static final class SliceSubscription implements Flow.Subscription {
+
+		private final Flow.Subscriber<? super ByteBuffer> subscriber;
+		private final ByteBuffer remaining;
+		private final AtomicLong demand = new AtomicLong();
+		private final AtomicInteger wip = new AtomicInteger();
+		private volatile boolean cancelled;
+		private boolean completed;
+
+		SliceSubscription(Flow.Subscriber<? super ByteBuffer> subscriber, ByteBuffer remaining) {
+			this.subscriber = subscriber;
+			this.remaining = remaining;
+		}
+
+		@Override
+		public void request(long n) {
+
+			if (n <= 0) {
+				cancelled = true;
+				subscriber.onError(new IllegalArgumentException("Requested items must be positive but was " + n + "."));
+				return;
+			}
+			demand.getAndAccumulate(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+			drain();
+		}
+
+		@Override
+		public void cancel() {
+			cancelled = true;
+		}
+
+		private void drain() {
+
+			if (wip.getAndIncrement() != 0) {
+				return;
+			}
+
+			do {
+				while (!cancelled && demand.get() > 0 && remaining.hasRemaining()) {
+					int length = Math.min(SLICE_SIZE, remaining.remaining());
+					ByteBuffer slice = remaining.slice(remaining.position(), length);
+					remaining.position(remaining.position() + length);
+					demand.decrementAndGet();
+					subscriber.onNext(slice);
+				}
+				if (!cancelled && !completed && !remaining.hasRemaining()) {
+					completed = true;
+					subscriber.onComplete();
+				}
+			} while (wip.decrementAndGet() != 0);
+		}
+	}
+}
@@ -20,5 +20,5 @@ import io.vanslog.spring.data.meilisearch.core.MeilisearchCallback;
 @FunctionalInterface
 interface MeilisearchClientExecutor {
 
-	<T> T execute(MeilisearchCallback<T> callback);
+	<T> T execute(Idempotency idempotency, MeilisearchCallback<T> callback);
 }
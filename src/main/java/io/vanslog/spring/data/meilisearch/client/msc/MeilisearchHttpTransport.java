@@ -0,0 +1,299 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client.msc;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.StringUtils;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.json.JsonHandler;
+
+import io.vanslog.spring.data.meilisearch.UncategorizedMeilisearchException;
+import io.vanslog.spring.data.meilisearch.client.ClientConfiguration;
+import io.vanslog.spring.data.meilisearch.client.MeilisearchClient;
+
+/**
+ * Non-blocking HTTP transport to the Meilisearch REST API built on the JDK {@link HttpClient}. Responses are decoded
+ * with the {@link JsonHandler} of the {@link MeilisearchClient}, so they map onto the same model types as the
+ * Meilisearch Java client. Error responses are translated with {@link ExceptionTranslator}.
+ *
+ * @author Junghoon Ban
+ */
+class MeilisearchHttpTransport {
+
+	private static final String USER_AGENT = "Spring Data Meilisearch";
+
+	private final HttpClient httpClient;
+	private final String hostUrl;
+	@Nullable private final String authorization;
+	private final String userAgent;
+	private final Duration responseTimeout;
+	private final JsonHandler jsonHandler;
+	private final ObjectMapper requestMapper;
+	private final RetryHandler retryHandler;
+
+	MeilisearchHttpTransport(MeilisearchClient meilisearchClient) {
+		this(meilisearchClient, new RetryHandler(meilisearchClient));
+	}
+
+	MeilisearchHttpTransport(MeilisearchClient meilisearchClient, RetryHandler retryHandler) {
+		this(meilisearchClient, HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1)
+				.connectTimeout(meilisearchClient.getClientConfiguration().getConnectTimeout()).build(), retryHandler);
+	}
+
+	MeilisearchHttpTransport(MeilisearchClient meilisearchClient, HttpClient httpClient, RetryHandler retryHandler) {
+
+		ClientConfiguration configuration = meilisearchClient.getClientConfiguration();
+		String host = configuration.getHostUrl();
+
+		this.httpClient = httpClient;
+		this.retryHandler = retryHandler;
+		this.hostUrl = host.endsWith("/") ? host.substring(0, host.length() - 1) : host;
+		this.authorization = StringUtils.hasText(configuration.getApiKey()) ? "Bearer " + configuration.getApiKey()
+				: null;
+		this.userAgent = userAgent(configuration.getClientAgents());
+		this.responseTimeout = configuration.getResponseTimeout();
+		this.jsonHandler = meilisearchClient.getJsonHandler();
+		this.requestMapper = new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_NULL);
+	}
+
+	/**
+	 * Send a request and decode the response body into the given type.
+	 *
+	 * @param method the HTTP method
+	 * @param path the path relative to the host, including the query string
+	 * @param body the request body, encoded with {@link #encode(Object)} unless it already is a {@link String}, a
+	 *          UTF-8 encoded {@code byte[]} or a {@link BodyPublisher}
+	 * @param targetClass the type to decode the response into
+	 * @param parameters generic type parameters of the target type
+	 * @return a future completed with the decoded response
+	 */
+	<T> CompletableFuture<T> exchange(String method, String path, @Nullable Object body, Class<?> targetClass,
+			Class<?>... parameters) {
+		return exchange(method, path, body).thenApply(response -> decode(response, targetClass, parameters));
+	}
+
+	/**
+	 * Send a request and return the raw response body.
+	 *
+	 * @param method the HTTP method
+	 * @param path the path relative to the host, including the query string
+	 * @param body the request body, encoded with {@link #encode(Object)} unless it already is a {@link String}, a
+	 *          UTF-8 encoded {@code byte[]} or a {@link BodyPublisher}
+	 * @return a future completed with the response body
+	 */
+	CompletableFuture<String> exchange(String method, String path, @Nullable Object body) {
+		return send(method, path, body).thenApply(this::handle);
+	}
+
+	/**
+	 * Send a request and return the response regardless of its status, so callers can treat expected error statuses
+	 * without exceptions. Use {@link #handle(HttpResponse)} to translate unexpected ones. Requests failing for a
+	 * transient reason are retried by the {@link RetryHandler}, classifying their idempotency with
+	 * {@link Idempotency#of(String, String)}. Requests carrying a {@link DocumentsBody} that cannot be sent again are
+	 * not retried.
+	 *
+	 * @param method the HTTP method
+	 * @param path the path relative to the host, including the query string
+	 * @param body the request body, encoded with {@link #encode(Object)} unless it already is a {@link String}, a
+	 *          UTF-8 encoded {@code byte[]} or a {@link BodyPublisher}
+	 * @return a future completed with the response
+	 */
+	CompletableFuture<HttpResponse<String>> send(String method, String path, @Nullable Object body) {
+
+		HttpRequest request;
+		try {
+			request = request(method, path, body);
+		} catch (RuntimeException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+
+		retryHandler.recordRequest();
+		return send(request, Idempotency.of(method, path), 1);
+	}
+
+	private CompletableFuture<HttpResponse<String>> send(HttpRequest request, Idempotency idempotency, int attempt) {
+
+		return httpClient.sendAsync(request, BodyHandlers.ofString(StandardCharsets.UTF_8)).handle((response, ex) -> {
+			Duration backoff = retryHandler.backoff(idempotency,
+					ex != null ? RetryHandler.classify(ex) : RetryHandler.classify(response.statusCode()), attempt);
+			if (backoff != null && isReplayable(request)) {
+				Executor delayed = CompletableFuture.delayedExecutor(backoff.toMillis(), TimeUnit.MILLISECONDS);
+				return CompletableFuture.runAsync(() -> {}, delayed)
+						.thenCompose(ignored -> send(request, idempotency, attempt + 1));
+			}
+			if (ex != null) {
+				Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+				throw new UncategorizedMeilisearchException(
+						"Failed to send " + request.method() + " " + request.uri().getRawPath() + ".", cause);
+			}
+			return CompletableFuture.completedFuture(response);
+		}).thenCompose(Function.identity());
+	}
+
+	/**
+	 * Encode a request body. SDK request types are serialized by their properties, skipping {@literal null} values, and
+	 * the {@code filterArray} property is sent as {@code filter}, which is how the Meilisearch API expects nested
+	 * filters.
+	 *
+	 * @param body the body to encode
+	 * @return the JSON representation
+	 */
+	String encode(Object body) {
+
+		if (body instanceof String json) {
+			return json;
+		}
+
+		try {
+			JsonNode tree = requestMapper.valueToTree(body);
+			renameFilterArray(tree);
+			return requestMapper.writeValueAsString(tree);
+		} catch (IllegalArgumentException | JsonProcessingException e) {
+			throw new UncategorizedMeilisearchException("Failed to encode request body.", e);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	<T> T decode(String json, Class<?> targetClass, Class<?>... parameters) {
+
+		try {
+			return (T) jsonHandler.decode(json, targetClass, parameters);
+		} catch (MeilisearchException e) {
+			throw new UncategorizedMeilisearchException("Failed to decode response.", e);
+		}
+	}
+
+	static String encodePathSegment(String value) {
+		return URLEncoder.encode(value, StandardCharsets.UTF_8).replace("+", "%20");
+	}
+
+	HttpRequest request(String method, String path, @Nullable Object body) {
+
+		BodyPublisher publisher;
+		String contentType = "application/json";
+		if (body == null) {
+			publisher = BodyPublishers.noBody();
+		} else if (body instanceof byte[] bytes) {
+			publisher = BodyPublishers.ofByteArray(bytes);
+		} else if (body instanceof DocumentsBody documents) {
+			publisher = documents;
+			contentType = documents.getContentType();
+		} else if (body instanceof BodyPublisher bodyPublisher) {
+			publisher = bodyPublisher;
+		} else {
+			publisher = BodyPublishers.ofString(encode(body), StandardCharsets.UTF_8);
+		}
+
+		HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(hostUrl + path)) //
+				.method(method, publisher) //
+				.timeout(responseTimeout) //
+				.header("User-Agent", userAgent) //
+				.header("Content-Type", contentType);
+
+		if (body instanceof DocumentsBody documents && documents.isGzip()) {
+			builder.header("Content-Encoding", "gzip");
+		}
+		if (authorization != null) {
+			builder.header("Authorization", authorization);
+		}
+		return builder.build();
+	}
+
+	/**
+	 * Return the body of a successful response or throw the translated error of a failed one.
+	 *
+	 * @param response the response
+	 * @return the response body
+	 */
+	String handle(HttpResponse<String> response) {
+
+		int status = response.statusCode();
+		String body = response.body();
+
+		if (status >= 200 && status < 300) {
+			return body;
+		}
+
+		String code = null;
+		String message = "Meilisearch responded with status " + status + ".";
+		if (StringUtils.hasText(body)) {
+			try {
+				JsonNode error = requestMapper.readTree(body);
+				code = error.path("code").asText(null);
+				message = error.path("message").asText(message);
+			} catch (JsonProcessingException e) {
+				message = body;
+			}
+		}
+		throw ExceptionTranslator.translate(code, message);
+	}
+
+	private static boolean isReplayable(HttpRequest request) {
+		return !(request.bodyPublisher().orElse(null) instanceof DocumentsBody documents)
+				|| documents.isReplayable();
+	}
+
+	private static void renameFilterArray(JsonNode node) {
+
+		if (node instanceof ObjectNode object) {
+			JsonNode filterArray = object.remove("filterArray");
+			if (filterArray != null && !filterArray.isNull()) {
+				object.set("filter", filterArray);
+			}
+			Iterator<Map.Entry<String, JsonNode>> fields = object.fields();
+			while (fields.hasNext()) {
+				renameFilterArray(fields.next().getValue());
+			}
+		} else if (node instanceof ArrayNode array) {
+			array.forEach(MeilisearchHttpTransport::renameFilterArray);
+		}
+	}
+
+	private static String userAgent(@Nullable String[] clientAgents) {
+
+		StringBuilder agent = new StringBuilder(USER_AGENT);
+		if (clientAgents != null) {
+			for (String clientAgent : clientAgents) {
+				agent.append(" ; ").append(clientAgent);
+			}
+		}
+		return agent.toString();
+	}
+}
@@ -15,6 +15,12 @@
  */
 package io.vanslog.spring.data.meilisearch.client.msc;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Supplier;
+
 import org.springframework.util.Assert;
 
 import com.meilisearch.sdk.model.IndexesQuery;
@@ -23,6 +29,9 @@ import com.meilisearch.sdk.model.TaskInfo;
 import com.meilisearch.sdk.model.TaskStatus;
 
 import io.vanslog.spring.data.meilisearch.TaskStatusException;
+import io.vanslog.spring.data.meilisearch.UncategorizedMeilisearchException;
+import io.vanslog.spring.data.meilisearch.core.ExportOptions;
+import io.vanslog.spring.data.meilisearch.core.ExportResult;
 import io.vanslog.spring.data.meilisearch.core.MeilisearchIndex;
 import io.vanslog.spring.data.meilisearch.core.MeilisearchIndexCreateRequest;
 import io.vanslog.spring.data.meilisearch.core.MeilisearchIndexList;
@@ -44,22 +53,28 @@ class MeilisearchIndexTemplate implements MeilisearchIndexOperations {
 	private final IndexRequestConverter requestConverter;
 	private final IndexSettingsResponseConverter settingsResponseConverter;
 	private final InstanceResponseConverter responseConverter;
-	private final int requestTimeout;
-	private final int requestInterval;
+	private final TaskTracker taskTracker;
+	private final NdjsonExporter exporter;
+	private final Supplier<TaskSupersession> supersession;
 
 	MeilisearchIndexTemplate(String indexUid, MeilisearchClientExecutor executor,
-			InstanceResponseConverter responseConverter, int requestTimeout, int requestInterval) {
+			InstanceResponseConverter responseConverter, TaskTracker taskTracker, NdjsonExporter exporter,
+			Supplier<TaskSupersession> supersession) {
 
 		Assert.hasText(indexUid, "Index uid must not be empty");
 		Assert.notNull(executor, "MeilisearchClientExecutor must not be null");
 		Assert.notNull(responseConverter, "InstanceResponseConverter must not be null");
+		Assert.notNull(taskTracker, "TaskTracker must not be null");
+		Assert.notNull(exporter, "NdjsonExporter must not be null");
+		Assert.notNull(supersession, "TaskSupersession supplier must not be null");
 		this.indexUid = indexUid;
 		this.executor = executor;
 		this.requestConverter = new IndexRequestConverter();
 		this.settingsResponseConverter = new IndexSettingsResponseConverter();
 		this.responseConverter = responseConverter;
-		this.requestTimeout = requestTimeout;
-		this.requestInterval = requestInterval;
+		this.taskTracker = taskTracker;
+		this.exporter = exporter;
+		this.supersession = supersession;
 	}
 
 	@Override
@@ -72,7 +87,8 @@ class MeilisearchIndexTemplate implements MeilisearchIndexOperations {
 
 		Assert.notNull(request, "MeilisearchIndexCreateRequest must not be null");
 
-		TaskInfo taskInfo = executor.execute(client -> client.createIndex(indexUid, request.getPrimaryKey()));
+		TaskInfo taskInfo = executor.execute(Idempotency.NON_IDEMPOTENT,
+				client -> client.createIndex(indexUid, request.getPrimaryKey()));
 		TaskStatus taskStatus = waitForTask(taskInfo);
 		if (taskStatus != TaskStatus.SUCCEEDED) {
 			throw new TaskStatusException(taskStatus, "Failed to create index.");
@@ -83,12 +99,13 @@ class MeilisearchIndexTemplate implements MeilisearchIndexOperations {
 
 	@Override
 	public MeilisearchIndex get() {
-		return responseConverter.mapIndex(executor.execute(client -> client.getIndex(indexUid)));
+		return responseConverter
+				.mapIndex(executor.execute(Idempotency.IDEMPOTENT, client -> client.getIndex(indexUid)));
 	}
 
 	@Override
 	public MeilisearchIndexList list() {
-		return responseConverter.mapIndexes(executor.execute(client -> client.getIndexes()));
+		return responseConverter.mapIndexes(executor.execute(Idempotency.IDEMPOTENT, client -> client.getIndexes()));
 	}
 
 	@Override
@@ -97,7 +114,8 @@ class MeilisearchIndexTemplate implements MeilisearchIndexOperations {
 		Assert.notNull(query, "MeilisearchIndexQuery must not be null");
 
 		IndexesQuery indexesQuery = requestConverter.indexesQuery(query);
-		return responseConverter.mapIndexes(executor.execute(client -> client.getIndexes(indexesQuery)));
+		return responseConverter
+				.mapIndexes(executor.execute(Idempotency.IDEMPOTENT, client -> client.getIndexes(indexesQuery)));
 	}
 
 	@Override
@@ -105,7 +123,8 @@ class MeilisearchIndexTemplate implements MeilisearchIndexOperations {
 
 		Assert.notNull(request, "MeilisearchIndexUpdateRequest must not be null");
 
-		TaskInfo taskInfo = executor.execute(client -> client.updateIndex(indexUid, request.getPrimaryKey()));
+		TaskInfo taskInfo = executor.execute(Idempotency.IDEMPOTENT,
+				client -> client.updateIndex(indexUid, request.getPrimaryKey()));
 		TaskStatus taskStatus = waitForTask(taskInfo);
 		if (taskStatus != TaskStatus.SUCCEEDED) {
 			throw new TaskStatusException(taskStatus, "Failed to update index.");
@@ -117,18 +136,20 @@ class MeilisearchIndexTemplate implements MeilisearchIndexOperations {
 	@Override
 	public boolean delete() {
 
-		TaskInfo taskInfo = executor.execute(client -> client.deleteIndex(indexUid));
+		TaskInfo taskInfo = executor.execute(Idempotency.NON_IDEMPOTENT, client -> client.deleteIndex(indexUid));
 		return waitForTask(taskInfo) == TaskStatus.SUCCEEDED;
 	}
 
 	@Override
 	public MeilisearchIndexStats stats() {
-		return responseConverter.mapIndexStats(executor.execute(client -> client.index(indexUid).getStats()));
+		return responseConverter
+				.mapIndexStats(executor.execute(Idempotency.IDEMPOTENT, client -> client.index(indexUid).getStats()));
 	}
 
 	@Override
 	public MeilisearchIndexSettings getSettings() {
-		return settingsResponseConverter.fromSettings(executor.execute(client -> client.index(indexUid).getSettings()));
+		return settingsResponseConverter
+				.fromSettings(executor.execute(Idempotency.IDEMPOTENT, client -> client.index(indexUid).getSettings()));
 	}
 
 	@Override
@@ -137,7 +158,12 @@ class MeilisearchIndexTemplate implements MeilisearchIndexOperations {
 		Assert.notNull(settings, "MeilisearchIndexSettings must not be null");
 
 		Settings sdkSettings = requestConverter.toSettings(settings);
-		TaskInfo taskInfo = executor.execute(client -> client.index(indexUid).updateSettings(sdkSettings));
+		TaskInfo taskInfo = executor.execute(Idempotency.IDEMPOTENT,
+				client -> client.index(indexUid).updateSettings(sdkSettings));
+		TaskSupersession currentSupersession = supersession.get();
+		if (currentSupersession != null) {
+			currentSupersession.settingsEnqueued(indexUid, sdkSettings, taskInfo.getTaskUid());
+		}
 		TaskStatus taskStatus = waitForTask(taskInfo);
 		if (taskStatus != TaskStatus.SUCCEEDED) {
 			throw new TaskStatusException(taskStatus, "Failed to update index settings.");
@@ -149,7 +175,7 @@ class MeilisearchIndexTemplate implements MeilisearchIndexOperations {
 	@Override
 	public MeilisearchIndexSettings resetSettings() {
 
-		TaskInfo taskInfo = executor.execute(client -> client.index(indexUid).resetSettings());
+		TaskInfo taskInfo = executor.execute(Idempotency.IDEMPOTENT, client -> client.index(indexUid).resetSettings());
 		TaskStatus taskStatus = waitForTask(taskInfo);
 		if (taskStatus != TaskStatus.SUCCEEDED) {
 			throw new TaskStatusException(taskStatus, "Failed to reset index settings.");
@@ -158,15 +184,28 @@ class MeilisearchIndexTemplate implements MeilisearchIndexOperations {
 		return getSettings();
 	}
 
-	private TaskStatus waitForTask(TaskInfo taskInfo) {
+	@Override
+	public ExportResult exportNdjson(Path file, ExportOptions options) {
+
+		Assert.notNull(file, "File must not be null");
+
+		try (OutputStream output = Files.newOutputStream(file)) {
+			return exportNdjson(output, options);
+		} catch (IOException e) {
+			throw new UncategorizedMeilisearchException("Failed to write " + file + ".", e);
+		}
+	}
+
+	@Override
+	public ExportResult exportNdjson(OutputStream output, ExportOptions options) {
 
-		int taskUid = taskInfo.getTaskUid();
+		Assert.notNull(output, "OutputStream must not be null");
+		Assert.notNull(options, "ExportOptions must not be null");
 
-		executor.execute(client -> {
-			client.index(indexUid).waitForTask(taskUid, requestTimeout, requestInterval);
-			return null;
-		});
+		return exporter.export(indexUid, output, options);
+	}
 
-		return executor.execute(client -> client.index(indexUid).getTask(taskUid).getStatus());
+	private TaskStatus waitForTask(TaskInfo taskInfo) {
+		return taskTracker.await(taskInfo.getTaskUid()).getStatus();
 	}
 }
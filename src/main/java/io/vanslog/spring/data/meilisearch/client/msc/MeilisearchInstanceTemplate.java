@@ -42,21 +42,21 @@ class MeilisearchInstanceTemplate implements MeilisearchInstanceOperations {
 
 	@Override
 	public MeilisearchHealth health() {
-		return responseConverter.mapHealth(executor.execute(client -> client.health()));
+		return responseConverter.mapHealth(executor.execute(Idempotency.IDEMPOTENT, client -> client.health()));
 	}
 
 	@Override
 	public boolean isHealthy() {
-		return Boolean.TRUE.equals(executor.execute(client -> client.isHealthy()));
+		return Boolean.TRUE.equals(executor.execute(Idempotency.IDEMPOTENT, client -> client.isHealthy()));
 	}
 
 	@Override
 	public MeilisearchVersion version() {
-		return responseConverter.mapVersion(executor.execute(client -> client.getVersion()));
+		return responseConverter.mapVersion(executor.execute(Idempotency.IDEMPOTENT, client -> client.getVersion()));
 	}
 
 	@Override
 	public MeilisearchStats stats() {
-		return responseConverter.mapStats(executor.execute(client -> client.getStats()));
+		return responseConverter.mapStats(executor.execute(Idempotency.IDEMPOTENT, client -> client.getStats()));
 	}
 }
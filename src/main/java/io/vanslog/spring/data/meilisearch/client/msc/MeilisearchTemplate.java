@@ -15,29 +15,39 @@
  */
 package io.vanslog.spring.data.meilisearch.client.msc;
 
-import java.lang.reflect.Method;
-import java.util.Arrays;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-import org.springframework.data.mapping.PersistentProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.util.StreamUtils;
 import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
 
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.meilisearch.sdk.FacetSearchRequest;
 import com.meilisearch.sdk.MultiSearchFederation;
 import com.meilisearch.sdk.MultiSearchRequest;
 import com.meilisearch.sdk.SearchRequest;
 import com.meilisearch.sdk.SimilarDocumentRequest;
-import com.meilisearch.sdk.exceptions.MeilisearchApiException;
 import com.meilisearch.sdk.exceptions.MeilisearchException;
 import com.meilisearch.sdk.model.DocumentsQuery;
 import com.meilisearch.sdk.model.FacetSearchable;
-import com.meilisearch.sdk.model.MultiSearchResult;
-import com.meilisearch.sdk.model.Results;
-import com.meilisearch.sdk.model.Searchable;
-import com.meilisearch.sdk.model.SimilarDocumentsResults;
 import com.meilisearch.sdk.model.Settings;
 import com.meilisearch.sdk.model.TaskInfo;
 import com.meilisearch.sdk.model.TaskStatus;
@@ -45,18 +55,32 @@ import com.meilisearch.sdk.model.TaskStatus;
 import io.vanslog.spring.data.meilisearch.DocumentAccessException;
 import io.vanslog.spring.data.meilisearch.TaskStatusException;
 import io.vanslog.spring.data.meilisearch.UncategorizedMeilisearchException;
-import io.vanslog.spring.data.meilisearch.annotations.Document;
 import io.vanslog.spring.data.meilisearch.client.MeilisearchClient;
+import io.vanslog.spring.data.meilisearch.core.BackpressureOptions;
+import io.vanslog.spring.data.meilisearch.core.BackpressureState;
+import io.vanslog.spring.data.meilisearch.core.BulkIndexOptions;
+import io.vanslog.spring.data.meilisearch.core.BulkIndexResult;
+import io.vanslog.spring.data.meilisearch.core.ChangeDetectionOptions;
+import io.vanslog.spring.data.meilisearch.core.ConsistencyToken;
+import io.vanslog.spring.data.meilisearch.core.DocumentEditRequest;
 import io.vanslog.spring.data.meilisearch.core.FacetHit;
+import io.vanslog.spring.data.meilisearch.core.FileImportOptions;
+import io.vanslog.spring.data.meilisearch.core.FileImportResult;
+import io.vanslog.spring.data.meilisearch.core.IngestOptions;
 import io.vanslog.spring.data.meilisearch.core.MeilisearchCallback;
 import io.vanslog.spring.data.meilisearch.core.MeilisearchIndexOperations;
 import io.vanslog.spring.data.meilisearch.core.MeilisearchInstanceOperations;
 import io.vanslog.spring.data.meilisearch.core.MeilisearchOperations;
 import io.vanslog.spring.data.meilisearch.core.SearchHits;
+import io.vanslog.spring.data.meilisearch.core.TaskSupersessionOptions;
+import io.vanslog.spring.data.meilisearch.core.TaskSupersessionStats;
+import io.vanslog.spring.data.meilisearch.core.TransactionalWriteOptions;
+import io.vanslog.spring.data.meilisearch.core.WriteLaneStats;
+import io.vanslog.spring.data.meilisearch.core.WritePriority;
+import io.vanslog.spring.data.meilisearch.core.WriteSchedulingOptions;
 import io.vanslog.spring.data.meilisearch.core.convert.MappingMeilisearchConverter;
 import io.vanslog.spring.data.meilisearch.core.convert.MeilisearchConverter;
 import io.vanslog.spring.data.meilisearch.core.mapping.MeilisearchPersistentEntity;
-import io.vanslog.spring.data.meilisearch.core.mapping.MeilisearchPersistentProperty;
 import io.vanslog.spring.data.meilisearch.core.mapping.SimpleMeilisearchMappingContext;
 import io.vanslog.spring.data.meilisearch.core.query.BaseQuery;
 import io.vanslog.spring.data.meilisearch.core.query.FacetQuery;
@@ -71,12 +95,34 @@ import io.vanslog.spring.data.meilisearch.core.query.SimilarQuery;
  */
 public class MeilisearchTemplate implements MeilisearchOperations {
 
+	private static final long MAX_TASK_POLL_INTERVAL = 1000;
+	private static final String PREFETCH_THREAD_NAME_PREFIX = "meilisearch-prefetch-";
+
 	private final MeilisearchClient meilisearchClient;
 	private final MeilisearchConverter meilisearchConverter;
+	private final EntityOperations entityOperations;
+	private final DocumentChangeTracker changeTracker;
 	private final RequestConverter requestConverter;
 	private final ResponseConverter responseConverter;
 	private final InstanceResponseConverter instanceResponseConverter;
 	private final MeilisearchInstanceOperations instanceOperations;
+	private final TaskTracker taskTracker;
+	private final BulkIndexer bulkIndexer;
+	private final NdjsonFileImporter fileImporter;
+	private final NdjsonExporter exporter;
+	private final DocumentFetcher documentFetcher;
+	private final RetryHandler retryHandler;
+	private final MeilisearchHttpTransport transport;
+	private final SearchResponseReader searchResponseReader;
+	private final DocumentResponseReader documentResponseReader;
+	private final Executor prefetchExecutor = AsyncMeilisearchTemplate.defaultExecutor(PREFETCH_THREAD_NAME_PREFIX);
+	@Nullable private volatile ChangeDetector changeDetector;
+	@Nullable private volatile TransactionalWriteOptions transactionalWrites;
+	@Nullable private volatile WriteScheduler writeScheduler;
+	@Nullable private volatile BackpressureThrottle throttle;
+	@Nullable private volatile TaskSupersession supersession;
+	private final ThreadLocal<WritePriority> writePriority = new ThreadLocal<>();
+	private final ThreadLocal<ConsistencySession> consistencySession = new ThreadLocal<>();
 
 	public MeilisearchTemplate(MeilisearchClient meilisearchClient) {
 		this(meilisearchClient, null);
@@ -85,12 +131,224 @@ public class MeilisearchTemplate implements MeilisearchOperations {
 	public MeilisearchTemplate(MeilisearchClient meilisearchClient, @Nullable MeilisearchConverter meilisearchConverter) {
 
 		this.meilisearchClient = meilisearchClient;
+		this.retryHandler = new RetryHandler(meilisearchClient);
 		this.meilisearchConverter = meilisearchConverter != null ? meilisearchConverter
 				: new MappingMeilisearchConverter(new SimpleMeilisearchMappingContext());
+		this.entityOperations = new EntityOperations(this.meilisearchConverter);
+		this.changeTracker = new DocumentChangeTracker(this.meilisearchConverter);
 		this.requestConverter = new RequestConverter();
 		this.responseConverter = new ResponseConverter();
 		this.instanceResponseConverter = new InstanceResponseConverter(meilisearchClient.getJsonHandler());
 		this.instanceOperations = new MeilisearchInstanceTemplate(this::execute, instanceResponseConverter);
+		this.taskTracker = new TaskTracker(this::execute, Duration.ofMillis(meilisearchClient.getRequestTimeout()),
+				Duration.ofMillis(meilisearchClient.getRequestInterval()),
+				Duration.ofMillis(Math.max(meilisearchClient.getRequestInterval(), MAX_TASK_POLL_INTERVAL)));
+		this.bulkIndexer = new BulkIndexer(
+				(indexUid, primaryKey, documents) -> join(
+						sendDocuments("POST", indexUid, primaryKey, documents, WritePriority.BULK)),
+				this.meilisearchConverter, taskTracker);
+		this.fileImporter = new NdjsonFileImporter(
+				(indexUid, primaryKey, chunk) -> sendDocuments("POST", indexUid, primaryKey, chunk, WritePriority.BULK),
+				taskTracker);
+		this.transport = new MeilisearchHttpTransport(meilisearchClient, retryHandler);
+		this.exporter = new NdjsonExporter(transport);
+		this.documentResponseReader = new DocumentResponseReader(this.meilisearchConverter);
+		this.documentFetcher = new DocumentFetcher(transport, entityOperations, meilisearchClient.getJsonHandler(),
+				documentResponseReader);
+		this.searchResponseReader = new SearchResponseReader(this.meilisearchConverter);
+	}
+
+	/**
+	 * Enable or disable skipping unchanged documents on {@link #save(List)}. The encoded form of every saved document
+	 * is hashed and only documents whose hash differs from the one recorded for their id are sent. Hashes are recorded
+	 * for documents saved through this template only, other write operations of this template drop the hashes of the
+	 * documents they touch. Operations whose documents are not known up front, such as {@code saveAll} with a stream,
+	 * {@code importNdjson} or deletes and edits by filter, drop all hashes of the index, which are then built from the
+	 * index again on the next save.
+	 *
+	 * @param options the change detection options or {@literal null} to send all documents
+	 */
+	public void setChangeDetection(@Nullable ChangeDetectionOptions options) {
+		this.changeDetector = options != null ? new ChangeDetector(meilisearchConverter, entityOperations,
+				clazz -> streamAll(clazz), this::count, options) : null;
+	}
+
+	/**
+	 * Enable or disable buffering writes made inside a Spring-managed transaction. While transaction synchronization is
+	 * active, {@code save} and {@code delete} by document id or entity are buffered per index and sent after the
+	 * transaction committed, or dropped if it rolled back. Other write operations cannot be buffered and are rejected
+	 * with an {@link InvalidDataAccessApiUsageException} while transaction synchronization is active, as sending them
+	 * right away would reorder them before the buffered writes.
+	 *
+	 * @param options the transactional write options or {@literal null} to send all writes immediately
+	 */
+	public void setTransactionalWrites(@Nullable TransactionalWriteOptions options) {
+		this.transactionalWrites = options;
+	}
+
+	/**
+	 * Enable or disable scheduling document writes in priority lanes. Writes of {@code save} and {@code update} are
+	 * {@link WritePriority#INTERACTIVE interactive}, those of {@code saveAll}, {@code bulkSave}, {@code importNdjson}
+	 * and {@link BufferedMeilisearchWriter} are {@link WritePriority#BULK bulk} unless overridden with
+	 * {@link #withWritePriority(WritePriority, Supplier)}.
+	 *
+	 * @param options the write scheduling options or {@literal null} to send all writes right away
+	 */
+	public void setWriteScheduling(@Nullable WriteSchedulingOptions options) {
+		this.writeScheduler = options != null ? new WriteScheduler(options) : null;
+	}
+
+	/**
+	 * Run the given action with all document writes it starts on the calling thread scheduled with the given priority,
+	 * for example to run a backfill through {@link #save(List)} as bulk writes. Operations of an
+	 * {@link AsyncMeilisearchTemplate} started by the action keep the priority.
+	 *
+	 * @param priority the priority of the writes
+	 * @param action the action to run
+	 * @return the result of the action
+	 * @param <T> the type of the result
+	 */
+	public <T> T withWritePriority(WritePriority priority, Supplier<T> action) {
+
+		Assert.notNull(priority, "Priority must not be null");
+		Assert.notNull(action, "Action must not be null");
+
+		WritePriority previous = writePriority.get();
+		writePriority.set(priority);
+		try {
+			return action.get();
+		} finally {
+			if (previous != null) {
+				writePriority.set(previous);
+			} else {
+				writePriority.remove();
+			}
+		}
+	}
+
+	/**
+	 * Return the metrics of the write scheduler lanes.
+	 *
+	 * @return the lane metrics ordered by priority, empty if write scheduling is disabled
+	 */
+	public List<WriteLaneStats> getWriteLaneStats() {
+
+		WriteScheduler scheduler = writeScheduler;
+		return scheduler != null ? scheduler.stats() : Collections.emptyList();
+	}
+
+	/**
+	 * Enable or disable throttling document writes while the task queue of the instance is backed up. Writers are
+	 * delayed or blocked before their documents are sent, based on samples of the enqueued and processing tasks.
+	 *
+	 * @param options the backpressure options or {@literal null} to send writes regardless of the task queue
+	 */
+	public void setBackpressure(@Nullable BackpressureOptions options) {
+		this.throttle = options != null
+				? new BackpressureThrottle(options, BackpressureThrottle.sampler(transport, instanceOperations, options))
+				: null;
+	}
+
+	/**
+	 * Return the current state of the backpressure throttle, sampling the task queue if the last sample is outdated.
+	 *
+	 * @return the current state or {@literal null} if backpressure is disabled
+	 */
+	@Nullable
+	public BackpressureState getBackpressureState() {
+
+		BackpressureThrottle current = throttle;
+		return current != null ? current.state() : null;
+	}
+
+	/**
+	 * Enable or disable cancelling enqueued tasks that a newer task of this template makes obsolete: settings updates
+	 * superseded by a newer update of the same settings, and batches saved with {@link #save(List)} superseded by a
+	 * newer batch of the same documents. Callers waiting for a cancelled task get the outcome of the task superseding
+	 * it.
+	 *
+	 * @param options the supersession options or {@literal null} to let all tasks run
+	 */
+	public void setTaskSupersession(@Nullable TaskSupersessionOptions options) {
+		this.supersession = options != null
+				? new TaskSupersession(options, taskTracker, TaskSupersession.canceller(transport, taskTracker))
+				: null;
+	}
+
+	/**
+	 * Return the number of superseded tasks cancelled so far and the work their cancellation saved.
+	 *
+	 * @return the stats or {@literal null} if task supersession is disabled
+	 */
+	@Nullable
+	public TaskSupersessionStats getTaskSupersessionStats() {
+
+		TaskSupersession current = supersession;
+		return current != null ? current.stats() : null;
+	}
+
+	/**
+	 * Open a new read-your-writes session.
+	 *
+	 * @return the session
+	 * @see #withSession(ConsistencySession, Supplier)
+	 */
+	public ConsistencySession openSession() {
+		return openSession(ConsistencyToken.empty());
+	}
+
+	/**
+	 * Open a read-your-writes session continuing from the given token, for example one returned to a client with its
+	 * previous response.
+	 *
+	 * @param token the token of the session to continue
+	 * @return the session
+	 * @see #withSession(ConsistencySession, Supplier)
+	 */
+	public ConsistencySession openSession(ConsistencyToken token) {
+		return new ConsistencySession(taskTracker, token);
+	}
+
+	/**
+	 * Run the given action within the given session. Document writes the action starts on the calling thread record
+	 * their task in the session, and reads wait for the last task the session enqueued on the index they read.
+	 *
+	 * @param session the session
+	 * @param action the action to run
+	 * @return the result of the action
+	 * @param <T> the type of the result
+	 */
+	public <T> T withSession(ConsistencySession session, Supplier<T> action) {
+
+		Assert.notNull(session, "ConsistencySession must not be null");
+		Assert.notNull(action, "Action must not be null");
+
+		ConsistencySession previous = consistencySession.get();
+		consistencySession.set(session);
+		try {
+			return action.get();
+		} finally {
+			if (previous != null) {
+				consistencySession.set(previous);
+			} else {
+				consistencySession.remove();
+			}
+		}
+	}
+
+	/**
+	 * Return the session bound to the calling thread.
+	 *
+	 * @return the session or {@literal null} if none is bound
+	 */
+	@Nullable
+	ConsistencySession currentSession() {
+		return consistencySession.get();
+	}
+
+	@Nullable
+	WritePriority currentWritePriority() {
+		return writePriority.get();
 	}
 
 	@Override
@@ -109,8 +367,8 @@ public class MeilisearchTemplate implements MeilisearchOperations {
 	public MeilisearchIndexOperations indexOps(String indexUid) {
 
 		Assert.hasText(indexUid, "Index uid must not be empty");
-		return new MeilisearchIndexTemplate(indexUid, this::execute, instanceResponseConverter,
-				meilisearchClient.getRequestTimeout(), meilisearchClient.getRequestInterval());
+		return new MeilisearchIndexTemplate(indexUid, this::execute, instanceResponseConverter, taskTracker, exporter,
+				() -> supersession);
 	}
 
 	@Override
@@ -121,29 +379,174 @@ public class MeilisearchTemplate implements MeilisearchOperations {
 
 	@Override
 	public <T> List<T> save(List<T> entities) {
+
 		Class<?> clazz = entities.iterator().next().getClass();
-		String indexUid = getPersistentEntityFor(clazz).getIndexUid();
-		MeilisearchPersistentProperty idProperty = getPersistentEntityFor(clazz).getIdProperty();
-		Assert.notNull(idProperty, "Id property must not be null.");
-		String primaryKey = Objects.requireNonNull(idProperty.getField()).getName();
+		TransactionalWriteBuffer transaction = currentTransaction();
+		if (transaction != null) {
+			transaction.save(clazz, entities);
+			return entities;
+		}
 
-		TaskInfo taskInfo = execute(client -> {
-			String document = meilisearchClient.getJsonHandler().encode(entities);
-			return client.index(indexUid).addDocuments(document, primaryKey);
-		});
+		ChangeDetector detector = changeDetector;
+		if (detector == null) {
+			saveDocuments(enqueueSave(entities));
+			return snapshot(clazz, entities);
+		}
 
-		if (!isTaskSucceeded(indexUid, taskInfo)) {
+		ChangeDetector.Changes changes = detector.detect(clazz, entities);
+		if (!changes.isEmpty()) {
+			saveDocuments(join(sendDocuments("POST", getIndexUidFor(clazz), getPrimaryKeyFor(clazz), changes.documents(),
+					WritePriority.INTERACTIVE)));
+			detector.commit(changes);
+		}
+		return snapshot(clazz, entities);
+	}
+
+	private void saveDocuments(TaskInfo taskInfo) {
+
+		if (!isTaskSucceeded(taskInfo)) {
 			throw new TaskStatusException(taskInfo.getStatus(), "Failed to save entities.");
 		}
+	}
+
+	@Override
+	public <T> T update(T entity) {
+		this.updateAll(Collections.singletonList(entity));
+		return entity;
+	}
+
+	@Override
+	public <T> List<T> updateAll(List<T> entities) {
+
+		Assert.notEmpty(entities, "Entities must not be empty");
+
+		rejectInTransaction("update");
+
+		Class<?> clazz = entities.iterator().next().getClass();
+		String indexUid = getIndexUidFor(clazz);
+		String primaryKey = getPrimaryKeyFor(clazz);
+
+		forgetContentHashes(indexUid, entities);
+		if (!isDirtyTracking(clazz)) {
+			updateDocuments(indexUid, primaryKey, DocumentsBodyPublisher.of(meilisearchConverter, entities));
+			return entities;
+		}
+
+		Map<String, ObjectNode> documents = new LinkedHashMap<>();
+		List<ObjectNode> changes = new ArrayList<>();
+		for (T entity : entities) {
+			String documentId = getDocumentIdFor(entity);
+			ObjectNode document = changeTracker.toDocument(entity);
+			ObjectNode changed = changeTracker.changes(indexUid, primaryKey, documentId, document);
+			if (changed != null) {
+				changes.add(changed);
+			}
+			documents.put(documentId, document);
+		}
+
+		if (!changes.isEmpty()) {
+			updateDocuments(indexUid, primaryKey, changeTracker.encode(changes));
+		}
+		documents.forEach((documentId, document) -> changeTracker.record(indexUid, documentId, document));
 		return entities;
 	}
 
+	private void updateDocuments(String indexUid, String primaryKey, Object documents) {
+
+		TaskInfo taskInfo = join(
+				sendDocuments("PUT", indexUid, primaryKey, documents, WritePriority.INTERACTIVE));
+
+		if (!isTaskSucceeded(taskInfo)) {
+			throw new TaskStatusException(taskInfo.getStatus(), "Failed to update entities.");
+		}
+	}
+
+	@Override
+	public <T> long saveAll(Class<T> clazz, Iterable<? extends T> entities) {
+
+		Assert.notNull(entities, "Entities must not be null");
+		return saveAll(clazz, DocumentsBodyPublisher.of(meilisearchConverter, entities));
+	}
+
+	@Override
+	public <T> long saveAll(Class<T> clazz, Stream<? extends T> entities) {
+
+		Assert.notNull(entities, "Entities must not be null");
+
+		try (entities) {
+			return saveAll(clazz, DocumentsBodyPublisher.of(meilisearchConverter, entities.iterator()));
+		}
+	}
+
+	@Override
+	public <T> long saveAll(Class<T> clazz, Iterable<? extends T> entities, IngestOptions options) {
+
+		Assert.notNull(entities, "Entities must not be null");
+		Assert.notNull(options, "IngestOptions must not be null");
+
+		return saveAll(clazz,
+				DocumentsBodyPublisher.of(meilisearchConverter, entities).with(getPersistentEntityFor(clazz), options));
+	}
+
+	@Override
+	public <T> long saveAll(Class<T> clazz, Stream<? extends T> entities, IngestOptions options) {
+
+		Assert.notNull(entities, "Entities must not be null");
+		Assert.notNull(options, "IngestOptions must not be null");
+
+		try (entities) {
+			return saveAll(clazz, DocumentsBodyPublisher.of(meilisearchConverter, entities.iterator())
+					.with(getPersistentEntityFor(clazz), options));
+		}
+	}
+
+	private long saveAll(Class<?> clazz, DocumentsBodyPublisher documents) {
+
+		rejectInTransaction("saveAll");
+		forgetDocuments(clazz);
+		TaskInfo taskInfo = enqueueDocuments(getIndexUidFor(clazz), getPrimaryKeyFor(clazz), documents,
+				WritePriority.BULK);
+
+		if (!isTaskSucceeded(taskInfo)) {
+			throw new TaskStatusException(taskInfo.getStatus(), "Failed to save entities.");
+		}
+		return documents.getDocumentCount();
+	}
+
+	@Override
+	public <T> BulkIndexResult bulkSave(List<T> entities, BulkIndexOptions options) {
+
+		Assert.notEmpty(entities, "Entities must not be empty");
+		Assert.notNull(options, "BulkIndexOptions must not be null");
+
+		rejectInTransaction("bulkSave");
+
+		Class<?> clazz = entities.iterator().next().getClass();
+		String indexUid = getIndexUidFor(clazz);
+		forgetDocuments(indexUid, entities.stream().map(this::getDocumentIdFor).toList());
+		return bulkIndexer.index(indexUid, getPrimaryKeyFor(clazz), entities, options);
+	}
+
+	@Override
+	public FileImportResult importNdjson(Class<?> clazz, Path file, FileImportOptions options) {
+
+		Assert.notNull(file, "File must not be null");
+		Assert.notNull(options, "FileImportOptions must not be null");
+
+		rejectInTransaction("importNdjson");
+		forgetDocuments(clazz);
+		return fileImporter.importFile(getIndexUidFor(clazz), getPrimaryKeyFor(clazz), file, options);
+	}
+
 	@Override
 	@Nullable
 	public <T> T get(String documentId, Class<T> clazz) {
-		String indexUid = getIndexUidFor(clazz);
+		awaitSession(clazz);
+		String path = documentsPath(clazz) + "/" + MeilisearchHttpTransport.encodePathSegment(documentId);
 		try {
-			return execute(client -> client.index(indexUid).getDocument(documentId, clazz));
+			T entity = documentResponseReader.read(join(transport.exchange("GET", path, null)), clazz);
+			snapshot(clazz, Collections.singletonList(entity));
+			return entity;
 		} catch (DocumentAccessException e) {
 			return null;
 		}
@@ -156,13 +559,27 @@ public class MeilisearchTemplate implements MeilisearchOperations {
 
 	@Override
 	public <T> List<T> multiGet(Class<T> clazz, int offset, int limit) {
-		String indexUid = getIndexUidFor(clazz);
-		DocumentsQuery query = new DocumentsQuery();
-		query.setOffset(offset);
-		query.setLimit(limit);
+		awaitSession(clazz);
+		StringBuilder path = new StringBuilder(documentsPath(clazz));
+		if (offset >= 0) {
+			path.append("?offset=").append(offset);
+		}
+		if (limit >= 0) {
+			path.append(offset >= 0 ? '&' : '?').append("limit=").append(limit);
+		}
+		String body = join(transport.exchange("GET", path.toString(), null));
+		return snapshot(clazz, documentResponseReader.readPage(body, clazz).results());
+	}
+
+	@Override
+	public <T> Stream<T> streamAll(Class<T> clazz, int pageSize) {
+
+		Assert.isTrue(pageSize > 0, "Page size must be greater than 0");
 
-		T[] results = execute(client -> client.index(indexUid).getDocuments(query, clazz).getResults());
-		return Arrays.asList(results);
+		// pages are fetched on the prefetch executor, outside of the session of the calling thread
+		awaitSession(clazz);
+		return StreamUtils.createStreamFromIterator(
+				new DocumentPageIterator<>((offset, limit) -> multiGet(clazz, offset, limit), pageSize, prefetchExecutor));
 	}
 
 	@Override
@@ -172,32 +589,48 @@ public class MeilisearchTemplate implements MeilisearchOperations {
 
 	@Override
 	public <T> List<T> multiGet(Class<T> clazz, List<String> documentIds, int offset, int limit) {
-		List<T> entities = multiGet(clazz, offset, limit);
-		return entities.stream().filter(entity -> documentIds.contains(getDocumentIdFor(entity))).toList();
+
+		awaitSession(clazz);
+		List<T> entities = snapshot(clazz, join(documentFetcher.fetch(clazz, documentIds)));
+		int from = Math.min(Math.max(offset, 0), entities.size());
+		int to = limit < 0 ? entities.size() : Math.min(from + limit, entities.size());
+		return entities.subList(from, to);
 	}
 
 	@Override
 	public boolean exists(String documentId, Class<?> clazz) {
-		return this.get(documentId, clazz) != null;
+		awaitSession(clazz);
+		return join(documentFetcher.exists(clazz, documentId));
+	}
+
+	@Override
+	public Set<String> existsAll(Class<?> clazz, Collection<String> documentIds) {
+		awaitSession(clazz);
+		return join(documentFetcher.existing(clazz, documentIds));
 	}
 
 	@Override
 	public long count(Class<?> clazz) {
+		awaitSession(clazz);
 		String indexUid = getIndexUidFor(clazz);
 
 		DocumentsQuery query = new DocumentsQuery();
 		query.setOffset(0);
 		query.setLimit(0);
 
-		return execute(client -> client.index(indexUid) //
+		return execute(Idempotency.IDEMPOTENT, client -> client.index(indexUid) //
 				.getDocuments(query, clazz).getTotal()).longValue();
 	}
 
 	@Override
 	public boolean delete(String documentId, Class<?> clazz) {
-		String indexUid = getIndexUidFor(clazz);
-		TaskInfo taskInfo = execute(client -> client.index(indexUid).deleteDocument(documentId));
-		return isTaskSucceeded(indexUid, taskInfo);
+
+		TransactionalWriteBuffer transaction = currentTransaction();
+		if (transaction != null) {
+			transaction.delete(clazz, Collections.singletonList(documentId));
+			return true;
+		}
+		return isTaskSucceeded(enqueueDelete(documentId, clazz));
 	}
 
 	@Override
@@ -209,9 +642,13 @@ public class MeilisearchTemplate implements MeilisearchOperations {
 
 	@Override
 	public boolean delete(Class<?> clazz, List<String> documentIds) {
-		String indexUid = getIndexUidFor(clazz);
-		TaskInfo taskInfo = execute(client -> client.index(indexUid).deleteDocuments(documentIds));
-		return isTaskSucceeded(indexUid, taskInfo);
+
+		TransactionalWriteBuffer transaction = currentTransaction();
+		if (transaction != null) {
+			transaction.delete(clazz, documentIds);
+			return true;
+		}
+		return isTaskSucceeded(enqueueDelete(clazz, documentIds));
 	}
 
 	@Override
@@ -221,52 +658,92 @@ public class MeilisearchTemplate implements MeilisearchOperations {
 		return this.delete(clazz, documentIds);
 	}
 
+	@Override
+	public boolean delete(Class<?> clazz, String filter) {
+
+		Assert.hasText(filter, "Filter must not be empty");
+
+		rejectInTransaction("delete by filter");
+		forgetDocuments(clazz);
+		String path = documentsPath(clazz) + "/delete";
+		return isTaskSucceeded(recorded(getIndexUidFor(clazz),
+				join(transport.exchange("POST", path, Map.of("filter", filter), TaskInfo.class))));
+	}
+
+	@Override
+	public boolean edit(Class<?> clazz, DocumentEditRequest request) {
+
+		Assert.notNull(request, "DocumentEditRequest must not be null");
+
+		rejectInTransaction("edit");
+
+		Map<String, Object> body = new LinkedHashMap<>();
+		body.put("function", request.getFunction());
+		if (request.getFilter() != null) {
+			body.put("filter", request.getFilter());
+		}
+		if (!request.getContext().isEmpty()) {
+			body.put("context", request.getContext());
+		}
+
+		forgetDocuments(clazz);
+		String path = documentsPath(clazz) + "/edit";
+		return isTaskSucceeded(
+				recorded(getIndexUidFor(clazz), join(transport.exchange("POST", path, body, TaskInfo.class))));
+	}
+
 	@Override
 	public boolean deleteAll(Class<?> clazz) {
-		String indexUid = getIndexUidFor(clazz);
-		TaskInfo taskInfo = execute(client -> client.index(indexUid).deleteAllDocuments());
-		return isTaskSucceeded(indexUid, taskInfo);
+
+		rejectInTransaction("deleteAll");
+		return isTaskSucceeded(enqueueDeleteAll(clazz));
 	}
 
 	@Override
 	public <T, Q extends BaseQuery> SearchHits<T> search(Q query, Class<T> clazz) {
-		String indexUid = getIndexUidFor(clazz);
+		awaitSession(clazz);
 		SearchRequest request = requestConverter.searchRequest(query);
-		Searchable result = execute(client -> client.index(indexUid).search(request));
-		return responseConverter.mapHits(result, clazz);
+		String body = join(transport.exchange("POST", indexPath(clazz) + "/search", request));
+		return searchResponseReader.read(body, clazz);
 	}
 
 	@Override
 	public <T, Q extends BaseQuery> SearchHits<T> multiSearch(List<Q> queries, Class<T> clazz) {
+		awaitSession(clazz);
 		String indexUid = getIndexUidFor(clazz);
 		MultiSearchRequest request = requestConverter.multiSearchRequest(queries, indexUid, false);
-		Results<MultiSearchResult> results = execute(client -> client.multiSearch(request));
-		return responseConverter.mapResults(results, clazz);
+		String body = join(transport.exchange("POST", "/multi-search", request));
+		return searchResponseReader.readMultiSearch(body, clazz);
 	}
 
 	@Override
 	public <T, Q extends BaseQuery> SearchHits<T> multiSearch(List<Q> queries, MultiSearchFederation federation,
 			Class<T> clazz) {
+		awaitSession(clazz);
 		String indexUid = getIndexUidFor(clazz);
 		MultiSearchRequest request = requestConverter.multiSearchRequest(queries, indexUid, true);
-		MultiSearchResult result = execute(client -> client.multiSearch(request, federation));
-		return responseConverter.mapResult(result, clazz);
+		Map<String, Object> federatedRequest = new LinkedHashMap<>();
+		federatedRequest.put("federation", federation);
+		federatedRequest.put("queries", request.getQueries());
+		String body = join(transport.exchange("POST", "/multi-search", federatedRequest));
+		return searchResponseReader.readFederated(body, clazz);
 	}
 
 	@Override
 	public SearchHits<FacetHit> facetSearch(FacetQuery query, Class<?> clazz) {
+		awaitSession(clazz);
 		String indexUid = getIndexUidFor(clazz);
 		FacetSearchRequest request = requestConverter.searchRequest(query);
-		FacetSearchable result = execute(client -> client.index(indexUid).facetSearch(request));
+		FacetSearchable result = execute(Idempotency.IDEMPOTENT, client -> client.index(indexUid).facetSearch(request));
 		return responseConverter.mapHits(result, FacetHit.class);
 	}
 
 	@Override
 	public <T> SearchHits<T> similarSearch(SimilarQuery query, Class<T> clazz) {
-		String indexUid = getIndexUidFor(clazz);
+		awaitSession(clazz);
 		SimilarDocumentRequest request = requestConverter.similarSearchRequest(query);
-		SimilarDocumentsResults result = execute(client -> client.index(indexUid).searchSimilarDocuments(request));
-		return responseConverter.mapResult(result, clazz);
+		String body = join(transport.exchange("POST", indexPath(clazz) + "/similar", request));
+		return searchResponseReader.read(body, clazz);
 	}
 
 	@Override
@@ -275,92 +752,305 @@ public class MeilisearchTemplate implements MeilisearchOperations {
 		MeilisearchPersistentEntity<?> persistentEntity = getPersistentEntityFor(clazz);
 		Settings settings = persistentEntity.getDefaultSettings();
 
-		TaskInfo taskInfo = execute(client -> client.index(indexUid).updateSettings(settings));
+		TaskInfo taskInfo = recorded(indexUid,
+				execute(Idempotency.IDEMPOTENT, client -> client.index(indexUid).updateSettings(settings)));
+		TaskSupersession current = supersession;
+		if (current != null) {
+			current.settingsEnqueued(indexUid, settings, taskInfo.getTaskUid());
+		}
 
-		if (!isTaskSucceeded(indexUid, taskInfo)) {
+		if (!isTaskSucceeded(taskInfo)) {
 			throw new TaskStatusException(taskInfo.getStatus(), "Failed to apply settings");
 		}
 	}
 
+	<T> TaskInfo enqueueSave(List<T> entities) {
+		Class<?> clazz = entities.iterator().next().getClass();
+		String indexUid = getIndexUidFor(clazz);
+		forgetContentHashes(indexUid, entities);
+		DocumentsBodyPublisher documents = DocumentsBodyPublisher.of(meilisearchConverter, entities);
+		TaskInfo taskInfo = enqueueDocuments(indexUid, getPrimaryKeyFor(clazz), documents, WritePriority.INTERACTIVE);
+
+		TaskSupersession current = supersession;
+		if (current != null) {
+			Set<String> documentIds = entities.stream().map(this::getDocumentIdFor).collect(Collectors.toSet());
+			current.documentsEnqueued(indexUid, documentIds, documents.getByteCount(), taskInfo.getTaskUid());
+		}
+		return taskInfo;
+	}
+
+	/**
+	 * Enqueue the given documents for addition or replacement as {@link WritePriority#BULK bulk} write. The snapshots
+	 * and content hashes of the documents are dropped.
+	 *
+	 * @param indexUid the uid of the index
+	 * @param primaryKey the primary key of the documents
+	 * @param documentIds the ids of the documents
+	 * @param documents the documents as UTF-8 encoded JSON array
+	 * @return the enqueued task
+	 */
+	TaskInfo enqueueDocuments(String indexUid, String primaryKey, Collection<String> documentIds, byte[] documents) {
+		return enqueueDocuments(indexUid, primaryKey, documentIds, documents, WritePriority.BULK);
+	}
+
 	/**
-	 * Execute the given {@link MeilisearchCallback}.
+	 * Enqueue the given documents for addition or replacement. The snapshots and content hashes of the documents are
+	 * dropped.
+	 *
+	 * @param indexUid the uid of the index
+	 * @param primaryKey the primary key of the documents
+	 * @param documentIds the ids of the documents
+	 * @param documents the documents as UTF-8 encoded JSON array
+	 * @param priority the priority to schedule the write with
+	 * @return the enqueued task
+	 */
+	TaskInfo enqueueDocuments(String indexUid, String primaryKey, Collection<String> documentIds, byte[] documents,
+			WritePriority priority) {
+		forgetDocuments(indexUid, documentIds);
+		return join(sendDocuments("POST", indexUid, primaryKey, documents, priority));
+	}
+
+	private TaskInfo enqueueDocuments(String indexUid, String primaryKey, DocumentsBody documents,
+			WritePriority priority) {
+		return join(sendDocuments("POST", indexUid, primaryKey, documents, priority));
+	}
+
+	private CompletableFuture<TaskInfo> sendDocuments(String method, String indexUid, String primaryKey,
+			Object documents, WritePriority priority) {
+
+		String path = "/indexes/" + MeilisearchHttpTransport.encodePathSegment(indexUid) + "/documents?primaryKey="
+				+ MeilisearchHttpTransport.encodePathSegment(primaryKey);
+		BackpressureThrottle currentThrottle = throttle;
+		if (currentThrottle != null) {
+			try {
+				currentThrottle.acquire();
+			} catch (RuntimeException e) {
+				return CompletableFuture.failedFuture(e);
+			}
+		}
+
+		WriteScheduler scheduler = writeScheduler;
+		WritePriority override = writePriority.get();
+		CompletableFuture<TaskInfo> sent = scheduler == null
+				? transport.exchange(method, path, documents, TaskInfo.class)
+				: scheduler.submit(override != null ? override : priority, documents,
+						() -> transport.exchange(method, path, documents, TaskInfo.class));
+
+		ConsistencySession session = consistencySession.get();
+		return session != null ? sent.thenApply(taskInfo -> session.record(indexUid, taskInfo)) : sent;
+	}
+
+	TaskInfo enqueueDelete(String indexUid, List<String> documentIds) {
+		forgetDocuments(indexUid, documentIds);
+		return recorded(indexUid,
+				execute(Idempotency.IDEMPOTENT, client -> client.index(indexUid).deleteDocuments(documentIds)));
+	}
+
+	byte[] encode(Object document) {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		meilisearchConverter.write(document, output);
+		return output.toByteArray();
+	}
+
+	TaskInfo enqueueDelete(String documentId, Class<?> clazz) {
+		String indexUid = getIndexUidFor(clazz);
+		forgetDocuments(indexUid, Collections.singletonList(documentId));
+		return recorded(indexUid,
+				execute(Idempotency.IDEMPOTENT, client -> client.index(indexUid).deleteDocument(documentId)));
+	}
+
+	TaskInfo enqueueDelete(Class<?> clazz, List<String> documentIds) {
+		String indexUid = getIndexUidFor(clazz);
+		forgetDocuments(indexUid, documentIds);
+		return recorded(indexUid,
+				execute(Idempotency.IDEMPOTENT, client -> client.index(indexUid).deleteDocuments(documentIds)));
+	}
+
+	TaskInfo enqueueDeleteAll(Class<?> clazz) {
+		String indexUid = getIndexUidFor(clazz);
+		forgetDocuments(indexUid);
+		return recorded(indexUid,
+				execute(Idempotency.IDEMPOTENT, client -> client.index(indexUid).deleteAllDocuments()));
+	}
+
+	/**
+	 * Execute the given {@link MeilisearchCallback}. As the callback may send requests that are not idempotent, it is
+	 * only retried if the server rejected the request without processing it.
 	 * 
 	 * @param callback must not be {@literal null}.
 	 * @return a result object returned by the action or {@literal null}.
 	 * @param <T> the type of the result object
 	 */
 	public <T> T execute(MeilisearchCallback<T> callback) {
+		return execute(Idempotency.NON_IDEMPOTENT, callback);
+	}
+
+	<T> T execute(Idempotency idempotency, MeilisearchCallback<T> callback) {
 
 		Assert.notNull(callback, "callback must not be null");
 
 		try {
-			return callback.doWithClient(meilisearchClient);
+			return retryHandler.execute(idempotency, meilisearchClient, callback);
 		} catch (MeilisearchException e) {
-			if (e instanceof MeilisearchApiException ex) {
-				handleApiException(ex);
-			}
-			throw new UncategorizedMeilisearchException(e.getMessage(), e.getCause());
+			throw ExceptionTranslator.translate(e);
 		}
 	}
 
-	/**
-	 * Handle the given {@link MeilisearchApiException}.
-	 * 
-	 * @param e the {@link MeilisearchApiException} to handle
-	 */
-	private void handleApiException(MeilisearchApiException e) {
-		if (e.getCode().equals("document_not_found")) {
-			throw new DocumentAccessException(e.getMessage(), e.getCause());
+	private static <T> T join(CompletableFuture<T> future) {
+
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new UncategorizedMeilisearchException("Interrupted while waiting for response.", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof DataAccessException ex) {
+				throw ex;
+			}
+			throw new UncategorizedMeilisearchException("Failed to receive response.", e.getCause());
 		}
 	}
 
 	/**
 	 * Checks if the given {@link TaskInfo} is succeeded.
 	 * 
-	 * @param indexUid the index uid
 	 * @param taskInfo the {@link TaskInfo} to check
 	 * @return {@literal true} if the task is succeeded
 	 */
-	private boolean isTaskSucceeded(String indexUid, TaskInfo taskInfo) {
-		int taskUid = taskInfo.getTaskUid();
-
-		execute(client -> {
-			client.index(indexUid).waitForTask( //
-					taskUid, meilisearchClient.getRequestTimeout(), //
-					meilisearchClient.getRequestInterval() //
-			);
-			return null;
-		});
+	private boolean isTaskSucceeded(TaskInfo taskInfo) {
+		return taskTracker.await(taskInfo.getTaskUid()).getStatus() == TaskStatus.SUCCEEDED;
+	}
 
-		TaskStatus taskStatus = execute(client -> client.index(indexUid).getTask(taskUid).getStatus());
-		return taskStatus == TaskStatus.SUCCEEDED;
+	private TaskInfo recorded(String indexUid, TaskInfo taskInfo) {
+
+		ConsistencySession session = consistencySession.get();
+		return session != null ? session.record(indexUid, taskInfo) : taskInfo;
 	}
 
-	private <T> String getDocumentIdFor(T entity) {
-		PersistentProperty<MeilisearchPersistentProperty> idProperty = getPersistentEntityFor(entity.getClass())
-				.getIdProperty();
-		Assert.notNull(idProperty, "Document must have an id property.");
+	private void awaitSession(Class<?> clazz) {
 
-		try {
-			Method getter = idProperty.getGetter();
-			Object id = Objects.requireNonNull(getter).invoke(entity);
-			return getMeilisearchConverter().convertId(id);
-		} catch (Exception e) {
-			throw new UncategorizedMeilisearchException("Failed to get id.", e);
+		ConsistencySession session = consistencySession.get();
+		if (session != null) {
+			session.await(getIndexUidFor(clazz));
 		}
 	}
 
-	private <T> String getIndexUidFor(Class<T> clazz) {
-		MeilisearchPersistentEntity<?> persistentEntity = getPersistentEntityFor(clazz);
-		return persistentEntity.getIndexUid();
+	/**
+	 * Return the {@link TaskTracker} used to wait for the tasks enqueued by this template.
+	 *
+	 * @return the task tracker
+	 */
+	public TaskTracker getTaskTracker() {
+		return taskTracker;
 	}
 
-	private MeilisearchPersistentEntity<?> getPersistentEntityFor(Class<?> clazz) {
-		Document document = clazz.getAnnotation(Document.class);
-		Assert.notNull(document, "Given class must be annotated with @Document(indexUid = \"foo\")!");
-		Assert.hasText(document.indexUid(), "Given class must be annotated with @Document(indexUid = \"foo\")!");
+	<T> String getDocumentIdFor(T entity) {
+		return entityOperations.getDocumentId(entity);
+	}
+
+	String getPrimaryKeyFor(Class<?> clazz) {
+		return entityOperations.getPrimaryKey(clazz);
+	}
+
+	<T> String getIndexUidFor(Class<T> clazz) {
+		return entityOperations.getIndexUid(clazz);
+	}
+
+	private String indexPath(Class<?> clazz) {
+		return "/indexes/" + MeilisearchHttpTransport.encodePathSegment(getIndexUidFor(clazz));
+	}
+
+	private String documentsPath(Class<?> clazz) {
+		return indexPath(clazz) + "/documents";
+	}
+
+	@Nullable
+	private TransactionalWriteBuffer currentTransaction() {
+
+		TransactionalWriteOptions options = transactionalWrites;
+		return options != null ? TransactionalWriteBuffer.current(this, options) : null;
+	}
 
-		return meilisearchConverter.getMappingContext().getRequiredPersistentEntity(clazz);
+	/**
+	 * Reject a write operation that is not buffered by {@link TransactionalWriteBuffer} while writes are buffered for
+	 * the current transaction.
+	 *
+	 * @param operation the name of the operation for the exception message
+	 */
+	void rejectInTransaction(String operation) {
+
+		if (transactionalWrites != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+			throw new InvalidDataAccessApiUsageException(operation
+					+ " cannot be deferred until the transaction commits. Run it outside of the transaction or disable"
+					+ " transactional writes.");
+		}
+	}
+
+	private boolean isDirtyTracking(Class<?> clazz) {
+		return getPersistentEntityFor(clazz).isDirtyTracking();
+	}
+
+	/**
+	 * Remember the documents of the given entities for dirty tracking, if enabled for their type.
+	 *
+	 * @param clazz the entity class
+	 * @param entities the entities as read from or written to the index
+	 * @return the given entities
+	 */
+	private <T> List<T> snapshot(Class<?> clazz, List<T> entities) {
+
+		if (isDirtyTracking(clazz)) {
+			String indexUid = getIndexUidFor(clazz);
+			for (T entity : entities) {
+				changeTracker.record(indexUid, getDocumentIdFor(entity), changeTracker.toDocument(entity));
+			}
+		}
+		return entities;
+	}
+
+	/**
+	 * Drop the snapshots and content hashes of the given documents before they are changed without recording them.
+	 *
+	 * @param indexUid the uid of the index
+	 * @param documentIds the document ids
+	 */
+	private void forgetDocuments(String indexUid, Collection<String> documentIds) {
+
+		changeTracker.forget(indexUid, documentIds);
+		ChangeDetector detector = changeDetector;
+		if (detector != null) {
+			detector.forget(indexUid, documentIds);
+		}
+	}
+
+	/**
+	 * Drop all snapshots and content hashes of an index before its documents are changed without recording them.
+	 *
+	 * @param indexUid the uid of the index
+	 */
+	private void forgetDocuments(String indexUid) {
+
+		changeTracker.forgetAll(indexUid);
+		ChangeDetector detector = changeDetector;
+		if (detector != null) {
+			detector.invalidate(indexUid);
+		}
+	}
+
+	private void forgetDocuments(Class<?> clazz) {
+		forgetDocuments(getIndexUidFor(clazz));
+	}
+
+	private void forgetContentHashes(String indexUid, Collection<?> entities) {
+
+		ChangeDetector detector = changeDetector;
+		if (detector != null) {
+			detector.forget(indexUid, entities.stream().map(this::getDocumentIdFor).toList());
+		}
+	}
+
+	private MeilisearchPersistentEntity<?> getPersistentEntityFor(Class<?> clazz) {
+		return entityOperations.getPersistentEntity(clazz);
 	}
 
 	@Override
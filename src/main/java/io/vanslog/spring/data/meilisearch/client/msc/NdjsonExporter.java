@@ -0,0 +1,185 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client.msc;
+
+import io.vanslog.spring.data.meilisearch.UncategorizedMeilisearchException;
+import io.vanslog.spring.data.meilisearch.core.ExportOptions;
+import io.vanslog.spring.data.meilisearch.core.ExportResult;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.util.Assert;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * Exports the documents of an index as NDJSON. Pages of the documents fetch endpoint are requested ahead in a window
+ * of {@link ExportOptions#getParallelism()} pages and converted to NDJSON as they arrive, while the pages are written
+ * to the output strictly in offset order through a buffer. Documents are copied token by token from the response and
+ * not mapped to entities, so all their fields are kept.
+ * <p>
+ * The export reads the index with offsets and is not a snapshot: documents written while it runs may be exported
+ * twice or not at all.
+ *
+ * @author Junghoon Ban
+ */
+class NdjsonExporter {
+
+	private static final int OUTPUT_BUFFER_SIZE = 64 * 1024;
+	private static final JsonFactory JSON_FACTORY = new JsonFactory()
+			.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+	private final MeilisearchHttpTransport transport;
+
+	NdjsonExporter(MeilisearchHttpTransport transport) {
+
+		Assert.notNull(transport, "MeilisearchHttpTransport must not be null");
+		this.transport = transport;
+	}
+
+	ExportResult export(String indexUid, OutputStream output, ExportOptions options) {
+
+		long start = System.nanoTime();
+		String path = "/indexes/" + MeilisearchHttpTransport.encodePathSegment(indexUid) + "/documents/fetch";
+		BufferedOutputStream buffered = new BufferedOutputStream(output, OUTPUT_BUFFER_SIZE);
+
+		Page first = join(fetch(path, 0, options));
+		Deque<CompletableFuture<Page>> window = new ArrayDeque<>();
+		window.add(CompletableFuture.completedFuture(first));
+		long nextOffset = options.getPageSize();
+		long documents = 0;
+		long bytes = 0;
+		int pages = 0;
+
+		try {
+			while (!window.isEmpty()) {
+				while (window.size() < options.getParallelism() && nextOffset < first.total()) {
+					window.addLast(fetch(path, nextOffset, options));
+					nextOffset += options.getPageSize();
+				}
+
+				Page page = join(window.removeFirst());
+				buffered.write(page.content());
+				documents += page.documents();
+				bytes += page.content().length;
+				pages++;
+			}
+			buffered.flush();
+		} catch (IOException e) {
+			window.forEach(page -> page.cancel(false));
+			throw new UncategorizedMeilisearchException("Failed to write documents of " + indexUid + ".", e);
+		} catch (RuntimeException e) {
+			window.forEach(page -> page.cancel(false));
+			throw e;
+		}
+
+		return new ExportResult(documents, bytes, pages, Duration.ofNanos(System.nanoTime() - start));
+	}
+
+	private CompletableFuture<Page> fetch(String path, long offset, ExportOptions options) {
+
+		Map<String, Object> body = new LinkedHashMap<>();
+		body.put("offset", offset);
+		body.put("limit", options.getPageSize());
+		if (options.getFilter() != null) {
+			body.put("filter", options.getFilter());
+		}
+		if (!options.getFields().isEmpty()) {
+			body.put("fields", options.getFields());
+		}
+		return transport.exchange("POST", path, body).thenApply(NdjsonExporter::toNdjson);
+	}
+
+	/**
+	 * Convert a page of the documents fetch endpoint to NDJSON.
+	 *
+	 * @param json the response body
+	 * @return the page with its documents as NDJSON
+	 */
+	static Page toNdjson(String json) {
+
+		ByteArrayOutputStream content = new ByteArrayOutputStream(json.length());
+		int documents = 0;
+		long total = 0;
+
+		try (JsonParser parser = JSON_FACTORY.createParser(json);
+				JsonGenerator generator = JSON_FACTORY.createGenerator(content).setRootValueSeparator(null)) {
+
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				throw new IOException(
+						"Expected " + JsonToken.START_OBJECT + " but found " + parser.currentToken() + ".");
+			}
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String field = parser.currentName();
+				JsonToken token = parser.nextToken();
+
+				if ("results".equals(field) && token == JsonToken.START_ARRAY) {
+					while (parser.nextToken() == JsonToken.START_OBJECT) {
+						generator.copyCurrentStructure(parser);
+						generator.writeRaw('\n');
+						documents++;
+					}
+				} else if ("total".equals(field)) {
+					total = parser.getValueAsLong();
+				} else {
+					parser.skipChildren();
+				}
+			}
+		} catch (IOException e) {
+			throw new UncategorizedMeilisearchException("Failed to read documents.", e);
+		}
+		return new Page(content.toByteArray(), documents, total);
+	}
+
+	private static <T> T join(CompletableFuture<T> future) {
+
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new UncategorizedMeilisearchException("Interrupted while waiting for response.", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof DataAccessException ex) {
+				throw ex;
+			}
+			throw new UncategorizedMeilisearchException("Failed to receive response.", e.getCause());
+		}
+	}
+
+	/**
+	 * A page of documents converted to NDJSON.
+	 *
+	 * @param content the documents, one per line
+	 * @param documents the number of documents
+	 * @param total the total number of documents matching the export
+	 */
+	record Page(byte[] content, int documents, long total) {
+	}
+}
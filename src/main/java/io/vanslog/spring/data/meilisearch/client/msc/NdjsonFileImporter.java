@@ -0,0 +1,249 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client.msc;
+
+import io.vanslog.spring.data.meilisearch.UncategorizedMeilisearchException;
+import io.vanslog.spring.data.meilisearch.core.FileImportOptions;
+import io.vanslog.spring.data.meilisearch.core.FileImportResult;
+import io.vanslog.spring.data.meilisearch.core.FileImportResult.FailedChunk;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.meilisearch.sdk.model.Task;
+import com.meilisearch.sdk.model.TaskInfo;
+import com.meilisearch.sdk.model.TaskStatus;
+
+/**
+ * Imports an NDJSON file by memory-mapping it window by window and cutting each window at its last line break, so
+ * chunks hold whole documents and never exceed the configured size. Chunks are uploaded as
+ * {@link MappedChunkBodyPublisher zero-copy bodies}, up to the configured number at the same time, and their tasks are
+ * resolved by the shared {@link TaskTracker} in file order. The offset up to which all chunks succeeded is kept in an
+ * optional checkpoint file to resume from.
+ *
+ * @author Junghoon Ban
+ */
+class NdjsonFileImporter {
+
+	private final ChunkSender sender;
+	private final TaskTracker taskTracker;
+
+	NdjsonFileImporter(ChunkSender sender, TaskTracker taskTracker) {
+
+		Assert.notNull(sender, "ChunkSender must not be null");
+		Assert.notNull(taskTracker, "TaskTracker must not be null");
+		this.sender = sender;
+		this.taskTracker = taskTracker;
+	}
+
+	FileImportResult importFile(String indexUid, String primaryKey, Path file, FileImportOptions options) {
+
+		long start = System.nanoTime();
+
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			long size = channel.size();
+			long offset = startOffset(channel, options);
+			Pipeline pipeline = new Pipeline(indexUid, primaryKey, options, offset);
+
+			while (offset < size) {
+				long windowSize = Math.min(options.getMaxBytesPerChunk(), size - offset);
+				MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, offset, windowSize);
+				int length = chunkLength(window, offset + windowSize == size);
+
+				if (length < 0) {
+					pipeline.reject(offset, windowSize, "The line at offset " + offset + " exceeds "
+							+ options.getMaxBytesPerChunk() + " bytes per chunk.");
+					break;
+				}
+				pipeline.submit(offset, window.slice(0, length));
+				offset += length;
+			}
+			pipeline.drain();
+
+			if (options.getCheckpoint() != null && pipeline.resumeOffset == size) {
+				Files.deleteIfExists(options.getCheckpoint());
+			}
+			return new FileImportResult(size, pipeline.startOffset, pipeline.resumeOffset, pipeline.importedBytes,
+					pipeline.chunks, pipeline.failedChunks, Duration.ofNanos(System.nanoTime() - start));
+		} catch (IOException e) {
+			throw new UncategorizedMeilisearchException("Failed to import " + file + ".", e);
+		}
+	}
+
+	/**
+	 * Return the length of the chunk to cut from the start of the given window: up to and including its last line
+	 * break, or the whole window if it reaches the end of the file.
+	 *
+	 * @param window the mapped window
+	 * @param endOfFile whether the window ends at the end of the file
+	 * @return the chunk length or {@literal -1} if the window contains no line break
+	 */
+	static int chunkLength(ByteBuffer window, boolean endOfFile) {
+
+		if (endOfFile) {
+			return window.limit();
+		}
+		for (int i = window.limit() - 1; i >= 0; i--) {
+			if (window.get(i) == '\n') {
+				return i + 1;
+			}
+		}
+		return -1;
+	}
+
+	private static long startOffset(FileChannel channel, FileImportOptions options) throws IOException {
+
+		long offset = options.getStartOffset();
+		Path checkpoint = options.getCheckpoint();
+		if (checkpoint != null && Files.exists(checkpoint)) {
+			offset = Math.max(offset, Long.parseLong(Files.readString(checkpoint, StandardCharsets.UTF_8).trim()));
+		}
+
+		Assert.isTrue(offset <= channel.size(), "Start offset " + offset + " is beyond the end of the file");
+		if (offset > 0) {
+			ByteBuffer previous = ByteBuffer.allocate(1);
+			channel.read(previous, offset - 1);
+			Assert.isTrue(previous.get(0) == '\n', "Start offset " + offset + " is not at the start of a line");
+		}
+		return offset;
+	}
+
+	private class Pipeline {
+
+		private final String indexUid;
+		private final String primaryKey;
+		private final FileImportOptions options;
+		private final long startOffset;
+		private final Deque<InFlightChunk> inFlight = new ArrayDeque<>();
+		private final List<FailedChunk> failedChunks = new ArrayList<>();
+		private long resumeOffset;
+		private long importedBytes;
+		private int chunks;
+
+		Pipeline(String indexUid, String primaryKey, FileImportOptions options, long startOffset) {
+			this.indexUid = indexUid;
+			this.primaryKey = primaryKey;
+			this.options = options;
+			this.startOffset = startOffset;
+			this.resumeOffset = startOffset;
+		}
+
+		void submit(long offset, ByteBuffer chunk) throws IOException {
+
+			while (inFlight.size() >= options.getMaxInFlight()) {
+				complete(inFlight.removeFirst());
+			}
+
+			int chunkIndex = chunks++;
+			int length = chunk.remaining();
+
+			CompletableFuture<TaskInfo> enqueued = sender.send(indexUid, primaryKey, new MappedChunkBodyPublisher(chunk));
+			CompletableFuture<Task> task = enqueued
+					.thenCompose(taskInfo -> taskTracker.track(taskInfo.getTaskUid(), options.getTaskTimeout()));
+			inFlight.addLast(new InFlightChunk(chunkIndex, offset, length, enqueued, task));
+		}
+
+		void reject(long offset, long length, String reason) {
+			failedChunks.add(new FailedChunk(chunks++, offset, length, null, reason));
+		}
+
+		void drain() throws IOException {
+			while (!inFlight.isEmpty()) {
+				complete(inFlight.removeFirst());
+			}
+		}
+
+		private void complete(InFlightChunk chunk) throws IOException {
+
+			Task task;
+			try {
+				task = taskTracker.await(chunk.task);
+			} catch (DataAccessException e) {
+				failedChunks.add(new FailedChunk(chunk.index, chunk.offset, chunk.length, chunk.taskUid(), reasonOf(e)));
+				return;
+			}
+
+			if (task.getStatus() != TaskStatus.SUCCEEDED) {
+				failedChunks.add(new FailedChunk(chunk.index, chunk.offset, chunk.length, chunk.taskUid(),
+						"Task " + chunk.taskUid() + " finished with status " + task.getStatus() + "."));
+				return;
+			}
+
+			importedBytes += chunk.length;
+			if (failedChunks.isEmpty() && resumeOffset == chunk.offset) {
+				resumeOffset = chunk.offset + chunk.length;
+				writeCheckpoint(options.getCheckpoint(), resumeOffset);
+			}
+		}
+
+		private String reasonOf(Exception e) {
+			return e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+		}
+	}
+
+	private static void writeCheckpoint(@Nullable Path checkpoint, long offset) throws IOException {
+
+		if (checkpoint == null) {
+			return;
+		}
+		Path temporary = checkpoint.resolveSibling(checkpoint.getFileName() + ".tmp");
+		Files.writeString(temporary, Long.toString(offset), StandardCharsets.UTF_8);
+		Files.move(temporary, checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	/**
+	 * Sends a chunk of an NDJSON file to an index.
+	 */
+	@FunctionalInterface
+	interface ChunkSender {
+
+		/**
+		 * Enqueue the documents of the given chunk for addition or replacement.
+		 *
+		 * @param indexUid the uid of the index
+		 * @param primaryKey the primary key of the documents
+		 * @param chunk the chunk of the file
+		 * @return a future completed with the enqueued task once the chunk was uploaded
+		 */
+		CompletableFuture<TaskInfo> send(String indexUid, String primaryKey, DocumentsBody chunk);
+	}
+
+	private record InFlightChunk(int index, long offset, int length, CompletableFuture<TaskInfo> enqueued,
+			CompletableFuture<Task> task) {
+
+		@Nullable
+		Integer taskUid() {
+			return enqueued.isDone() && !enqueued.isCompletedExceptionally() ? enqueued.join().getTaskUid() : null;
+		}
+	}
+}
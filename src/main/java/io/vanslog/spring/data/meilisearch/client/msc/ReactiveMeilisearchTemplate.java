@@ -0,0 +1,307 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client.msc;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.meilisearch.sdk.MultiSearchFederation;
+import com.meilisearch.sdk.MultiSearchRequest;
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.model.FacetSearchResult;
+import com.meilisearch.sdk.model.Results;
+import com.meilisearch.sdk.model.Task;
+import com.meilisearch.sdk.model.TaskInfo;
+import com.meilisearch.sdk.model.TaskStatus;
+
+import io.vanslog.spring.data.meilisearch.DocumentAccessException;
+import io.vanslog.spring.data.meilisearch.TaskStatusException;
+import io.vanslog.spring.data.meilisearch.client.MeilisearchClient;
+import io.vanslog.spring.data.meilisearch.core.FacetHit;
+import io.vanslog.spring.data.meilisearch.core.MeilisearchCallback;
+import io.vanslog.spring.data.meilisearch.core.ReactiveMeilisearchOperations;
+import io.vanslog.spring.data.meilisearch.core.SearchHit;
+import io.vanslog.spring.data.meilisearch.core.convert.MappingMeilisearchConverter;
+import io.vanslog.spring.data.meilisearch.core.convert.MeilisearchConverter;
+import io.vanslog.spring.data.meilisearch.core.mapping.SimpleMeilisearchMappingContext;
+import io.vanslog.spring.data.meilisearch.core.query.BaseQuery;
+import io.vanslog.spring.data.meilisearch.core.query.FacetQuery;
+import io.vanslog.spring.data.meilisearch.core.query.SimilarQuery;
+
+/**
+ * Implementation of {@link ReactiveMeilisearchOperations} that talks to the Meilisearch REST API through the
+ * non-blocking JDK {@link java.net.http.HttpClient}. Documents are read and written by the {@link MeilisearchConverter},
+ * other responses are decoded into the model types of the Meilisearch Java client and mapped with the same converters
+ * as {@link MeilisearchTemplate}. Finished tasks are resolved by a {@link TaskTracker}, so a pending write does not
+ * hold a thread.
+ *
+ * @author Junghoon Ban
+ */
+public class ReactiveMeilisearchTemplate implements ReactiveMeilisearchOperations {
+
+	static final int DOCUMENTS_PAGE_SIZE = 1000;
+	private static final long MAX_TASK_POLL_INTERVAL = 1000;
+
+	private final MeilisearchClient meilisearchClient;
+	private final MeilisearchConverter meilisearchConverter;
+	private final EntityOperations entityOperations;
+	private final MeilisearchHttpTransport transport;
+	private final RetryHandler retryHandler;
+	private final DocumentFetcher documentFetcher;
+	private final RequestConverter requestConverter;
+	private final ResponseConverter responseConverter;
+	private final SearchResponseReader searchResponseReader;
+	private final DocumentResponseReader documentResponseReader;
+	private final TaskTracker taskTracker;
+
+	public ReactiveMeilisearchTemplate(MeilisearchClient meilisearchClient) {
+		this(meilisearchClient, null);
+	}
+
+	public ReactiveMeilisearchTemplate(MeilisearchClient meilisearchClient,
+			@Nullable MeilisearchConverter meilisearchConverter) {
+
+		Assert.notNull(meilisearchClient, "MeilisearchClient must not be null");
+
+		this.meilisearchClient = meilisearchClient;
+		this.meilisearchConverter = meilisearchConverter != null ? meilisearchConverter
+				: new MappingMeilisearchConverter(new SimpleMeilisearchMappingContext());
+		this.entityOperations = new EntityOperations(this.meilisearchConverter);
+		this.retryHandler = new RetryHandler(meilisearchClient);
+		this.transport = new MeilisearchHttpTransport(meilisearchClient, retryHandler);
+		this.documentResponseReader = new DocumentResponseReader(this.meilisearchConverter);
+		this.documentFetcher = new DocumentFetcher(transport, entityOperations, meilisearchClient.getJsonHandler(),
+				documentResponseReader);
+		this.requestConverter = new RequestConverter();
+		this.responseConverter = new ResponseConverter();
+		this.searchResponseReader = new SearchResponseReader(this.meilisearchConverter);
+		this.taskTracker = new TaskTracker(this::execute, Duration.ofMillis(meilisearchClient.getRequestTimeout()),
+				Duration.ofMillis(meilisearchClient.getRequestInterval()),
+				Duration.ofMillis(Math.max(meilisearchClient.getRequestInterval(), MAX_TASK_POLL_INTERVAL)));
+	}
+
+	@Override
+	public <T> Mono<T> save(T entity) {
+		return save(Collections.singletonList(entity)).then(Mono.just(entity));
+	}
+
+	@Override
+	public <T> Flux<T> save(List<T> entities) {
+
+		Assert.notEmpty(entities, "Entities must not be empty");
+
+		return Mono.defer(() -> {
+			Class<?> clazz = entities.iterator().next().getClass();
+			String path = documentsPath(clazz) + "?primaryKey="
+					+ MeilisearchHttpTransport.encodePathSegment(entityOperations.getPrimaryKey(clazz));
+			DocumentsBodyPublisher documents = DocumentsBodyPublisher.of(meilisearchConverter, entities);
+			return write(() -> transport.exchange("POST", path, documents, TaskInfo.class), "Failed to save entities.");
+		}).thenMany(Flux.fromIterable(entities));
+	}
+
+	@Override
+	public <T> Mono<T> get(String documentId, Class<T> clazz) {
+		return Mono.fromFuture(() -> transport.exchange("GET", documentPath(clazz, documentId), null)) //
+				.map(json -> documentResponseReader.read(json, clazz)) //
+				.onErrorResume(DocumentAccessException.class, e -> Mono.empty());
+	}
+
+	@Override
+	public <T> Flux<T> multiGet(Class<T> clazz) {
+		return documentsPage(clazz, 0) //
+				.expand(page -> hasNextPage(page) ? documentsPage(clazz, page.offset() + page.results().size())
+						: Mono.empty()) //
+				.concatMapIterable(DocumentResponseReader.Page::results, 1);
+	}
+
+	@Override
+	public <T> Flux<T> multiGet(Class<T> clazz, List<String> documentIds) {
+		return Mono.fromFuture(() -> documentFetcher.fetch(clazz, documentIds)).flatMapIterable(documents -> documents);
+	}
+
+	@Override
+	public Mono<Boolean> exists(String documentId, Class<?> clazz) {
+		return Mono.fromFuture(() -> documentFetcher.exists(clazz, documentId));
+	}
+
+	@Override
+	public Mono<Set<String>> existsAll(Class<?> clazz, Collection<String> documentIds) {
+		return Mono.fromFuture(() -> documentFetcher.existing(clazz, documentIds));
+	}
+
+	@Override
+	public Mono<Long> count(Class<?> clazz) {
+		return Mono.<Results<?>> fromFuture(() -> transport.exchange("GET", documentsPath(clazz) + "?offset=0&limit=0",
+				null, Results.class, clazz)).map(results -> (long) results.getTotal());
+	}
+
+	@Override
+	public Mono<Boolean> delete(String documentId, Class<?> clazz) {
+		return isSucceeded(() -> transport.exchange("DELETE", documentPath(clazz, documentId), null, TaskInfo.class));
+	}
+
+	@Override
+	public <T> Mono<Boolean> delete(T entity) {
+		return Mono.defer(() -> delete(entityOperations.getDocumentId(entity), entity.getClass()));
+	}
+
+	@Override
+	public Mono<Boolean> delete(Class<?> clazz, List<String> documentIds) {
+		return isSucceeded(
+				() -> transport.exchange("POST", documentsPath(clazz) + "/delete-batch", documentIds, TaskInfo.class));
+	}
+
+	@Override
+	public <T> Mono<Boolean> delete(List<T> entities) {
+		return Mono.defer(() -> {
+			Class<?> clazz = entities.iterator().next().getClass();
+			List<String> documentIds = entities.stream().map(entityOperations::getDocumentId).toList();
+			return delete(clazz, documentIds);
+		});
+	}
+
+	@Override
+	public Mono<Boolean> deleteAll(Class<?> clazz) {
+		return isSucceeded(() -> transport.exchange("DELETE", documentsPath(clazz), null, TaskInfo.class));
+	}
+
+	@Override
+	public <T, Q extends BaseQuery> Flux<SearchHit<T>> search(Q query, Class<T> clazz) {
+		return Mono.fromFuture(
+				() -> transport.exchange("POST", indexPath(clazz) + "/search", requestConverter.searchRequest(query)))
+				.flatMapIterable(body -> searchResponseReader.read(body, clazz).getSearchHits());
+	}
+
+	@Override
+	public <T, Q extends BaseQuery> Flux<SearchHit<T>> multiSearch(List<Q> queries, Class<T> clazz) {
+		return Mono.<String> fromFuture(() -> {
+			MultiSearchRequest request = requestConverter.multiSearchRequest(queries, entityOperations.getIndexUid(clazz),
+					false);
+			return transport.exchange("POST", "/multi-search", request);
+		}).flatMapIterable(body -> searchResponseReader.readMultiSearch(body, clazz).getSearchHits());
+	}
+
+	@Override
+	public <T, Q extends BaseQuery> Flux<SearchHit<T>> multiSearch(List<Q> queries, MultiSearchFederation federation,
+			Class<T> clazz) {
+		return Mono.<String> fromFuture(() -> {
+			MultiSearchRequest request = requestConverter.multiSearchRequest(queries, entityOperations.getIndexUid(clazz),
+					true);
+			Map<String, Object> body = new LinkedHashMap<>();
+			body.put("federation", federation);
+			body.put("queries", request.getQueries());
+			return transport.exchange("POST", "/multi-search", body);
+		}).flatMapIterable(body -> searchResponseReader.readFederated(body, clazz).getSearchHits());
+	}
+
+	@Override
+	public Flux<SearchHit<FacetHit>> facetSearch(FacetQuery query, Class<?> clazz) {
+		return Mono.<FacetSearchResult> fromFuture(() -> transport.exchange("POST", indexPath(clazz) + "/facet-search",
+				requestConverter.searchRequest(query), FacetSearchResult.class))
+				.flatMapIterable(result -> responseConverter.mapHits(result, FacetHit.class).getSearchHits());
+	}
+
+	@Override
+	public <T> Flux<SearchHit<T>> similarSearch(SimilarQuery query, Class<T> clazz) {
+		return Mono.fromFuture(() -> transport.exchange("POST", indexPath(clazz) + "/similar",
+				requestConverter.similarSearchRequest(query)))
+				.flatMapIterable(body -> searchResponseReader.read(body, clazz).getSearchHits());
+	}
+
+	@Override
+	public <T> Mono<Void> applySettings(Class<T> clazz) {
+		return Mono.defer(() -> write(() -> transport.exchange("PATCH", indexPath(clazz) + "/settings",
+				entityOperations.getPersistentEntity(clazz).getDefaultSettings(), TaskInfo.class),
+				"Failed to apply settings")).then();
+	}
+
+	@Override
+	public MeilisearchConverter getMeilisearchConverter() {
+		return meilisearchConverter;
+	}
+
+	/**
+	 * Return the {@link TaskTracker} used to wait for the tasks enqueued by this template.
+	 *
+	 * @return the task tracker
+	 */
+	public TaskTracker getTaskTracker() {
+		return taskTracker;
+	}
+
+	private <T> T execute(Idempotency idempotency, MeilisearchCallback<T> callback) {
+
+		try {
+			return retryHandler.execute(idempotency, meilisearchClient, callback);
+		} catch (MeilisearchException e) {
+			throw ExceptionTranslator.translate(e);
+		}
+	}
+
+	private Mono<Task> track(Supplier<CompletableFuture<TaskInfo>> enqueue) {
+		return Mono.fromFuture(enqueue).flatMap(taskInfo -> Mono.fromFuture(taskTracker.track(taskInfo.getTaskUid())));
+	}
+
+	private Mono<Boolean> isSucceeded(Supplier<CompletableFuture<TaskInfo>> enqueue) {
+		return track(enqueue).map(task -> task.getStatus() == TaskStatus.SUCCEEDED);
+	}
+
+	private Mono<Task> write(Supplier<CompletableFuture<TaskInfo>> enqueue, String message) {
+		return track(enqueue).handle((task, sink) -> {
+			if (task.getStatus() == TaskStatus.SUCCEEDED) {
+				sink.next(task);
+			} else {
+				sink.error(new TaskStatusException(task.getStatus(), message));
+			}
+		});
+	}
+
+	private <T> Mono<DocumentResponseReader.Page<T>> documentsPage(Class<T> clazz, int offset) {
+		return Mono.fromFuture(() -> transport.exchange("GET",
+				documentsPath(clazz) + "?offset=" + offset + "&limit=" + DOCUMENTS_PAGE_SIZE, null)) //
+				.map(json -> documentResponseReader.readPage(json, clazz));
+	}
+
+	private static boolean hasNextPage(DocumentResponseReader.Page<?> page) {
+		int fetched = page.results().size();
+		return fetched > 0 && page.offset() + fetched < page.total();
+	}
+
+	private String indexPath(Class<?> clazz) {
+		return "/indexes/" + MeilisearchHttpTransport.encodePathSegment(entityOperations.getIndexUid(clazz));
+	}
+
+	private String documentsPath(Class<?> clazz) {
+		return indexPath(clazz) + "/documents";
+	}
+
+	private String documentPath(Class<?> clazz, String documentId) {
+		return documentsPath(clazz) + "/" + MeilisearchHttpTransport.encodePathSegment(documentId);
+	}
+}
@@ -18,23 +18,16 @@ package io.vanslog.spring.data.meilisearch.client.msc;
 import io.vanslog.spring.data.meilisearch.core.SearchHit;
 import io.vanslog.spring.data.meilisearch.core.SearchHits;
 import io.vanslog.spring.data.meilisearch.core.SearchHitsImpl;
-import io.vanslog.spring.data.meilisearch.core.TotalHitsRelation;
-import io.vanslog.spring.data.meilisearch.core.federation.FederationResponse;
 
 import java.time.Duration;
-import java.util.Arrays;
 import java.util.List;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.meilisearch.sdk.model.FacetSearchable;
-import com.meilisearch.sdk.model.MultiSearchResult;
-import com.meilisearch.sdk.model.Results;
-import com.meilisearch.sdk.model.SearchResultPaginated;
-import com.meilisearch.sdk.model.Searchable;
-import com.meilisearch.sdk.model.SimilarDocumentsResults;
 
 /**
- * Class to convert Meilisearch classes into Spring Data Meilisearch responses.
+ * Class to convert Meilisearch facet search results into Spring Data Meilisearch responses. Search, multi-search and
+ * similar documents responses are read by {@link SearchResponseReader}.
  */
 public class ResponseConverter {
 
@@ -44,14 +37,6 @@ public class ResponseConverter {
 		this.objectMapper = new ObjectMapper();
 	}
 
-	@SuppressWarnings("unchecked")
-	public <T> List<T> mapHitList(Searchable searchable, Class<?> clazz) {
-		return (List<T>) searchable.getHits().stream() //
-				.map(hit -> objectMapper.convertValue(hit, clazz)) //
-				.map(content -> new SearchHit<>(content, searchable)) //
-				.toList();
-	}
-
 	@SuppressWarnings("unchecked")
 	public <T> List<T> mapHitList(FacetSearchable searchable, Class<?> clazz) {
 		return (List<T>) searchable.getFacetHits().stream() //
@@ -60,57 +45,9 @@ public class ResponseConverter {
 				.toList();
 	}
 
-	public <T> SearchHits<T> mapHits(Searchable searchable, Class<T> clazz) {
-		List<SearchHit<T>> searchHits = this.mapHitList(searchable, clazz);
-		Duration executionDuration = Duration.ofMillis(searchable.getProcessingTimeMs());
-		if (searchable instanceof SearchResultPaginated) {
-			SearchResultPaginated result = (SearchResultPaginated) searchable;
-			return new SearchHitsImpl<>(executionDuration, searchHits, result.getTotalHits(),
-					TotalHitsRelation.EQUAL_TO);
-		}
-		return new SearchHitsImpl<>(executionDuration, searchHits);
-	}
-
 	public <T> SearchHits<T> mapHits(FacetSearchable searchable, Class<T> clazz) {
 		List<SearchHit<T>> searchHits = this.mapHitList(searchable, clazz);
 		Duration executionDuration = Duration.ofMillis(searchable.getProcessingTimeMs());
 		return new SearchHitsImpl<>(executionDuration, searchHits);
 	}
-
-	public <T> SearchHits<T> mapResult(MultiSearchResult result, Class<T> clazz) {
-		List<? extends SearchHit<T>> searchHits = result.getHits().stream() //
-				.map(hit -> {
-					FederationResponse federation = objectMapper.convertValue(hit.get("_federation"), FederationResponse.class);
-					hit.remove("_federation");
-					return new SearchHit<>(objectMapper.convertValue(hit, clazz), result, federation);
-				}).toList();
-
-		Duration executionDuration = Duration.ofMillis(result.getProcessingTimeMs());
-		return new SearchHitsImpl<>(executionDuration, searchHits);
-	}
-
-	public <T> SearchHits<T> mapResult(SimilarDocumentsResults result, Class<T> clazz) {
-		List<SearchHit<T>> searchHits = result.getHits().stream() //
-				.map(hit -> objectMapper.convertValue(hit, clazz)) //
-				.map(content -> new SearchHit<>(content, result)) //
-				.toList();
-
-		Duration executionDuration = Duration.ofMillis(result.getProcessingTimeMs());
-		return new SearchHitsImpl<>(executionDuration, searchHits);
-	}
-
-	public <T> SearchHits<T> mapResults(Results<MultiSearchResult> results, Class<T> clazz) {
-		MultiSearchResult[] multiSearchResults = results.getResults();
-		List<SearchHit<T>> searchHits = Arrays.stream(multiSearchResults) //
-				.flatMap(result -> result.getHits().stream() //
-						.map(hit -> objectMapper.convertValue(hit, clazz)) //
-						.map(content -> new SearchHit<>(content, result)))
-				.toList();
-
-		int maxProcessingTime = Arrays.stream(multiSearchResults) //
-				.mapToInt(MultiSearchResult::getProcessingTimeMs).max().orElse(0);
-		Duration executionDuration = Duration.ofMillis(maxProcessingTime);
-
-		return new SearchHitsImpl<>(executionDuration, searchHits);
-	}
 }
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client.msc;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.UnknownHostException;
+import java.net.http.HttpConnectTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.lang.Nullable;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.meilisearch.sdk.exceptions.MeilisearchApiException;
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+
+import io.vanslog.spring.data.meilisearch.client.MeilisearchClient;
+import io.vanslog.spring.data.meilisearch.client.RetryBudget;
+import io.vanslog.spring.data.meilisearch.client.RetryPolicy;
+import io.vanslog.spring.data.meilisearch.core.MeilisearchCallback;
+
+/**
+ * Retries requests that failed for a transient reason according to the {@link RetryPolicy} of a client, spending from
+ * its {@link RetryBudget}.
+ * <p>
+ * Failures are classified as {@link Failure#REJECTED rejected} if the server certainly did not process the request, as
+ * {@link Failure#TRANSIENT transient} if it may have, and as {@link Failure#PERMANENT permanent} otherwise. Rejected
+ * requests are retried regardless of their {@link Idempotency}, transient failures only for idempotent requests.
+ *
+ * @author Junghoon Ban
+ */
+final class RetryHandler {
+
+	static final String TOO_MANY_SEARCH_REQUESTS = "too_many_search_requests";
+
+	private final RetryPolicy policy;
+	private final RetryBudget budget;
+
+	RetryHandler(MeilisearchClient meilisearchClient) {
+		this(meilisearchClient.getClientConfiguration().getRetryPolicy(), meilisearchClient.getRetryBudget());
+	}
+
+	RetryHandler(RetryPolicy policy, RetryBudget budget) {
+		this.policy = policy;
+		this.budget = budget;
+	}
+
+	/**
+	 * Run the callback, retrying it while it fails for a transient reason.
+	 *
+	 * @param idempotency the idempotency of the requests sent by the callback
+	 * @param meilisearchClient the client to pass to the callback
+	 * @param callback the callback
+	 * @return the result of the callback
+	 * @throws MeilisearchException the failure of the last attempt
+	 */
+	<T> T execute(Idempotency idempotency, MeilisearchClient meilisearchClient, MeilisearchCallback<T> callback)
+			throws MeilisearchException {
+
+		recordRequest();
+		for (int attempt = 1;; attempt++) {
+			try {
+				return callback.doWithClient(meilisearchClient);
+			} catch (MeilisearchException e) {
+				Duration backoff = backoff(idempotency, classify(e), attempt);
+				if (backoff == null) {
+					throw e;
+				}
+				try {
+					Thread.sleep(backoff.toMillis());
+				} catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+					throw e;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Record a request sent for the first time, which earns retries in the budget.
+	 */
+	void recordRequest() {
+		budget.recordRequest();
+	}
+
+	/**
+	 * Decide whether a failed attempt is retried.
+	 *
+	 * @param idempotency the idempotency of the request
+	 * @param failure the classified failure of the attempt
+	 * @param attempt the number of the failed attempt, starting at 1
+	 * @return the backoff before the next attempt or {@literal null} if the request must not be retried
+	 */
+	@Nullable
+	Duration backoff(Idempotency idempotency, Failure failure, int attempt) {
+
+		if (attempt >= policy.getMaxAttempts() || failure == Failure.PERMANENT
+				|| (failure == Failure.TRANSIENT && idempotency != Idempotency.IDEMPOTENT)) {
+			return null;
+		}
+		if (!budget.tryAcquire()) {
+			return null;
+		}
+		return policy.backoff(attempt, ThreadLocalRandom.current().nextDouble());
+	}
+
+	/**
+	 * Classify the failure of a request by its exception and its causes.
+	 *
+	 * @param ex the exception
+	 * @return the failure
+	 */
+	static Failure classify(Throwable ex) {
+
+		for (Throwable cause = ex; cause != null; cause = cause.getCause() != cause ? cause.getCause() : null) {
+			if (cause instanceof MeilisearchApiException apiException) {
+				return TOO_MANY_SEARCH_REQUESTS.equals(apiException.getCode()) ? Failure.REJECTED : Failure.PERMANENT;
+			}
+			if (cause instanceof ConnectException || cause instanceof HttpConnectTimeoutException
+					|| cause instanceof UnknownHostException) {
+				return Failure.REJECTED;
+			}
+			if (cause instanceof JsonProcessingException) {
+				return Failure.PERMANENT;
+			}
+			if (cause instanceof IOException) {
+				return Failure.TRANSIENT;
+			}
+		}
+		return Failure.PERMANENT;
+	}
+
+	/**
+	 * Classify the failure of a request by the status of its response.
+	 *
+	 * @param status the HTTP status
+	 * @return the failure
+	 */
+	static Failure classify(int status) {
+
+		return switch (status) {
+			case 429 -> Failure.REJECTED;
+			case 502, 503, 504 -> Failure.TRANSIENT;
+			default -> Failure.PERMANENT;
+		};
+	}
+
+	enum Failure {
+		REJECTED, TRANSIENT, PERMANENT
+	}
+}
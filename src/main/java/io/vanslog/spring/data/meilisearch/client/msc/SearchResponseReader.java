@@ -0,0 +1,272 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client.msc;
+
+import io.vanslog.spring.data.meilisearch.UncategorizedMeilisearchException;
+import io.vanslog.spring.data.meilisearch.core.SearchHit;
+import io.vanslog.spring.data.meilisearch.core.SearchHits;
+import io.vanslog.spring.data.meilisearch.core.SearchHitsImpl;
+import io.vanslog.spring.data.meilisearch.core.TotalHitsRelation;
+import io.vanslog.spring.data.meilisearch.core.convert.MeilisearchConverter;
+import io.vanslog.spring.data.meilisearch.core.federation.FederationResponse;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.lang.Nullable;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.meilisearch.sdk.model.FacetRating;
+
+/**
+ * Reads search responses of the Meilisearch HTTP API with a single pass of Jackson over the response body. Hits are
+ * read into entities by the {@link MeilisearchConverter} straight from the parser instead of being decoded into maps
+ * and converted afterwards.
+ * <p>
+ * Hits of federated searches carrying a {@code _federation} field are captured as tokens while parsing, so the field
+ * can be read wherever it appears in the hit, and bound from the captured tokens, which does not decode the text again.
+ *
+ * @author Junghoon Ban
+ */
+final class SearchResponseReader {
+
+	private static final String FEDERATION = "_federation";
+
+	private final MeilisearchConverter converter;
+	private final ObjectMapper objectMapper;
+	private final ObjectReader federationReader;
+	private final ObjectReader facetStatsReader;
+	private final ObjectReader facetDistributionReader;
+
+	SearchResponseReader(MeilisearchConverter converter) {
+
+		this.converter = converter;
+		this.objectMapper = new ObjectMapper();
+		this.federationReader = objectMapper.readerFor(FederationResponse.class);
+		this.facetStatsReader = new ObjectMapper().setVisibility(PropertyAccessor.FIELD, Visibility.ANY)
+				.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+				.readerFor(new TypeReference<Map<String, FacetRating>>() {});
+		this.facetDistributionReader = objectMapper.readerFor(Object.class);
+	}
+
+	/**
+	 * Read the response of a search or a similar documents search.
+	 *
+	 * @param body the response body
+	 * @param clazz the entity class
+	 * @return the search hits
+	 */
+	<T> SearchHits<T> read(String body, Class<T> clazz) {
+		return read(body, clazz, false);
+	}
+
+	/**
+	 * Read the response of a federated multi-search, whose hits carry the federation details in a {@code _federation}
+	 * field.
+	 *
+	 * @param body the response body
+	 * @param clazz the entity class
+	 * @return the search hits
+	 */
+	<T> SearchHits<T> readFederated(String body, Class<T> clazz) {
+		return read(body, clazz, true);
+	}
+
+	/**
+	 * Read the response of a non-federated multi-search, concatenating the hits of all results.
+	 *
+	 * @param body the response body
+	 * @param clazz the entity class
+	 * @return the search hits
+	 */
+	<T> SearchHits<T> readMultiSearch(String body, Class<T> clazz) {
+
+		HitReader<T> hitReader = new HitReader<>(clazz, false);
+
+		try (JsonParser parser = objectMapper.createParser(body)) {
+			expect(parser.nextToken(), JsonToken.START_OBJECT);
+
+			List<SearchHit<T>> searchHits = new ArrayList<>();
+			int processingTimeMs = 0;
+
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String field = parser.currentName();
+				JsonToken token = parser.nextToken();
+				if ("results".equals(field) && token == JsonToken.START_ARRAY) {
+					while (parser.nextToken() == JsonToken.START_OBJECT) {
+						Page<T> page = readPage(parser, hitReader);
+						searchHits.addAll(page.toSearchHits());
+						processingTimeMs = Math.max(processingTimeMs, page.processingTimeMs);
+					}
+				} else {
+					parser.skipChildren();
+				}
+			}
+			return new SearchHitsImpl<>(Duration.ofMillis(processingTimeMs), searchHits);
+		} catch (IOException | UncheckedIOException e) {
+			throw new UncategorizedMeilisearchException("Failed to read search response.", e);
+		}
+	}
+
+	private <T> SearchHits<T> read(String body, Class<T> clazz, boolean federated) {
+
+		HitReader<T> hitReader = new HitReader<>(clazz, federated);
+
+		try (JsonParser parser = objectMapper.createParser(body)) {
+			expect(parser.nextToken(), JsonToken.START_OBJECT);
+
+			Page<T> page = readPage(parser, hitReader);
+			Duration executionDuration = Duration.ofMillis(page.processingTimeMs);
+
+			if (page.totalHits != null) {
+				return new SearchHitsImpl<>(executionDuration, page.toSearchHits(), page.totalHits,
+						TotalHitsRelation.EQUAL_TO);
+			}
+			return new SearchHitsImpl<>(executionDuration, page.toSearchHits());
+		} catch (IOException | UncheckedIOException e) {
+			throw new UncategorizedMeilisearchException("Failed to read search response.", e);
+		}
+	}
+
+	/**
+	 * Read a search result object. The parser must point at its start.
+	 */
+	private <T> Page<T> readPage(JsonParser parser, HitReader<T> hitReader) throws IOException {
+
+		Page<T> page = new Page<>();
+
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String field = parser.currentName();
+			JsonToken token = parser.nextToken();
+
+			if (token == JsonToken.VALUE_NULL) {
+				continue;
+			}
+
+			switch (field) {
+				case "hits" -> {
+					expect(token, JsonToken.START_ARRAY);
+					page.hits = hitReader.readHits(parser);
+				}
+				case "processingTimeMs" -> page.processingTimeMs = parser.getValueAsInt();
+				case "query" -> page.query = parser.getValueAsString();
+				case "totalHits" -> page.totalHits = parser.getValueAsLong();
+				case "facetStats" -> page.facetStats = facetStatsReader.readValue(parser);
+				case "facetDistribution" -> page.facetDistribution = facetDistributionReader.readValue(parser);
+				default -> parser.skipChildren();
+			}
+		}
+		return page;
+	}
+
+	private static void expect(@Nullable JsonToken actual, JsonToken expected) throws IOException {
+
+		if (actual != expected) {
+			throw new IOException("Expected " + expected + " but found " + actual + ".");
+		}
+	}
+
+	/**
+	 * Binds the hits array of a search result to entities.
+	 */
+	private final class HitReader<T> {
+
+		private final Class<T> clazz;
+		private final boolean federated;
+
+		HitReader(Class<T> clazz, boolean federated) {
+			this.clazz = clazz;
+			this.federated = federated;
+		}
+
+		/**
+		 * Read the hits array. The parser must point at its start.
+		 */
+		List<Hit<T>> readHits(JsonParser parser) throws IOException {
+
+			List<Hit<T>> hits = new ArrayList<>();
+			while (parser.nextToken() == JsonToken.START_OBJECT) {
+				hits.add(federated ? bind(capture(parser)) : new Hit<>(converter.read(clazz, parser), null));
+			}
+			return hits;
+		}
+
+		private CapturedHit capture(JsonParser parser) throws IOException {
+
+			TokenBuffer tokens = new TokenBuffer(parser);
+			FederationResponse federation = null;
+
+			tokens.writeStartObject();
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String field = parser.currentName();
+				parser.nextToken();
+				if (federated && FEDERATION.equals(field)) {
+					federation = federationReader.readValue(parser);
+				} else {
+					tokens.writeFieldName(field);
+					tokens.copyCurrentStructure(parser);
+				}
+			}
+			tokens.writeEndObject();
+			return new CapturedHit(tokens, federation);
+		}
+
+		private Hit<T> bind(CapturedHit hit) throws IOException {
+
+			try (JsonParser parser = hit.tokens().asParser()) {
+				return new Hit<>(converter.read(clazz, parser), hit.federation());
+			}
+		}
+	}
+
+	private record CapturedHit(TokenBuffer tokens, @Nullable FederationResponse federation) {
+	}
+
+	private record Hit<T>(T content, @Nullable FederationResponse federation) {
+	}
+
+	/**
+	 * Hits and metadata of a single search result.
+	 */
+	private static final class Page<T> {
+
+		private List<Hit<T>> hits = List.of();
+		private int processingTimeMs;
+		private String query = "";
+		@Nullable private Long totalHits;
+		@Nullable private Map<String, FacetRating> facetStats;
+		@Nullable private Object facetDistribution;
+
+		List<SearchHit<T>> toSearchHits() {
+			return hits.stream() //
+					.map(hit -> new SearchHit<>(hit.content(), processingTimeMs, query, facetStats, facetDistribution,
+							hit.federation())) //
+					.toList();
+		}
+	}
+}
@@ -0,0 +1,282 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client.msc;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.Date;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.util.Assert;
+
+import com.meilisearch.sdk.model.DeleteTasksQuery;
+import com.meilisearch.sdk.model.Task;
+import com.meilisearch.sdk.model.TaskInfo;
+import com.meilisearch.sdk.model.TaskStatus;
+import com.meilisearch.sdk.model.TasksQuery;
+import com.meilisearch.sdk.model.TasksResults;
+
+import io.vanslog.spring.data.meilisearch.TaskStatusException;
+import io.vanslog.spring.data.meilisearch.core.TaskPruningOptions;
+import io.vanslog.spring.data.meilisearch.core.TaskPruningResult;
+
+/**
+ * Background service deleting finished tasks from the task history of a Meilisearch instance, so the task store does
+ * not grow without bound under heavy write traffic.
+ * <p>
+ * Each run looks up finished tasks older than {@link TaskPruningOptions#getRetention()} and deletes them by uid in
+ * batches of {@link TaskPruningOptions#getBatchSize()}, waiting for each deletion task before the next batch is looked
+ * up. Runs are scheduled by {@link TaskPruningOptions#getSchedule()} on a single background thread, and can be started
+ * on demand with {@link #prune()}. A failed scheduled run is reported by {@link #getLastFailure()} and does not cancel
+ * later runs. Call {@link #close()} on shutdown to stop scheduling runs.
+ *
+ * @author Junghoon Ban
+ */
+public class TaskHistoryPruner implements AutoCloseable {
+
+	private static final String THREAD_NAME = "meilisearch-task-pruner";
+	private static final String[] FINISHED_STATUSES = { "succeeded", "failed", "canceled" };
+
+	private final MeilisearchClientExecutor executor;
+	private final TaskTracker taskTracker;
+	private final LongSupplier usedDatabaseSize;
+	private final TaskPruningOptions options;
+	@Nullable private final CronExpression schedule;
+	private final ScheduledExecutorService scheduler;
+	private final Object pruning = new Object();
+	private long runs;
+	private long deletedTasks;
+	private long reclaimedBytes;
+	@Nullable private TaskPruningResult lastResult;
+	@Nullable private volatile RuntimeException lastFailure;
+	private boolean closed;
+
+	public TaskHistoryPruner(MeilisearchTemplate template) {
+		this(template, TaskPruningOptions.defaults());
+	}
+
+	public TaskHistoryPruner(MeilisearchTemplate template, TaskPruningOptions options) {
+		this(template::execute, template.getTaskTracker(),
+				() -> template.instanceOps().stats().getUsedDatabaseSize(), options);
+	}
+
+	TaskHistoryPruner(MeilisearchClientExecutor executor, TaskTracker taskTracker, LongSupplier usedDatabaseSize,
+			TaskPruningOptions options) {
+
+		Assert.notNull(executor, "MeilisearchClientExecutor must not be null");
+		Assert.notNull(taskTracker, "TaskTracker must not be null");
+		Assert.notNull(usedDatabaseSize, "Used database size must not be null");
+		Assert.notNull(options, "TaskPruningOptions must not be null");
+
+		this.executor = executor;
+		this.taskTracker = taskTracker;
+		this.usedDatabaseSize = usedDatabaseSize;
+		this.options = options;
+		this.schedule = TaskPruningOptions.MANUAL.equals(options.getSchedule()) ? null
+				: CronExpression.parse(options.getSchedule());
+		this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, THREAD_NAME);
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		scheduleNext();
+	}
+
+	/**
+	 * Prune the task history now, blocking until the run finished. Runs do not overlap; a run started while another
+	 * one is in progress starts after it.
+	 *
+	 * @return the result of the run
+	 */
+	public TaskPruningResult prune() {
+
+		synchronized (pruning) {
+			TaskPruningResult result = pruneHistory();
+			synchronized (this) {
+				runs++;
+				deletedTasks += result.getDeletedTasks();
+				reclaimedBytes += result.getReclaimedBytes();
+				lastResult = result;
+			}
+			return result;
+		}
+	}
+
+	private TaskPruningResult pruneHistory() {
+
+		long started = System.nanoTime();
+		Date cutoff = Date.from(Instant.now().minus(options.getRetention()));
+		long usedBefore = usedDatabaseSize.getAsLong();
+
+		long deleted = 0;
+		int batches = 0;
+		while (batches < options.getMaxBatches()) {
+			int[] taskUids = finishedTaskUids(cutoff);
+			if (taskUids.length == 0) {
+				break;
+			}
+
+			deleteTasks(taskUids);
+			deleted += taskUids.length;
+			batches++;
+
+			if (taskUids.length < options.getBatchSize()) {
+				break;
+			}
+		}
+
+		// the database may grow from concurrent writes, and deleted pages are not always released right away
+		long reclaimed = Math.max(0, usedBefore - usedDatabaseSize.getAsLong());
+		return new TaskPruningResult(deleted, reclaimed, batches, Duration.ofNanos(System.nanoTime() - started));
+	}
+
+	/**
+	 * Return the number of completed runs.
+	 *
+	 * @return completed runs
+	 */
+	public synchronized long getRuns() {
+		return runs;
+	}
+
+	/**
+	 * Return the number of tasks deleted by all runs.
+	 *
+	 * @return deleted tasks
+	 */
+	public synchronized long getDeletedTasks() {
+		return deletedTasks;
+	}
+
+	/**
+	 * Return the bytes reclaimed by all runs, see {@link TaskPruningResult#getReclaimedBytes()}.
+	 *
+	 * @return reclaimed bytes
+	 */
+	public synchronized long getReclaimedBytes() {
+		return reclaimedBytes;
+	}
+
+	/**
+	 * Return the result of the last completed run.
+	 *
+	 * @return the last result or {@literal null} if no run completed yet
+	 */
+	@Nullable
+	public synchronized TaskPruningResult getLastResult() {
+		return lastResult;
+	}
+
+	/**
+	 * Return the failure of the last scheduled run.
+	 *
+	 * @return the failure or {@literal null} if the last scheduled run succeeded or none ran yet
+	 */
+	@Nullable
+	public RuntimeException getLastFailure() {
+		return lastFailure;
+	}
+
+	/**
+	 * Stop scheduling runs. A run in progress is completed.
+	 */
+	@Override
+	public void close() {
+
+		synchronized (scheduler) {
+			closed = true;
+		}
+		scheduler.shutdown();
+	}
+
+	/**
+	 * Return how long it takes from the given time until the given schedule fires next.
+	 *
+	 * @param schedule the cron schedule
+	 * @param now the current time
+	 * @return the delay until the next run or {@literal null} if the schedule never fires again
+	 */
+	@Nullable
+	static Duration delayUntilNextRun(CronExpression schedule, ZonedDateTime now) {
+
+		ZonedDateTime next = schedule.next(now);
+		return next != null ? Duration.between(now, next) : null;
+	}
+
+	private void scheduleNext() {
+
+		if (schedule == null) {
+			return;
+		}
+
+		synchronized (scheduler) {
+			Duration delay = delayUntilNextRun(schedule, ZonedDateTime.now(options.getZone()));
+			if (!closed && delay != null) {
+				scheduler.schedule(this::run, delay.toMillis(), TimeUnit.MILLISECONDS);
+			}
+		}
+	}
+
+	void run() {
+
+		try {
+			prune();
+			lastFailure = null;
+		} catch (RuntimeException e) {
+			lastFailure = e;
+		} finally {
+			scheduleNext();
+		}
+	}
+
+	private int[] finishedTaskUids(Date cutoff) {
+
+		TasksQuery query = new TasksQuery().setStatuses(FINISHED_STATUSES).setBeforeFinishedAt(cutoff)
+				.setLimit(options.getBatchSize());
+		if (!options.getIndexUids().isEmpty()) {
+			query.setIndexUids(options.getIndexUids().toArray(String[]::new));
+		}
+		TasksResults results = executor.execute(Idempotency.IDEMPOTENT, client -> client.getTasks(query));
+
+		Task[] tasks = results.getResults();
+		if (tasks == null) {
+			return new int[0];
+		}
+
+		int[] taskUids = new int[tasks.length];
+		for (int i = 0; i < tasks.length; i++) {
+			taskUids[i] = tasks[i].getUid();
+		}
+		return taskUids;
+	}
+
+	private void deleteTasks(int[] taskUids) {
+
+		DeleteTasksQuery query = new DeleteTasksQuery().setUids(taskUids);
+		TaskInfo taskInfo = executor.execute(Idempotency.IDEMPOTENT, client -> client.deleteTasks(query));
+		TaskStatus status = taskTracker.await(taskInfo.getTaskUid()).getStatus();
+		if (status != TaskStatus.SUCCEEDED) {
+			throw new TaskStatusException(status, "Failed to delete tasks.");
+		}
+	}
+}
@@ -0,0 +1,260 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client.msc;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.springframework.util.Assert;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meilisearch.sdk.model.Settings;
+import com.meilisearch.sdk.model.TaskInfo;
+
+import io.vanslog.spring.data.meilisearch.UncategorizedMeilisearchException;
+import io.vanslog.spring.data.meilisearch.core.TaskSupersessionOptions;
+import io.vanslog.spring.data.meilisearch.core.TaskSupersessionStats;
+
+/**
+ * Cancels enqueued tasks that a newer task of the same index and kind makes obsolete, see
+ * {@link TaskSupersessionOptions}.
+ * <p>
+ * Every tracked task records the keys it writes: the settings it sets or the ids of the documents it replaces. A task
+ * is superseded by a newer one whose keys contain all of its keys. Superseded tasks are registered with the
+ * {@link TaskTracker}, which resolves them to the outcome of the superseding task if they end up cancelled, and then
+ * cancelled if they are still enqueued. Tasks that already started processing run to completion.
+ *
+ * @author Junghoon Ban
+ */
+class TaskSupersession {
+
+	private static final ObjectMapper MAPPER = new ObjectMapper()
+			.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
+	private final TaskSupersessionOptions options;
+	private final TaskTracker taskTracker;
+	private final Canceller canceller;
+	private final Map<Key, LinkedList<TrackedTask>> tracked = new HashMap<>();
+	private long cancelledSettingsUpdates;
+	private long cancelledDocumentBatches;
+	private long savedDocuments;
+	private long savedBytes;
+
+	TaskSupersession(TaskSupersessionOptions options, TaskTracker taskTracker, Canceller canceller) {
+
+		Assert.notNull(options, "TaskSupersessionOptions must not be null");
+		Assert.notNull(taskTracker, "TaskTracker must not be null");
+		Assert.notNull(canceller, "Canceller must not be null");
+
+		this.options = options;
+		this.taskTracker = taskTracker;
+		this.canceller = canceller;
+	}
+
+	/**
+	 * Create a canceller using the task cancel API, restricted to enqueued tasks. Once the cancellation task finished,
+	 * the tasks it cancelled are looked up by {@code canceledBy}.
+	 *
+	 * @param transport the transport to send the requests with
+	 * @param taskTracker the tracker to wait for the cancellation task with
+	 * @return the canceller
+	 */
+	static Canceller canceller(MeilisearchHttpTransport transport, TaskTracker taskTracker) {
+
+		return taskUids -> {
+			String uids = IntStream.of(taskUids).mapToObj(Integer::toString).collect(Collectors.joining(","));
+			return transport.<TaskInfo> exchange("POST", "/tasks/cancel?statuses=enqueued&uids=" + uids, null,
+					TaskInfo.class) //
+					.thenCompose(taskInfo -> taskTracker.track(taskInfo.getTaskUid())) //
+					.thenCompose(task -> transport.exchange("GET", "/tasks?statuses=canceled&canceledBy=" + task.getUid()
+							+ "&limit=" + taskUids.length, null)) //
+					.thenApply(TaskSupersession::readTaskUids);
+		};
+	}
+
+	/**
+	 * Return the paths of the settings the given update sets. Nested objects are descended into, as Meilisearch merges
+	 * them field by field, so an update only covers the nested fields it sets.
+	 *
+	 * @param settings the settings update
+	 * @return the paths of the settings that are not {@literal null}
+	 */
+	static Set<String> settingPaths(Settings settings) {
+
+		Set<String> paths = new HashSet<>();
+		collectPaths("", MAPPER.valueToTree(settings), paths);
+		return paths;
+	}
+
+	private static void collectPaths(String prefix, JsonNode node, Set<String> paths) {
+
+		if (!node.isObject() || node.isEmpty()) {
+			paths.add(prefix);
+			return;
+		}
+		node.fields()
+				.forEachRemaining(field -> collectPaths(prefix + "/" + field.getKey(), field.getValue(), paths));
+	}
+
+	/**
+	 * Track a settings update and cancel the updates of the index it supersedes.
+	 *
+	 * @param indexUid the uid of the index
+	 * @param settings the settings the update sets
+	 * @param taskUid the uid of the update task
+	 */
+	void settingsEnqueued(String indexUid, Settings settings, int taskUid) {
+
+		if (options.isSettings()) {
+			enqueued(new Key(indexUid, Kind.SETTINGS), new TrackedTask(taskUid, settingPaths(settings), 0, 0));
+		}
+	}
+
+	/**
+	 * Track a batch of documents saved by replacement and cancel the batches of the index it supersedes.
+	 *
+	 * @param indexUid the uid of the index
+	 * @param documentIds the ids of the documents in the batch
+	 * @param bytes the size of the batch payload
+	 * @param taskUid the uid of the batch task
+	 */
+	void documentsEnqueued(String indexUid, Set<String> documentIds, long bytes, int taskUid) {
+
+		if (options.isDocuments()) {
+			enqueued(new Key(indexUid, Kind.DOCUMENTS),
+					new TrackedTask(taskUid, documentIds, documentIds.size(), bytes));
+		}
+	}
+
+	/**
+	 * Return the tasks cancelled so far and the work their cancellation saved.
+	 *
+	 * @return the current stats
+	 */
+	synchronized TaskSupersessionStats stats() {
+		return new TaskSupersessionStats(cancelledSettingsUpdates, cancelledDocumentBatches, savedDocuments,
+				savedBytes);
+	}
+
+	private void enqueued(Key key, TrackedTask task) {
+
+		Map<Integer, TrackedTask> superseded = new HashMap<>();
+		synchronized (this) {
+			LinkedList<TrackedTask> tasks = tracked.computeIfAbsent(key, k -> new LinkedList<>());
+			boolean obsolete = false;
+			for (Iterator<TrackedTask> it = tasks.iterator(); it.hasNext();) {
+				TrackedTask other = it.next();
+				if (taskTracker.hasFinished(key.indexUid(), other.taskUid())) {
+					it.remove();
+				} else if (other.taskUid() < task.taskUid() && task.supersedes(other)) {
+					taskTracker.supersede(other.taskUid(), task.taskUid());
+					superseded.put(other.taskUid(), other);
+					it.remove();
+				} else if (other.taskUid() > task.taskUid() && other.supersedes(task)) {
+					// enqueued concurrently and registered after a newer task already covering it
+					taskTracker.supersede(task.taskUid(), other.taskUid());
+					superseded.put(task.taskUid(), task);
+					obsolete = true;
+				}
+			}
+			if (!obsolete) {
+				tasks.add(task);
+				if (tasks.size() > options.getMaxTrackedTasks()) {
+					tasks.removeFirst();
+				}
+			}
+		}
+
+		if (!superseded.isEmpty()) {
+			cancel(key.kind(), superseded);
+		}
+	}
+
+	private void cancel(Kind kind, Map<Integer, TrackedTask> superseded) {
+
+		int[] taskUids = superseded.keySet().stream().mapToInt(Integer::intValue).toArray();
+		// a failed cancellation leaves the superseded tasks to run, which only costs the work it meant to save
+		canceller.cancel(taskUids).thenAccept(cancelled -> {
+			synchronized (this) {
+				for (Integer taskUid : cancelled) {
+					TrackedTask task = superseded.get(taskUid);
+					if (task == null) {
+						continue;
+					}
+					if (kind == Kind.SETTINGS) {
+						cancelledSettingsUpdates++;
+					} else {
+						cancelledDocumentBatches++;
+						savedDocuments += task.documents();
+						savedBytes += task.bytes();
+					}
+				}
+			}
+		});
+	}
+
+	private static List<Integer> readTaskUids(String body) {
+
+		try {
+			List<Integer> taskUids = new ArrayList<>();
+			for (JsonNode task : MAPPER.readTree(body).path("results")) {
+				taskUids.add(task.path("uid").asInt());
+			}
+			return taskUids;
+		} catch (JsonProcessingException e) {
+			throw new UncategorizedMeilisearchException("Failed to decode tasks.", e);
+		}
+	}
+
+	/**
+	 * Cancels enqueued tasks.
+	 */
+	interface Canceller {
+
+		/**
+		 * Cancel the given tasks if they are still enqueued.
+		 *
+		 * @param taskUids the uids of the tasks to cancel
+		 * @return a future completed with the uids of the tasks that were cancelled
+		 */
+		CompletableFuture<List<Integer>> cancel(int[] taskUids);
+	}
+
+	enum Kind {
+		SETTINGS, DOCUMENTS
+	}
+
+	private record Key(String indexUid, Kind kind) {}
+
+	private record TrackedTask(int taskUid, Set<String> keys, long documents, long bytes) {
+
+		boolean supersedes(TrackedTask other) {
+			return keys.containsAll(other.keys());
+		}
+	}
+}
@@ -0,0 +1,331 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client.msc;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.meilisearch.sdk.model.Task;
+import com.meilisearch.sdk.model.TaskStatus;
+import com.meilisearch.sdk.model.TasksQuery;
+import com.meilisearch.sdk.model.TasksResults;
+
+import io.vanslog.spring.data.meilisearch.UncategorizedMeilisearchException;
+
+/**
+ * Resolves Meilisearch task uids to their final {@link Task} using a single poller. Pending uids registered from any
+ * thread are resolved together with batched {@code /tasks?uids=...} queries. The poll interval starts at the
+ * configured request interval, doubles while no tracked task finishes and resets as soon as one does or a new uid is
+ * registered. The poller thread is started on demand and stops once nothing is pending.
+ *
+ * @author Junghoon Ban
+ */
+public class TaskTracker {
+
+	static final int MAX_UIDS_PER_QUERY = 1000;
+	static final int MAX_SUPERSEDED_TASKS = 10_000;
+
+	private final MeilisearchClientExecutor executor;
+	private final Duration defaultTimeout;
+	private final long minIntervalMillis;
+	private final long maxIntervalMillis;
+	private final Map<Integer, PendingTask> pending = new ConcurrentHashMap<>();
+	private final Map<String, Integer> finished = new ConcurrentHashMap<>();
+	private final Map<Integer, Integer> supersededBy = new LinkedHashMap<>() {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Integer, Integer> eldest) {
+			return size() > MAX_SUPERSEDED_TASKS;
+		}
+	};
+	private final Object monitor = new Object();
+	private boolean polling;
+	private boolean registered;
+
+	TaskTracker(MeilisearchClientExecutor executor, Duration defaultTimeout, Duration minInterval,
+			Duration maxInterval) {
+
+		Assert.notNull(executor, "MeilisearchClientExecutor must not be null");
+		Assert.notNull(defaultTimeout, "Default timeout must not be null");
+		Assert.isTrue(!minInterval.isNegative() && !minInterval.isZero(), "Minimum interval must be positive");
+		Assert.isTrue(maxInterval.compareTo(minInterval) >= 0, "Maximum interval must not be less than minimum interval");
+
+		this.executor = executor;
+		this.defaultTimeout = defaultTimeout;
+		this.minIntervalMillis = minInterval.toMillis();
+		this.maxIntervalMillis = maxInterval.toMillis();
+	}
+
+	/**
+	 * Track the task with the given uid using the default timeout.
+	 *
+	 * @param taskUid the task uid
+	 * @return a future completed with the finished task
+	 */
+	public CompletableFuture<Task> track(int taskUid) {
+		return track(taskUid, defaultTimeout);
+	}
+
+	/**
+	 * Track the task with the given uid. The returned future is completed with the task once its status is
+	 * {@link TaskStatus#SUCCEEDED}, {@link TaskStatus#FAILED} or {@link TaskStatus#CANCELED}, and completed exceptionally
+	 * if the task did not finish within the given timeout.
+	 *
+	 * @param taskUid the task uid
+	 * @param timeout how long to wait for the task to finish
+	 * @return a future completed with the finished task
+	 */
+	public CompletableFuture<Task> track(int taskUid, Duration timeout) {
+
+		Assert.notNull(timeout, "Timeout must not be null");
+
+		long expiresAt = System.nanoTime() + timeout.toNanos();
+		PendingTask task = pending.compute(taskUid, (uid, existing) -> {
+			if (existing == null) {
+				return new PendingTask(expiresAt);
+			}
+			existing.extend(expiresAt);
+			return existing;
+		});
+
+		wakeUp();
+		return task.future.copy();
+	}
+
+	/**
+	 * Block until the task with the given uid finished, using the default timeout.
+	 *
+	 * @param taskUid the task uid
+	 * @return the finished task
+	 */
+	public Task await(int taskUid) {
+		return await(track(taskUid));
+	}
+
+	/**
+	 * Block until the given tracked task future completes.
+	 *
+	 * @param future a future returned by {@link #track(int)}
+	 * @return the finished task
+	 */
+	public Task await(CompletableFuture<Task> future) {
+
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new UncategorizedMeilisearchException("Interrupted while waiting for task.", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof DataAccessException ex) {
+				throw ex;
+			}
+			throw new UncategorizedMeilisearchException("Failed to wait for task.", e.getCause());
+		}
+	}
+
+	/**
+	 * Return the number of task uids that are currently tracked.
+	 *
+	 * @return pending task count
+	 */
+	public int getPendingCount() {
+		return pending.size();
+	}
+
+	/**
+	 * Check whether the task with the given uid is known to have finished, because it or a later task of the same index
+	 * succeeded or failed. Meilisearch processes the tasks of an index in the order of their uids. Cancelled tasks are
+	 * not taken into account, as cancelling a task does not wait for earlier tasks.
+	 *
+	 * @param indexUid the uid of the index the task was enqueued on
+	 * @param taskUid the task uid
+	 * @return {@literal true} if the task has been observed as finished, {@literal false} if it may still be pending
+	 */
+	public boolean hasFinished(String indexUid, int taskUid) {
+
+		Integer last = finished.get(indexUid);
+		return last != null && last >= taskUid;
+	}
+
+	/**
+	 * Register that the task with the given uid is about to be cancelled because a newer task makes it obsolete. If the
+	 * task ends up cancelled, it resolves to the outcome of the superseding task instead, so callers waiting for it are
+	 * not told about a cancellation they did not ask for.
+	 *
+	 * @param taskUid the uid of the superseded task
+	 * @param supersedingUid the uid of the task superseding it
+	 */
+	void supersede(int taskUid, int supersedingUid) {
+
+		synchronized (supersededBy) {
+			supersededBy.put(taskUid, supersedingUid);
+		}
+	}
+
+	static boolean isFinished(TaskStatus status) {
+		return status == TaskStatus.SUCCEEDED || status == TaskStatus.FAILED || status == TaskStatus.CANCELED;
+	}
+
+	private void wakeUp() {
+
+		synchronized (monitor) {
+			registered = true;
+			if (!polling) {
+				polling = true;
+				Thread poller = new Thread(this::poll, "meilisearch-task-tracker");
+				poller.setDaemon(true);
+				poller.start();
+			} else {
+				monitor.notifyAll();
+			}
+		}
+	}
+
+	private void poll() {
+
+		long interval = minIntervalMillis;
+
+		while (true) {
+			synchronized (monitor) {
+				if (pending.isEmpty()) {
+					polling = false;
+					return;
+				}
+				registered = false;
+			}
+
+			boolean progressed = resolvePending();
+			expireOverdue();
+
+			interval = progressed ? minIntervalMillis : Math.min(maxIntervalMillis, interval * 2);
+
+			synchronized (monitor) {
+				if (registered) {
+					interval = minIntervalMillis;
+				} else if (!pending.isEmpty()) {
+					try {
+						monitor.wait(interval);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+						polling = false;
+						return;
+					}
+				}
+			}
+		}
+	}
+
+	private boolean resolvePending() {
+
+		List<Integer> uids = new ArrayList<>(pending.keySet());
+		boolean progressed = false;
+
+		for (int from = 0; from < uids.size(); from += MAX_UIDS_PER_QUERY) {
+			int[] batch = uids.subList(from, Math.min(uids.size(), from + MAX_UIDS_PER_QUERY)).stream()
+					.mapToInt(Integer::intValue).toArray();
+			TasksQuery query = new TasksQuery().setUids(batch).setLimit(batch.length);
+
+			TasksResults results;
+			try {
+				results = executor.execute(Idempotency.IDEMPOTENT, client -> client.getTasks(query));
+			} catch (DataAccessException e) {
+				// keep the uids pending and retry with backoff, they expire after their timeout
+				return false;
+			}
+
+			Task[] tasks = results.getResults();
+			if (tasks == null) {
+				continue;
+			}
+
+			for (Task task : tasks) {
+				if (isFinished(task.getStatus())) {
+					Integer superseding = task.getStatus() == TaskStatus.CANCELED ? superseding(task.getUid()) : null;
+					if (task.getIndexUid() != null && task.getStatus() != TaskStatus.CANCELED) {
+						// only processed tasks imply that earlier tasks of the index were processed, a task may be
+						// cancelled while earlier ones are still enqueued
+						finished.merge(task.getIndexUid(), task.getUid(), Math::max);
+					}
+					PendingTask resolved = pending.remove(task.getUid());
+					if (resolved != null) {
+						if (superseding != null) {
+							track(superseding).whenComplete((result, ex) -> {
+								if (ex != null) {
+									resolved.future.completeExceptionally(ex);
+								} else {
+									resolved.future.complete(result);
+								}
+							});
+						} else {
+							resolved.future.complete(task);
+						}
+						progressed = true;
+					}
+				}
+			}
+		}
+
+		return progressed;
+	}
+
+	@Nullable
+	private Integer superseding(int taskUid) {
+
+		synchronized (supersededBy) {
+			return supersededBy.get(taskUid);
+		}
+	}
+
+	private void expireOverdue() {
+
+		long now = System.nanoTime();
+		pending.forEach((uid, task) -> {
+			if (task.isExpired(now) && pending.remove(uid, task)) {
+				task.future.completeExceptionally(
+						new UncategorizedMeilisearchException("Timed out waiting for task " + uid + "."));
+			}
+		});
+	}
+
+	private static class PendingTask {
+
+		private final CompletableFuture<Task> future = new CompletableFuture<>();
+		private volatile long expiresAt;
+
+		PendingTask(long expiresAt) {
+			this.expiresAt = expiresAt;
+		}
+
+		synchronized void extend(long expiresAt) {
+			if (expiresAt - this.expiresAt > 0) {
+				this.expiresAt = expiresAt;
+			}
+		}
+
+		boolean isExpired(long now) {
+			return now - expiresAt > 0;
+		}
+	}
+}
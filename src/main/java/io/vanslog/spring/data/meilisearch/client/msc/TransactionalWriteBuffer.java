@@ -0,0 +1,160 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client.msc;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.meilisearch.sdk.model.TaskInfo;
+import com.meilisearch.sdk.model.TaskStatus;
+
+import io.vanslog.spring.data.meilisearch.TaskStatusException;
+import io.vanslog.spring.data.meilisearch.core.TransactionalWriteOptions;
+import io.vanslog.spring.data.meilisearch.core.WritePriority;
+
+/**
+ * Saves and deletes of a {@link MeilisearchTemplate} collected during a Spring-managed transaction. The buffer is bound
+ * to the transaction as a resource keyed by the template, merges the operations per index like
+ * {@link BufferedMeilisearchWriter}, sends them once the transaction committed and is dropped if it rolled back.
+ *
+ * @author Junghoon Ban
+ */
+class TransactionalWriteBuffer implements TransactionSynchronization {
+
+	private final MeilisearchTemplate template;
+	private final TransactionalWriteOptions options;
+	private final Map<String, BufferedMeilisearchWriter.IndexBuffer> buffers = new LinkedHashMap<>();
+
+	private TransactionalWriteBuffer(MeilisearchTemplate template, TransactionalWriteOptions options) {
+		this.template = template;
+		this.options = options;
+	}
+
+	/**
+	 * Return the buffer of the current transaction, binding a new one on first use.
+	 *
+	 * @param template the template writing the buffered operations
+	 * @param options the options of the template
+	 * @return the buffer or {@literal null} if there is no transaction synchronization
+	 */
+	@Nullable
+	static TransactionalWriteBuffer current(MeilisearchTemplate template, TransactionalWriteOptions options) {
+
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return null;
+		}
+
+		Object resource = TransactionSynchronizationManager.getResource(template);
+		if (resource instanceof TransactionalWriteBuffer buffer) {
+			return buffer;
+		}
+
+		TransactionalWriteBuffer buffer = new TransactionalWriteBuffer(template, options);
+		TransactionSynchronizationManager.bindResource(template, buffer);
+		TransactionSynchronizationManager.registerSynchronization(buffer);
+		return buffer;
+	}
+
+	/**
+	 * Buffer saves of the given entities, encoding them right away.
+	 *
+	 * @param clazz the entity class
+	 * @param entities the entities to save
+	 */
+	void save(Class<?> clazz, Collection<?> entities) {
+
+		BufferedMeilisearchWriter.IndexBuffer buffer = buffer(clazz);
+		for (Object entity : entities) {
+			buffer.save(template.getDocumentIdFor(entity), template.encode(entity));
+		}
+	}
+
+	/**
+	 * Buffer deletes of the documents with the given ids.
+	 *
+	 * @param clazz the entity class
+	 * @param documentIds the document ids
+	 */
+	void delete(Class<?> clazz, Collection<String> documentIds) {
+
+		BufferedMeilisearchWriter.IndexBuffer buffer = buffer(clazz);
+		documentIds.forEach(buffer::delete);
+	}
+
+	int size() {
+		return buffers.values().stream().mapToInt(BufferedMeilisearchWriter.IndexBuffer::size).sum();
+	}
+
+	@Override
+	public void suspend() {
+		TransactionSynchronizationManager.unbindResource(template);
+	}
+
+	@Override
+	public void resume() {
+		TransactionSynchronizationManager.bindResource(template, this);
+	}
+
+	/**
+	 * Send the buffered operations, deletes before saves per index as they never share a document id. Failures are
+	 * thrown to the caller of the commit, while the transaction itself stays committed.
+	 */
+	@Override
+	public void afterCommit() {
+
+		List<TaskInfo> tasks = new ArrayList<>();
+		for (BufferedMeilisearchWriter.IndexBuffer buffer : buffers.values()) {
+			if (!buffer.getDeletes().isEmpty()) {
+				tasks.add(template.enqueueDelete(buffer.getIndexUid(), new ArrayList<>(buffer.getDeletes())));
+			}
+			for (BufferedMeilisearchWriter.Payload payload : buffer.toPayloads(options.getMaxBytes())) {
+				tasks.add(template.enqueueDocuments(buffer.getIndexUid(), buffer.getPrimaryKey(), payload.documentIds(),
+						payload.documents(), WritePriority.INTERACTIVE));
+			}
+		}
+		buffers.clear();
+
+		if (options.isAwaitTasks()) {
+			for (TaskInfo task : tasks) {
+				TaskStatus status = template.getTaskTracker().await(task.getTaskUid()).getStatus();
+				if (status != TaskStatus.SUCCEEDED) {
+					throw new TaskStatusException(status, "Failed to write documents of committed transaction.");
+				}
+			}
+		}
+	}
+
+	@Override
+	public void afterCompletion(int status) {
+
+		buffers.clear();
+		TransactionSynchronizationManager.unbindResourceIfPossible(template);
+	}
+
+	private BufferedMeilisearchWriter.IndexBuffer buffer(Class<?> clazz) {
+
+		String indexUid = template.getIndexUidFor(clazz);
+		return buffers.computeIfAbsent(indexUid,
+				uid -> new BufferedMeilisearchWriter.IndexBuffer(uid, template.getPrimaryKeyFor(clazz)));
+	}
+}
@@ -0,0 +1,280 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client.msc;
+
+import java.net.http.HttpRequest.BodyPublisher;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.springframework.lang.Nullable;
+
+import io.vanslog.spring.data.meilisearch.core.WriteLaneStats;
+import io.vanslog.spring.data.meilisearch.core.WritePriority;
+import io.vanslog.spring.data.meilisearch.core.WriteSchedulingOptions;
+
+/**
+ * Schedules document requests in {@link WritePriority priority lanes}, sending at most
+ * {@link WriteSchedulingOptions#getMaxConcurrentWrites()} of them at the same time.
+ * <p>
+ * Pending requests are taken from the lanes by smooth weighted round robin, so each lane with pending requests gets a
+ * share of the dispatches proportional to its weight and interactive writes never wait for more than a few bulk
+ * writes. Bulk writes leave one of the concurrent requests to interactive writes, unless only one is allowed, so an
+ * interactive write never waits for a slow bulk request to complete. Bulk writes are limited by a token bucket holding
+ * up to one second of {@link WriteSchedulingOptions#getBulkBytesPerSecond()}. A request may take the bucket into debt,
+ * in which case the next bulk request waits until it refilled. Bodies whose size is unknown up front are charged once
+ * they were sent.
+ *
+ * @author Junghoon Ban
+ */
+class WriteScheduler {
+
+	private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+	private final WriteSchedulingOptions options;
+	private final LongSupplier nanoClock;
+	private final Lane[] lanes;
+	private int inFlight;
+	private double bulkTokens;
+	private long refilledAt;
+	private boolean wakeupScheduled;
+
+	WriteScheduler(WriteSchedulingOptions options) {
+		this(options, System::nanoTime);
+	}
+
+	WriteScheduler(WriteSchedulingOptions options, LongSupplier nanoClock) {
+
+		this.options = options;
+		this.nanoClock = nanoClock;
+		this.lanes = new Lane[WritePriority.values().length];
+		for (WritePriority priority : WritePriority.values()) {
+			lanes[priority.ordinal()] = new Lane(priority, options.getWeight(priority));
+		}
+		this.bulkTokens = options.getBulkBytesPerSecond();
+		this.refilledAt = nanoClock.getAsLong();
+	}
+
+	/**
+	 * Send a request once the lane of the given priority is due.
+	 *
+	 * @param priority the priority of the write
+	 * @param body the request body, used to determine the number of bytes written
+	 * @param request sends the request
+	 * @return a future completed with the response of the request
+	 */
+	<T> CompletableFuture<T> submit(WritePriority priority, Object body, Supplier<CompletableFuture<T>> request) {
+
+		CompletableFuture<T> result = new CompletableFuture<>();
+		synchronized (this) {
+			lanes[priority.ordinal()].pending.add(new Pending<>(body, request, result, nanoClock.getAsLong()));
+		}
+		dispatch();
+		return result;
+	}
+
+	/**
+	 * Return the metrics of all lanes.
+	 *
+	 * @return the lane metrics ordered by priority
+	 */
+	synchronized List<WriteLaneStats> stats() {
+
+		List<WriteLaneStats> stats = new ArrayList<>(lanes.length);
+		for (Lane lane : lanes) {
+			stats.add(new WriteLaneStats(lane.priority, lane.pending.size(), lane.inFlight, lane.dispatched, lane.bytes,
+					Duration.ofNanos(lane.totalWait), Duration.ofNanos(lane.maxWait)));
+		}
+		return stats;
+	}
+
+	private void dispatch() {
+
+		List<Runnable> requests = new ArrayList<>();
+		synchronized (this) {
+			while (inFlight < options.getMaxConcurrentWrites()) {
+				Lane lane = next();
+				if (lane == null) {
+					break;
+				}
+
+				Pending<?> pending = lane.pending.remove();
+				long wait = nanoClock.getAsLong() - pending.enqueuedAt();
+				lane.dispatched++;
+				lane.totalWait += wait;
+				lane.maxWait = Math.max(lane.maxWait, wait);
+				lane.inFlight++;
+				inFlight++;
+
+				long size = sizeOf(pending.body());
+				if (size >= 0) {
+					charge(lane, size);
+				}
+				requests.add(() -> send(lane, pending, size < 0));
+			}
+			scheduleWakeup();
+		}
+		requests.forEach(Runnable::run);
+	}
+
+	private <T> void send(Lane lane, Pending<T> pending, boolean chargeAfterSend) {
+
+		CompletableFuture<T> sent;
+		try {
+			sent = pending.request().get();
+		} catch (RuntimeException e) {
+			sent = CompletableFuture.failedFuture(e);
+		}
+
+		sent.whenComplete((response, ex) -> {
+			synchronized (this) {
+				lane.inFlight--;
+				inFlight--;
+				if (chargeAfterSend) {
+					charge(lane, sentBytes(pending.body()));
+				}
+			}
+			dispatch();
+
+			if (ex != null) {
+				Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+				pending.result().completeExceptionally(cause);
+			} else {
+				pending.result().complete(response);
+			}
+		});
+	}
+
+	/**
+	 * Pick the next lane by smooth weighted round robin among the lanes that may dispatch.
+	 */
+	@Nullable
+	private Lane next() {
+
+		Lane next = null;
+		int totalWeight = 0;
+		for (Lane lane : lanes) {
+			if (!lane.pending.isEmpty() && (lane.priority != WritePriority.BULK || mayDispatchBulk(lane))) {
+				lane.current += lane.weight;
+				totalWeight += lane.weight;
+				if (next == null || lane.current > next.current) {
+					next = lane;
+				}
+			}
+		}
+		if (next != null) {
+			next.current -= totalWeight;
+		}
+		return next;
+	}
+
+	private boolean mayDispatchBulk(Lane bulk) {
+		return bulk.inFlight < maxBulkInFlight() && hasBulkTokens();
+	}
+
+	private int maxBulkInFlight() {
+		return Math.max(1, options.getMaxConcurrentWrites() - 1);
+	}
+
+	private boolean hasBulkTokens() {
+
+		if (isUnlimited()) {
+			return true;
+		}
+
+		long now = nanoClock.getAsLong();
+		long rate = options.getBulkBytesPerSecond();
+		bulkTokens = Math.min(rate, bulkTokens + (now - refilledAt) * rate / NANOS_PER_SECOND);
+		refilledAt = now;
+		return bulkTokens >= 0;
+	}
+
+	private void charge(Lane lane, long bytes) {
+
+		lane.bytes += bytes;
+		if (lane.priority == WritePriority.BULK && !isUnlimited()) {
+			bulkTokens -= bytes;
+		}
+	}
+
+	/**
+	 * Dispatch again once the bucket refilled if bulk writes are pending only because of the rate limit.
+	 */
+	private void scheduleWakeup() {
+
+		Lane bulk = lanes[WritePriority.BULK.ordinal()];
+		if (wakeupScheduled || bulk.pending.isEmpty() || inFlight >= options.getMaxConcurrentWrites()
+				|| bulk.inFlight >= maxBulkInFlight() || hasBulkTokens()) {
+			return;
+		}
+
+		wakeupScheduled = true;
+		long delay = (long) Math.ceil(-bulkTokens * NANOS_PER_SECOND / options.getBulkBytesPerSecond());
+		CompletableFuture.runAsync(() -> {
+			synchronized (this) {
+				wakeupScheduled = false;
+			}
+			dispatch();
+		}, CompletableFuture.delayedExecutor(delay, TimeUnit.NANOSECONDS));
+	}
+
+	private boolean isUnlimited() {
+		return options.getBulkBytesPerSecond() == WriteSchedulingOptions.UNLIMITED;
+	}
+
+	private static long sizeOf(Object body) {
+
+		if (body instanceof byte[] bytes) {
+			return bytes.length;
+		}
+		if (body instanceof BodyPublisher publisher) {
+			return publisher.contentLength();
+		}
+		return -1;
+	}
+
+	private static long sentBytes(Object body) {
+		return body instanceof DocumentsBodyPublisher publisher ? publisher.getByteCount() : 0;
+	}
+
+	private record Pending<T>(Object body, Supplier<CompletableFuture<T>> request, CompletableFuture<T> result,
+			long enqueuedAt) {}
+
+	private static final class Lane {
+
+		private final WritePriority priority;
+		private final int weight;
+		private final Queue<Pending<?>> pending = new ArrayDeque<>();
+		private int current;
+		private int inFlight;
+		private long dispatched;
+		private long bytes;
+		private long totalWait;
+		private long maxWait;
+
+		Lane(WritePriority priority, int weight) {
+			this.priority = priority;
+			this.weight = weight;
+		}
+	}
+}
@@ -55,6 +55,27 @@ public class MeilisearchClientBeanDefinitionParser extends AbstractBeanDefinitio
 		if (element.hasAttribute("request-interval")) {
 			builder.addPropertyValue("requestInterval", element.getAttribute("request-interval"));
 		}
+		if (element.hasAttribute("connect-timeout")) {
+			builder.addPropertyValue("connectTimeout", element.getAttribute("connect-timeout"));
+		}
+		if (element.hasAttribute("response-timeout")) {
+			builder.addPropertyValue("responseTimeout", element.getAttribute("response-timeout"));
+		}
+		if (element.hasAttribute("retry-max-attempts")) {
+			builder.addPropertyValue("retryMaxAttempts", element.getAttribute("retry-max-attempts"));
+		}
+		if (element.hasAttribute("retry-initial-backoff")) {
+			builder.addPropertyValue("retryInitialBackoff", element.getAttribute("retry-initial-backoff"));
+		}
+		if (element.hasAttribute("retry-max-backoff")) {
+			builder.addPropertyValue("retryMaxBackoff", element.getAttribute("retry-max-backoff"));
+		}
+		if (element.hasAttribute("retry-budget-ratio")) {
+			builder.addPropertyValue("retryBudgetRatio", element.getAttribute("retry-budget-ratio"));
+		}
+		if (element.hasAttribute("retry-min-retries-per-second")) {
+			builder.addPropertyValue("retryMinRetriesPerSecond", element.getAttribute("retry-min-retries-per-second"));
+		}
 	}
 
 	private AbstractBeanDefinition getSourcedBeanDefinition(BeanDefinitionBuilder builder, Element source,
@@ -17,11 +17,16 @@ package io.vanslog.spring.data.meilisearch.config;
 
 import io.vanslog.spring.data.meilisearch.client.ClientConfiguration;
 import io.vanslog.spring.data.meilisearch.client.MeilisearchClient;
+import io.vanslog.spring.data.meilisearch.client.msc.AsyncMeilisearchTemplate;
 import io.vanslog.spring.data.meilisearch.client.msc.MeilisearchTemplate;
+import io.vanslog.spring.data.meilisearch.core.AsyncMeilisearchOperations;
 import io.vanslog.spring.data.meilisearch.core.MeilisearchOperations;
 import io.vanslog.spring.data.meilisearch.core.convert.MeilisearchConverter;
 
+import java.util.concurrent.Executor;
+
 import org.springframework.context.annotation.Bean;
+import org.springframework.lang.Nullable;
 
 import com.meilisearch.sdk.json.GsonJsonHandler;
 import com.meilisearch.sdk.json.JsonHandler;
@@ -67,6 +72,38 @@ public abstract class MeilisearchConfiguration extends MeilisearchConfigurationS
 		return new MeilisearchTemplate(meilisearchClient, meilisearchConverter);
 	}
 
+	/**
+	 * Create a {@link io.vanslog.spring.data.meilisearch.core.AsyncMeilisearchOperations} bean sharing the template and
+	 * task tracker of {@link #meilisearchOperations(MeilisearchClient, MeilisearchConverter)}.
+	 *
+	 * @param meilisearchOperations the blocking Meilisearch operations
+	 * @param meilisearchClient the Meilisearch client
+	 * @param meilisearchConverter the Meilisearch converter
+	 * @return the created {@link io.vanslog.spring.data.meilisearch.core.AsyncMeilisearchOperations} bean.
+	 */
+	@Bean(name = { "asyncMeilisearchOperations", "asyncMeilisearchTemplate" })
+	public AsyncMeilisearchOperations asyncMeilisearchOperations(MeilisearchOperations meilisearchOperations,
+			MeilisearchClient meilisearchClient, MeilisearchConverter meilisearchConverter) {
+
+		MeilisearchTemplate template = meilisearchOperations instanceof MeilisearchTemplate meilisearchTemplate
+				? meilisearchTemplate
+				: new MeilisearchTemplate(meilisearchClient, meilisearchConverter);
+		Executor executor = asyncExecutor();
+
+		return executor != null ? new AsyncMeilisearchTemplate(template, executor) : new AsyncMeilisearchTemplate(template);
+	}
+
+	/**
+	 * Return the {@link Executor} used by the asynchronous operations. Override to plug in a custom executor, the default
+	 * uses virtual threads when the runtime supports them.
+	 *
+	 * @return the executor or {@literal null} to use the default one
+	 */
+	@Nullable
+	protected Executor asyncExecutor() {
+		return null;
+	}
+
 	/**
 	 * Register a {@link com.meilisearch.sdk.json.JsonHandler} bean.
 	 *
@@ -51,13 +51,20 @@ public class MeilisearchConfigurationSupport {
 	}
 
 	/**
-	 * Create a {@link io.vanslog.spring.data.meilisearch.core.mapping.SimpleMeilisearchMappingContext} bean.
+	 * Create a {@link io.vanslog.spring.data.meilisearch.core.mapping.SimpleMeilisearchMappingContext} bean. Types
+	 * handled by the {@link MeilisearchCustomConversions} are treated as simple types, so they are not mapped as
+	 * entities.
 	 *
+	 * @param meilisearchCustomConversions the {@link MeilisearchCustomConversions} to use
 	 * @return the created {@link io.vanslog.spring.data.meilisearch.core.mapping.SimpleMeilisearchMappingContext} bean.
 	 */
 	@Bean
-	public SimpleMeilisearchMappingContext meilisearchMappingContext() {
-		return new SimpleMeilisearchMappingContext();
+	public SimpleMeilisearchMappingContext meilisearchMappingContext(
+			MeilisearchCustomConversions meilisearchCustomConversions) {
+
+		SimpleMeilisearchMappingContext mappingContext = new SimpleMeilisearchMappingContext();
+		mappingContext.setSimpleTypeHolder(meilisearchCustomConversions.getSimpleTypeHolder());
+		return mappingContext;
 	}
 
 	/**
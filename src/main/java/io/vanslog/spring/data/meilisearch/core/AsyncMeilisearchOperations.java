@@ -0,0 +1,214 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.core;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import com.meilisearch.sdk.MultiSearchFederation;
+
+import io.vanslog.spring.data.meilisearch.core.query.BaseQuery;
+import io.vanslog.spring.data.meilisearch.core.query.FacetQuery;
+import io.vanslog.spring.data.meilisearch.core.query.SimilarQuery;
+
+/**
+ * Non-blocking variant of {@link MeilisearchOperations}. Every method returns immediately with a
+ * {@link CompletableFuture}. Futures of write operations complete once the Meilisearch task has finished and complete
+ * exceptionally with a {@link io.vanslog.spring.data.meilisearch.TaskStatusException} if the task did not succeed.
+ *
+ * @author Junghoon Ban
+ * @see MeilisearchOperations
+ */
+public interface AsyncMeilisearchOperations {
+
+	/**
+	 * Saves an entity.
+	 *
+	 * @param entity the entity to save
+	 * @param <T> the type of the entity
+	 * @return a future completed with the saved entity
+	 */
+	<T> CompletableFuture<T> save(T entity);
+
+	/**
+	 * Saves all given entities.
+	 *
+	 * @param entities the entities to save
+	 * @param <T> the type of the entity
+	 * @return a future completed with the saved entities
+	 */
+	<T> CompletableFuture<List<T>> save(List<T> entities);
+
+	/**
+	 * Retrieves an entity by its document id.
+	 *
+	 * @param documentId the document id of the entity
+	 * @param clazz the entity class, must be annotated with
+	 *          {@link io.vanslog.spring.data.meilisearch.annotations.Document}
+	 * @param <T> the type of the entity
+	 * @return a future completed with the entity or {@literal null} if none found
+	 */
+	<T> CompletableFuture<T> get(String documentId, Class<T> clazz);
+
+	/**
+	 * Checks whether an entity with the given document id exists.
+	 *
+	 * @param documentId the document id of the entity
+	 * @param clazz the entity class, must be annotated with
+	 *          {@link io.vanslog.spring.data.meilisearch.annotations.Document}
+	 * @return a future completed with {@literal true} if an entity with the given document id exists
+	 */
+	CompletableFuture<Boolean> exists(String documentId, Class<?> clazz);
+
+	/**
+	 * Checks which of the given document ids exist. Only the primary keys of the documents are read.
+	 *
+	 * @param clazz the entity class, must be annotated with
+	 *          {@link io.vanslog.spring.data.meilisearch.annotations.Document}
+	 * @param documentIds the document ids to check
+	 * @return a future completed with the existing document ids in the order of the given ids
+	 */
+	CompletableFuture<Set<String>> existsAll(Class<?> clazz, Collection<String> documentIds);
+
+	/**
+	 * Returns the number of entities available.
+	 *
+	 * @param clazz the entity class, must be annotated with
+	 *          {@link io.vanslog.spring.data.meilisearch.annotations.Document}
+	 * @return a future completed with the number of entities
+	 */
+	CompletableFuture<Long> count(Class<?> clazz);
+
+	/**
+	 * Deletes the entity with the given document id.
+	 *
+	 * @param documentId the document id of the entity
+	 * @param clazz the entity class, must be annotated with
+	 *          {@link io.vanslog.spring.data.meilisearch.annotations.Document}
+	 * @return a future completed with {@literal true} if the delete task succeeded
+	 */
+	CompletableFuture<Boolean> delete(String documentId, Class<?> clazz);
+
+	/**
+	 * Deletes a given entity.
+	 *
+	 * @param entity the entity to delete
+	 * @param <T> the type of the entity
+	 * @return a future completed with {@literal true} if the delete task succeeded
+	 */
+	<T> CompletableFuture<Boolean> delete(T entity);
+
+	/**
+	 * Deletes all entities of the given type with the given document ids.
+	 *
+	 * @param clazz the entity class, must be annotated with
+	 *          {@link io.vanslog.spring.data.meilisearch.annotations.Document}
+	 * @param documentIds the document ids of the entities
+	 * @return a future completed with {@literal true} if the delete task succeeded
+	 */
+	CompletableFuture<Boolean> delete(Class<?> clazz, List<String> documentIds);
+
+	/**
+	 * Deletes the given entities.
+	 *
+	 * @param entities the entities to delete
+	 * @param <T> the type of the entity
+	 * @return a future completed with {@literal true} if the delete task succeeded
+	 */
+	<T> CompletableFuture<Boolean> delete(List<T> entities);
+
+	/**
+	 * Deletes all entities of the given type.
+	 *
+	 * @param clazz the entity class, must be annotated with
+	 *          {@link io.vanslog.spring.data.meilisearch.annotations.Document}
+	 * @return a future completed with {@literal true} if the delete task succeeded
+	 */
+	CompletableFuture<Boolean> deleteAll(Class<?> clazz);
+
+	/**
+	 * Search for entities that meet the criteria using Spring Data style query.
+	 *
+	 * @param query the Spring Data style query supporting Pageable, Sort, etc.
+	 * @param clazz the entity class, must be annotated with
+	 *          {@link io.vanslog.spring.data.meilisearch.annotations.Document}
+	 * @param <T> the type of the entity
+	 * @param <Q> the type of query extending BaseQuery
+	 * @return a future completed with the entities found by the query
+	 * @see SearchOperations#search(BaseQuery, Class)
+	 */
+	<T, Q extends BaseQuery> CompletableFuture<SearchHits<T>> search(Q query, Class<T> clazz);
+
+	/**
+	 * Execute non-federated multi-search query.
+	 *
+	 * @param queries the list of queries to execute
+	 * @param clazz the entity class, must be annotated with
+	 *          {@link io.vanslog.spring.data.meilisearch.annotations.Document}
+	 * @param <T> the type of the entity
+	 * @param <Q> the type of query extending BaseQuery
+	 * @return a future completed with the entities found by the queries
+	 * @see SearchOperations#multiSearch(List, Class)
+	 */
+	<T, Q extends BaseQuery> CompletableFuture<SearchHits<T>> multiSearch(List<Q> queries, Class<T> clazz);
+
+	/**
+	 * Execute federated multi-search query.
+	 *
+	 * @param queries the list of queries to execute
+	 * @param federation the federation configuration that defines how to combine results from multiple indexes
+	 * @param clazz the entity class, must be annotated with
+	 *          {@link io.vanslog.spring.data.meilisearch.annotations.Document}
+	 * @param <T> the type of the entity
+	 * @param <Q> the type of query extending BaseQuery
+	 * @return a future completed with the entities found by the queries
+	 * @see SearchOperations#multiSearch(List, MultiSearchFederation, Class)
+	 */
+	<T, Q extends BaseQuery> CompletableFuture<SearchHits<T>> multiSearch(List<Q> queries,
+			MultiSearchFederation federation, Class<T> clazz);
+
+	/**
+	 * Execute the facet search query.
+	 *
+	 * @param query the facet query to execute
+	 * @param clazz the entity class, must be annotated with
+	 *          {@link io.vanslog.spring.data.meilisearch.annotations.Document}
+	 * @return a future completed with the facet hits
+	 * @see SearchOperations#facetSearch(FacetQuery, Class)
+	 */
+	CompletableFuture<SearchHits<FacetHit>> facetSearch(FacetQuery query, Class<?> clazz);
+
+	/**
+	 * Execute the similar documents search query.
+	 *
+	 * @param query the similar query to execute, containing the document ID and embedder
+	 * @param clazz the entity class, must be annotated with
+	 *          {@link io.vanslog.spring.data.meilisearch.annotations.Document}
+	 * @param <T> the type of the entity
+	 * @return a future completed with the similar entities
+	 * @see SearchOperations#similarSearch(SimilarQuery, Class)
+	 */
+	<T> CompletableFuture<SearchHits<T>> similarSearch(SimilarQuery query, Class<T> clazz);
+
+	/**
+	 * Return the blocking operations backing this instance.
+	 *
+	 * @return blocking operations
+	 */
+	MeilisearchOperations blocking();
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.core;
+
+import java.time.Duration;
+
+import org.springframework.util.Assert;
+
+/**
+ * Options for throttling document writes while the Meilisearch task queue is backed up.
+ * <p>
+ * The backlog is the number of enqueued and processing tasks of the instance, sampled at most every
+ * {@link #getSampleInterval()}. From {@link #getSlowdownThreshold()} on, every write is delayed by up to
+ * {@link #getMaxSlowdown()}, growing linearly with the backlog. From {@link #getBlockThreshold()} on, writes wait until
+ * the backlog dropped below it again, failing after {@link #getMaxBlock()}.
+ *
+ * @author Junghoon Ban
+ */
+public class BackpressureOptions {
+
+	private static final BackpressureOptions DEFAULTS = builder().build();
+
+	private final int slowdownThreshold;
+	private final int blockThreshold;
+	private final Duration maxSlowdown;
+	private final Duration sampleInterval;
+	private final Duration maxBlock;
+
+	private BackpressureOptions(Builder builder) {
+		this.slowdownThreshold = builder.slowdownThreshold;
+		this.blockThreshold = builder.blockThreshold;
+		this.maxSlowdown = builder.maxSlowdown;
+		this.sampleInterval = builder.sampleInterval;
+		this.maxBlock = builder.maxBlock;
+	}
+
+	/**
+	 * Return the default options.
+	 *
+	 * @return default options
+	 */
+	public static BackpressureOptions defaults() {
+		return DEFAULTS;
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Return the backlog from which writes are delayed.
+	 *
+	 * @return slowdown threshold in tasks
+	 */
+	public int getSlowdownThreshold() {
+		return slowdownThreshold;
+	}
+
+	/**
+	 * Return the backlog from which writes wait for the backlog to drop.
+	 *
+	 * @return block threshold in tasks
+	 */
+	public int getBlockThreshold() {
+		return blockThreshold;
+	}
+
+	/**
+	 * Return the delay of a write just below the block threshold.
+	 *
+	 * @return maximum slowdown per write
+	 */
+	public Duration getMaxSlowdown() {
+		return maxSlowdown;
+	}
+
+	/**
+	 * Return how old a sample of the task queue may get before it is taken again.
+	 *
+	 * @return sample interval
+	 */
+	public Duration getSampleInterval() {
+		return sampleInterval;
+	}
+
+	/**
+	 * Return how long a write waits for the backlog to drop below the block threshold before it fails.
+	 *
+	 * @return maximum block time
+	 */
+	public Duration getMaxBlock() {
+		return maxBlock;
+	}
+
+	/** Builder for {@link BackpressureOptions}. */
+	public static class Builder {
+
+		private int slowdownThreshold = 100;
+		private int blockThreshold = 1000;
+		private Duration maxSlowdown = Duration.ofMillis(200);
+		private Duration sampleInterval = Duration.ofSeconds(1);
+		private Duration maxBlock = Duration.ofMinutes(1);
+
+		public Builder withSlowdownThreshold(int slowdownThreshold) {
+
+			Assert.isTrue(slowdownThreshold > 0, "Slowdown threshold must be greater than zero");
+			this.slowdownThreshold = slowdownThreshold;
+			return this;
+		}
+
+		public Builder withBlockThreshold(int blockThreshold) {
+
+			Assert.isTrue(blockThreshold > 0, "Block threshold must be greater than zero");
+			this.blockThreshold = blockThreshold;
+			return this;
+		}
+
+		public Builder withMaxSlowdown(Duration maxSlowdown) {
+
+			Assert.notNull(maxSlowdown, "Maximum slowdown must not be null");
+			Assert.isTrue(!maxSlowdown.isNegative(), "Maximum slowdown must not be negative");
+			this.maxSlowdown = maxSlowdown;
+			return this;
+		}
+
+		public Builder withSampleInterval(Duration sampleInterval) {
+
+			Assert.notNull(sampleInterval, "Sample interval must not be null");
+			Assert.isTrue(!sampleInterval.isNegative() && !sampleInterval.isZero(), "Sample interval must be positive");
+			this.sampleInterval = sampleInterval;
+			return this;
+		}
+
+		public Builder withMaxBlock(Duration maxBlock) {
+
+			Assert.notNull(maxBlock, "Maximum block must not be null");
+			Assert.isTrue(!maxBlock.isNegative(), "Maximum block must not be negative");
+			this.maxBlock = maxBlock;
+			return this;
+		}
+
+		public BackpressureOptions build() {
+
+			Assert.isTrue(slowdownThreshold <= blockThreshold, "Slowdown threshold must not exceed block threshold");
+			return new BackpressureOptions(this);
+		}
+	}
+}
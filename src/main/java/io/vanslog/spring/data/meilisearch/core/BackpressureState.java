@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.core;
+
+import java.time.Instant;
+import java.util.Set;
+
+import org.springframework.util.Assert;
+
+/**
+ * A sample of the Meilisearch task queue and the throttle level derived from it.
+ *
+ * @author Junghoon Ban
+ * @see BackpressureOptions
+ */
+public class BackpressureState {
+
+	private final Level level;
+	private final long enqueuedTasks;
+	private final long processingTasks;
+	private final Set<String> indexingIndexes;
+	private final Instant sampledAt;
+
+	public BackpressureState(Level level, long enqueuedTasks, long processingTasks, Set<String> indexingIndexes,
+			Instant sampledAt) {
+
+		Assert.notNull(level, "Level must not be null");
+		Assert.notNull(indexingIndexes, "Indexing indexes must not be null");
+		Assert.notNull(sampledAt, "Sampled at must not be null");
+
+		this.level = level;
+		this.enqueuedTasks = enqueuedTasks;
+		this.processingTasks = processingTasks;
+		this.indexingIndexes = Set.copyOf(indexingIndexes);
+		this.sampledAt = sampledAt;
+	}
+
+	public Level getLevel() {
+		return level;
+	}
+
+	public long getEnqueuedTasks() {
+		return enqueuedTasks;
+	}
+
+	public long getProcessingTasks() {
+		return processingTasks;
+	}
+
+	/**
+	 * Return the number of tasks that have not finished yet.
+	 *
+	 * @return enqueued and processing tasks
+	 */
+	public long getBacklog() {
+		return enqueuedTasks + processingTasks;
+	}
+
+	/**
+	 * Return the uids of the indexes whose stats reported them as indexing.
+	 *
+	 * @return indexing index uids
+	 */
+	public Set<String> getIndexingIndexes() {
+		return indexingIndexes;
+	}
+
+	public Instant getSampledAt() {
+		return sampledAt;
+	}
+
+	@Override
+	public String toString() {
+		return "BackpressureState{" + //
+				"level=" + level + //
+				", enqueuedTasks=" + enqueuedTasks + //
+				", processingTasks=" + processingTasks + //
+				", indexingIndexes=" + indexingIndexes + //
+				", sampledAt=" + sampledAt + //
+				'}';
+	}
+
+	/**
+	 * How writes are throttled.
+	 */
+	public enum Level {
+
+		/**
+		 * Writes are sent right away.
+		 */
+		NONE,
+
+		/**
+		 * Writes are delayed in proportion to the backlog.
+		 */
+		SLOWED,
+
+		/**
+		 * Writes wait until the backlog dropped.
+		 */
+		BLOCKED
+	}
+}
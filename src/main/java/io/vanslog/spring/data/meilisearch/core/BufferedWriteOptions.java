@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.core;
+
+import java.time.Duration;
+
+import org.springframework.util.Assert;
+
+/**
+ * Options for a write-behind writer buffering saves and deletes per index.
+ * <p>
+ * The operations buffered for an index are sent as soon as {@link #getMaxDocuments()} document ids or
+ * {@link #getMaxBytes()} bytes of encoded documents are buffered, and at the latest after
+ * {@link #getFlushInterval()}.
+ *
+ * @author Junghoon Ban
+ */
+public class BufferedWriteOptions {
+
+	private static final BufferedWriteOptions DEFAULTS = builder().build();
+
+	private final int maxDocuments;
+	private final long maxBytes;
+	private final Duration flushInterval;
+
+	private BufferedWriteOptions(Builder builder) {
+		this.maxDocuments = builder.maxDocuments;
+		this.maxBytes = builder.maxBytes;
+		this.flushInterval = builder.flushInterval;
+	}
+
+	/**
+	 * Return the default options.
+	 *
+	 * @return default options
+	 */
+	public static BufferedWriteOptions defaults() {
+		return DEFAULTS;
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Return the number of buffered document ids of an index that triggers a flush of that index.
+	 *
+	 * @return maximum buffered documents per index
+	 */
+	public int getMaxDocuments() {
+		return maxDocuments;
+	}
+
+	/**
+	 * Return the encoded size of the buffered documents of an index that triggers a flush of that index.
+	 *
+	 * @return maximum buffered bytes per index
+	 */
+	public long getMaxBytes() {
+		return maxBytes;
+	}
+
+	/**
+	 * Return the interval in which all buffered operations are flushed.
+	 *
+	 * @return flush interval
+	 */
+	public Duration getFlushInterval() {
+		return flushInterval;
+	}
+
+	/** Builder for {@link BufferedWriteOptions}. */
+	public static class Builder {
+
+		private int maxDocuments = 1000;
+		private long maxBytes = 10 * 1024 * 1024;
+		private Duration flushInterval = Duration.ofSeconds(1);
+
+		public Builder withMaxDocuments(int maxDocuments) {
+
+			Assert.isTrue(maxDocuments > 0, "Maximum documents must be greater than zero");
+			this.maxDocuments = maxDocuments;
+			return this;
+		}
+
+		public Builder withMaxBytes(long maxBytes) {
+
+			Assert.isTrue(maxBytes > 0, "Maximum bytes must be greater than zero");
+			this.maxBytes = maxBytes;
+			return this;
+		}
+
+		public Builder withFlushInterval(Duration flushInterval) {
+
+			Assert.notNull(flushInterval, "Flush interval must not be null");
+			Assert.isTrue(!flushInterval.isNegative() && !flushInterval.isZero(), "Flush interval must be positive");
+			this.flushInterval = flushInterval;
+			return this;
+		}
+
+		public BufferedWriteOptions build() {
+			return new BufferedWriteOptions(this);
+		}
+	}
+}
@@ -0,0 +1,193 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.core;
+
+import java.time.Duration;
+
+import org.springframework.util.Assert;
+
+/**
+ * Options for chunked bulk indexing through {@link DocumentOperations#bulkSave(java.util.List, BulkIndexOptions)}.
+ * <p>
+ * The input is split into chunks bounded by a document count and by the estimated encoded size in bytes. Chunks are
+ * sent in a pipeline with at most {@link #getMaxInFlight()} tasks enqueued at once. When adaptive sizing is enabled,
+ * the document count per chunk is tuned after each task so that a task takes roughly
+ * {@link #getTargetTaskDuration()} on the server.
+ *
+ * @author Junghoon Ban
+ */
+public class BulkIndexOptions {
+
+	private static final BulkIndexOptions DEFAULTS = builder().build();
+
+	private final int documentsPerChunk;
+	private final int minDocumentsPerChunk;
+	private final int maxDocumentsPerChunk;
+	private final long maxBytesPerChunk;
+	private final int maxInFlight;
+	private final boolean adaptive;
+	private final Duration targetTaskDuration;
+	private final Duration taskTimeout;
+
+	private BulkIndexOptions(Builder builder) {
+
+		Assert.isTrue(builder.minDocumentsPerChunk <= builder.maxDocumentsPerChunk,
+				"Minimum documents per chunk must not be greater than maximum documents per chunk");
+		Assert.isTrue(
+				builder.documentsPerChunk >= builder.minDocumentsPerChunk
+						&& builder.documentsPerChunk <= builder.maxDocumentsPerChunk,
+				"Documents per chunk must be between the minimum and maximum documents per chunk");
+
+		this.documentsPerChunk = builder.documentsPerChunk;
+		this.minDocumentsPerChunk = builder.minDocumentsPerChunk;
+		this.maxDocumentsPerChunk = builder.maxDocumentsPerChunk;
+		this.maxBytesPerChunk = builder.maxBytesPerChunk;
+		this.maxInFlight = builder.maxInFlight;
+		this.adaptive = builder.adaptive;
+		this.targetTaskDuration = builder.targetTaskDuration;
+		this.taskTimeout = builder.taskTimeout;
+	}
+
+	/**
+	 * Return the default options.
+	 *
+	 * @return default options
+	 */
+	public static BulkIndexOptions defaults() {
+		return DEFAULTS;
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Return the initial number of documents per chunk.
+	 *
+	 * @return documents per chunk
+	 */
+	public int getDocumentsPerChunk() {
+		return documentsPerChunk;
+	}
+
+	public int getMinDocumentsPerChunk() {
+		return minDocumentsPerChunk;
+	}
+
+	public int getMaxDocumentsPerChunk() {
+		return maxDocumentsPerChunk;
+	}
+
+	/**
+	 * Return the upper bound of the encoded payload size of a single chunk. A single document larger than this bound is
+	 * still sent on its own.
+	 *
+	 * @return maximum bytes per chunk
+	 */
+	public long getMaxBytesPerChunk() {
+		return maxBytesPerChunk;
+	}
+
+	public int getMaxInFlight() {
+		return maxInFlight;
+	}
+
+	public boolean isAdaptive() {
+		return adaptive;
+	}
+
+	public Duration getTargetTaskDuration() {
+		return targetTaskDuration;
+	}
+
+	public Duration getTaskTimeout() {
+		return taskTimeout;
+	}
+
+	/** Builder for {@link BulkIndexOptions}. */
+	public static class Builder {
+
+		private int documentsPerChunk = 1000;
+		private int minDocumentsPerChunk = 100;
+		private int maxDocumentsPerChunk = 20000;
+		private long maxBytesPerChunk = 10 * 1024 * 1024;
+		private int maxInFlight = 4;
+		private boolean adaptive = true;
+		private Duration targetTaskDuration = Duration.ofSeconds(2);
+		private Duration taskTimeout = Duration.ofMinutes(5);
+
+		public Builder withDocumentsPerChunk(int documentsPerChunk) {
+
+			Assert.isTrue(documentsPerChunk > 0, "Documents per chunk must be greater than zero");
+			this.documentsPerChunk = documentsPerChunk;
+			return this;
+		}
+
+		public Builder withMinDocumentsPerChunk(int minDocumentsPerChunk) {
+
+			Assert.isTrue(minDocumentsPerChunk > 0, "Minimum documents per chunk must be greater than zero");
+			this.minDocumentsPerChunk = minDocumentsPerChunk;
+			return this;
+		}
+
+		public Builder withMaxDocumentsPerChunk(int maxDocumentsPerChunk) {
+
+			Assert.isTrue(maxDocumentsPerChunk > 0, "Maximum documents per chunk must be greater than zero");
+			this.maxDocumentsPerChunk = maxDocumentsPerChunk;
+			return this;
+		}
+
+		public Builder withMaxBytesPerChunk(long maxBytesPerChunk) {
+
+			Assert.isTrue(maxBytesPerChunk > 0, "Maximum bytes per chunk must be greater than zero");
+			this.maxBytesPerChunk = maxBytesPerChunk;
+			return this;
+		}
+
+		public Builder withMaxInFlight(int maxInFlight) {
+
+			Assert.isTrue(maxInFlight > 0, "Maximum in-flight chunks must be greater than zero");
+			this.maxInFlight = maxInFlight;
+			return this;
+		}
+
+		public Builder withAdaptive(boolean adaptive) {
+			this.adaptive = adaptive;
+			return this;
+		}
+
+		public Builder withTargetTaskDuration(Duration targetTaskDuration) {
+
+			Assert.notNull(targetTaskDuration, "Target task duration must not be null");
+			Assert.isTrue(!targetTaskDuration.isNegative() && !targetTaskDuration.isZero(),
+					"Target task duration must be positive");
+			this.targetTaskDuration = targetTaskDuration;
+			return this;
+		}
+
+		public Builder withTaskTimeout(Duration taskTimeout) {
+
+			Assert.notNull(taskTimeout, "Task timeout must not be null");
+			Assert.isTrue(!taskTimeout.isNegative() && !taskTimeout.isZero(), "Task timeout must be positive");
+			this.taskTimeout = taskTimeout;
+			return this;
+		}
+
+		public BulkIndexOptions build() {
+			return new BulkIndexOptions(this);
+		}
+	}
+}
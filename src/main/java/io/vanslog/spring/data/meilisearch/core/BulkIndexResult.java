@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.core;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Aggregate result of a chunked bulk indexing run.
+ *
+ * @author Junghoon Ban
+ * @see DocumentOperations#bulkSave(List, BulkIndexOptions)
+ */
+public class BulkIndexResult {
+
+	private final int totalDocuments;
+	private final int indexedDocuments;
+	private final int chunks;
+	private final List<FailedChunk> failedChunks;
+	private final Duration duration;
+
+	public BulkIndexResult(int totalDocuments, int indexedDocuments, int chunks, List<FailedChunk> failedChunks,
+			Duration duration) {
+
+		Assert.notNull(failedChunks, "Failed chunks must not be null");
+		Assert.notNull(duration, "Duration must not be null");
+
+		this.totalDocuments = totalDocuments;
+		this.indexedDocuments = indexedDocuments;
+		this.chunks = chunks;
+		this.failedChunks = List.copyOf(failedChunks);
+		this.duration = duration;
+	}
+
+	public int getTotalDocuments() {
+		return totalDocuments;
+	}
+
+	public int getIndexedDocuments() {
+		return indexedDocuments;
+	}
+
+	public int getChunks() {
+		return chunks;
+	}
+
+	public List<FailedChunk> getFailedChunks() {
+		return failedChunks;
+	}
+
+	public Duration getDuration() {
+		return duration;
+	}
+
+	/**
+	 * Return whether every chunk was indexed successfully.
+	 *
+	 * @return {@literal true} if no chunk failed
+	 */
+	public boolean isSucceeded() {
+		return failedChunks.isEmpty();
+	}
+
+	@Override
+	public String toString() {
+		return "BulkIndexResult{" + //
+				"totalDocuments=" + totalDocuments + //
+				", indexedDocuments=" + indexedDocuments + //
+				", chunks=" + chunks + //
+				", failedChunks=" + failedChunks.size() + //
+				", duration=" + duration + //
+				'}';
+	}
+
+	/**
+	 * A chunk that could not be indexed. The documents of the chunk are the {@link #getDocumentCount()} elements of the
+	 * input list starting at {@link #getOffset()}.
+	 */
+	public static class FailedChunk {
+
+		private final int chunkIndex;
+		private final int offset;
+		private final int documentCount;
+		@Nullable private final Integer taskUid;
+		private final String reason;
+
+		public FailedChunk(int chunkIndex, int offset, int documentCount, @Nullable Integer taskUid, String reason) {
+
+			Assert.hasText(reason, "Reason must not be empty");
+
+			this.chunkIndex = chunkIndex;
+			this.offset = offset;
+			this.documentCount = documentCount;
+			this.taskUid = taskUid;
+			this.reason = reason;
+		}
+
+		public int getChunkIndex() {
+			return chunkIndex;
+		}
+
+		public int getOffset() {
+			return offset;
+		}
+
+		public int getDocumentCount() {
+			return documentCount;
+		}
+
+		/**
+		 * Return the uid of the task that failed, or {@literal null} if the chunk could not be enqueued.
+		 *
+		 * @return task uid
+		 */
+		@Nullable
+		public Integer getTaskUid() {
+			return taskUid;
+		}
+
+		public String getReason() {
+			return reason;
+		}
+
+		@Override
+		public String toString() {
+			return "FailedChunk{" + //
+					"chunkIndex=" + chunkIndex + //
+					", offset=" + offset + //
+					", documentCount=" + documentCount + //
+					", taskUid=" + taskUid + //
+					", reason='" + reason + '\'' + //
+					'}';
+		}
+	}
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.core;
+
+import java.nio.file.Path;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Options for skipping unchanged documents on save by comparing the hashes of their encoded form.
+ * <p>
+ * A 64-bit hash of every document is kept per index, keyed by a 64-bit hash of its id. The hashes of an index are
+ * built from its documents when it is saved to for the first time, and can be persisted to a {@link #getDirectory()
+ * directory} so that they survive restarts.
+ *
+ * @author Junghoon Ban
+ */
+public class ChangeDetectionOptions {
+
+	private static final ChangeDetectionOptions DEFAULTS = builder().build();
+
+	@Nullable private final Path directory;
+
+	private ChangeDetectionOptions(Builder builder) {
+		this.directory = builder.directory;
+	}
+
+	/**
+	 * Return the default options, keeping the hashes in memory only.
+	 *
+	 * @return default options
+	 */
+	public static ChangeDetectionOptions defaults() {
+		return DEFAULTS;
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Return the directory the hashes are persisted to, with one file per index.
+	 *
+	 * @return the directory or {@literal null} to keep the hashes in memory only
+	 */
+	@Nullable
+	public Path getDirectory() {
+		return directory;
+	}
+
+	/** Builder for {@link ChangeDetectionOptions}. */
+	public static class Builder {
+
+		@Nullable private Path directory;
+
+		public Builder withDirectory(@Nullable Path directory) {
+			this.directory = directory;
+			return this;
+		}
+
+		public ChangeDetectionOptions build() {
+			return new ChangeDetectionOptions(this);
+		}
+	}
+}
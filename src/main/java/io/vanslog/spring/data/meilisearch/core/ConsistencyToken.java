@@ -0,0 +1,186 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.core;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Immutable record of the last task a session enqueued on each index. Reads made with the token wait for the task of
+ * the index they read before they are sent, so a session reads its own writes.
+ * <p>
+ * The {@link #encode() encoded form} lists {@code indexUid:taskUid} pairs separated by commas, for example
+ * {@code movies:42,books:17}, so a token can be handed to a client and passed back with its next request.
+ *
+ * @author Junghoon Ban
+ */
+public final class ConsistencyToken {
+
+	private static final ConsistencyToken EMPTY = new ConsistencyToken(Collections.emptyMap());
+
+	private final Map<String, Integer> taskUids;
+
+	private ConsistencyToken(Map<String, Integer> taskUids) {
+		this.taskUids = taskUids;
+	}
+
+	/**
+	 * Return a token without any task, reads made with it do not wait.
+	 *
+	 * @return the empty token
+	 */
+	public static ConsistencyToken empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * Parse a token from its {@link #encode() encoded form}.
+	 *
+	 * @param token the encoded token, may be empty
+	 * @return the parsed token
+	 * @throws IllegalArgumentException if the token is malformed
+	 */
+	public static ConsistencyToken parse(@Nullable String token) {
+
+		if (!StringUtils.hasText(token)) {
+			return EMPTY;
+		}
+
+		ConsistencyToken parsed = EMPTY;
+		for (String entry : token.split(",")) {
+			int separator = entry.lastIndexOf(':');
+			Assert.isTrue(separator > 0 && separator < entry.length() - 1,
+					() -> "Malformed consistency token: " + token);
+			try {
+				parsed = parsed.with(entry.substring(0, separator), Integer.parseInt(entry.substring(separator + 1)));
+			} catch (NumberFormatException e) {
+				throw new IllegalArgumentException("Malformed consistency token: " + token, e);
+			}
+		}
+		return parsed;
+	}
+
+	/**
+	 * Return a token recording the given task for the given index. The task is only recorded if it was enqueued after
+	 * the one already recorded for the index, as Meilisearch processes the tasks of an index in the order of their
+	 * uids.
+	 *
+	 * @param indexUid the uid of the index
+	 * @param taskUid the uid of the task enqueued on the index
+	 * @return the token recording the task
+	 */
+	public ConsistencyToken with(String indexUid, int taskUid) {
+
+		Assert.hasText(indexUid, "Index uid must not be empty");
+		Assert.isTrue(taskUid >= 0, "Task uid must not be negative");
+
+		Integer recorded = taskUids.get(indexUid);
+		if (recorded != null && recorded >= taskUid) {
+			return this;
+		}
+
+		Map<String, Integer> merged = new TreeMap<>(taskUids);
+		merged.put(indexUid, taskUid);
+		return new ConsistencyToken(Collections.unmodifiableMap(merged));
+	}
+
+	/**
+	 * Return a token recording the tasks of both tokens, keeping the later task of each index.
+	 *
+	 * @param other the token to merge
+	 * @return the merged token
+	 */
+	public ConsistencyToken merge(ConsistencyToken other) {
+
+		Assert.notNull(other, "Other token must not be null");
+
+		ConsistencyToken merged = this;
+		for (Map.Entry<String, Integer> entry : other.taskUids.entrySet()) {
+			merged = merged.with(entry.getKey(), entry.getValue());
+		}
+		return merged;
+	}
+
+	/**
+	 * Return the uid of the last task recorded for the given index.
+	 *
+	 * @param indexUid the uid of the index
+	 * @return the task uid or {@literal null} if no task was recorded for the index
+	 */
+	@Nullable
+	public Integer getTaskUid(String indexUid) {
+		return taskUids.get(indexUid);
+	}
+
+	/**
+	 * Return the uids of the last tasks recorded, keyed by index uid.
+	 *
+	 * @return the task uids
+	 */
+	public Map<String, Integer> getTaskUids() {
+		return taskUids;
+	}
+
+	public boolean isEmpty() {
+		return taskUids.isEmpty();
+	}
+
+	/**
+	 * Encode the token so it can be passed to {@link #parse(String)}.
+	 *
+	 * @return the encoded token, empty if no task was recorded
+	 */
+	public String encode() {
+
+		StringBuilder encoded = new StringBuilder();
+		taskUids.forEach((indexUid, taskUid) -> {
+			if (!encoded.isEmpty()) {
+				encoded.append(',');
+			}
+			encoded.append(indexUid).append(':').append(taskUid);
+		});
+		return encoded.toString();
+	}
+
+	@Override
+	public boolean equals(@Nullable Object o) {
+
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof ConsistencyToken that)) {
+			return false;
+		}
+		return taskUids.equals(that.taskUids);
+	}
+
+	@Override
+	public int hashCode() {
+		return taskUids.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return "ConsistencyToken{" + //
+				"taskUids=" + taskUids + //
+				'}';
+	}
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.core;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Request to edit documents on the server with a Rhai function. The function is applied to each document matching the
+ * filter as {@code doc}, and can read the values of the context as {@code context}. Editing documents by function is an
+ * experimental feature of Meilisearch that has to be enabled on the server.
+ *
+ * @author Junghoon Ban
+ * @see DocumentOperations#edit(Class, DocumentEditRequest)
+ */
+public class DocumentEditRequest {
+
+	private final String function;
+	@Nullable private final String filter;
+	private final Map<String, Object> context;
+
+	private DocumentEditRequest(Builder builder) {
+		this.function = builder.function;
+		this.filter = builder.filter;
+		this.context = Map.copyOf(builder.context);
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Return the function applied to each document, for example {@code doc.views += 1}.
+	 *
+	 * @return the function
+	 */
+	public String getFunction() {
+		return function;
+	}
+
+	/**
+	 * Return the filter expression selecting the documents to edit. The filtered attributes must be filterable.
+	 *
+	 * @return the filter or {@literal null} to edit all documents
+	 */
+	@Nullable
+	public String getFilter() {
+		return filter;
+	}
+
+	/**
+	 * Return the values the function can read as {@code context}.
+	 *
+	 * @return the context, empty if none
+	 */
+	public Map<String, Object> getContext() {
+		return context;
+	}
+
+	/** Builder for {@link DocumentEditRequest}. */
+	public static class Builder {
+
+		@Nullable private String function;
+		@Nullable private String filter;
+		private final Map<String, Object> context = new LinkedHashMap<>();
+
+		public Builder withFunction(String function) {
+
+			Assert.hasText(function, "Function must not be empty");
+			this.function = function;
+			return this;
+		}
+
+		public Builder withFilter(@Nullable String filter) {
+			this.filter = filter;
+			return this;
+		}
+
+		public Builder withContext(String name, Object value) {
+
+			Assert.hasText(name, "Context name must not be empty");
+			Assert.notNull(value, "Context value must not be null");
+			this.context.put(name, value);
+			return this;
+		}
+
+		public DocumentEditRequest build() {
+
+			Assert.state(function != null, "Function must be set");
+			return new DocumentEditRequest(this);
+		}
+	}
+}
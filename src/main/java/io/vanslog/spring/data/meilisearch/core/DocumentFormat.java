@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.core;
+
+/**
+ * Payload formats accepted by the documents endpoint of Meilisearch.
+ *
+ * @author Junghoon Ban
+ * @see IngestOptions
+ */
+public enum DocumentFormat {
+
+	/**
+	 * A JSON array of documents.
+	 */
+	JSON("application/json"),
+
+	/**
+	 * Newline delimited JSON with one document per line.
+	 */
+	NDJSON("application/x-ndjson"),
+
+	/**
+	 * Comma separated values with a header row naming the fields. Only entities whose properties are all simple values
+	 * can be written as CSV. Columns are typed by the values of the first document. CSV is lossy: empty strings are
+	 * indexed as {@literal null}, and values of later documents that do not match the type of their column are either
+	 * rejected by Meilisearch or indexed as strings.
+	 */
+	CSV("text/csv");
+
+	private final String contentType;
+
+	DocumentFormat(String contentType) {
+		this.contentType = contentType;
+	}
+
+	/**
+	 * Return the media type to send the format with.
+	 *
+	 * @return the content type
+	 */
+	public String getContentType() {
+		return contentType;
+	}
+}
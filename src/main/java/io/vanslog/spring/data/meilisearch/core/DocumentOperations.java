@@ -15,7 +15,11 @@
  */
 package io.vanslog.spring.data.meilisearch.core;
 
+import java.nio.file.Path;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import org.springframework.lang.Nullable;
 
@@ -42,6 +46,136 @@ public interface DocumentOperations {
 	 */
 	<T> List<T> save(List<T> entities);
 
+	/**
+	 * Updates an entity with a partial update, which keeps fields of the document that the entity does not write, such
+	 * as properties without a value or fields not mapped by the entity.
+	 *
+	 * @param entity the entity to update
+	 * @param <T> the type of the entity
+	 * @return the updated entity
+	 * @see #updateAll(List)
+	 */
+	<T> T update(T entity);
+
+	/**
+	 * Updates all given entities with a single partial update task. Documents that do not exist yet are created. If the
+	 * entity enables {@link io.vanslog.spring.data.meilisearch.annotations.Document#dirtyTracking() dirty tracking},
+	 * only the fields that changed since an entity was last read or written through this instance are sent, fields
+	 * without a value anymore are cleared, and no task is enqueued if no entity changed.
+	 *
+	 * @param entities the entities to update
+	 * @param <T> the type of the entity
+	 * @return the updated entities as list
+	 */
+	<T> List<T> updateAll(List<T> entities);
+
+	/**
+	 * Saves all given entities with a single task, serializing them as JSON array while the request body is sent so
+	 * that no copy of the whole payload is held in memory. The entities are iterated once per attempt to send the
+	 * request.
+	 *
+	 * @param clazz the entity class, must be annotated with
+	 *          {@link io.vanslog.spring.data.meilisearch.annotations.Document}
+	 * @param entities the entities to save
+	 * @param <T> the type of the entity
+	 * @return the number of saved entities
+	 */
+	<T> long saveAll(Class<T> clazz, Iterable<? extends T> entities);
+
+	/**
+	 * Saves all entities of the given stream with a single task, serializing them as JSON array while the request
+	 * body is sent so that no copy of the whole payload is held in memory. The stream is consumed once, so the request
+	 * is not retried after it started to be sent, and closed afterwards.
+	 *
+	 * @param clazz the entity class, must be annotated with
+	 *          {@link io.vanslog.spring.data.meilisearch.annotations.Document}
+	 * @param entities the entities to save
+	 * @param <T> the type of the entity
+	 * @return the number of saved entities
+	 */
+	<T> long saveAll(Class<T> clazz, Stream<? extends T> entities);
+
+	/**
+	 * Saves all given entities with a single task like {@link #saveAll(Class, Iterable)}, sending them in the format
+	 * and with the compression of the given options.
+	 *
+	 * @param clazz the entity class, must be annotated with
+	 *          {@link io.vanslog.spring.data.meilisearch.annotations.Document}
+	 * @param entities the entities to save
+	 * @param options the ingest options, must not be {@literal null}
+	 * @param <T> the type of the entity
+	 * @return the number of saved entities
+	 * @throws IllegalArgumentException if {@link DocumentFormat#CSV} is requested for an entity with properties that
+	 *           are not simple values
+	 */
+	<T> long saveAll(Class<T> clazz, Iterable<? extends T> entities, IngestOptions options);
+
+	/**
+	 * Saves all entities of the given stream with a single task like {@link #saveAll(Class, Stream)}, sending them in
+	 * the format and with the compression of the given options.
+	 *
+	 * @param clazz the entity class, must be annotated with
+	 *          {@link io.vanslog.spring.data.meilisearch.annotations.Document}
+	 * @param entities the entities to save
+	 * @param options the ingest options, must not be {@literal null}
+	 * @param <T> the type of the entity
+	 * @return the number of saved entities
+	 * @throws IllegalArgumentException if {@link DocumentFormat#CSV} is requested for an entity with properties that
+	 *           are not simple values
+	 */
+	<T> long saveAll(Class<T> clazz, Stream<? extends T> entities, IngestOptions options);
+
+	/**
+	 * Saves all given entities in chunks using the {@link BulkIndexOptions#defaults() default bulk options}.
+	 *
+	 * @param entities the entities to save, must not be empty
+	 * @param <T> the type of the entity
+	 * @return the aggregate result listing the chunks that failed
+	 * @see #bulkSave(List, BulkIndexOptions)
+	 */
+	default <T> BulkIndexResult bulkSave(List<T> entities) {
+		return bulkSave(entities, BulkIndexOptions.defaults());
+	}
+
+	/**
+	 * Saves all given entities in chunks bounded by document count and encoded size. Chunks are sent as a pipeline of
+	 * tasks and a failing chunk does not stop the remaining chunks from being sent.
+	 *
+	 * @param entities the entities to save, must not be empty
+	 * @param options the bulk options, must not be {@literal null}
+	 * @param <T> the type of the entity
+	 * @return the aggregate result listing the chunks that failed
+	 */
+	<T> BulkIndexResult bulkSave(List<T> entities, BulkIndexOptions options);
+
+	/**
+	 * Imports an NDJSON file into the index of the given entity class using the
+	 * {@link FileImportOptions#defaults() default import options}.
+	 *
+	 * @param clazz the entity class, must be annotated with
+	 *          {@link io.vanslog.spring.data.meilisearch.annotations.Document}
+	 * @param file the NDJSON file, must not be {@literal null}
+	 * @return the result of the import
+	 * @see #importNdjson(Class, Path, FileImportOptions)
+	 */
+	default FileImportResult importNdjson(Class<?> clazz, Path file) {
+		return importNdjson(clazz, file, FileImportOptions.defaults());
+	}
+
+	/**
+	 * Imports an NDJSON file into the index of the given entity class without reading its documents into entities. The
+	 * file is memory-mapped and cut into chunks at line boundaries, which are uploaded without copying them onto the
+	 * heap, several at a time, and tracked until their tasks finished. A failing chunk does not stop the remaining
+	 * chunks from being sent, and the import can be resumed from {@link FileImportResult#getResumeOffset()}.
+	 *
+	 * @param clazz the entity class, must be annotated with
+	 *          {@link io.vanslog.spring.data.meilisearch.annotations.Document}
+	 * @param file the NDJSON file, must not be {@literal null}
+	 * @param options the import options, must not be {@literal null}
+	 * @return the result of the import
+	 */
+	FileImportResult importNdjson(Class<?> clazz, Path file, FileImportOptions options);
+
 	/**
 	 * Retrieves an entity by its document id.
 	 *
@@ -75,6 +209,45 @@ public interface DocumentOperations {
 	 */
 	<T> List<T> multiGet(Class<T> clazz, int offset, int limit);
 
+	/**
+	 * Streams all entities of the given type from the documents endpoint in pages of 1000 documents.
+	 *
+	 * @param clazz the entity class, must be annotated with
+	 *          {@link io.vanslog.spring.data.meilisearch.annotations.Document}
+	 * @param <T> the type of the entity
+	 * @return a lazy stream of all entities, to be closed after use
+	 * @see #streamAll(Class, int)
+	 */
+	default <T> Stream<T> streamAll(Class<T> clazz) {
+		return streamAll(clazz, 1000);
+	}
+
+	/**
+	 * Streams all entities of the given type from the documents endpoint in pages of the given size. The next page is
+	 * requested in the background while the current page is consumed, so at most two pages are held in memory. Closing
+	 * the stream stops reading further pages.
+	 *
+	 * @param clazz the entity class, must be annotated with
+	 *          {@link io.vanslog.spring.data.meilisearch.annotations.Document}
+	 * @param pageSize the number of documents per request, must be greater than 0
+	 * @param <T> the type of the entity
+	 * @return a lazy stream of all entities, to be closed after use
+	 */
+	<T> Stream<T> streamAll(Class<T> clazz, int pageSize);
+
+	/**
+	 * Returns an {@link Iterable} over all entities of the given type. Each call to {@link Iterable#iterator()} walks the
+	 * documents endpoint anew like {@link #streamAll(Class)}.
+	 *
+	 * @param clazz the entity class, must be annotated with
+	 *          {@link io.vanslog.spring.data.meilisearch.annotations.Document}
+	 * @param <T> the type of the entity
+	 * @return a lazy iterable of all entities
+	 */
+	default <T> Iterable<T> iterateAll(Class<T> clazz) {
+		return () -> streamAll(clazz).iterator();
+	}
+
 	/**
 	 * Retrieves all entities of the given type with the given document ids.
 	 *
@@ -108,6 +281,16 @@ public interface DocumentOperations {
 	 */
 	boolean exists(String documentId, Class<?> clazz);
 
+	/**
+	 * Checks which of the given document ids exist. Only the primary keys of the documents are read.
+	 *
+	 * @param clazz the entity class, must be annotated with
+	 *          {@link io.vanslog.spring.data.meilisearch.annotations.Document}
+	 * @param documentIds the document ids to check
+	 * @return the existing document ids in the order of the given ids
+	 */
+	Set<String> existsAll(Class<?> clazz, Collection<String> documentIds);
+
 	/**
 	 * Deletes the entity with the given document id.
 	 *
@@ -146,6 +329,28 @@ public interface DocumentOperations {
 	 */
 	<T> boolean delete(List<T> entities);
 
+	/**
+	 * Deletes all entities of the given type matching the filter with a single task, without reading them. The filtered
+	 * attributes must be filterable.
+	 *
+	 * @param clazz the entity class, must be annotated with
+	 *          {@link io.vanslog.spring.data.meilisearch.annotations.Document}
+	 * @param filter the filter expression selecting the documents to delete, must not be empty
+	 * @return {@literal true} if the delete task succeeded
+	 */
+	boolean delete(Class<?> clazz, String filter);
+
+	/**
+	 * Edits the documents of the given type on the server with a single task, applying the function of the request to
+	 * every document matching its filter. Documents are neither read nor sent by the client.
+	 *
+	 * @param clazz the entity class, must be annotated with
+	 *          {@link io.vanslog.spring.data.meilisearch.annotations.Document}
+	 * @param request the edit request, must not be {@literal null}
+	 * @return {@literal true} if the edit task succeeded
+	 */
+	boolean edit(Class<?> clazz, DocumentEditRequest request);
+
 	/**
 	 * Deletes all entities of the given type.
 	 *
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.core;
+
+import java.util.List;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Options for exporting the documents of an index through
+ * {@link MeilisearchIndexOperations#exportNdjson(java.nio.file.Path, ExportOptions)}.
+ * <p>
+ * Documents are read in pages of {@link #getPageSize()} documents with up to {@link #getParallelism()} pages being
+ * fetched at once. Pages are written in index order, so at most that many pages are held in memory.
+ *
+ * @author Junghoon Ban
+ */
+public class ExportOptions {
+
+	private static final ExportOptions DEFAULTS = builder().build();
+
+	@Nullable private final String filter;
+	private final List<String> fields;
+	private final int pageSize;
+	private final int parallelism;
+
+	private ExportOptions(Builder builder) {
+		this.filter = builder.filter;
+		this.fields = List.copyOf(builder.fields);
+		this.pageSize = builder.pageSize;
+		this.parallelism = builder.parallelism;
+	}
+
+	/**
+	 * Return the default options, exporting all fields of all documents.
+	 *
+	 * @return default options
+	 */
+	public static ExportOptions defaults() {
+		return DEFAULTS;
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Return the filter expression selecting the documents to export. The filtered attributes must be filterable.
+	 *
+	 * @return the filter or {@literal null} to export all documents
+	 */
+	@Nullable
+	public String getFilter() {
+		return filter;
+	}
+
+	/**
+	 * Return the fields to export.
+	 *
+	 * @return the fields or an empty list to export all fields
+	 */
+	public List<String> getFields() {
+		return fields;
+	}
+
+	public int getPageSize() {
+		return pageSize;
+	}
+
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	/** Builder for {@link ExportOptions}. */
+	public static class Builder {
+
+		@Nullable private String filter;
+		private List<String> fields = List.of();
+		private int pageSize = 1000;
+		private int parallelism = 4;
+
+		public Builder withFilter(@Nullable String filter) {
+			this.filter = filter;
+			return this;
+		}
+
+		public Builder withFields(List<String> fields) {
+
+			Assert.notNull(fields, "Fields must not be null");
+			this.fields = fields;
+			return this;
+		}
+
+		public Builder withPageSize(int pageSize) {
+
+			Assert.isTrue(pageSize > 0, "Page size must be greater than zero");
+			this.pageSize = pageSize;
+			return this;
+		}
+
+		public Builder withParallelism(int parallelism) {
+
+			Assert.isTrue(parallelism > 0, "Parallelism must be greater than zero");
+			this.parallelism = parallelism;
+			return this;
+		}
+
+		public ExportOptions build() {
+			return new ExportOptions(this);
+		}
+	}
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.core;
+
+import java.time.Duration;
+
+import org.springframework.util.Assert;
+
+/**
+ * Result of exporting the documents of an index.
+ *
+ * @author Junghoon Ban
+ * @see MeilisearchIndexOperations#exportNdjson(java.nio.file.Path, ExportOptions)
+ */
+public class ExportResult {
+
+	private final long documents;
+	private final long bytes;
+	private final int pages;
+	private final Duration duration;
+
+	public ExportResult(long documents, long bytes, int pages, Duration duration) {
+
+		Assert.notNull(duration, "Duration must not be null");
+
+		this.documents = documents;
+		this.bytes = bytes;
+		this.pages = pages;
+		this.duration = duration;
+	}
+
+	public long getDocuments() {
+		return documents;
+	}
+
+	/**
+	 * Return the number of bytes written.
+	 *
+	 * @return written bytes
+	 */
+	public long getBytes() {
+		return bytes;
+	}
+
+	public int getPages() {
+		return pages;
+	}
+
+	public Duration getDuration() {
+		return duration;
+	}
+
+	@Override
+	public String toString() {
+		return "ExportResult{" + //
+				"documents=" + documents + //
+				", bytes=" + bytes + //
+				", pages=" + pages + //
+				", duration=" + duration + //
+				'}';
+	}
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.core;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Options for importing NDJSON files through {@link DocumentOperations#importNdjson(Class, Path, FileImportOptions)}.
+ * <p>
+ * The file is cut into chunks of at most {@link #getMaxBytesPerChunk()} bytes ending at line boundaries, which are
+ * sent in a pipeline with at most {@link #getMaxInFlight()} tasks enqueued at once. An import can be resumed from the
+ * {@link FileImportResult#getResumeOffset() resume offset} of a previous run, either explicitly through
+ * {@link #getStartOffset()} or by keeping a {@link #getCheckpoint() checkpoint file}.
+ *
+ * @author Junghoon Ban
+ */
+public class FileImportOptions {
+
+	private static final FileImportOptions DEFAULTS = builder().build();
+
+	private final long maxBytesPerChunk;
+	private final int maxInFlight;
+	private final Duration taskTimeout;
+	private final long startOffset;
+	@Nullable private final Path checkpoint;
+
+	private FileImportOptions(Builder builder) {
+		this.maxBytesPerChunk = builder.maxBytesPerChunk;
+		this.maxInFlight = builder.maxInFlight;
+		this.taskTimeout = builder.taskTimeout;
+		this.startOffset = builder.startOffset;
+		this.checkpoint = builder.checkpoint;
+	}
+
+	/**
+	 * Return the default options.
+	 *
+	 * @return default options
+	 */
+	public static FileImportOptions defaults() {
+		return DEFAULTS;
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Return the upper bound of the size of a chunk. A single line must not be larger than this bound.
+	 *
+	 * @return maximum bytes per chunk
+	 */
+	public long getMaxBytesPerChunk() {
+		return maxBytesPerChunk;
+	}
+
+	public int getMaxInFlight() {
+		return maxInFlight;
+	}
+
+	public Duration getTaskTimeout() {
+		return taskTimeout;
+	}
+
+	/**
+	 * Return the offset in the file to start the import at. It must be at the start of a line.
+	 *
+	 * @return start offset
+	 */
+	public long getStartOffset() {
+		return startOffset;
+	}
+
+	/**
+	 * Return the file recording the offset up to which the file was imported. If it exists when the import starts, the
+	 * import resumes from the recorded offset. It is updated as chunks succeed and deleted once the whole file was
+	 * imported.
+	 *
+	 * @return the checkpoint file or {@literal null} if none is kept
+	 */
+	@Nullable
+	public Path getCheckpoint() {
+		return checkpoint;
+	}
+
+	/** Builder for {@link FileImportOptions}. */
+	public static class Builder {
+
+		private long maxBytesPerChunk = 20 * 1024 * 1024;
+		private int maxInFlight = 4;
+		private Duration taskTimeout = Duration.ofMinutes(5);
+		private long startOffset;
+		@Nullable private Path checkpoint;
+
+		public Builder withMaxBytesPerChunk(long maxBytesPerChunk) {
+
+			Assert.isTrue(maxBytesPerChunk > 0 && maxBytesPerChunk <= Integer.MAX_VALUE,
+					"Maximum bytes per chunk must be greater than zero and fit into an int");
+			this.maxBytesPerChunk = maxBytesPerChunk;
+			return this;
+		}
+
+		public Builder withMaxInFlight(int maxInFlight) {
+
+			Assert.isTrue(maxInFlight > 0, "Maximum in-flight chunks must be greater than zero");
+			this.maxInFlight = maxInFlight;
+			return this;
+		}
+
+		public Builder withTaskTimeout(Duration taskTimeout) {
+
+			Assert.notNull(taskTimeout, "Task timeout must not be null");
+			Assert.isTrue(!taskTimeout.isNegative() && !taskTimeout.isZero(), "Task timeout must be positive");
+			this.taskTimeout = taskTimeout;
+			return this;
+		}
+
+		public Builder withStartOffset(long startOffset) {
+
+			Assert.isTrue(startOffset >= 0, "Start offset must not be negative");
+			this.startOffset = startOffset;
+			return this;
+		}
+
+		public Builder withCheckpoint(@Nullable Path checkpoint) {
+			this.checkpoint = checkpoint;
+			return this;
+		}
+
+		public FileImportOptions build() {
+			return new FileImportOptions(this);
+		}
+	}
+}
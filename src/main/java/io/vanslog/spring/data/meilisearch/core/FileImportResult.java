@@ -0,0 +1,180 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.core;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Result of an NDJSON file import.
+ * <p>
+ * Chunks are tracked in file order. {@link #getResumeOffset()} is the end of the longest run of succeeded chunks from
+ * the start offset, so passing it to {@link FileImportOptions.Builder#withStartOffset(long)} re-imports every chunk
+ * that did not succeed. Chunks after the first failed one that did succeed are imported again, which only replaces
+ * their documents with the same content.
+ *
+ * @author Junghoon Ban
+ * @see DocumentOperations#importNdjson(Class, Path, FileImportOptions)
+ */
+public class FileImportResult {
+
+	private final long fileSize;
+	private final long startOffset;
+	private final long resumeOffset;
+	private final long importedBytes;
+	private final int chunks;
+	private final List<FailedChunk> failedChunks;
+	private final Duration duration;
+
+	public FileImportResult(long fileSize, long startOffset, long resumeOffset, long importedBytes, int chunks,
+			List<FailedChunk> failedChunks, Duration duration) {
+
+		Assert.notNull(failedChunks, "Failed chunks must not be null");
+		Assert.notNull(duration, "Duration must not be null");
+
+		this.fileSize = fileSize;
+		this.startOffset = startOffset;
+		this.resumeOffset = resumeOffset;
+		this.importedBytes = importedBytes;
+		this.chunks = chunks;
+		this.failedChunks = List.copyOf(failedChunks);
+		this.duration = duration;
+	}
+
+	public long getFileSize() {
+		return fileSize;
+	}
+
+	public long getStartOffset() {
+		return startOffset;
+	}
+
+	/**
+	 * Return the offset up to which the file was imported without gaps, which is where a subsequent run resumes.
+	 *
+	 * @return resume offset
+	 */
+	public long getResumeOffset() {
+		return resumeOffset;
+	}
+
+	/**
+	 * Return the number of bytes of the chunks whose tasks succeeded.
+	 *
+	 * @return imported bytes
+	 */
+	public long getImportedBytes() {
+		return importedBytes;
+	}
+
+	public int getChunks() {
+		return chunks;
+	}
+
+	public List<FailedChunk> getFailedChunks() {
+		return failedChunks;
+	}
+
+	public Duration getDuration() {
+		return duration;
+	}
+
+	/**
+	 * Return whether the file was imported up to its end.
+	 *
+	 * @return {@literal true} if every chunk succeeded
+	 */
+	public boolean isSucceeded() {
+		return failedChunks.isEmpty() && resumeOffset == fileSize;
+	}
+
+	@Override
+	public String toString() {
+		return "FileImportResult{" + //
+				"fileSize=" + fileSize + //
+				", startOffset=" + startOffset + //
+				", resumeOffset=" + resumeOffset + //
+				", importedBytes=" + importedBytes + //
+				", chunks=" + chunks + //
+				", failedChunks=" + failedChunks.size() + //
+				", duration=" + duration + //
+				'}';
+	}
+
+	/**
+	 * A chunk that could not be imported, covering {@link #getLength()} bytes of the file from {@link #getOffset()}.
+	 */
+	public static class FailedChunk {
+
+		private final int chunkIndex;
+		private final long offset;
+		private final long length;
+		@Nullable private final Integer taskUid;
+		private final String reason;
+
+		public FailedChunk(int chunkIndex, long offset, long length, @Nullable Integer taskUid, String reason) {
+
+			Assert.hasText(reason, "Reason must not be empty");
+
+			this.chunkIndex = chunkIndex;
+			this.offset = offset;
+			this.length = length;
+			this.taskUid = taskUid;
+			this.reason = reason;
+		}
+
+		public int getChunkIndex() {
+			return chunkIndex;
+		}
+
+		public long getOffset() {
+			return offset;
+		}
+
+		public long getLength() {
+			return length;
+		}
+
+		/**
+		 * Return the uid of the task that failed, or {@literal null} if the chunk could not be enqueued.
+		 *
+		 * @return task uid
+		 */
+		@Nullable
+		public Integer getTaskUid() {
+			return taskUid;
+		}
+
+		public String getReason() {
+			return reason;
+		}
+
+		@Override
+		public String toString() {
+			return "FailedChunk{" + //
+					"chunkIndex=" + chunkIndex + //
+					", offset=" + offset + //
+					", length=" + length + //
+					", taskUid=" + taskUid + //
+					", reason='" + reason + '\'' + //
+					'}';
+		}
+	}
+}
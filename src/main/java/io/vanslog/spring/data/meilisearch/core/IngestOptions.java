@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.core;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Options for streaming ingestion through {@link DocumentOperations#saveAll(Class, Iterable, IngestOptions)}.
+ * <p>
+ * Documents are sent as {@link DocumentFormat#NDJSON NDJSON} unless another {@link DocumentFormat} is set.
+ * {@link DocumentFormat#CSV CSV} does not repeat the field names for every document, but does not preserve every value,
+ * so it has to be chosen explicitly. The payload can additionally be compressed with gzip, which pays off on
+ * bandwidth-limited links to the server.
+ *
+ * @author Junghoon Ban
+ */
+public class IngestOptions {
+
+	private static final IngestOptions DEFAULTS = builder().build();
+
+	@Nullable private final DocumentFormat format;
+	private final boolean gzip;
+
+	private IngestOptions(Builder builder) {
+		this.format = builder.format;
+		this.gzip = builder.gzip;
+	}
+
+	/**
+	 * Return the default options, sending the documents as uncompressed NDJSON.
+	 *
+	 * @return default options
+	 */
+	public static IngestOptions defaults() {
+		return DEFAULTS;
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Return the format to send the documents in.
+	 *
+	 * @return the format or {@literal null} to send {@link DocumentFormat#NDJSON}
+	 */
+	@Nullable
+	public DocumentFormat getFormat() {
+		return format;
+	}
+
+	/**
+	 * Return whether the payload is sent with {@code Content-Encoding: gzip}.
+	 *
+	 * @return {@literal true} if the payload is compressed
+	 */
+	public boolean isGzip() {
+		return gzip;
+	}
+
+	/** Builder for {@link IngestOptions}. */
+	public static class Builder {
+
+		@Nullable private DocumentFormat format;
+		private boolean gzip;
+
+		public Builder withFormat(@Nullable DocumentFormat format) {
+			this.format = format;
+			return this;
+		}
+
+		public Builder withGzip(boolean gzip) {
+			this.gzip = gzip;
+			return this;
+		}
+
+		public IngestOptions build() {
+			return new IngestOptions(this);
+		}
+	}
+}
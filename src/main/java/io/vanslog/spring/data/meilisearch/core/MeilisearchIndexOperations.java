@@ -15,6 +15,9 @@
  */
 package io.vanslog.spring.data.meilisearch.core;
 
+import java.io.OutputStream;
+import java.nio.file.Path;
+
 /**
  * Operations for APIs scoped to a single Meilisearch index.
  *
@@ -103,4 +106,39 @@ public interface MeilisearchIndexOperations {
 	 * @return index settings after the reset task succeeds
 	 */
 	MeilisearchIndexSettings resetSettings();
+
+	/**
+	 * Export all documents of the bound index to the given file as NDJSON using the
+	 * {@link ExportOptions#defaults() default export options}. An existing file is overwritten.
+	 *
+	 * @param file the file to write to, must not be {@literal null}
+	 * @return the result of the export
+	 * @see #exportNdjson(Path, ExportOptions)
+	 */
+	default ExportResult exportNdjson(Path file) {
+		return exportNdjson(file, ExportOptions.defaults());
+	}
+
+	/**
+	 * Export the documents of the bound index selected by the given options to the given file as NDJSON. An existing
+	 * file is overwritten.
+	 *
+	 * @param file the file to write to, must not be {@literal null}
+	 * @param options the export options, must not be {@literal null}
+	 * @return the result of the export
+	 * @see #exportNdjson(OutputStream, ExportOptions)
+	 */
+	ExportResult exportNdjson(Path file, ExportOptions options);
+
+	/**
+	 * Export the documents of the bound index selected by the given options to the given stream as NDJSON, one
+	 * document per line with all fields as stored. Several pages are fetched in parallel while pages are written in
+	 * index order, so memory use is bounded by {@link ExportOptions#getParallelism()} pages. The stream is flushed but
+	 * not closed.
+	 *
+	 * @param output the stream to write to, must not be {@literal null}
+	 * @param options the export options, must not be {@literal null}
+	 * @return the result of the export
+	 */
+	ExportResult exportNdjson(OutputStream output, ExportOptions options);
 }
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.core;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import com.meilisearch.sdk.MultiSearchFederation;
+
+import io.vanslog.spring.data.meilisearch.core.convert.MeilisearchConverter;
+import io.vanslog.spring.data.meilisearch.core.query.BaseQuery;
+import io.vanslog.spring.data.meilisearch.core.query.FacetQuery;
+import io.vanslog.spring.data.meilisearch.core.query.SimilarQuery;
+
+/**
+ * Reactive variant of {@link MeilisearchOperations} built on Project Reactor. Write operations emit once the
+ * Meilisearch task has finished and signal a {@link io.vanslog.spring.data.meilisearch.TaskStatusException} if the task
+ * did not succeed.
+ *
+ * @author Junghoon Ban
+ * @see MeilisearchOperations
+ */
+public interface ReactiveMeilisearchOperations {
+
+	/**
+	 * Saves an entity.
+	 *
+	 * @param entity the entity to save
+	 * @param <T> the type of the entity
+	 * @return a {@link Mono} emitting the saved entity
+	 */
+	<T> Mono<T> save(T entity);
+
+	/**
+	 * Saves all given entities with a single task.
+	 *
+	 * @param entities the entities to save
+	 * @param <T> the type of the entity
+	 * @return a {@link Flux} emitting the saved entities
+	 */
+	<T> Flux<T> save(List<T> entities);
+
+	/**
+	 * Retrieves an entity by its document id.
+	 *
+	 * @param documentId the document id of the entity
+	 * @param clazz the entity class, must be annotated with
+	 *          {@link io.vanslog.spring.data.meilisearch.annotations.Document}
+	 * @param <T> the type of the entity
+	 * @return a {@link Mono} emitting the entity or completing empty if none found
+	 */
+	<T> Mono<T> get(String documentId, Class<T> clazz);
+
+	/**
+	 * Retrieves all entities, reading the documents endpoint page by page on demand.
+	 *
+	 * @param clazz the entity class, must be annotated with
+	 *          {@link io.vanslog.spring.data.meilisearch.annotations.Document}
+	 * @param <T> the type of the entity
+	 * @return a {@link Flux} emitting all entities
+	 */
+	<T> Flux<T> multiGet(Class<T> clazz);
+
+	/**
+	 * Retrieves the entities with the given document ids. Missing documents are skipped.
+	 *
+	 * @param clazz the entity class, must be annotated with
+	 *          {@link io.vanslog.spring.data.meilisearch.annotations.Document}
+	 * @param documentIds the document ids of the entities
+	 * @param <T> the type of the entity
+	 * @return a {@link Flux} emitting the entities in the order of the given ids
+	 */
+	<T> Flux<T> multiGet(Class<T> clazz, List<String> documentIds);
+
+	/**
+	 * Checks whether an entity with the given document id exists.
+	 *
+	 * @param documentId the document id of the entity
+	 * @param clazz the entity class, must be annotated with
+	 *          {@link io.vanslog.spring.data.meilisearch.annotations.Document}
+	 * @return a {@link Mono} emitting {@literal true} if an entity with the given document id exists
+	 */
+	Mono<Boolean> exists(String documentId, Class<?> clazz);
+
+	/**
+	 * Checks which of the given document ids exist. Only the primary keys of the documents are read.
+	 *
+	 * @param clazz the entity class, must be annotated with
+	 *          {@link io.vanslog.spring.data.meilisearch.annotations.Document}
+	 * @param documentIds the document ids to check
+	 * @return a {@link Mono} emitting the existing document ids in the order of the given ids
+	 */
+	Mono<Set<String>> existsAll(Class<?> clazz, Collection<String> documentIds);
+
+	/**
+	 * Returns the number of entities available.
+	 *
+	 * @param clazz the entity class, must be annotated with
+	 *          {@link io.vanslog.spring.data.meilisearch.annotations.Document}
+	 * @return a {@link Mono} emitting the number of entities
+	 */
+	Mono<Long> count(Class<?> clazz);
+
+	/**
+	 * Deletes the entity with the given document id.
+	 *
+	 * @param documentId the document id of the entity
+	 * @param clazz the entity class, must be annotated with
+	 *          {@link io.vanslog.spring.data.meilisearch.annotations.Document}
+	 * @return a {@link Mono} emitting {@literal true} if the delete task succeeded
+	 */
+	Mono<Boolean> delete(String documentId, Class<?> clazz);
+
+	/**
+	 * Deletes a given entity.
+	 *
+	 * @param entity the entity to delete
+	 * @param <T> the type of the entity
+	 * @return a {@link Mono} emitting {@literal true} if the delete task succeeded
+	 */
+	<T> Mono<Boolean> delete(T entity);
+
+	/**
+	 * Deletes all entities of the given type with the given document ids.
+	 *
+	 * @param clazz the entity class, must be annotated with
+	 *          {@link io.vanslog.spring.data.meilisearch.annotations.Document}
+	 * @param documentIds the document ids of the entities
+	 * @return a {@link Mono} emitting {@literal true} if the delete task succeeded
+	 */
+	Mono<Boolean> delete(Class<?> clazz, List<String> documentIds);
+
+	/**
+	 * Deletes the given entities.
+	 *
+	 * @param entities the entities to delete
+	 * @param <T> the type of the entity
+	 * @return a {@link Mono} emitting {@literal true} if the delete task succeeded
+	 */
+	<T> Mono<Boolean> delete(List<T> entities);
+
+	/**
+	 * Deletes all entities of the given type.
+	 *
+	 * @param clazz the entity class, must be annotated with
+	 *          {@link io.vanslog.spring.data.meilisearch.annotations.Document}
+	 * @return a {@link Mono} emitting {@literal true} if the delete task succeeded
+	 */
+	Mono<Boolean> deleteAll(Class<?> clazz);
+
+	/**
+	 * Search for entities that meet the criteria using Spring Data style query.
+	 *
+	 * @param query the Spring Data style query supporting Pageable, Sort, etc.
+	 * @param clazz the entity class, must be annotated with
+	 *          {@link io.vanslog.spring.data.meilisearch.annotations.Document}
+	 * @param <T> the type of the entity
+	 * @param <Q> the type of query extending BaseQuery
+	 * @return a {@link Flux} emitting the hits of the requested page
+	 */
+	<T, Q extends BaseQuery> Flux<SearchHit<T>> search(Q query, Class<T> clazz);
+
+	/**
+	 * Execute non-federated multi-search query.
+	 *
+	 * @param queries the list of queries to execute
+	 * @param clazz the entity class, must be annotated with
+	 *          {@link io.vanslog.spring.data.meilisearch.annotations.Document}
+	 * @param <T> the type of the entity
+	 * @param <Q> the type of query extending BaseQuery
+	 * @return a {@link Flux} emitting the hits of all queries
+	 */
+	<T, Q extends BaseQuery> Flux<SearchHit<T>> multiSearch(List<Q> queries, Class<T> clazz);
+
+	/**
+	 * Execute federated multi-search query.
+	 *
+	 * @param queries the list of queries to execute
+	 * @param federation the federation configuration that defines how to combine results from multiple indexes
+	 * @param clazz the entity class, must be annotated with
+	 *          {@link io.vanslog.spring.data.meilisearch.annotations.Document}
+	 * @param <T> the type of the entity
+	 * @param <Q> the type of query extending BaseQuery
+	 * @return a {@link Flux} emitting the merged hits
+	 */
+	<T, Q extends BaseQuery> Flux<SearchHit<T>> multiSearch(List<Q> queries, MultiSearchFederation federation,
+			Class<T> clazz);
+
+	/**
+	 * Execute the facet search query.
+	 *
+	 * @param query the facet query to execute
+	 * @param clazz the entity class, must be annotated with
+	 *          {@link io.vanslog.spring.data.meilisearch.annotations.Document}
+	 * @return a {@link Flux} emitting the facet hits
+	 */
+	Flux<SearchHit<FacetHit>> facetSearch(FacetQuery query, Class<?> clazz);
+
+	/**
+	 * Execute the similar documents search query.
+	 *
+	 * @param query the similar query to execute, containing the document ID and embedder
+	 * @param clazz the entity class, must be annotated with
+	 *          {@link io.vanslog.spring.data.meilisearch.annotations.Document}
+	 * @param <T> the type of the entity
+	 * @return a {@link Flux} emitting the similar entities
+	 */
+	<T> Flux<SearchHit<T>> similarSearch(SimilarQuery query, Class<T> clazz);
+
+	/**
+	 * Apply the settings declared on the given entity class to its index.
+	 *
+	 * @param clazz the entity class, must be annotated with
+	 *          {@link io.vanslog.spring.data.meilisearch.annotations.Document}
+	 * @param <T> the type of the entity
+	 * @return a {@link Mono} completing once the settings task has succeeded
+	 */
+	<T> Mono<Void> applySettings(Class<T> clazz);
+
+	/**
+	 * Return the converter used by this instance.
+	 *
+	 * @return the converter
+	 */
+	MeilisearchConverter getMeilisearchConverter();
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.core;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.List;
+
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.util.Assert;
+
+/**
+ * Options for pruning the task history of a Meilisearch instance.
+ * <p>
+ * Each run deletes finished tasks that finished more than {@link #getRetention()} ago, at most
+ * {@link #getBatchSize()} tasks per deletion task and {@link #getMaxBatches()} deletion tasks per run, so a large
+ * backlog of history is worked off over several runs instead of one long task. Runs are triggered by the cron
+ * {@link #getSchedule()} in {@link #getZone()}, every night at 3 AM by default.
+ *
+ * @author Junghoon Ban
+ */
+public class TaskPruningOptions {
+
+	/**
+	 * Schedule disabling scheduled runs, so the history is only pruned on demand.
+	 */
+	public static final String MANUAL = "-";
+
+	private static final TaskPruningOptions DEFAULTS = builder().build();
+
+	private final Duration retention;
+	private final int batchSize;
+	private final int maxBatches;
+	private final List<String> indexUids;
+	private final String schedule;
+	private final ZoneId zone;
+
+	private TaskPruningOptions(Builder builder) {
+		this.retention = builder.retention;
+		this.batchSize = builder.batchSize;
+		this.maxBatches = builder.maxBatches;
+		this.indexUids = builder.indexUids;
+		this.schedule = builder.schedule;
+		this.zone = builder.zone;
+	}
+
+	/**
+	 * Return the default options.
+	 *
+	 * @return default options
+	 */
+	public static TaskPruningOptions defaults() {
+		return DEFAULTS;
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Return how long finished tasks are kept.
+	 *
+	 * @return retention window
+	 */
+	public Duration getRetention() {
+		return retention;
+	}
+
+	/**
+	 * Return the maximum number of tasks deleted by one deletion task.
+	 *
+	 * @return batch size in tasks
+	 */
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	/**
+	 * Return the maximum number of deletion tasks of one run.
+	 *
+	 * @return maximum batches per run
+	 */
+	public int getMaxBatches() {
+		return maxBatches;
+	}
+
+	/**
+	 * Return the indexes whose tasks are pruned. Tasks without an index, such as index swaps and task deletions, are
+	 * only pruned if no indexes are given.
+	 *
+	 * @return the index uids or an empty list to prune the tasks of all indexes
+	 */
+	public List<String> getIndexUids() {
+		return indexUids;
+	}
+
+	/**
+	 * Return the cron expression scheduling the runs.
+	 *
+	 * @return the schedule or {@link #MANUAL} if runs are not scheduled
+	 */
+	public String getSchedule() {
+		return schedule;
+	}
+
+	/**
+	 * Return the time zone the schedule is evaluated in.
+	 *
+	 * @return schedule time zone
+	 */
+	public ZoneId getZone() {
+		return zone;
+	}
+
+	/** Builder for {@link TaskPruningOptions}. */
+	public static class Builder {
+
+		private Duration retention = Duration.ofDays(7);
+		private int batchSize = 1000;
+		private int maxBatches = 100;
+		private List<String> indexUids = List.of();
+		private String schedule = "0 0 3 * * *";
+		private ZoneId zone = ZoneId.systemDefault();
+
+		public Builder withRetention(Duration retention) {
+
+			Assert.notNull(retention, "Retention must not be null");
+			Assert.isTrue(!retention.isNegative(), "Retention must not be negative");
+			this.retention = retention;
+			return this;
+		}
+
+		public Builder withBatchSize(int batchSize) {
+
+			Assert.isTrue(batchSize > 0, "Batch size must be greater than zero");
+			this.batchSize = batchSize;
+			return this;
+		}
+
+		public Builder withMaxBatches(int maxBatches) {
+
+			Assert.isTrue(maxBatches > 0, "Maximum batches must be greater than zero");
+			this.maxBatches = maxBatches;
+			return this;
+		}
+
+		public Builder withIndexUids(List<String> indexUids) {
+
+			Assert.notNull(indexUids, "Index uids must not be null");
+			this.indexUids = indexUids;
+			return this;
+		}
+
+		/**
+		 * Schedule the runs with a Spring cron expression, or disable scheduled runs with {@link #MANUAL}.
+		 *
+		 * @param schedule the cron expression
+		 * @return this builder
+		 */
+		public Builder withSchedule(String schedule) {
+
+			Assert.isTrue(MANUAL.equals(schedule) || CronExpression.isValidExpression(schedule),
+					() -> "Invalid schedule: " + schedule);
+			this.schedule = schedule;
+			return this;
+		}
+
+		public Builder withZone(ZoneId zone) {
+
+			Assert.notNull(zone, "Zone must not be null");
+			this.zone = zone;
+			return this;
+		}
+
+		public TaskPruningOptions build() {
+			return new TaskPruningOptions(this);
+		}
+	}
+}
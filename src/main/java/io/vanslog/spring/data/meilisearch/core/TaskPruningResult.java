@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.core;
+
+import java.time.Duration;
+
+import org.springframework.util.Assert;
+
+/**
+ * Result of one run pruning the task history.
+ *
+ * @author Junghoon Ban
+ * @see TaskPruningOptions
+ */
+public class TaskPruningResult {
+
+	private final long deletedTasks;
+	private final long reclaimedBytes;
+	private final int batches;
+	private final Duration duration;
+
+	public TaskPruningResult(long deletedTasks, long reclaimedBytes, int batches, Duration duration) {
+
+		Assert.notNull(duration, "Duration must not be null");
+
+		this.deletedTasks = deletedTasks;
+		this.reclaimedBytes = reclaimedBytes;
+		this.batches = batches;
+		this.duration = duration;
+	}
+
+	public long getDeletedTasks() {
+		return deletedTasks;
+	}
+
+	/**
+	 * Return by how much the used database size shrank during the run. Writes made at the same time are included, so
+	 * the value is an estimate and never negative.
+	 *
+	 * @return reclaimed bytes
+	 */
+	public long getReclaimedBytes() {
+		return reclaimedBytes;
+	}
+
+	/**
+	 * Return the number of deletion tasks of the run.
+	 *
+	 * @return deletion tasks
+	 */
+	public int getBatches() {
+		return batches;
+	}
+
+	public Duration getDuration() {
+		return duration;
+	}
+
+	@Override
+	public String toString() {
+		return "TaskPruningResult{" + //
+				"deletedTasks=" + deletedTasks + //
+				", reclaimedBytes=" + reclaimedBytes + //
+				", batches=" + batches + //
+				", duration=" + duration + //
+				'}';
+	}
+}
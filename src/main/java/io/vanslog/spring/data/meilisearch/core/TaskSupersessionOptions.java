@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.core;
+
+import org.springframework.util.Assert;
+
+/**
+ * Options for cancelling enqueued tasks that a newer task makes obsolete.
+ * <p>
+ * A settings update is superseded by a newer update of the same index that sets at least the same settings. A batch
+ * of documents saved by replacement is superseded by a newer batch of the same index that contains at least the same
+ * document ids. Up to {@link #getMaxTrackedTasks()} tasks are tracked per index and kind; older ones are forgotten and
+ * can no longer be superseded.
+ *
+ * @author Junghoon Ban
+ */
+public class TaskSupersessionOptions {
+
+	private static final TaskSupersessionOptions DEFAULTS = builder().build();
+
+	private final boolean settings;
+	private final boolean documents;
+	private final int maxTrackedTasks;
+
+	private TaskSupersessionOptions(Builder builder) {
+		this.settings = builder.settings;
+		this.documents = builder.documents;
+		this.maxTrackedTasks = builder.maxTrackedTasks;
+	}
+
+	/**
+	 * Return the default options.
+	 *
+	 * @return default options
+	 */
+	public static TaskSupersessionOptions defaults() {
+		return DEFAULTS;
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Return whether superseded settings updates are cancelled.
+	 *
+	 * @return {@literal true} to cancel superseded settings updates
+	 */
+	public boolean isSettings() {
+		return settings;
+	}
+
+	/**
+	 * Return whether superseded document batches are cancelled.
+	 *
+	 * @return {@literal true} to cancel superseded document batches
+	 */
+	public boolean isDocuments() {
+		return documents;
+	}
+
+	/**
+	 * Return how many unfinished tasks are tracked per index and kind.
+	 *
+	 * @return maximum number of tracked tasks
+	 */
+	public int getMaxTrackedTasks() {
+		return maxTrackedTasks;
+	}
+
+	/** Builder for {@link TaskSupersessionOptions}. */
+	public static class Builder {
+
+		private boolean settings = true;
+		private boolean documents = true;
+		private int maxTrackedTasks = 100;
+
+		public Builder withSettings(boolean settings) {
+			this.settings = settings;
+			return this;
+		}
+
+		public Builder withDocuments(boolean documents) {
+			this.documents = documents;
+			return this;
+		}
+
+		public Builder withMaxTrackedTasks(int maxTrackedTasks) {
+
+			Assert.isTrue(maxTrackedTasks > 0, "Maximum tracked tasks must be greater than zero");
+			this.maxTrackedTasks = maxTrackedTasks;
+			return this;
+		}
+
+		public TaskSupersessionOptions build() {
+			return new TaskSupersessionOptions(this);
+		}
+	}
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.core;
+
+/**
+ * Counts of the tasks cancelled because a newer task superseded them, and of the work their cancellation saved.
+ *
+ * @author Junghoon Ban
+ * @see TaskSupersessionOptions
+ */
+public class TaskSupersessionStats {
+
+	private final long cancelledSettingsUpdates;
+	private final long cancelledDocumentBatches;
+	private final long savedDocuments;
+	private final long savedBytes;
+
+	public TaskSupersessionStats(long cancelledSettingsUpdates, long cancelledDocumentBatches, long savedDocuments,
+			long savedBytes) {
+		this.cancelledSettingsUpdates = cancelledSettingsUpdates;
+		this.cancelledDocumentBatches = cancelledDocumentBatches;
+		this.savedDocuments = savedDocuments;
+		this.savedBytes = savedBytes;
+	}
+
+	/**
+	 * Return the number of cancelled tasks of all kinds.
+	 *
+	 * @return cancelled tasks
+	 */
+	public long getCancelledTasks() {
+		return cancelledSettingsUpdates + cancelledDocumentBatches;
+	}
+
+	public long getCancelledSettingsUpdates() {
+		return cancelledSettingsUpdates;
+	}
+
+	public long getCancelledDocumentBatches() {
+		return cancelledDocumentBatches;
+	}
+
+	/**
+	 * Return the number of documents the cancelled batches would have indexed.
+	 *
+	 * @return documents not indexed twice
+	 */
+	public long getSavedDocuments() {
+		return savedDocuments;
+	}
+
+	/**
+	 * Return the size of the payloads of the cancelled batches.
+	 *
+	 * @return bytes not indexed twice
+	 */
+	public long getSavedBytes() {
+		return savedBytes;
+	}
+
+	@Override
+	public String toString() {
+		return "TaskSupersessionStats{" + //
+				"cancelledSettingsUpdates=" + cancelledSettingsUpdates + //
+				", cancelledDocumentBatches=" + cancelledDocumentBatches + //
+				", savedDocuments=" + savedDocuments + //
+				", savedBytes=" + savedBytes + //
+				'}';
+	}
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.core;
+
+import org.springframework.util.Assert;
+
+/**
+ * Options for buffering writes made inside a Spring-managed transaction until it commits.
+ * <p>
+ * The saves and deletes of a transaction are merged per index and sent after commit with one delete task and as many
+ * document tasks as needed to keep each below {@link #getMaxBytes()} bytes. If {@link #isAwaitTasks()} is set, the
+ * commit also waits for these tasks and fails if one of them did not succeed.
+ *
+ * @author Junghoon Ban
+ */
+public class TransactionalWriteOptions {
+
+	private static final TransactionalWriteOptions DEFAULTS = builder().build();
+
+	private final long maxBytes;
+	private final boolean awaitTasks;
+
+	private TransactionalWriteOptions(Builder builder) {
+		this.maxBytes = builder.maxBytes;
+		this.awaitTasks = builder.awaitTasks;
+	}
+
+	/**
+	 * Return the default options.
+	 *
+	 * @return default options
+	 */
+	public static TransactionalWriteOptions defaults() {
+		return DEFAULTS;
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Return the encoded size of the documents sent with a single task.
+	 *
+	 * @return maximum bytes per task
+	 */
+	public long getMaxBytes() {
+		return maxBytes;
+	}
+
+	/**
+	 * Return whether the commit waits for the tasks of the transaction to finish.
+	 *
+	 * @return {@literal true} to wait for the tasks
+	 */
+	public boolean isAwaitTasks() {
+		return awaitTasks;
+	}
+
+	/** Builder for {@link TransactionalWriteOptions}. */
+	public static class Builder {
+
+		private long maxBytes = 10 * 1024 * 1024;
+		private boolean awaitTasks;
+
+		public Builder withMaxBytes(long maxBytes) {
+
+			Assert.isTrue(maxBytes > 0, "Maximum bytes must be greater than zero");
+			this.maxBytes = maxBytes;
+			return this;
+		}
+
+		public Builder withAwaitTasks(boolean awaitTasks) {
+			this.awaitTasks = awaitTasks;
+			return this;
+		}
+
+		public TransactionalWriteOptions build() {
+			return new TransactionalWriteOptions(this);
+		}
+	}
+}
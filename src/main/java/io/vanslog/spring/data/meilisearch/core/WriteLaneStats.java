@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.core;
+
+import java.time.Duration;
+
+import org.springframework.util.Assert;
+
+/**
+ * Point-in-time metrics of a {@link WritePriority priority lane} of the write scheduler.
+ *
+ * @author Junghoon Ban
+ * @see WriteSchedulingOptions
+ */
+public class WriteLaneStats {
+
+	private final WritePriority priority;
+	private final int queueDepth;
+	private final int inFlight;
+	private final long dispatched;
+	private final long bytes;
+	private final Duration totalWait;
+	private final Duration maxWait;
+
+	public WriteLaneStats(WritePriority priority, int queueDepth, int inFlight, long dispatched, long bytes,
+			Duration totalWait, Duration maxWait) {
+
+		Assert.notNull(priority, "Priority must not be null");
+		Assert.notNull(totalWait, "Total wait must not be null");
+		Assert.notNull(maxWait, "Max wait must not be null");
+
+		this.priority = priority;
+		this.queueDepth = queueDepth;
+		this.inFlight = inFlight;
+		this.dispatched = dispatched;
+		this.bytes = bytes;
+		this.totalWait = totalWait;
+		this.maxWait = maxWait;
+	}
+
+	public WritePriority getPriority() {
+		return priority;
+	}
+
+	/**
+	 * Return the number of writes waiting to be sent.
+	 *
+	 * @return queue depth
+	 */
+	public int getQueueDepth() {
+		return queueDepth;
+	}
+
+	/**
+	 * Return the number of writes being sent.
+	 *
+	 * @return writes in flight
+	 */
+	public int getInFlight() {
+		return inFlight;
+	}
+
+	/**
+	 * Return the number of writes sent so far.
+	 *
+	 * @return dispatched writes
+	 */
+	public long getDispatched() {
+		return dispatched;
+	}
+
+	/**
+	 * Return the number of document bytes sent so far.
+	 *
+	 * @return sent bytes
+	 */
+	public long getBytes() {
+		return bytes;
+	}
+
+	/**
+	 * Return the time the dispatched writes spent waiting in the lane in total.
+	 *
+	 * @return total wait time
+	 */
+	public Duration getTotalWait() {
+		return totalWait;
+	}
+
+	/**
+	 * Return the average time a dispatched write spent waiting in the lane.
+	 *
+	 * @return average wait time
+	 */
+	public Duration getAverageWait() {
+		return dispatched > 0 ? totalWait.dividedBy(dispatched) : Duration.ZERO;
+	}
+
+	/**
+	 * Return the longest time a dispatched write spent waiting in the lane.
+	 *
+	 * @return maximum wait time
+	 */
+	public Duration getMaxWait() {
+		return maxWait;
+	}
+
+	@Override
+	public String toString() {
+		return "WriteLaneStats{" + //
+				"priority=" + priority + //
+				", queueDepth=" + queueDepth + //
+				", inFlight=" + inFlight + //
+				", dispatched=" + dispatched + //
+				", bytes=" + bytes + //
+				", totalWait=" + totalWait + //
+				", maxWait=" + maxWait + //
+				'}';
+	}
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.core;
+
+/**
+ * Priority lanes document writes are scheduled in when write scheduling is enabled.
+ *
+ * @author Junghoon Ban
+ * @see WriteSchedulingOptions
+ */
+public enum WritePriority {
+
+	/**
+	 * Writes a user is waiting for, such as {@code save}, {@code update} and writes of committed transactions.
+	 */
+	INTERACTIVE,
+
+	/**
+	 * Large writes such as {@code saveAll}, {@code bulkSave}, {@code importNdjson} and buffered writes, which may be
+	 * rate-limited.
+	 */
+	BULK
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.core;
+
+import org.springframework.util.Assert;
+
+/**
+ * Options for scheduling document writes in {@link WritePriority priority lanes}.
+ * <p>
+ * At most {@link #getMaxConcurrentWrites()} document requests are sent at the same time. Further requests wait in the
+ * lane of their priority, and whenever a request completes, the next one is taken from the lanes in proportion to
+ * their weights, so interactive writes overtake pending bulk writes. Bulk writes use at most
+ * {@code maxConcurrentWrites - 1} of the requests, keeping one for interactive writes unless only one request is
+ * allowed, and are additionally limited to {@link #getBulkBytesPerSecond()}.
+ *
+ * @author Junghoon Ban
+ */
+public class WriteSchedulingOptions {
+
+	/**
+	 * Value of {@link #getBulkBytesPerSecond()} that does not limit bulk writes.
+	 */
+	public static final long UNLIMITED = Long.MAX_VALUE;
+
+	private static final WriteSchedulingOptions DEFAULTS = builder().build();
+
+	private final int maxConcurrentWrites;
+	private final int interactiveWeight;
+	private final int bulkWeight;
+	private final long bulkBytesPerSecond;
+
+	private WriteSchedulingOptions(Builder builder) {
+		this.maxConcurrentWrites = builder.maxConcurrentWrites;
+		this.interactiveWeight = builder.interactiveWeight;
+		this.bulkWeight = builder.bulkWeight;
+		this.bulkBytesPerSecond = builder.bulkBytesPerSecond;
+	}
+
+	/**
+	 * Return the default options.
+	 *
+	 * @return default options
+	 */
+	public static WriteSchedulingOptions defaults() {
+		return DEFAULTS;
+	}
+
+	public static Builder builder() {
+		return new Builder();
+	}
+
+	/**
+	 * Return the number of document requests sent at the same time.
+	 *
+	 * @return maximum concurrent writes
+	 */
+	public int getMaxConcurrentWrites() {
+		return maxConcurrentWrites;
+	}
+
+	/**
+	 * Return the weight of the lane of the given priority.
+	 *
+	 * @param priority the priority
+	 * @return the share of dispatches the lane gets while all lanes have pending writes
+	 */
+	public int getWeight(WritePriority priority) {
+		return priority == WritePriority.INTERACTIVE ? interactiveWeight : bulkWeight;
+	}
+
+	/**
+	 * Return the rate bulk writes are limited to.
+	 *
+	 * @return bytes per second or {@link #UNLIMITED}
+	 */
+	public long getBulkBytesPerSecond() {
+		return bulkBytesPerSecond;
+	}
+
+	/** Builder for {@link WriteSchedulingOptions}. */
+	public static class Builder {
+
+		private int maxConcurrentWrites = 4;
+		private int interactiveWeight = 4;
+		private int bulkWeight = 1;
+		private long bulkBytesPerSecond = UNLIMITED;
+
+		public Builder withMaxConcurrentWrites(int maxConcurrentWrites) {
+
+			Assert.isTrue(maxConcurrentWrites > 0, "Maximum concurrent writes must be greater than zero");
+			this.maxConcurrentWrites = maxConcurrentWrites;
+			return this;
+		}
+
+		public Builder withWeight(WritePriority priority, int weight) {
+
+			Assert.notNull(priority, "Priority must not be null");
+			Assert.isTrue(weight > 0, "Weight must be greater than zero");
+			if (priority == WritePriority.INTERACTIVE) {
+				this.interactiveWeight = weight;
+			} else {
+				this.bulkWeight = weight;
+			}
+			return this;
+		}
+
+		public Builder withBulkBytesPerSecond(long bulkBytesPerSecond) {
+
+			Assert.isTrue(bulkBytesPerSecond > 0, "Bulk bytes per second must be greater than zero");
+			this.bulkBytesPerSecond = bulkBytesPerSecond;
+			return this;
+		}
+
+		public WriteSchedulingOptions build() {
+			return new WriteSchedulingOptions(this);
+		}
+	}
+}
@@ -1,89 +1,480 @@
-/*
- * Copyright 2023-2026 the original author or authors.
- *
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- *      https://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */
-package io.vanslog.spring.data.meilisearch.core.convert;
-
-import io.vanslog.spring.data.meilisearch.core.mapping.MeilisearchPersistentEntity;
-import io.vanslog.spring.data.meilisearch.core.mapping.MeilisearchPersistentProperty;
-
-import java.util.Collections;
-
-import org.springframework.beans.BeansException;
-import org.springframework.beans.factory.InitializingBean;
-import org.springframework.context.ApplicationContext;
-import org.springframework.context.ApplicationContextAware;
-import org.springframework.core.convert.ConversionService;
-import org.springframework.core.convert.support.DefaultConversionService;
-import org.springframework.core.convert.support.GenericConversionService;
-import org.springframework.data.convert.CustomConversions;
-import org.springframework.data.mapping.context.MappingContext;
-import org.springframework.lang.Nullable;
-import org.springframework.util.Assert;
-
-/**
- * {@link io.vanslog.spring.data.meilisearch.core.convert.MeilisearchConverter} Implementation based on
- * {@link org.springframework.data.mapping.context.MappingContext}.
- *
- * @author Junghoon Ban
- */
-public class MappingMeilisearchConverter implements MeilisearchConverter, ApplicationContextAware, InitializingBean {
-
-	private final MappingContext<? extends MeilisearchPersistentEntity<?>, MeilisearchPersistentProperty> mappingContext;
-	private final GenericConversionService conversionService;
-	private CustomConversions conversions = new MeilisearchCustomConversions(Collections.emptyList());
-
-	@SuppressWarnings("unused, FieldCanBeLocal")
-	@Nullable private ApplicationContext applicationContext;
-
-	/**
-	 * Creates a new {@link io.vanslog.spring.data.meilisearch.core.convert.MappingMeilisearchConverter} given the
-	 * {@link org.springframework.data.mapping.context.MappingContext}.
-	 * 
-	 * @param mappingContext must not be {@literal null}.
-	 */
-	public MappingMeilisearchConverter(
-			MappingContext<? extends MeilisearchPersistentEntity<?>, MeilisearchPersistentProperty> mappingContext) {
-		Assert.notNull(mappingContext, "MappingContext must not be null!");
-		this.mappingContext = mappingContext;
-		this.conversionService = new DefaultConversionService();
-	}
-
-	@Override
-	public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
-		this.applicationContext = applicationContext;
-	}
-
-	@Override
-	public MappingContext<? extends MeilisearchPersistentEntity<?>, MeilisearchPersistentProperty> getMappingContext() {
-		return mappingContext;
-	}
-
-	@Override
-	public ConversionService getConversionService() {
-		return this.conversionService;
-	}
-
-	public void setConversions(CustomConversions conversions) {
-
-		Assert.notNull(conversions, "CustomConversions must not be null");
-
-		this.conversions = conversions;
-	}
-
-	@Override
-	public void afterPropertiesSet() {
-		conversions.registerConvertersIn(conversionService);
-	}
-}
+/*
+ * Copyright 2023-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.core.convert;
+
+import io.vanslog.spring.data.meilisearch.UncategorizedMeilisearchException;
+import io.vanslog.spring.data.meilisearch.core.mapping.MeilisearchPersistentEntity;
+import io.vanslog.spring.data.meilisearch.core.mapping.MeilisearchPersistentProperty;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.core.CollectionFactory;
+import org.springframework.core.convert.support.GenericConversionService;
+import org.springframework.data.convert.CustomConversions;
+import org.springframework.data.mapping.MappingException;
+import org.springframework.data.mapping.Parameter;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.mapping.model.EntityInstantiator;
+import org.springframework.data.mapping.model.EntityInstantiators;
+import org.springframework.data.mapping.model.ParameterValueProvider;
+import org.springframework.data.util.TypeInformation;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ObjectUtils;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * {@link io.vanslog.spring.data.meilisearch.core.convert.MeilisearchConverter} Implementation based on
+ * {@link org.springframework.data.mapping.context.MappingContext}.
+ * <p>
+ * Entities are read and written property by property from their {@link MeilisearchPersistentEntity}. Property values
+ * are accessed through the property accessors of the mapping context, which are generated classes rather than
+ * reflective calls, and entities are created with {@link EntityInstantiators}, so records and constructors with
+ * arguments are supported. Registered {@link CustomConversions} are applied to property values in both directions.
+ * Without a custom conversion, {@link Date} values are written as epoch milliseconds like Jackson does by default, and
+ * other simple types as the {@link String} produced by the {@link ConversionService}.
+ * Documents are parsed and generated with Jackson's streaming API, so no intermediate tree or {@link String} is built.
+ *
+ * @author Junghoon Ban
+ */
+public class MappingMeilisearchConverter implements MeilisearchConverter, ApplicationContextAware, InitializingBean {
+
+	private final MappingContext<? extends MeilisearchPersistentEntity<?>, MeilisearchPersistentProperty> mappingContext;
+	private final GenericConversionService conversionService;
+	private final EntityInstantiators instantiators = new EntityInstantiators();
+	private final JsonFactory jsonFactory = new JsonFactory().disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+	private CustomConversions conversions = new MeilisearchCustomConversions(Collections.emptyList());
+
+	@SuppressWarnings("unused, FieldCanBeLocal")
+	@Nullable private ApplicationContext applicationContext;
+
+	/**
+	 * Creates a new {@link io.vanslog.spring.data.meilisearch.core.convert.MappingMeilisearchConverter} given the
+	 * {@link org.springframework.data.mapping.context.MappingContext}.
+	 * 
+	 * @param mappingContext must not be {@literal null}.
+	 */
+	public MappingMeilisearchConverter(
+			MappingContext<? extends MeilisearchPersistentEntity<?>, MeilisearchPersistentProperty> mappingContext) {
+		Assert.notNull(mappingContext, "MappingContext must not be null!");
+		this.mappingContext = mappingContext;
+		this.conversionService = new DefaultConversionService();
+	}
+
+	@Override
+	public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
+		this.applicationContext = applicationContext;
+	}
+
+	@Override
+	public MappingContext<? extends MeilisearchPersistentEntity<?>, MeilisearchPersistentProperty> getMappingContext() {
+		return mappingContext;
+	}
+
+	@Override
+	public ConversionService getConversionService() {
+		return this.conversionService;
+	}
+
+	public void setConversions(CustomConversions conversions) {
+
+		Assert.notNull(conversions, "CustomConversions must not be null");
+
+		this.conversions = conversions;
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+		conversions.registerConvertersIn(conversionService);
+	}
+
+	@Override
+	public <R> R read(Class<R> type, JsonParser parser) {
+
+		Assert.notNull(type, "Type must not be null");
+		Assert.notNull(parser, "JsonParser must not be null");
+
+		try {
+			JsonToken token = parser.currentToken() != null ? parser.currentToken() : parser.nextToken();
+			if (token != JsonToken.START_OBJECT) {
+				throw new MappingException("Expected a JSON object for " + type.getName() + " but found " + token + ".");
+			}
+			Object value = readValue(parser, TypeInformation.of(type));
+			return type.cast(value);
+		} catch (IOException e) {
+			throw new UncategorizedMeilisearchException("Failed to read document.", e);
+		}
+	}
+
+	@Override
+	public void write(Object source, JsonGenerator generator) {
+
+		Assert.notNull(source, "Source must not be null");
+		Assert.notNull(generator, "JsonGenerator must not be null");
+
+		try {
+			writeEntity(mappingContext.getRequiredPersistentEntity(source.getClass()), source, generator);
+		} catch (IOException e) {
+			throw new UncategorizedMeilisearchException("Failed to write document.", e);
+		}
+	}
+
+	@Override
+	public void write(Object source, OutputStream output) {
+
+		Assert.notNull(output, "OutputStream must not be null");
+
+		try (JsonGenerator generator = jsonFactory.createGenerator(output, JsonEncoding.UTF8)) {
+			write(source, generator);
+		} catch (IOException e) {
+			throw new UncategorizedMeilisearchException("Failed to write document.", e);
+		}
+	}
+
+	@Override
+	public void writeAll(Iterable<?> sources, OutputStream output) {
+
+		Assert.notNull(sources, "Sources must not be null");
+		Assert.notNull(output, "OutputStream must not be null");
+
+		try (JsonGenerator generator = jsonFactory.createGenerator(output, JsonEncoding.UTF8)) {
+			generator.writeStartArray();
+			for (Object source : sources) {
+				write(source, generator);
+			}
+			generator.writeEndArray();
+		} catch (IOException e) {
+			throw new UncategorizedMeilisearchException("Failed to write documents.", e);
+		}
+	}
+
+	private <T> void writeEntity(MeilisearchPersistentEntity<T> entity, Object source, JsonGenerator generator)
+			throws IOException {
+
+		PersistentPropertyAccessor<T> accessor = entity.getPropertyAccessor(entity.getType().cast(source));
+
+		generator.writeStartObject();
+		for (MeilisearchPersistentProperty property : entity) {
+			if (!property.isWritable()) {
+				continue;
+			}
+
+			Object value = accessor.getProperty(property);
+			if (value instanceof Optional<?> optional) {
+				value = optional.orElse(null);
+			}
+			if (value == null) {
+				continue;
+			}
+
+			generator.writeFieldName(property.getFieldName());
+			writeValue(value, generator);
+		}
+		generator.writeEndObject();
+	}
+
+	private void writeValue(@Nullable Object source, JsonGenerator generator) throws IOException {
+
+		Object value = source;
+		if (value != null) {
+			Optional<Class<?>> target = conversions.getCustomWriteTarget(value.getClass());
+			if (target.isPresent()) {
+				value = conversionService.convert(value, target.get());
+			}
+		}
+
+		if (value == null) {
+			generator.writeNull();
+		} else if (value instanceof CharSequence || value instanceof Character) {
+			generator.writeString(value.toString());
+		} else if (value instanceof Boolean bool) {
+			generator.writeBoolean(bool);
+		} else if (value instanceof Integer || value instanceof Long || value instanceof Short
+				|| value instanceof Byte) {
+			generator.writeNumber(((Number) value).longValue());
+		} else if (value instanceof Double number) {
+			generator.writeNumber(number);
+		} else if (value instanceof Float number) {
+			generator.writeNumber(number);
+		} else if (value instanceof BigDecimal number) {
+			generator.writeNumber(number);
+		} else if (value instanceof BigInteger number) {
+			generator.writeNumber(number);
+		} else if (value instanceof Number number) {
+			generator.writeNumber(number.toString());
+		} else if (value instanceof Enum<?> constant) {
+			generator.writeString(constant.name());
+		} else if (value instanceof Date date) {
+			generator.writeNumber(date.getTime());
+		} else if (value instanceof Optional<?> optional) {
+			writeValue(optional.orElse(null), generator);
+		} else if (value instanceof Map<?, ?> map) {
+			generator.writeStartObject();
+			for (Map.Entry<?, ?> entry : map.entrySet()) {
+				generator.writeFieldName(writeKey(entry.getKey()));
+				writeValue(entry.getValue(), generator);
+			}
+			generator.writeEndObject();
+		} else if (value instanceof Iterable<?> iterable) {
+			generator.writeStartArray();
+			for (Object element : iterable) {
+				writeValue(element, generator);
+			}
+			generator.writeEndArray();
+		} else if (value.getClass().isArray()) {
+			generator.writeStartArray();
+			for (Object element : ObjectUtils.toObjectArray(value)) {
+				writeValue(element, generator);
+			}
+			generator.writeEndArray();
+		} else if (conversions.isSimpleType(value.getClass())) {
+			generator.writeString(conversionService.canConvert(value.getClass(), String.class)
+					? conversionService.convert(value, String.class)
+					: value.toString());
+		} else {
+			writeEntity(mappingContext.getRequiredPersistentEntity(value.getClass()), value, generator);
+		}
+	}
+
+	private String writeKey(@Nullable Object key) {
+
+		if (key == null) {
+			throw new MappingException("Map keys must not be null.");
+		}
+		if (key instanceof String string) {
+			return string;
+		}
+		if (key instanceof Enum<?> constant) {
+			return constant.name();
+		}
+		String converted = conversionService.canConvert(key.getClass(), String.class)
+				? conversionService.convert(key, String.class)
+				: null;
+		return converted != null ? converted : key.toString();
+	}
+
+	/**
+	 * Read the value the parser points at as the given type.
+	 */
+	@Nullable
+	private Object readValue(JsonParser parser, TypeInformation<?> type) throws IOException {
+
+		JsonToken token = parser.currentToken();
+		Class<?> rawType = type.getType();
+
+		if (token == JsonToken.VALUE_NULL) {
+			return null;
+		}
+
+		if (token == JsonToken.START_ARRAY && type.isCollectionLike()) {
+			return readCollection(parser, type);
+		}
+
+		if (token == JsonToken.START_OBJECT && type.isMap()) {
+			return readMap(parser, type);
+		}
+
+		if (token == JsonToken.START_OBJECT && rawType != Object.class && !conversions.isSimpleType(rawType)
+				&& !conversions.hasCustomReadTarget(Map.class, rawType)) {
+			return readEntity(mappingContext.getRequiredPersistentEntity(type), parser);
+		}
+
+		return convert(readRaw(parser), rawType);
+	}
+
+	private <T> T readEntity(MeilisearchPersistentEntity<T> entity, JsonParser parser) throws IOException {
+
+		Map<MeilisearchPersistentProperty, Object> values = new HashMap<>();
+
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			MeilisearchPersistentProperty property = entity.getPersistentProperty(parser.currentName());
+			parser.nextToken();
+
+			if (property == null) {
+				parser.skipChildren();
+				continue;
+			}
+			values.put(property, readValue(parser, property.getTypeInformation()));
+		}
+
+		EntityInstantiator instantiator = instantiators.getInstantiatorFor(entity);
+		T instance = instantiator.createInstance(entity, new PropertyValueProvider(entity, values));
+		PersistentPropertyAccessor<T> accessor = entity.getPropertyAccessor(instance);
+
+		for (Map.Entry<MeilisearchPersistentProperty, Object> entry : values.entrySet()) {
+			MeilisearchPersistentProperty property = entry.getKey();
+			if (entity.isCreatorArgument(property) || (entry.getValue() == null && property.getType().isPrimitive())) {
+				continue;
+			}
+			accessor.setProperty(property, entry.getValue());
+		}
+		return accessor.getBean();
+	}
+
+	private Object readCollection(JsonParser parser, TypeInformation<?> type) throws IOException {
+
+		TypeInformation<?> componentType = type.getComponentType() != null ? type.getComponentType()
+				: TypeInformation.OBJECT;
+
+		List<Object> elements = new ArrayList<>();
+		while (parser.nextToken() != JsonToken.END_ARRAY) {
+			elements.add(readValue(parser, componentType));
+		}
+
+		Class<?> rawType = type.getType();
+		if (rawType.isArray()) {
+			Object array = Array.newInstance(componentType.getType(), elements.size());
+			for (int i = 0; i < elements.size(); i++) {
+				Array.set(array, i, elements.get(i));
+			}
+			return array;
+		}
+
+		Collection<Object> collection = CollectionFactory.createCollection(rawType, componentType.getType(),
+				elements.size());
+		collection.addAll(elements);
+		return collection;
+	}
+
+	private Object readMap(JsonParser parser, TypeInformation<?> type) throws IOException {
+
+		TypeInformation<?> keyType = type.getComponentType();
+		Class<?> rawKeyType = keyType != null ? keyType.getType() : String.class;
+		TypeInformation<?> valueType = type.getMapValueType() != null ? type.getMapValueType() : TypeInformation.OBJECT;
+
+		Map<Object, Object> map = CollectionFactory.createMap(type.getType(), rawKeyType, 16);
+
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			Object key = convert(parser.currentName(), rawKeyType);
+			parser.nextToken();
+			map.put(key, readValue(parser, valueType));
+		}
+		return map;
+	}
+
+	/**
+	 * Read the value the parser points at into plain Java types: maps, lists, strings, numbers and booleans.
+	 */
+	@Nullable
+	private Object readRaw(JsonParser parser) throws IOException {
+
+		return switch (parser.currentToken()) {
+			case START_OBJECT -> {
+				Map<String, Object> map = new LinkedHashMap<>();
+				while (parser.nextToken() == JsonToken.FIELD_NAME) {
+					String field = parser.currentName();
+					parser.nextToken();
+					map.put(field, readRaw(parser));
+				}
+				yield map;
+			}
+			case START_ARRAY -> {
+				List<Object> list = new ArrayList<>();
+				while (parser.nextToken() != JsonToken.END_ARRAY) {
+					list.add(readRaw(parser));
+				}
+				yield list;
+			}
+			case VALUE_STRING -> parser.getText();
+			case VALUE_NUMBER_INT -> parser.getNumberValue();
+			case VALUE_NUMBER_FLOAT -> parser.getDoubleValue();
+			case VALUE_TRUE -> Boolean.TRUE;
+			case VALUE_FALSE -> Boolean.FALSE;
+			case VALUE_NULL -> null;
+			default -> throw new MappingException("Unexpected token " + parser.currentToken() + ".");
+		};
+	}
+
+	@Nullable
+	private Object convert(@Nullable Object value, Class<?> targetType) {
+
+		if (value == null) {
+			return null;
+		}
+		if (conversions.hasCustomReadTarget(value.getClass(), targetType)) {
+			return conversionService.convert(value, targetType);
+		}
+		if (ClassUtils.isAssignableValue(targetType, value)) {
+			return value;
+		}
+		if (targetType == Date.class && value instanceof Number epochMillis) {
+			return new Date(epochMillis.longValue());
+		}
+		if (conversionService.canConvert(value.getClass(), targetType)) {
+			return conversionService.convert(value, targetType);
+		}
+		throw new MappingException(String.format("Cannot convert value of type %s to %s. Register a custom conversion.",
+				value.getClass().getName(), targetType.getName()));
+	}
+
+	/**
+	 * Provides the values read for the creator parameters of an entity. A missing value of a primitive parameter is
+	 * replaced with the default value of the primitive type.
+	 */
+	private static final class PropertyValueProvider implements ParameterValueProvider<MeilisearchPersistentProperty> {
+
+		private final MeilisearchPersistentEntity<?> entity;
+		private final Map<MeilisearchPersistentProperty, Object> values;
+
+		PropertyValueProvider(MeilisearchPersistentEntity<?> entity, Map<MeilisearchPersistentProperty, Object> values) {
+			this.entity = entity;
+			this.values = values;
+		}
+
+		@Override
+		@Nullable
+		@SuppressWarnings("unchecked")
+		public <T> T getParameterValue(Parameter<T, MeilisearchPersistentProperty> parameter) {
+
+			String name = parameter.getName();
+			if (name == null) {
+				throw new MappingException("Creator parameters of " + entity.getName() + " must be named.");
+			}
+
+			Object value = values.get(entity.getRequiredPersistentProperty(name));
+			if (value == null && parameter.getRawType().isPrimitive()) {
+				return (T) Array.get(Array.newInstance(parameter.getRawType(), 1), 0);
+			}
+			return (T) value;
+		}
+	}
+}
@@ -18,12 +18,18 @@ package io.vanslog.spring.data.meilisearch.core.convert;
 import io.vanslog.spring.data.meilisearch.core.mapping.MeilisearchPersistentEntity;
 import io.vanslog.spring.data.meilisearch.core.mapping.MeilisearchPersistentProperty;
 
+import java.io.OutputStream;
+
 import org.springframework.core.convert.ConversionService;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.util.Assert;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
 /**
- * Meilisearch converter aware of {@link MappingContext}.
+ * Meilisearch converter aware of {@link MappingContext}. Reads entities from and writes entities to the JSON documents
+ * of the Meilisearch API.
  *
  * @author Junghoon Ban
  * @see MappingContext
@@ -44,6 +50,42 @@ public interface MeilisearchConverter {
 	 */
 	ConversionService getConversionService();
 
+	/**
+	 * Read an entity of the given type from the JSON object the parser points at. If the parser was not advanced yet,
+	 * the object is expected to be its first token. Fields without a matching property are skipped and the parser is
+	 * left at the end of the object.
+	 *
+	 * @param type the entity type, must not be {@literal null}.
+	 * @param parser the parser, must not be {@literal null}.
+	 * @param <R> the entity type
+	 * @return the entity
+	 */
+	<R> R read(Class<R> type, JsonParser parser);
+
+	/**
+	 * Write the given entity as a JSON object to the generator. Properties without a value are omitted.
+	 *
+	 * @param source the entity, must not be {@literal null}.
+	 * @param generator the generator, must not be {@literal null}.
+	 */
+	void write(Object source, JsonGenerator generator);
+
+	/**
+	 * Write the given entity as a UTF-8 encoded JSON object to the output stream. The stream is not closed.
+	 *
+	 * @param source the entity, must not be {@literal null}.
+	 * @param output the output stream, must not be {@literal null}.
+	 */
+	void write(Object source, OutputStream output);
+
+	/**
+	 * Write the given entities as a UTF-8 encoded JSON array to the output stream. The stream is not closed.
+	 *
+	 * @param sources the entities, must not be {@literal null}.
+	 * @param output the output stream, must not be {@literal null}.
+	 */
+	void writeAll(Iterable<?> sources, OutputStream output);
+
 	default String convertId(Object idValue) {
 
 		Assert.notNull(idValue, "idValue must not be null!");
@@ -42,6 +42,13 @@ public interface MeilisearchPersistentEntity<T> extends PersistentEntity<T, Meil
 	 */
 	boolean isApplySettings();
 
+	/**
+	 * Returns whether updates only send the fields that changed since an entity was read or written.
+	 *
+	 * @return dirtyTracking
+	 */
+	boolean isDirtyTracking();
+
 	/**
 	 * Returns the default settings for an index.
 	 *
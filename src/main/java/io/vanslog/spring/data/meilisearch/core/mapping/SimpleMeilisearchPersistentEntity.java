@@ -56,6 +56,7 @@ public class SimpleMeilisearchPersistentEntity<T> extends BasicPersistentEntity<
 	private final StandardEvaluationContext context;
 	private final SettingsParameter settingParameter;
 	private final boolean applySettings;
+	private final boolean dirtyTracking;
 	@Nullable private String indexUid;
 
 	/**
@@ -76,8 +77,10 @@ public class SimpleMeilisearchPersistentEntity<T> extends BasicPersistentEntity<
 					"Unknown indexUid. Make sure the indexUid is defined." + "e.g @Document(indexUid=\"foo\")");
 			this.indexUid = document.indexUid();
 			this.applySettings = document.applySettings();
+			this.dirtyTracking = document.dirtyTracking();
 		} else {
 			this.applySettings = false;
+			this.dirtyTracking = false;
 		}
 	}
 
@@ -98,6 +101,11 @@ public class SimpleMeilisearchPersistentEntity<T> extends BasicPersistentEntity<
 		return applySettings;
 	}
 
+	@Override
+	public boolean isDirtyTracking() {
+		return dirtyTracking;
+	}
+
 	@Override
 	public Settings getDefaultSettings() {
 		return settingParameter.toSettings();
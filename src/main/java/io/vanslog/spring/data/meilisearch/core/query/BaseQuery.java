@@ -81,6 +81,39 @@ public abstract class BaseQuery implements Query {
 		this.distinct = builder.getDistinct();
 	}
 
+	/**
+	 * Create a copy of the given query requesting another page. Unlike {@link #setPageable(Pageable)}, the sort of the
+	 * given pageable is not added, the sort of the source query is kept as is.
+	 *
+	 * @param source the query to copy
+	 * @param pageable the page to request
+	 */
+	protected BaseQuery(BaseQuery source, Pageable pageable) {
+		Assert.notNull(source, "Source query must not be null!");
+		Assert.notNull(pageable, "Pageable must not be null!");
+		this.q = source.q;
+		this.sort = source.sort;
+		this.pageable = pageable;
+		this.attributesToRetrieve = source.attributesToRetrieve;
+		this.attributesToCrop = source.attributesToCrop;
+		this.cropLength = source.cropLength;
+		this.cropMarker = source.cropMarker;
+		this.highlightPreTag = source.highlightPreTag;
+		this.highlightPostTag = source.highlightPostTag;
+		this.matchingStrategy = source.matchingStrategy;
+		this.attributesToHighlight = source.attributesToHighlight;
+		this.attributesToSearchOn = source.attributesToSearchOn;
+		this.filter = source.filter;
+		this.filterArray = source.filterArray;
+		this.showMatchesPosition = source.showMatchesPosition;
+		this.facets = source.facets;
+		this.showRankingScore = source.showRankingScore;
+		this.showRankingScoreDetails = source.showRankingScoreDetails;
+		this.rankingScoreThreshold = source.rankingScoreThreshold;
+		this.locales = source.locales;
+		this.distinct = source.distinct;
+	}
+
 	@Nullable
 	public Sort getSort() {
 		return this.sort;
@@ -15,6 +15,10 @@
  */
 package io.vanslog.spring.data.meilisearch.repository;
 
+import io.vanslog.spring.data.meilisearch.core.DocumentEditRequest;
+
+import java.util.stream.Stream;
+
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.NoRepositoryBean;
 import org.springframework.data.repository.PagingAndSortingRepository;
@@ -30,4 +34,58 @@ import org.springframework.data.repository.PagingAndSortingRepository;
 @NoRepositoryBean
 public interface MeilisearchRepository<T, ID> extends CrudRepository<T, ID>, PagingAndSortingRepository<T, ID> {
 
+	/**
+	 * Updates a given entity with a partial update, keeping the fields of the document the entity does not write.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return the updated entity
+	 * @see io.vanslog.spring.data.meilisearch.core.DocumentOperations#update(Object)
+	 */
+	<S extends T> S update(S entity);
+
+	/**
+	 * Updates all given entities with a single partial update. With dirty tracking enabled on the entity, only the
+	 * fields that changed since the entities were loaded are sent.
+	 *
+	 * @param entities must not be {@literal null}.
+	 * @return the updated entities
+	 * @see io.vanslog.spring.data.meilisearch.core.DocumentOperations#updateAll(java.util.List)
+	 */
+	<S extends T> Iterable<S> updateAll(Iterable<S> entities);
+
+	/**
+	 * Deletes all entities matching the filter with a single task, without reading them.
+	 *
+	 * @param filter the filter expression, must not be empty
+	 * @return {@literal true} if the delete task succeeded
+	 * @see io.vanslog.spring.data.meilisearch.core.DocumentOperations#delete(Class, String)
+	 */
+	boolean deleteAllByFilter(String filter);
+
+	/**
+	 * Edits all entities matching the filter of the request on the server with its function.
+	 *
+	 * @param request must not be {@literal null}.
+	 * @return {@literal true} if the edit task succeeded
+	 * @see io.vanslog.spring.data.meilisearch.core.DocumentOperations#edit(Class, DocumentEditRequest)
+	 */
+	boolean editAll(DocumentEditRequest request);
+
+	/**
+	 * Streams all entities from the documents endpoint page by page, prefetching the next page in the background. Unlike
+	 * {@link #findAll()}, the entities are never held in memory all at once.
+	 *
+	 * @return a lazy stream of all entities, to be closed after use
+	 * @see io.vanslog.spring.data.meilisearch.core.DocumentOperations#streamAll(Class)
+	 */
+	Stream<T> streamAll();
+
+	/**
+	 * Returns a lazy {@link Iterable} over all entities. Each iteration walks the documents endpoint anew like
+	 * {@link #streamAll()}.
+	 *
+	 * @return a lazy iterable of all entities
+	 * @see io.vanslog.spring.data.meilisearch.core.DocumentOperations#iterateAll(Class)
+	 */
+	Iterable<T> iterateAll();
 }
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.repository.config;
+
+import io.vanslog.spring.data.meilisearch.repository.ReactiveMeilisearchRepository;
+import io.vanslog.spring.data.meilisearch.repository.support.ReactiveMeilisearchRepositoryFactoryBean;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.core.annotation.AnnotationAttributes;
+import org.springframework.data.repository.config.AnnotationRepositoryConfigurationSource;
+import org.springframework.data.repository.config.XmlRepositoryConfigurationSource;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.kotlin.CoroutineCrudRepository;
+
+/**
+ * {@link org.springframework.data.repository.config.RepositoryConfigurationExtension} implementation to configure
+ * reactive Meilisearch repository configuration support.
+ *
+ * @author Junghoon Ban
+ */
+public class ReactiveMeilisearchRepositoryConfigExtension extends MeilisearchRepositoryConfigExtension {
+
+	private static final String MODULE_NAME = "Reactive Meilisearch";
+
+	@Override
+	public String getRepositoryFactoryBeanClassName() {
+		return ReactiveMeilisearchRepositoryFactoryBean.class.getName();
+	}
+
+	@Override
+	public String getModuleName() {
+		return MODULE_NAME;
+	}
+
+	@Override
+	public void postProcess(BeanDefinitionBuilder builder, AnnotationRepositoryConfigurationSource config) {
+		AnnotationAttributes attributes = config.getAttributes();
+		builder.addPropertyReference("reactiveMeilisearchOperations",
+				attributes.getString("reactiveMeilisearchTemplateRef"));
+	}
+
+	@Override
+	public void postProcess(BeanDefinitionBuilder builder, XmlRepositoryConfigurationSource config) {
+		throw new UnsupportedOperationException("Reactive Meilisearch repositories do not support XML configuration.");
+	}
+
+	@Override
+	protected Collection<Class<?>> getIdentifyingTypes() {
+		return List.of(ReactiveMeilisearchRepository.class, CoroutineCrudRepository.class);
+	}
+
+	@Override
+	protected boolean useRepositoryConfiguration(RepositoryMetadata metadata) {
+		return metadata.isReactiveRepository();
+	}
+}
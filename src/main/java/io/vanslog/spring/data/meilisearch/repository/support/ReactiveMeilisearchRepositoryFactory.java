@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.repository.support;
+
+import io.vanslog.spring.data.meilisearch.core.ReactiveMeilisearchOperations;
+
+import org.springframework.data.repository.core.EntityInformation;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.core.support.ReactiveRepositoryFactorySupport;
+
+/**
+ * Factory to create {@link SimpleReactiveMeilisearchRepository} instances.
+ *
+ * @author Junghoon Ban
+ */
+public class ReactiveMeilisearchRepositoryFactory extends ReactiveRepositoryFactorySupport {
+
+	private final ReactiveMeilisearchOperations operations;
+	private final MeilisearchEntityInformationCreator entityInformationCreator;
+
+	public ReactiveMeilisearchRepositoryFactory(ReactiveMeilisearchOperations operations) {
+		this.operations = operations;
+		this.entityInformationCreator = new MeilisearchEntityInformationCreatorImpl(
+				operations.getMeilisearchConverter().getMappingContext());
+	}
+
+	@Override
+	public <T, ID> EntityInformation<T, ID> getEntityInformation(Class<T> domainClass) {
+		return entityInformationCreator.getEntityInformation(domainClass);
+	}
+
+	@Override
+	protected Object getTargetRepository(RepositoryInformation metadata) {
+		return getTargetRepositoryViaReflection(metadata, getEntityInformation(metadata.getDomainType()), operations);
+	}
+
+	@Override
+	protected Class<?> getRepositoryBaseClass(RepositoryMetadata metadata) {
+		return SimpleReactiveMeilisearchRepository.class;
+	}
+}
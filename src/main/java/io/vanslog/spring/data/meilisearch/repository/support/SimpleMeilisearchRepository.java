@@ -15,23 +15,22 @@
  */
 package io.vanslog.spring.data.meilisearch.repository.support;
 
+import io.vanslog.spring.data.meilisearch.core.DocumentEditRequest;
 import io.vanslog.spring.data.meilisearch.core.MeilisearchOperations;
-import io.vanslog.spring.data.meilisearch.core.SearchHit;
 import io.vanslog.spring.data.meilisearch.core.SearchHitSupport;
 import io.vanslog.spring.data.meilisearch.core.SearchHits;
 import io.vanslog.spring.data.meilisearch.core.SearchPage;
+import io.vanslog.spring.data.meilisearch.core.mapping.MeilisearchPersistentEntity;
 import io.vanslog.spring.data.meilisearch.core.query.BaseQuery;
 import io.vanslog.spring.data.meilisearch.core.query.BasicQuery;
 import io.vanslog.spring.data.meilisearch.repository.MeilisearchRepository;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.repository.core.EntityInformation;
@@ -64,8 +63,12 @@ public class SimpleMeilisearchRepository<T, ID> implements MeilisearchRepository
 	}
 
 	private boolean isRequiredApplySettings() {
+		return getPersistentEntity().isApplySettings();
+	}
+
+	private MeilisearchPersistentEntity<?> getPersistentEntity() {
 		return meilisearchOperations.getMeilisearchConverter() //
-				.getMappingContext().getRequiredPersistentEntity(entityType).isApplySettings();
+				.getMappingContext().getRequiredPersistentEntity(entityType);
 	}
 
 	@Override
@@ -80,6 +83,23 @@ public class SimpleMeilisearchRepository<T, ID> implements MeilisearchRepository
 		return meilisearchOperations.save(entityList);
 	}
 
+	@Override
+	public <S extends T> S update(S entity) {
+
+		Assert.notNull(entity, "Entity must not be null!");
+		return meilisearchOperations.update(entity);
+	}
+
+	@Override
+	public <S extends T> Iterable<S> updateAll(Iterable<S> entities) {
+
+		Assert.notNull(entities, "Entities must not be null!");
+
+		List<S> entityList = new ArrayList<>();
+		entities.forEach(entityList::add);
+		return entityList.isEmpty() ? entityList : meilisearchOperations.updateAll(entityList);
+	}
+
 	@Override
 	public Optional<T> findById(ID id) {
 		return Optional.ofNullable(meilisearchOperations.get(stringIdRepresentation(id), entityType));
@@ -132,34 +152,41 @@ public class SimpleMeilisearchRepository<T, ID> implements MeilisearchRepository
 	}
 
 	@Override
-	public Iterable<T> findAll() {
-		int itemCount = (int) this.count();
+	public boolean deleteAllByFilter(String filter) {
+		return meilisearchOperations.delete(entityType, filter);
+	}
 
-		if (itemCount == 0) {
-			return new PageImpl<>(Collections.emptyList());
+	@Override
+	public boolean editAll(DocumentEditRequest request) {
+		return meilisearchOperations.edit(entityType, request);
+	}
+
+	@Override
+	public Iterable<T> findAll() {
+		try (Stream<T> stream = streamAll()) {
+			return stream.toList();
 		}
-		return this.findAll(PageRequest.of(0, Math.max(1, itemCount)));
 	}
 
-	@SuppressWarnings("unchecked")
+	@Override
+	public Stream<T> streamAll() {
+		return meilisearchOperations.streamAll(entityType);
+	}
+
+	@Override
+	public Iterable<T> iterateAll() {
+		return meilisearchOperations.iterateAll(entityType);
+	}
+
 	@Override
 	public Iterable<T> findAll(Sort sort) {
 		Assert.notNull(sort, "sort must not be null");
 
-		int itemCount = (int) this.count();
-		if (itemCount == 0) {
-			return new PageImpl<>(Collections.emptyList());
+		// search stops at maxTotalHits, so all documents are read and sorted here
+		try (Stream<T> stream = streamAll()) {
+			return stream.sorted(SortComparator.of(sort, entityType,
+					meilisearchOperations.getMeilisearchConverter().getMappingContext())).toList();
 		}
-
-		BaseQuery query = BasicQuery.builder() //
-				.withSort(sort) //
-				.withPageable(PageRequest.of(0, Math.max(1, itemCount))) //
-				.build();
-
-		SearchHits<T> searchHits = meilisearchOperations.search(query, entityType);
-		List<SearchHit<T>> searchHitList = searchHits.getSearchHits();
-		// noinspection ConstantConditions
-		return (List<T>) SearchHitSupport.unwrapSearchHits(searchHitList);
 	}
 
 	@SuppressWarnings("unchecked")
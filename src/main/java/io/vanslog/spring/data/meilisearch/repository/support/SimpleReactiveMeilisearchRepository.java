@@ -0,0 +1,211 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.repository.support;
+
+import io.vanslog.spring.data.meilisearch.core.ReactiveMeilisearchOperations;
+import io.vanslog.spring.data.meilisearch.core.mapping.MeilisearchPersistentEntity;
+import io.vanslog.spring.data.meilisearch.repository.ReactiveMeilisearchRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.reactivestreams.Publisher;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.repository.core.EntityInformation;
+import org.springframework.util.Assert;
+
+/**
+ * Meilisearch specific reactive repository implementation. Settings declared on the entity are applied on the first
+ * operation of the repository rather than on creation, so creating a repository never blocks. A failed attempt is
+ * repeated by the next operation.
+ *
+ * @param <T>
+ * @param <ID>
+ * @author Junghoon Ban
+ * @see ReactiveMeilisearchRepository
+ */
+public class SimpleReactiveMeilisearchRepository<T, ID> implements ReactiveMeilisearchRepository<T, ID> {
+
+	static final int SAVE_BATCH_SIZE = 1000;
+	private static final Duration FOREVER = Duration.ofMillis(Long.MAX_VALUE);
+
+	private final ReactiveMeilisearchOperations operations;
+	private final Class<T> entityType;
+	private final Mono<Void> settingsApplied;
+
+	public SimpleReactiveMeilisearchRepository(EntityInformation<T, ID> entityInformation,
+			ReactiveMeilisearchOperations operations) {
+		this.operations = operations;
+
+		Assert.notNull(entityInformation, "EntityInformation must not be null!");
+		this.entityType = entityInformation.getJavaType();
+
+		// the outcome of applying the settings is cached once they were applied, failures are not
+		this.settingsApplied = getPersistentEntity().isApplySettings() //
+				? operations.applySettings(entityType).cache(value -> FOREVER, error -> Duration.ZERO, () -> FOREVER)
+				: Mono.empty();
+	}
+
+	private MeilisearchPersistentEntity<?> getPersistentEntity() {
+		return operations.getMeilisearchConverter().getMappingContext().getRequiredPersistentEntity(entityType);
+	}
+
+	@Override
+	public <S extends T> Mono<S> save(S entity) {
+
+		Assert.notNull(entity, "Entity must not be null!");
+		return settingsApplied.then(operations.save(entity));
+	}
+
+	@Override
+	public <S extends T> Flux<S> saveAll(Iterable<S> entities) {
+
+		Assert.notNull(entities, "Entities must not be null!");
+		return saveAll(Flux.fromIterable(entities));
+	}
+
+	@Override
+	public <S extends T> Flux<S> saveAll(Publisher<S> entityStream) {
+
+		Assert.notNull(entityStream, "EntityStream must not be null!");
+		return settingsApplied.thenMany(Flux.from(entityStream) //
+				.buffer(SAVE_BATCH_SIZE) //
+				.concatMap(batch -> operations.save(batch)));
+	}
+
+	@Override
+	public Mono<T> findById(ID id) {
+
+		Assert.notNull(id, "Id must not be null!");
+		return settingsApplied.then(operations.get(stringIdRepresentation(id), entityType));
+	}
+
+	@Override
+	public Mono<T> findById(Publisher<ID> id) {
+		return Mono.from(id).flatMap(this::findById);
+	}
+
+	@Override
+	public Mono<Boolean> existsById(ID id) {
+
+		Assert.notNull(id, "Id must not be null!");
+		return settingsApplied.then(operations.exists(stringIdRepresentation(id), entityType));
+	}
+
+	@Override
+	public Mono<Boolean> existsById(Publisher<ID> id) {
+		return Mono.from(id).flatMap(this::existsById);
+	}
+
+	@Override
+	public Flux<T> findAll() {
+		return settingsApplied.thenMany(operations.multiGet(entityType));
+	}
+
+	@Override
+	public Flux<T> findAll(Sort sort) {
+
+		Assert.notNull(sort, "sort must not be null");
+
+		// search stops at maxTotalHits, so all documents are read and sorted here
+		return findAll()
+				.sort(SortComparator.of(sort, entityType, operations.getMeilisearchConverter().getMappingContext()));
+	}
+
+	@Override
+	public Flux<T> findAllById(Iterable<ID> ids) {
+
+		Assert.notNull(ids, "Ids must not be null!");
+
+		List<String> idList = new ArrayList<>();
+		ids.forEach(id -> idList.add(stringIdRepresentation(id)));
+		return settingsApplied.thenMany(operations.multiGet(entityType, idList));
+	}
+
+	@Override
+	public Flux<T> findAllById(Publisher<ID> idStream) {
+
+		Assert.notNull(idStream, "IdStream must not be null!");
+		return Flux.from(idStream).buffer().concatMap(this::findAllById);
+	}
+
+	@Override
+	public Mono<Long> count() {
+		return settingsApplied.then(operations.count(entityType));
+	}
+
+	@Override
+	public Mono<Void> deleteById(ID id) {
+
+		Assert.notNull(id, "Id must not be null!");
+		return settingsApplied.then(operations.delete(stringIdRepresentation(id), entityType)).then();
+	}
+
+	@Override
+	public Mono<Void> deleteById(Publisher<ID> id) {
+		return Mono.from(id).flatMap(this::deleteById);
+	}
+
+	@Override
+	public Mono<Void> delete(T entity) {
+
+		Assert.notNull(entity, "Entity must not be null!");
+		return settingsApplied.then(operations.delete(entity)).then();
+	}
+
+	@Override
+	public Mono<Void> deleteAllById(Iterable<? extends ID> ids) {
+
+		Assert.notNull(ids, "Ids must not be null!");
+
+		List<String> idList = new ArrayList<>();
+		ids.forEach(id -> idList.add(stringIdRepresentation(id)));
+		return idList.isEmpty() ? Mono.empty() : settingsApplied.then(operations.delete(entityType, idList)).then();
+	}
+
+	@Override
+	public Mono<Void> deleteAll(Iterable<? extends T> entities) {
+
+		Assert.notNull(entities, "Entities must not be null!");
+
+		List<T> entityList = new ArrayList<>();
+		entities.forEach(entityList::add);
+		return entityList.isEmpty() ? Mono.empty() : settingsApplied.then(operations.delete(entityList)).then();
+	}
+
+	@Override
+	public Mono<Void> deleteAll(Publisher<? extends T> entityStream) {
+
+		Assert.notNull(entityStream, "EntityStream must not be null!");
+		return settingsApplied.thenMany(Flux.from(entityStream) //
+				.<T> map(entity -> entity) //
+				.buffer(SAVE_BATCH_SIZE) //
+				.concatMap(batch -> operations.delete(batch))) //
+				.then();
+	}
+
+	@Override
+	public Mono<Void> deleteAll() {
+		return settingsApplied.then(operations.deleteAll(entityType)).then();
+	}
+
+	private String stringIdRepresentation(ID id) {
+		return operations.getMeilisearchConverter().convertId(id);
+	}
+}
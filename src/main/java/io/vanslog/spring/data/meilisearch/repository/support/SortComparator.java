@@ -0,0 +1,197 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.repository.support;
+
+import io.vanslog.spring.data.meilisearch.core.mapping.MeilisearchPersistentEntity;
+import io.vanslog.spring.data.meilisearch.core.mapping.MeilisearchPersistentProperty;
+
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.AccessOptions;
+import org.springframework.data.mapping.AccessOptions.GetOptions;
+import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Sorts entities in memory by the properties of a {@link Sort}, for reading all entities in order without the
+ * {@code maxTotalHits} limit of search. Properties are resolved by name or by the field name they are stored under,
+ * nested properties by their dot-separated path.
+ * <p>
+ * Values are ordered like Meilisearch orders them: numbers before strings in either direction, and values of other
+ * types after both without an order among each other. Dates are compared as the epoch milliseconds they are stored as,
+ * and booleans, enums and temporals as their string representation. A collection is sorted by its first element in the
+ * requested direction. Missing values are placed last unless the order requests otherwise.
+ *
+ * @author Junghoon Ban
+ */
+final class SortComparator {
+
+	private static final GetOptions GET_OPTIONS = AccessOptions.defaultGetOptions()
+			.withNullValues(GetOptions.GetNulls.EARLY_RETURN);
+
+	private SortComparator() {}
+
+	/**
+	 * Create a comparator ordering entities of the given type by the given sort.
+	 *
+	 * @param sort the sort
+	 * @param type the type of the entities
+	 * @param mappingContext the mapping context to resolve the sorted properties with
+	 * @return the comparator
+	 * @param <T> the type of the entities
+	 */
+	static <T> Comparator<T> of(Sort sort, Class<?> type,
+			MappingContext<? extends MeilisearchPersistentEntity<?>, MeilisearchPersistentProperty> mappingContext) {
+
+		MeilisearchPersistentEntity<?> entity = mappingContext.getRequiredPersistentEntity(type);
+		Comparator<T> comparator = (left, right) -> 0;
+		for (Sort.Order order : sort) {
+			comparator = comparator.thenComparing(of(order, entity, mappingContext));
+		}
+		return comparator;
+	}
+
+	private static <T> Comparator<T> of(Sort.Order order, MeilisearchPersistentEntity<?> entity,
+			MappingContext<? extends MeilisearchPersistentEntity<?>, MeilisearchPersistentProperty> mappingContext) {
+
+		PersistentPropertyPath<MeilisearchPersistentProperty> path = path(order.getProperty(), entity, mappingContext);
+		Comparator<Object> values = order.isIgnoreCase() ? SortComparator::compareIgnoringCase
+				: SortComparator::compare;
+		// the type ranks first in both directions, only values of the same type are ordered by the direction
+		Comparator<Object> typed = Comparator.comparingInt(SortComparator::rank)
+				.thenComparing(order.isAscending() ? values : values.reversed());
+		Comparator<Object> nullsHandled = order.getNullHandling() == Sort.NullHandling.NULLS_FIRST
+				? Comparator.nullsFirst(typed)
+				: Comparator.nullsLast(typed);
+
+		return (left, right) -> nullsHandled.compare(value(left, path, entity, typed),
+				value(right, path, entity, typed));
+	}
+
+	private static PersistentPropertyPath<MeilisearchPersistentProperty> path(String dotPath,
+			MeilisearchPersistentEntity<?> entity,
+			MappingContext<? extends MeilisearchPersistentEntity<?>, MeilisearchPersistentProperty> mappingContext) {
+
+		List<String> names = new ArrayList<>();
+		MeilisearchPersistentEntity<?> owner = entity;
+		MeilisearchPersistentProperty parent = null;
+		for (String segment : StringUtils.delimitedListToStringArray(dotPath, ".")) {
+			if (parent != null && (parent.isCollectionLike() || parent.isMap())) {
+				throw new IllegalArgumentException("Cannot sort by " + dotPath + " in memory, as " + parent.getName()
+						+ " of " + parent.getOwner().getType().getName() + " is a collection.");
+			}
+			MeilisearchPersistentProperty property = owner != null ? property(segment, owner) : null;
+			if (property == null) {
+				throw new IllegalArgumentException(
+						"No property " + dotPath + " found on " + entity.getType().getName() + ".");
+			}
+			names.add(property.getName());
+			owner = property.isEntity() ? mappingContext.getPersistentEntity(property) : null;
+			parent = property;
+		}
+		return mappingContext.getPersistentPropertyPath(String.join(".", names), entity.getType());
+	}
+
+	@Nullable
+	private static MeilisearchPersistentProperty property(String name, MeilisearchPersistentEntity<?> entity) {
+
+		MeilisearchPersistentProperty property = entity.getPersistentProperty(name);
+		if (property != null) {
+			return property;
+		}
+		for (MeilisearchPersistentProperty candidate : entity) {
+			if (name.equals(candidate.getFieldName())) {
+				return candidate;
+			}
+		}
+		return null;
+	}
+
+	@Nullable
+	private static Object value(Object source, PersistentPropertyPath<MeilisearchPersistentProperty> path,
+			MeilisearchPersistentEntity<?> entity, Comparator<Object> comparator) {
+		return sortValue(entity.getPropertyPathAccessor(source).getProperty(path, GET_OPTIONS), comparator);
+	}
+
+	/**
+	 * Return the value the given value is sorted by: the value in the form it is stored in, or the element of a
+	 * collection that comes first in the sort order.
+	 */
+	@Nullable
+	private static Object sortValue(@Nullable Object value, Comparator<Object> comparator) {
+
+		if (value == null) {
+			return null;
+		}
+		if (value instanceof Collection<?> || value.getClass().isArray()) {
+			Collection<?> elements = value instanceof Collection<?> collection ? collection
+					: Arrays.asList(ObjectUtils.toObjectArray(value));
+			return elements.stream().map(element -> sortValue(element, comparator)).filter(Objects::nonNull)
+					.min(comparator).orElse(null);
+		}
+		if (value instanceof Date date) {
+			return date.getTime();
+		}
+		if (value instanceof Enum<?> constant) {
+			return constant.name();
+		}
+		if (value instanceof CharSequence || value instanceof Boolean || value instanceof Character
+				|| value instanceof TemporalAccessor || value instanceof UUID) {
+			return value.toString();
+		}
+		return value;
+	}
+
+	private static int rank(Object value) {
+
+		if (value instanceof Number) {
+			return 0;
+		}
+		return value instanceof String ? 1 : 2;
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static int compare(Object left, Object right) {
+
+		if (left instanceof Number leftNumber && right instanceof Number rightNumber) {
+			return Double.compare(leftNumber.doubleValue(), rightNumber.doubleValue());
+		}
+		if (left instanceof Comparable comparable && left.getClass().isInstance(right)) {
+			return comparable.compareTo(right);
+		}
+		return 0;
+	}
+
+	private static int compareIgnoringCase(Object left, Object right) {
+
+		if (left instanceof String leftValue && right instanceof String rightValue) {
+			return String.CASE_INSENSITIVE_ORDER.compare(leftValue, rightValue);
+		}
+		return compare(left, right);
+	}
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.core
+
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.withContext
+
+/**
+ * Coroutines variant of [MeilisearchIndexOperations.create]. The blocking call runs on [Dispatchers.IO].
+ *
+ * @author Junghoon Ban
+ */
+suspend fun MeilisearchIndexOperations.createAndAwait(): MeilisearchIndex =
+	withContext(Dispatchers.IO) { create() }
+
+/**
+ * Coroutines variant of [MeilisearchIndexOperations.create] with a create request. The blocking call runs on
+ * [Dispatchers.IO].
+ *
+ * @author Junghoon Ban
+ */
+suspend fun MeilisearchIndexOperations.createAndAwait(request: MeilisearchIndexCreateRequest): MeilisearchIndex =
+	withContext(Dispatchers.IO) { create(request) }
+
+/**
+ * Coroutines variant of [MeilisearchIndexOperations.get]. The blocking call runs on [Dispatchers.IO].
+ *
+ * @author Junghoon Ban
+ */
+suspend fun MeilisearchIndexOperations.getAndAwait(): MeilisearchIndex =
+	withContext(Dispatchers.IO) { get() }
+
+/**
+ * Coroutines variant of [MeilisearchIndexOperations.list]. The blocking call runs on [Dispatchers.IO].
+ *
+ * @author Junghoon Ban
+ */
+suspend fun MeilisearchIndexOperations.listAndAwait(): MeilisearchIndexList =
+	withContext(Dispatchers.IO) { list() }
+
+/**
+ * Coroutines variant of [MeilisearchIndexOperations.list] with a query. The blocking call runs on [Dispatchers.IO].
+ *
+ * @author Junghoon Ban
+ */
+suspend fun MeilisearchIndexOperations.listAndAwait(query: MeilisearchIndexQuery): MeilisearchIndexList =
+	withContext(Dispatchers.IO) { list(query) }
+
+/**
+ * Coroutines variant of [MeilisearchIndexOperations.update]. The blocking call runs on [Dispatchers.IO].
+ *
+ * @author Junghoon Ban
+ */
+suspend fun MeilisearchIndexOperations.updateAndAwait(request: MeilisearchIndexUpdateRequest): MeilisearchIndex =
+	withContext(Dispatchers.IO) { update(request) }
+
+/**
+ * Coroutines variant of [MeilisearchIndexOperations.delete]. The blocking call runs on [Dispatchers.IO].
+ *
+ * @author Junghoon Ban
+ */
+suspend fun MeilisearchIndexOperations.deleteAndAwait(): Boolean =
+	withContext(Dispatchers.IO) { delete() }
+
+/**
+ * Coroutines variant of [MeilisearchIndexOperations.stats]. The blocking call runs on [Dispatchers.IO].
+ *
+ * @author Junghoon Ban
+ */
+suspend fun MeilisearchIndexOperations.statsAndAwait(): MeilisearchIndexStats =
+	withContext(Dispatchers.IO) { stats() }
+
+/**
+ * Coroutines variant of [MeilisearchIndexOperations.getSettings]. The blocking call runs on [Dispatchers.IO].
+ *
+ * @author Junghoon Ban
+ */
+suspend fun MeilisearchIndexOperations.getSettingsAndAwait(): MeilisearchIndexSettings =
+	withContext(Dispatchers.IO) { getSettings() }
+
+/**
+ * Coroutines variant of [MeilisearchIndexOperations.updateSettings]. The blocking call runs on [Dispatchers.IO].
+ *
+ * @author Junghoon Ban
+ */
+suspend fun MeilisearchIndexOperations.updateSettingsAndAwait(settings: MeilisearchIndexSettings):
+		MeilisearchIndexSettings =
+	withContext(Dispatchers.IO) { updateSettings(settings) }
+
+/**
+ * Coroutines variant of [MeilisearchIndexOperations.resetSettings]. The blocking call runs on [Dispatchers.IO].
+ *
+ * @author Junghoon Ban
+ */
+suspend fun MeilisearchIndexOperations.resetSettingsAndAwait(): MeilisearchIndexSettings =
+	withContext(Dispatchers.IO) { resetSettings() }
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.core
+
+import com.meilisearch.sdk.MultiSearchFederation
+import io.vanslog.spring.data.meilisearch.core.query.BaseQuery
+import io.vanslog.spring.data.meilisearch.core.query.FacetQuery
+import io.vanslog.spring.data.meilisearch.core.query.SimilarQuery
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.flow
+import kotlinx.coroutines.withContext
+
+/**
+ * Extension for [DocumentOperations.get] leveraging reified type parameters.
+ *
+ * @author Junghoon Ban
+ */
+inline fun <reified T : Any> MeilisearchOperations.get(documentId: String): T? =
+	get(documentId, T::class.java)
+
+/**
+ * Extension for [DocumentOperations.multiGet] leveraging reified type parameters.
+ *
+ * @author Junghoon Ban
+ */
+inline fun <reified T : Any> MeilisearchOperations.multiGet(): List<T> =
+	multiGet(T::class.java)
+
+/**
+ * Extension for [SearchOperations.search] leveraging reified type parameters.
+ *
+ * @author Junghoon Ban
+ */
+inline fun <reified T : Any> MeilisearchOperations.search(query: BaseQuery): SearchHits<T> =
+	search(query, T::class.java)
+
+/**
+ * Coroutines variant of [DocumentOperations.save]. The blocking call runs on [Dispatchers.IO].
+ *
+ * @author Junghoon Ban
+ */
+suspend fun <T : Any> MeilisearchOperations.saveAndAwait(entity: T): T =
+	withContext(Dispatchers.IO) { save(entity) }
+
+/**
+ * Coroutines variant of [DocumentOperations.save] for a list of entities. The blocking call runs on [Dispatchers.IO].
+ *
+ * @author Junghoon Ban
+ */
+suspend fun <T : Any> MeilisearchOperations.saveAndAwait(entities: List<T>): List<T> =
+	withContext(Dispatchers.IO) { save(entities) }
+
+/**
+ * Coroutines variant of [DocumentOperations.get]. The blocking call runs on [Dispatchers.IO].
+ *
+ * @author Junghoon Ban
+ */
+suspend fun <T : Any> MeilisearchOperations.getAndAwait(documentId: String, clazz: Class<T>): T? =
+	withContext(Dispatchers.IO) { get(documentId, clazz) }
+
+/**
+ * Coroutines variant of [DocumentOperations.get] leveraging reified type parameters.
+ *
+ * @author Junghoon Ban
+ */
+suspend inline fun <reified T : Any> MeilisearchOperations.getAndAwait(documentId: String): T? =
+	getAndAwait(documentId, T::class.java)
+
+/**
+ * Coroutines variant of [DocumentOperations.exists]. The blocking call runs on [Dispatchers.IO].
+ *
+ * @author Junghoon Ban
+ */
+suspend fun MeilisearchOperations.existsAndAwait(documentId: String, clazz: Class<*>): Boolean =
+	withContext(Dispatchers.IO) { exists(documentId, clazz) }
+
+/**
+ * Coroutines variant of [DocumentOperations.existsAll]. The blocking call runs on [Dispatchers.IO].
+ *
+ * @author Junghoon Ban
+ */
+suspend fun MeilisearchOperations.existsAllAndAwait(clazz: Class<*>, documentIds: Collection<String>): Set<String> =
+	withContext(Dispatchers.IO) { existsAll(clazz, documentIds) }
+
+/**
+ * Coroutines variant of [SearchOperations.count]. The blocking call runs on [Dispatchers.IO].
+ *
+ * @author Junghoon Ban
+ */
+suspend fun MeilisearchOperations.countAndAwait(clazz: Class<*>): Long =
+	withContext(Dispatchers.IO) { count(clazz) }
+
+/**
+ * Coroutines variant of [DocumentOperations.delete] by document id. The blocking call runs on [Dispatchers.IO].
+ *
+ * @author Junghoon Ban
+ */
+suspend fun MeilisearchOperations.deleteAndAwait(documentId: String, clazz: Class<*>): Boolean =
+	withContext(Dispatchers.IO) { delete(documentId, clazz) }
+
+/**
+ * Coroutines variant of [DocumentOperations.delete] for an entity. The blocking call runs on [Dispatchers.IO].
+ *
+ * @author Junghoon Ban
+ */
+suspend fun <T : Any> MeilisearchOperations.deleteAndAwait(entity: T): Boolean =
+	withContext(Dispatchers.IO) { delete(entity) }
+
+/**
+ * Coroutines variant of [DocumentOperations.delete] by document ids. The blocking call runs on [Dispatchers.IO].
+ *
+ * @author Junghoon Ban
+ */
+suspend fun MeilisearchOperations.deleteAndAwait(clazz: Class<*>, documentIds: List<String>): Boolean =
+	withContext(Dispatchers.IO) { delete(clazz, documentIds) }
+
+/**
+ * Coroutines variant of [DocumentOperations.delete] for a list of entities. The blocking call runs on
+ * [Dispatchers.IO].
+ *
+ * @author Junghoon Ban
+ */
+suspend fun <T : Any> MeilisearchOperations.deleteAndAwait(entities: List<T>): Boolean =
+	withContext(Dispatchers.IO) { delete(entities) }
+
+/**
+ * Coroutines variant of [DocumentOperations.deleteAll]. The blocking call runs on [Dispatchers.IO].
+ *
+ * @author Junghoon Ban
+ */
+suspend fun MeilisearchOperations.deleteAllAndAwait(clazz: Class<*>): Boolean =
+	withContext(Dispatchers.IO) { deleteAll(clazz) }
+
+/**
+ * Coroutines variant of [SearchOperations.search]. The blocking call runs on [Dispatchers.IO].
+ *
+ * @author Junghoon Ban
+ */
+suspend fun <T : Any> MeilisearchOperations.searchAndAwait(query: BaseQuery, clazz: Class<T>): SearchHits<T> =
+	withContext(Dispatchers.IO) { search(query, clazz) }
+
+/**
+ * Coroutines variant of [SearchOperations.search] leveraging reified type parameters.
+ *
+ * @author Junghoon Ban
+ */
+suspend inline fun <reified T : Any> MeilisearchOperations.searchAndAwait(query: BaseQuery): SearchHits<T> =
+	searchAndAwait(query, T::class.java)
+
+/**
+ * Coroutines variant of the non-federated [SearchOperations.multiSearch]. The blocking call runs on
+ * [Dispatchers.IO].
+ *
+ * @author Junghoon Ban
+ */
+suspend fun <T : Any> MeilisearchOperations.multiSearchAndAwait(queries: List<BaseQuery>,
+		clazz: Class<T>): SearchHits<T> =
+	withContext(Dispatchers.IO) { multiSearch(queries, clazz) }
+
+/**
+ * Coroutines variant of the federated [SearchOperations.multiSearch]. The blocking call runs on [Dispatchers.IO].
+ *
+ * @author Junghoon Ban
+ */
+suspend fun <T : Any> MeilisearchOperations.multiSearchAndAwait(queries: List<BaseQuery>,
+		federation: MultiSearchFederation, clazz: Class<T>): SearchHits<T> =
+	withContext(Dispatchers.IO) { multiSearch(queries, federation, clazz) }
+
+/**
+ * Coroutines variant of [SearchOperations.facetSearch]. The blocking call runs on [Dispatchers.IO].
+ *
+ * @author Junghoon Ban
+ */
+suspend fun MeilisearchOperations.facetSearchAndAwait(query: FacetQuery, clazz: Class<*>): SearchHits<FacetHit> =
+	withContext(Dispatchers.IO) { facetSearch(query, clazz) }
+
+/**
+ * Coroutines variant of [SearchOperations.similarSearch]. The blocking call runs on [Dispatchers.IO].
+ *
+ * @author Junghoon Ban
+ */
+suspend fun <T : Any> MeilisearchOperations.similarSearchAndAwait(query: SimilarQuery, clazz: Class<T>): SearchHits<T> =
+	withContext(Dispatchers.IO) { similarSearch(query, clazz) }
+
+/**
+ * Page through the hits of the given query, starting at the page of its [BaseQuery.getPageable] and requesting the
+ * next page only once the collector has consumed the previous one. Paging stops at the first page with fewer hits than
+ * the page size. Each page is requested with a copy of the query, the given query is not modified.
+ *
+ * @author Junghoon Ban
+ */
+fun <T : Any> MeilisearchOperations.searchAsFlow(query: BaseQuery, clazz: Class<T>): Flow<SearchHit<T>> = flow {
+	var pageable = query.pageable
+	do {
+		val page = PageQuery(query, pageable)
+		val hits = withContext(Dispatchers.IO) { search(page, clazz).toList() }
+		for (hit in hits) {
+			emit(hit)
+		}
+		pageable = pageable.next()
+	} while (hits.size == pageable.pageSize)
+}
+
+/**
+ * Extension for [searchAsFlow] leveraging reified type parameters.
+ *
+ * @author Junghoon Ban
+ */
+inline fun <reified T : Any> MeilisearchOperations.searchAsFlow(query: BaseQuery): Flow<SearchHit<T>> =
+	searchAsFlow(query, T::class.java)
+
+/**
+ * Read all documents of the index of the given entity class from the documents endpoint, requesting the next page of
+ * [pageSize] documents only once the collector has consumed the previous one.
+ *
+ * @author Junghoon Ban
+ */
+fun <T : Any> MeilisearchOperations.multiGetAsFlow(clazz: Class<T>, pageSize: Int = 1000): Flow<T> {
+	require(pageSize > 0) { "Page size must be greater than 0" }
+
+	return flow {
+		var offset = 0
+		do {
+			val page = withContext(Dispatchers.IO) { multiGet(clazz, offset, pageSize) }
+			for (document in page) {
+				emit(document)
+			}
+			offset += page.size
+		} while (page.size == pageSize)
+	}
+}
+
+/**
+ * Extension for [multiGetAsFlow] leveraging reified type parameters.
+ *
+ * @author Junghoon Ban
+ */
+inline fun <reified T : Any> MeilisearchOperations.multiGetAsFlow(pageSize: Int = 1000): Flow<T> =
+	multiGetAsFlow(T::class.java, pageSize)
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.core
+
+import io.vanslog.spring.data.meilisearch.core.query.BaseQuery
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.flow.flow
+import kotlinx.coroutines.reactive.asFlow
+import kotlinx.coroutines.reactive.awaitSingle
+import kotlinx.coroutines.reactive.awaitSingleOrNull
+
+/**
+ * Coroutines variant of [ReactiveMeilisearchOperations.save].
+ *
+ * @author Junghoon Ban
+ */
+suspend fun <T : Any> ReactiveMeilisearchOperations.saveAndAwait(entity: T): T =
+	save(entity).awaitSingle()
+
+/**
+ * Coroutines variant of [ReactiveMeilisearchOperations.save] for a list of entities.
+ *
+ * @author Junghoon Ban
+ */
+suspend fun <T : Any> ReactiveMeilisearchOperations.saveAndAwait(entities: List<T>): List<T> =
+	save(entities).collectList().awaitSingle()
+
+/**
+ * Coroutines variant of [ReactiveMeilisearchOperations.get].
+ *
+ * @author Junghoon Ban
+ */
+suspend fun <T : Any> ReactiveMeilisearchOperations.getAndAwait(documentId: String, clazz: Class<T>): T? =
+	get(documentId, clazz).awaitSingleOrNull()
+
+/**
+ * Coroutines variant of [ReactiveMeilisearchOperations.get] leveraging reified type parameters.
+ *
+ * @author Junghoon Ban
+ */
+suspend inline fun <reified T : Any> ReactiveMeilisearchOperations.getAndAwait(documentId: String): T? =
+	getAndAwait(documentId, T::class.java)
+
+/**
+ * Coroutines variant of [ReactiveMeilisearchOperations.exists].
+ *
+ * @author Junghoon Ban
+ */
+suspend fun ReactiveMeilisearchOperations.existsAndAwait(documentId: String, clazz: Class<*>): Boolean =
+	exists(documentId, clazz).awaitSingle()
+
+/**
+ * Coroutines variant of [ReactiveMeilisearchOperations.existsAll].
+ *
+ * @author Junghoon Ban
+ */
+suspend fun ReactiveMeilisearchOperations.existsAllAndAwait(clazz: Class<*>, documentIds: Collection<String>):
+		Set<String> =
+	existsAll(clazz, documentIds).awaitSingle()
+
+/**
+ * Coroutines variant of [ReactiveMeilisearchOperations.count].
+ *
+ * @author Junghoon Ban
+ */
+suspend fun ReactiveMeilisearchOperations.countAndAwait(clazz: Class<*>): Long =
+	count(clazz).awaitSingle()
+
+/**
+ * Coroutines variant of [ReactiveMeilisearchOperations.delete] by document id.
+ *
+ * @author Junghoon Ban
+ */
+suspend fun ReactiveMeilisearchOperations.deleteAndAwait(documentId: String, clazz: Class<*>): Boolean =
+	delete(documentId, clazz).awaitSingle()
+
+/**
+ * Coroutines variant of [ReactiveMeilisearchOperations.delete] for an entity.
+ *
+ * @author Junghoon Ban
+ */
+suspend fun <T : Any> ReactiveMeilisearchOperations.deleteAndAwait(entity: T): Boolean =
+	delete(entity).awaitSingle()
+
+/**
+ * Coroutines variant of [ReactiveMeilisearchOperations.delete] by document ids.
+ *
+ * @author Junghoon Ban
+ */
+suspend fun ReactiveMeilisearchOperations.deleteAndAwait(clazz: Class<*>, documentIds: List<String>): Boolean =
+	delete(clazz, documentIds).awaitSingle()
+
+/**
+ * Coroutines variant of [ReactiveMeilisearchOperations.delete] for a list of entities.
+ *
+ * @author Junghoon Ban
+ */
+suspend fun <T : Any> ReactiveMeilisearchOperations.deleteAndAwait(entities: List<T>): Boolean =
+	delete(entities).awaitSingle()
+
+/**
+ * Coroutines variant of [ReactiveMeilisearchOperations.deleteAll].
+ *
+ * @author Junghoon Ban
+ */
+suspend fun ReactiveMeilisearchOperations.deleteAllAndAwait(clazz: Class<*>): Boolean =
+	deleteAll(clazz).awaitSingle()
+
+/**
+ * Coroutines variant of [ReactiveMeilisearchOperations.applySettings].
+ *
+ * @author Junghoon Ban
+ */
+suspend fun ReactiveMeilisearchOperations.applySettingsAndAwait(clazz: Class<*>) {
+	applySettings(clazz).awaitSingleOrNull()
+}
+
+/**
+ * Page through the hits of the given query like [MeilisearchOperations.searchAsFlow], without blocking a thread while
+ * a page is requested. Each page is requested with a copy of the query, the given query is not modified.
+ *
+ * @author Junghoon Ban
+ */
+fun <T : Any> ReactiveMeilisearchOperations.searchAsFlow(query: BaseQuery, clazz: Class<T>): Flow<SearchHit<T>> =
+	flow {
+		var pageable = query.pageable
+		do {
+			var received = 0
+			search(PageQuery(query, pageable), clazz).asFlow().collect { hit ->
+				received++
+				emit(hit)
+			}
+			pageable = pageable.next()
+		} while (received == pageable.pageSize)
+	}
+
+/**
+ * Extension for [searchAsFlow] leveraging reified type parameters.
+ *
+ * @author Junghoon Ban
+ */
+inline fun <reified T : Any> ReactiveMeilisearchOperations.searchAsFlow(query: BaseQuery): Flow<SearchHit<T>> =
+	searchAsFlow(query, T::class.java)
+
+/**
+ * Coroutines variant of [ReactiveMeilisearchOperations.multiGet]. The documents endpoint is read page by page as the
+ * collector consumes the flow.
+ *
+ * @author Junghoon Ban
+ */
+fun <T : Any> ReactiveMeilisearchOperations.multiGetAsFlow(clazz: Class<T>): Flow<T> =
+	multiGet(clazz).asFlow()
+
+/**
+ * Extension for [multiGetAsFlow] leveraging reified type parameters.
+ *
+ * @author Junghoon Ban
+ */
+inline fun <reified T : Any> ReactiveMeilisearchOperations.multiGetAsFlow(): Flow<T> =
+	multiGetAsFlow(T::class.java)
+
+/**
+ * Coroutines variant of [ReactiveMeilisearchOperations.multiGet] for the given document ids.
+ *
+ * @author Junghoon Ban
+ */
+fun <T : Any> ReactiveMeilisearchOperations.multiGetAsFlow(clazz: Class<T>, documentIds: List<String>): Flow<T> =
+	multiGet(clazz, documentIds).asFlow()
@@ -17,6 +17,8 @@ package io.vanslog.spring.data.meilisearch.client;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.time.Duration;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -39,5 +41,29 @@ class ClientConfigurationUnitTest {
 		assertThat(clientConfiguration.getHostUrl()).isEqualTo("http://localhost:7700");
 		assertThat(clientConfiguration.getApiKey()).isEqualTo("masterKey");
 		assertThat(clientConfiguration.getClientAgents()).isEmpty();
+		assertThat(clientConfiguration.getRetryPolicy()).isSameAs(RetryPolicy.defaults());
+		assertThat(clientConfiguration.getConnectTimeout()).isEqualTo(Duration.ofSeconds(10));
+		assertThat(clientConfiguration.getResponseTimeout()).isEqualTo(Duration.ofSeconds(10));
+	}
+
+	@Test
+	void shouldBuildConfigurationWithRetryPolicy() {
+
+		ClientConfiguration configuration = ClientConfiguration.builder().connectedToLocalhost().withApiKey("masterKey")
+				.withRetryPolicy(RetryPolicy.none()).build();
+
+		assertThat(configuration.getRetryPolicy().getMaxAttempts()).isEqualTo(1);
+	}
+
+	@Test
+	void shouldBuildConfigurationWithTimeouts() {
+
+		ClientConfiguration configuration = ClientConfiguration.builder().connectedToLocalhost().withApiKey("masterKey")
+				.withConnectTimeout(Duration.ofSeconds(2)).withResponseTimeout(Duration.ofSeconds(30)).build();
+
+		assertThat(configuration.getConnectTimeout()).isEqualTo(Duration.ofSeconds(2));
+		assertThat(configuration.getResponseTimeout()).isEqualTo(Duration.ofSeconds(30));
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> ClientConfiguration.builder().withResponseTimeout(Duration.ZERO));
 	}
 }
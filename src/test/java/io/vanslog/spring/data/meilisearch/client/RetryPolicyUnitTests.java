@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link RetryPolicy} and {@link RetryBudget}.
+ *
+ * @author Junghoon Ban
+ */
+class RetryPolicyUnitTests {
+
+	private final AtomicLong nanoTime = new AtomicLong();
+
+	@Test
+	void shouldGrowBackoffExponentially() {
+
+		RetryPolicy policy = RetryPolicy.builder().withInitialBackoff(Duration.ofMillis(100))
+				.withMaxBackoff(Duration.ofSeconds(1)).build();
+
+		assertThat(policy.backoff(1, 0)).isEqualTo(Duration.ofMillis(50));
+		assertThat(policy.backoff(1, 0.999)).isBetween(Duration.ofMillis(50), Duration.ofMillis(100));
+		assertThat(policy.backoff(2, 0)).isEqualTo(Duration.ofMillis(100));
+		assertThat(policy.backoff(3, 0)).isEqualTo(Duration.ofMillis(200));
+	}
+
+	@Test
+	void shouldCapBackoff() {
+
+		RetryPolicy policy = RetryPolicy.builder().withInitialBackoff(Duration.ofMillis(100))
+				.withMaxBackoff(Duration.ofSeconds(1)).build();
+
+		assertThat(policy.backoff(10, 0)).isEqualTo(Duration.ofMillis(500));
+		assertThat(policy.backoff(Integer.MAX_VALUE, 0.999)).isLessThanOrEqualTo(Duration.ofSeconds(1));
+	}
+
+	@Test
+	void shouldRejectMaxBackoffShorterThanInitialBackoff() {
+		assertThatIllegalArgumentException().isThrownBy(() -> RetryPolicy.builder()
+				.withInitialBackoff(Duration.ofSeconds(2)).withMaxBackoff(Duration.ofSeconds(1)).build());
+	}
+
+	@Test
+	void shouldAllowMinimumRetriesPerSecond() {
+
+		RetryBudget budget = budget(0, 2);
+
+		assertThat(budget.tryAcquire()).isTrue();
+		assertThat(budget.tryAcquire()).isTrue();
+		assertThat(budget.tryAcquire()).isFalse();
+
+		nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+		assertThat(budget.tryAcquire()).isTrue();
+		assertThat(budget.tryAcquire()).isFalse();
+	}
+
+	@Test
+	void shouldEarnRetriesByRequests() {
+
+		RetryBudget budget = budget(0.5, 0);
+
+		assertThat(budget.tryAcquire()).isFalse();
+
+		budget.recordRequest();
+		budget.recordRequest();
+
+		assertThat(budget.tryAcquire()).isTrue();
+		assertThat(budget.tryAcquire()).isFalse();
+	}
+
+	@Test
+	void shouldCapSavedRetries() {
+
+		RetryBudget budget = budget(1, 0);
+
+		for (int i = 0; i < 2 * RetryBudget.MIN_CAPACITY; i++) {
+			budget.recordRequest();
+		}
+
+		assertThat(budget.getAvailable()).isEqualTo(RetryBudget.MIN_CAPACITY);
+	}
+
+	private RetryBudget budget(double ratio, int minRetriesPerSecond) {
+
+		RetryPolicy policy = RetryPolicy.builder().withBudgetRatio(ratio).withMinRetriesPerSecond(minRetriesPerSecond)
+				.build();
+		return new RetryBudget(policy, nanoTime::get);
+	}
+}
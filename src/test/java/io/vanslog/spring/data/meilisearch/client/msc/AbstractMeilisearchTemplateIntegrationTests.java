@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client.msc;
+
+import io.vanslog.spring.data.meilisearch.client.MeilisearchClient;
+import io.vanslog.spring.data.meilisearch.entities.Movie;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.meilisearch.sdk.exceptions.MeilisearchApiException;
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.model.TaskInfo;
+
+/**
+ * Base class for integration tests of optional {@link MeilisearchTemplate} features. Each test starts with an empty
+ * {@code movies} index and a template without any feature enabled.
+ *
+ * @author Junghoon Ban
+ */
+abstract class AbstractMeilisearchTemplateIntegrationTests {
+
+	@Autowired MeilisearchClient meilisearchClient;
+
+	MeilisearchTemplate template;
+
+	Movie movie1 = new Movie(1, "Carol", "A love story", new String[] { "Romance", "Drama" });
+	Movie movie2 = new Movie(2, "Wonder Woman", "A superhero film", new String[] { "Action", "Adventure" });
+	Movie movie3 = new Movie(3, "Life of Pi", "A survival film", new String[] { "Adventure", "Drama" });
+
+	@BeforeEach
+	void setUpTemplate() throws MeilisearchException {
+
+		meilisearchClient.index("movies").deleteAllDocuments();
+		template = new MeilisearchTemplate(meilisearchClient);
+	}
+
+	void deleteIndexIfExists(String indexUid) throws MeilisearchException {
+
+		try {
+			TaskInfo taskInfo = meilisearchClient.deleteIndex(indexUid);
+			meilisearchClient.index(indexUid).waitForTask(taskInfo.getTaskUid(), meilisearchClient.getRequestTimeout(),
+					meilisearchClient.getRequestInterval());
+		} catch (MeilisearchApiException e) {
+			if (!"index_not_found".equals(e.getCode())) {
+				throw e;
+			}
+		}
+	}
+}
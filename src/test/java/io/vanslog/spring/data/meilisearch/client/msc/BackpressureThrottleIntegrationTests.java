@@ -0,0 +1,54 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client.msc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import io.vanslog.spring.data.meilisearch.core.BackpressureOptions;
+import io.vanslog.spring.data.meilisearch.core.BackpressureState;
+import io.vanslog.spring.data.meilisearch.entities.Movie;
+import io.vanslog.spring.data.meilisearch.junit.jupiter.MeilisearchTest;
+import io.vanslog.spring.data.meilisearch.junit.jupiter.MeilisearchTestConfiguration;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.ContextConfiguration;
+
+/**
+ * Integration tests for {@link BackpressureThrottle}.
+ *
+ * @author Junghoon Ban
+ */
+@MeilisearchTest
+@ContextConfiguration(classes = { MeilisearchTestConfiguration.class })
+class BackpressureThrottleIntegrationTests extends AbstractMeilisearchTemplateIntegrationTests {
+
+	@Test
+	void shouldExposeBackpressureState() {
+
+		assertThat(template.getBackpressureState()).isNull();
+
+		template.setBackpressure(BackpressureOptions.defaults());
+		template.save(List.of(movie1, movie2, movie3));
+
+		BackpressureState state = template.getBackpressureState();
+		assertThat(state).isNotNull();
+		assertThat(state.getLevel()).isEqualTo(BackpressureState.Level.NONE);
+		assertThat(state.getBacklog()).isLessThan(BackpressureOptions.defaults().getSlowdownThreshold());
+		assertThat(template.multiGet(Movie.class)).containsExactlyInAnyOrder(movie1, movie2, movie3);
+	}
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client.msc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import io.vanslog.spring.data.meilisearch.UncategorizedMeilisearchException;
+import io.vanslog.spring.data.meilisearch.client.ClientConfiguration;
+import io.vanslog.spring.data.meilisearch.client.MeilisearchClient;
+import io.vanslog.spring.data.meilisearch.core.BackpressureOptions;
+import io.vanslog.spring.data.meilisearch.core.BackpressureState;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Unit tests for {@link BackpressureThrottle}.
+ *
+ * @author Junghoon Ban
+ */
+class BackpressureThrottleUnitTests {
+
+	private static final BackpressureOptions OPTIONS = BackpressureOptions.builder() //
+			.withSlowdownThreshold(100) //
+			.withBlockThreshold(200) //
+			.withMaxSlowdown(Duration.ofMillis(100)) //
+			.withSampleInterval(Duration.ofSeconds(1)) //
+			.withMaxBlock(Duration.ofSeconds(5)) //
+			.build();
+
+	private final AtomicLong clock = new AtomicLong();
+	private final Deque<Long> backlogs = new ArrayDeque<>();
+	private final AtomicInteger samples = new AtomicInteger();
+	private final List<Long> sleeps = new ArrayList<>();
+
+	@Test
+	void shouldNotDelayWritesBelowSlowdownThreshold() {
+
+		backlogs.add(99L);
+
+		throttle().acquire();
+
+		assertThat(sleeps).isEmpty();
+	}
+
+	@Test
+	void shouldSlowWritesInProportionToBacklog() {
+
+		backlogs.add(149L);
+		BackpressureThrottle throttle = throttle();
+
+		throttle.acquire();
+
+		assertThat(throttle.state().getLevel()).isEqualTo(BackpressureState.Level.SLOWED);
+		assertThat(sleeps).containsExactly(50L);
+	}
+
+	@Test
+	void shouldBlockWritesUntilBacklogDrops() {
+
+		backlogs.add(250L);
+		backlogs.add(200L);
+		backlogs.add(10L);
+
+		throttle().acquire();
+
+		assertThat(sleeps).containsExactly(1000L, 1000L);
+		assertThat(samples).hasValue(3);
+	}
+
+	@Test
+	void shouldFailWhenBlockedLongerThanMaxBlock() {
+
+		backlogs.add(500L);
+		BackpressureThrottle throttle = throttle();
+
+		assertThatThrownBy(throttle::acquire).isInstanceOf(UncategorizedMeilisearchException.class)
+				.hasMessageContaining("500");
+		assertThat(sleeps).hasSize(5);
+	}
+
+	@Test
+	void shouldSampleOncePerInterval() {
+
+		backlogs.add(10L);
+		backlogs.add(20L);
+		BackpressureThrottle throttle = throttle();
+
+		throttle.acquire();
+		throttle.acquire();
+		clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(999));
+		throttle.acquire();
+
+		assertThat(samples).hasValue(1);
+
+		clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+
+		assertThat(throttle.state().getBacklog()).isEqualTo(20L);
+		assertThat(samples).hasValue(2);
+	}
+
+	@Test
+	void shouldNotDelayWritesWhenSamplingFails() {
+
+		BackpressureThrottle throttle = new BackpressureThrottle(OPTIONS, () -> {
+			throw new DataAccessResourceFailureException("Meilisearch is unavailable");
+		}, clock::get, sleeps::add);
+
+		throttle.acquire();
+
+		assertThat(throttle.state().getLevel()).isEqualTo(BackpressureState.Level.NONE);
+		assertThat(sleeps).isEmpty();
+	}
+
+	@Test
+	void shouldStopBlockingWhenSamplingFails() {
+
+		BackpressureThrottle throttle = new BackpressureThrottle(OPTIONS, () -> {
+			if (samples.getAndIncrement() == 0) {
+				return new BackpressureThrottle.Sample(250, 0, Set.of());
+			}
+			throw new DataAccessResourceFailureException("Meilisearch is unavailable");
+		}, clock::get, millis -> {
+			sleeps.add(millis);
+			clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+		});
+
+		throttle.acquire();
+
+		assertThat(sleeps).containsExactly(1000L);
+		assertThat(throttle.state().getLevel()).isEqualTo(BackpressureState.Level.NONE);
+	}
+
+	@Test
+	void shouldCountTasksByReportedTotal() {
+
+		List<String> paths = new ArrayList<>();
+		MeilisearchHttpTransport transport = transport(paths, "{\"results\":[{\"uid\":1}],\"total\":1234}");
+
+		assertThat(BackpressureThrottle.countTasks(transport, "enqueued", 200).join()).isEqualTo(1234L);
+		assertThat(paths).containsExactly("/tasks?statuses=enqueued&limit=1");
+	}
+
+	@Test
+	void shouldCountReturnedTasksWithoutTotal() {
+
+		List<String> paths = new ArrayList<>();
+		MeilisearchHttpTransport transport = transport(paths, "{\"results\":[{\"uid\":1},{\"uid\":2},{\"uid\":3}]}");
+
+		assertThat(BackpressureThrottle.countTasks(transport, "processing", 200).join()).isEqualTo(3L);
+		assertThat(paths).containsExactly("/tasks?statuses=processing&limit=1",
+				"/tasks?statuses=processing&limit=200");
+	}
+
+	@Test
+	void shouldExposeSampledState() {
+
+		BackpressureThrottle throttle = new BackpressureThrottle(OPTIONS,
+				() -> new BackpressureThrottle.Sample(120, 3, Set.of("movies")), clock::get, sleeps::add);
+
+		BackpressureState state = throttle.state();
+
+		assertThat(state.getLevel()).isEqualTo(BackpressureState.Level.SLOWED);
+		assertThat(state.getEnqueuedTasks()).isEqualTo(120L);
+		assertThat(state.getProcessingTasks()).isEqualTo(3L);
+		assertThat(state.getBacklog()).isEqualTo(123L);
+		assertThat(state.getIndexingIndexes()).containsExactly("movies");
+	}
+
+	private static MeilisearchHttpTransport transport(List<String> paths, String response) {
+
+		return new MeilisearchHttpTransport(
+				new MeilisearchClient(ClientConfiguration.builder().connectedToLocalhost().build())) {
+			@Override
+			CompletableFuture<String> exchange(String method, String path, @Nullable Object body) {
+				paths.add(path);
+				return CompletableFuture.completedFuture(response);
+			}
+		};
+	}
+
+	private BackpressureThrottle throttle() {
+
+		return new BackpressureThrottle(OPTIONS, () -> {
+			samples.incrementAndGet();
+			long backlog = backlogs.size() > 1 ? backlogs.poll() : backlogs.getFirst();
+			return new BackpressureThrottle.Sample(backlog, 0, Set.of());
+		}, clock::get, millis -> {
+			sleeps.add(millis);
+			clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+		});
+	}
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client.msc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link BufferPool}.
+ *
+ * @author Junghoon Ban
+ */
+class BufferPoolUnitTests {
+
+	@Test
+	void shouldReuseReleasedBuffers() {
+
+		BufferPool pool = new BufferPool(2, 16, 64);
+		BufferPool.Buffer buffer = pool.acquire();
+		buffer.write(42);
+
+		pool.release(buffer);
+
+		assertThat(pool.size()).isOne();
+		assertThat(pool.acquire()).isSameAs(buffer).satisfies(reused -> assertThat(reused.size()).isZero());
+	}
+
+	@Test
+	void shouldDropBuffersGrownBeyondRetainedCapacity() {
+
+		BufferPool pool = new BufferPool(2, 16, 64);
+		BufferPool.Buffer buffer = pool.acquire();
+		buffer.writeBytes(new byte[128]);
+
+		pool.release(buffer);
+
+		assertThat(pool.size()).isZero();
+	}
+
+	@Test
+	void shouldNotPoolMoreThanMaximum() {
+
+		BufferPool pool = new BufferPool(1, 16, 64);
+
+		pool.release(pool.acquire());
+		pool.release(pool.acquire());
+		pool.release(new BufferPool.Buffer(16));
+
+		assertThat(pool.size()).isOne();
+	}
+}
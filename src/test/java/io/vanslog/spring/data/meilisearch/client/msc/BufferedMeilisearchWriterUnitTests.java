@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client.msc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import io.vanslog.spring.data.meilisearch.client.msc.BufferedMeilisearchWriter.IndexBuffer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link BufferedMeilisearchWriter}.
+ *
+ * @author Junghoon Ban
+ */
+class BufferedMeilisearchWriterUnitTests {
+
+	private final IndexBuffer buffer = new IndexBuffer("movies", "id");
+
+	@Test
+	void shouldKeepLastSaveOfDocument() {
+
+		buffer.save("1", json("{\"id\":\"1\",\"title\":\"a\"}"));
+		buffer.save("2", json("{\"id\":\"2\"}"));
+		buffer.save("1", json("{\"id\":\"1\",\"title\":\"b\"}"));
+
+		assertThat(buffer.size()).isEqualTo(2);
+		assertThat(buffer.getSaves().keySet()).containsExactly("1", "2");
+		assertThat(buffer.getBytes()).isEqualTo("{\"id\":\"1\",\"title\":\"b\"}".length() + "{\"id\":\"2\"}".length());
+		assertThat(new String(buffer.toPayload(), StandardCharsets.UTF_8))
+				.isEqualTo("[{\"id\":\"1\",\"title\":\"b\"},{\"id\":\"2\"}]");
+	}
+
+	@Test
+	void shouldDropBufferedSaveOnDelete() {
+
+		buffer.save("1", json("{\"id\":\"1\"}"));
+		buffer.delete("1");
+
+		assertThat(buffer.getSaves()).isEmpty();
+		assertThat(buffer.getDeletes()).containsExactly("1");
+		assertThat(buffer.getBytes()).isZero();
+		assertThat(buffer.size()).isEqualTo(1);
+	}
+
+	@Test
+	void shouldDropBufferedDeleteOnSave() {
+
+		buffer.delete("1");
+		buffer.save("1", json("{\"id\":\"1\"}"));
+
+		assertThat(buffer.getDeletes()).isEmpty();
+		assertThat(buffer.getSaves()).containsOnlyKeys("1");
+	}
+
+	@Test
+	void shouldSplitPayloadsWithTheirDocumentIds() {
+
+		buffer.save("1", json("{\"id\":\"1\"}"));
+		buffer.save("2", json("{\"id\":\"2\"}"));
+		buffer.save("3", json("{\"id\":\"3\"}"));
+
+		List<BufferedMeilisearchWriter.Payload> payloads = buffer.toPayloads(24);
+
+		assertThat(payloads).extracting(BufferedMeilisearchWriter.Payload::documentIds)
+				.containsExactly(List.of("1", "2"), List.of("3"));
+		assertThat(new String(payloads.get(0).documents(), StandardCharsets.UTF_8))
+				.isEqualTo("[{\"id\":\"1\"},{\"id\":\"2\"}]");
+	}
+
+	@Test
+	void shouldNotDuplicateDeletes() {
+
+		buffer.delete("1");
+		buffer.delete("1");
+
+		assertThat(buffer.getDeletes()).containsExactly("1");
+	}
+
+	private static byte[] json(String document) {
+		return document.getBytes(StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client.msc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import io.vanslog.spring.data.meilisearch.core.BulkIndexOptions;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link BulkIndexer}.
+ *
+ * @author Junghoon Ban
+ */
+class BulkIndexerUnitTests {
+
+	private final BulkIndexOptions options = BulkIndexOptions.builder() //
+			.withDocumentsPerChunk(1000) //
+			.withMinDocumentsPerChunk(100) //
+			.withMaxDocumentsPerChunk(10000) //
+			.withTargetTaskDuration(Duration.ofSeconds(2)) //
+			.build();
+
+	@Test
+	void shouldGrowChunkSizeAtMostTwiceWhenTasksAreFast() {
+
+		BulkIndexer.AdaptiveChunkSize chunkSize = new BulkIndexer.AdaptiveChunkSize(options);
+
+		chunkSize.onTaskCompleted(Duration.ofMillis(100), 1000);
+
+		assertThat(chunkSize.get()).isEqualTo(2000);
+	}
+
+	@Test
+	void shouldShrinkChunkSizeWhenTasksAreSlow() {
+
+		BulkIndexer.AdaptiveChunkSize chunkSize = new BulkIndexer.AdaptiveChunkSize(options);
+
+		chunkSize.onTaskCompleted(Duration.ofMillis(2500), 1000);
+
+		assertThat(chunkSize.get()).isEqualTo(800);
+	}
+
+	@Test
+	void shouldScaleByDocumentCountOfPartialChunks() {
+
+		BulkIndexer.AdaptiveChunkSize chunkSize = new BulkIndexer.AdaptiveChunkSize(options);
+
+		chunkSize.onTaskCompleted(Duration.ofMillis(1000), 500);
+
+		assertThat(chunkSize.get()).isEqualTo(1000);
+	}
+
+	@Test
+	void shouldKeepChunkSizeWithinBounds() {
+
+		BulkIndexer.AdaptiveChunkSize chunkSize = new BulkIndexer.AdaptiveChunkSize(options);
+
+		for (int i = 0; i < 10; i++) {
+			chunkSize.onTaskCompleted(Duration.ofMinutes(1), chunkSize.get());
+		}
+		assertThat(chunkSize.get()).isEqualTo(100);
+
+		for (int i = 0; i < 10; i++) {
+			chunkSize.onTaskCompleted(Duration.ofMillis(1), chunkSize.get());
+		}
+		assertThat(chunkSize.get()).isEqualTo(10000);
+	}
+
+	@Test
+	void shouldIgnoreUnknownTaskDuration() {
+
+		BulkIndexer.AdaptiveChunkSize chunkSize = new BulkIndexer.AdaptiveChunkSize(options);
+
+		chunkSize.onTaskCompleted(BulkIndexer.parseDuration("not-a-duration"), 1000);
+
+		assertThat(chunkSize.get()).isEqualTo(1000);
+		assertThat(BulkIndexer.parseDuration("PT0.5S")).isEqualTo(Duration.ofMillis(500));
+	}
+}
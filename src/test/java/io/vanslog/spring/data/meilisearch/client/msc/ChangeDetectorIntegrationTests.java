@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client.msc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import io.vanslog.spring.data.meilisearch.core.BulkIndexOptions;
+import io.vanslog.spring.data.meilisearch.core.ChangeDetectionOptions;
+import io.vanslog.spring.data.meilisearch.entities.Movie;
+import io.vanslog.spring.data.meilisearch.junit.jupiter.MeilisearchTest;
+import io.vanslog.spring.data.meilisearch.junit.jupiter.MeilisearchTestConfiguration;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.context.ContextConfiguration;
+
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.model.TaskInfo;
+
+/**
+ * Integration tests for {@link ChangeDetector}.
+ *
+ * @author Junghoon Ban
+ */
+@MeilisearchTest
+@ContextConfiguration(classes = { MeilisearchTestConfiguration.class })
+class ChangeDetectorIntegrationTests extends AbstractMeilisearchTemplateIntegrationTests {
+
+	@Test
+	void shouldSkipUnchangedDocuments(@TempDir Path directory) throws MeilisearchException {
+
+		template.setChangeDetection(ChangeDetectionOptions.builder().withDirectory(directory).build());
+		template.save(List.of(movie1, movie2));
+
+		TaskInfo taskInfo = meilisearchClient.index("movies")
+				.updateDocuments("[{\"id\":1,\"title\":\"Carol (2015)\"}]");
+		meilisearchClient.index("movies").waitForTask(taskInfo.getTaskUid(), meilisearchClient.getRequestTimeout(),
+				meilisearchClient.getRequestInterval());
+
+		Movie changed = new Movie(2, "Wonder Woman", "A superhero film", new String[] { "Action" });
+		template.save(List.of(movie1, changed));
+
+		assertThat(template.get("1", Movie.class).getTitle()).isEqualTo("Carol (2015)");
+		assertThat(template.get("2", Movie.class)).isEqualTo(changed);
+		assertThat(directory.resolve("movies.hashes")).exists();
+
+		template.bulkSave(List.of(movie3), BulkIndexOptions.defaults());
+
+		assertThat(directory.resolve("movies.hashes")).exists();
+	}
+}
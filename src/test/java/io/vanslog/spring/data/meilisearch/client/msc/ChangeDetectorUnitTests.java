@@ -0,0 +1,184 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client.msc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import io.vanslog.spring.data.meilisearch.UncategorizedMeilisearchException;
+import io.vanslog.spring.data.meilisearch.core.ChangeDetectionOptions;
+import io.vanslog.spring.data.meilisearch.core.convert.MappingMeilisearchConverter;
+import io.vanslog.spring.data.meilisearch.core.convert.MeilisearchConverter;
+import io.vanslog.spring.data.meilisearch.core.mapping.SimpleMeilisearchMappingContext;
+import io.vanslog.spring.data.meilisearch.entities.Movie;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for {@link ChangeDetector}.
+ *
+ * @author Junghoon Ban
+ */
+class ChangeDetectorUnitTests {
+
+	private final MeilisearchConverter converter = new MappingMeilisearchConverter(
+			new SimpleMeilisearchMappingContext());
+	private final EntityOperations entityOperations = new EntityOperations(converter);
+	private final List<Movie> index = new ArrayList<>();
+	private final AtomicInteger reads = new AtomicInteger();
+
+	@TempDir Path directory;
+
+	@Test
+	void shouldSendAllDocumentsOfEmptyIndex() {
+
+		ChangeDetector detector = detector(ChangeDetectionOptions.defaults());
+
+		ChangeDetector.Changes changes = detector.detect(Movie.class, List.of(movie(1, "A love story"),
+				movie(2, "A superhero film")));
+
+		assertThat(changes.count()).isEqualTo(2);
+		assertThat(new String(changes.documents(), StandardCharsets.UTF_8))
+				.isEqualTo("[" + encode(movie(1, "A love story")) + "," + encode(movie(2, "A superhero film")) + "]");
+	}
+
+	@Test
+	void shouldSkipCommittedDocuments() {
+
+		ChangeDetector detector = detector(ChangeDetectionOptions.defaults());
+		detector.commit(detector.detect(Movie.class, List.of(movie(1, "A love story"), movie(2, "A superhero film"))));
+
+		ChangeDetector.Changes changes = detector.detect(Movie.class, List.of(movie(1, "A love story"),
+				movie(2, "A survival film")));
+
+		assertThat(changes.count()).isEqualTo(1);
+		assertThat(new String(changes.documents(), StandardCharsets.UTF_8))
+				.isEqualTo("[" + encode(movie(2, "A survival film")) + "]");
+	}
+
+	@Test
+	void shouldNotSkipDocumentsBeforeCommit() {
+
+		ChangeDetector detector = detector(ChangeDetectionOptions.defaults());
+		detector.detect(Movie.class, List.of(movie(1, "A love story")));
+
+		assertThat(detector.detect(Movie.class, List.of(movie(1, "A love story"))).isEmpty()).isFalse();
+	}
+
+	@Test
+	void shouldBuildHashesFromIndex() {
+
+		index.add(movie(1, "A love story"));
+		ChangeDetector detector = detector(ChangeDetectionOptions.defaults());
+
+		assertThat(detector.detect(Movie.class, List.of(movie(1, "A love story"))).isEmpty()).isTrue();
+		assertThat(reads).hasValue(1);
+	}
+
+	@Test
+	void shouldForgetDocuments() {
+
+		ChangeDetector detector = detector(ChangeDetectionOptions.defaults());
+		detector.commit(detector.detect(Movie.class, List.of(movie(1, "A love story"))));
+
+		detector.forget("movies", List.of("1"));
+
+		assertThat(detector.detect(Movie.class, List.of(movie(1, "A love story"))).count()).isEqualTo(1);
+	}
+
+	@Test
+	void shouldRebuildInvalidatedHashes() {
+
+		index.add(movie(1, "A love story"));
+		ChangeDetector detector = detector(ChangeDetectionOptions.defaults());
+		detector.detect(Movie.class, List.of(movie(2, "A superhero film")));
+
+		detector.invalidate("movies");
+
+		assertThat(detector.detect(Movie.class, List.of(movie(1, "A love story"))).isEmpty()).isTrue();
+		assertThat(reads).hasValue(2);
+	}
+
+	@Test
+	void shouldLoadPersistedHashes() {
+
+		ChangeDetectionOptions options = ChangeDetectionOptions.builder().withDirectory(directory).build();
+		ChangeDetector detector = detector(options);
+		List<Movie> movies = List.of(movie(1, "A love story"), movie(2, "A superhero film"));
+		detector.commit(detector.detect(Movie.class, movies));
+		index.addAll(movies);
+		reads.set(0);
+
+		ChangeDetector restarted = detector(options);
+
+		assertThat(restarted.detect(Movie.class, movies).isEmpty()).isTrue();
+		assertThat(reads).hasValue(0);
+		assertThat(directory.resolve("movies.hashes")).exists();
+	}
+
+	@Test
+	void shouldRebuildHashesIfFileDoesNotMatchIndex() {
+
+		ChangeDetectionOptions options = ChangeDetectionOptions.builder().withDirectory(directory).build();
+		ChangeDetector detector = detector(options);
+		detector.commit(detector.detect(Movie.class, List.of(movie(1, "A love story"))));
+		index.add(movie(1, "A romance"));
+		index.add(movie(2, "A superhero film"));
+		reads.set(0);
+
+		ChangeDetector restarted = detector(options);
+
+		assertThat(restarted.detect(Movie.class, List.of(movie(1, "A romance"))).isEmpty()).isTrue();
+		assertThat(reads).hasValue(1);
+	}
+
+	@Test
+	void shouldFailIfHashesCannotBeWritten() throws Exception {
+
+		Path file = directory.resolve("file");
+		Files.createFile(file);
+		ChangeDetector detector = detector(ChangeDetectionOptions.builder().withDirectory(file).build());
+
+		assertThatExceptionOfType(UncategorizedMeilisearchException.class)
+				.isThrownBy(() -> detector.detect(Movie.class, List.of(movie(1, "A love story"))));
+	}
+
+	private ChangeDetector detector(ChangeDetectionOptions options) {
+		return new ChangeDetector(converter, entityOperations, clazz -> {
+			reads.incrementAndGet();
+			return new ArrayList<>(index).stream();
+		}, clazz -> index.size(), options);
+	}
+
+	private String encode(Movie movie) {
+
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		converter.write(movie, output);
+		return output.toString(StandardCharsets.UTF_8);
+	}
+
+	private static Movie movie(int id, String description) {
+		return new Movie(id, "Title " + id, description, new String[] { "Drama" });
+	}
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client.msc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import io.vanslog.spring.data.meilisearch.core.ConsistencyToken;
+import io.vanslog.spring.data.meilisearch.core.MeilisearchCallback;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.meilisearch.sdk.Client;
+import com.meilisearch.sdk.Config;
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.json.GsonJsonHandler;
+import com.meilisearch.sdk.model.TaskInfo;
+import com.meilisearch.sdk.model.TasksQuery;
+import com.meilisearch.sdk.model.TasksResults;
+
+/**
+ * Unit tests for {@link ConsistencySession}.
+ *
+ * @author Junghoon Ban
+ */
+class ConsistencySessionUnitTests {
+
+	private final Map<Integer, String> statuses = new ConcurrentHashMap<>();
+	private final List<Integer> polled = new CopyOnWriteArrayList<>();
+
+	private final Client client = new Client(new Config("http://localhost:7700")) {
+		@Override
+		public TasksResults getTasks(TasksQuery param) throws MeilisearchException {
+
+			IntStream.of(param.getUids()).forEach(polled::add);
+			String results = IntStream.of(param.getUids()).filter(statuses::containsKey)
+					.mapToObj(uid -> "{\"uid\": %d, \"indexUid\": \"movies\", \"status\": \"%s\"}".formatted(uid,
+							statuses.get(uid)))
+					.collect(Collectors.joining(","));
+			return new GsonJsonHandler().decode("{\"results\": [" + results + "]}", TasksResults.class);
+		}
+	};
+
+	private final TaskTracker taskTracker = new TaskTracker(new MeilisearchClientExecutor() {
+		@Override
+		public <T> T execute(Idempotency idempotency, MeilisearchCallback<T> callback) {
+			try {
+				return callback.doWithClient(client);
+			} catch (MeilisearchException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+	}, Duration.ofSeconds(5), Duration.ofMillis(10), Duration.ofMillis(50));
+
+	private final ConsistencySession session = new ConsistencySession(taskTracker, ConsistencyToken.empty());
+
+	@Test
+	void shouldAwaitLastTaskRecordedForIndex() throws Exception {
+
+		statuses.put(1, "succeeded");
+		statuses.put(2, "processing");
+		session.record("movies", taskInfo(1));
+		session.record("movies", taskInfo(2));
+
+		CompletableFuture<Void> read = CompletableFuture.runAsync(() -> session.await("movies"));
+		Thread.sleep(50);
+		assertThat(read).isNotDone();
+		statuses.put(2, "succeeded");
+
+		read.get(5, TimeUnit.SECONDS);
+		assertThat(polled).contains(2).doesNotContain(1);
+	}
+
+	@Test
+	void shouldNotPollTasksKnownAsFinished() {
+
+		statuses.put(1, "succeeded");
+		session.record("movies", taskInfo(1));
+		session.await("movies");
+		int polls = polled.size();
+
+		session.await("movies");
+
+		assertThat(polled).hasSize(polls);
+	}
+
+	@Test
+	void shouldNotAwaitTasksOfOtherIndexes() {
+
+		statuses.put(1, "processing");
+		session.record("movies", taskInfo(1));
+
+		session.await("books");
+
+		assertThat(polled).isEmpty();
+	}
+
+	@Test
+	void shouldAwaitWritesNotEnqueuedYet() throws Exception {
+
+		statuses.put(1, "succeeded");
+		CompletableFuture<TaskInfo> enqueue = new CompletableFuture<>();
+		session.enqueuing(enqueue);
+
+		CompletableFuture<Void> read = CompletableFuture.runAsync(() -> session.await("movies"));
+		Thread.sleep(50);
+		assertThat(read).isNotDone();
+		enqueue.complete(session.record("movies", taskInfo(1)));
+
+		read.get(5, TimeUnit.SECONDS);
+		assertThat(polled).contains(1);
+		assertThat(session.getToken().getTaskUid("movies")).isEqualTo(1);
+	}
+
+	@Test
+	void shouldNotFailOnWritesThatFailedToEnqueue() {
+
+		session.enqueuing(CompletableFuture.failedFuture(new IllegalStateException("Failed.")));
+
+		session.await("movies");
+
+		assertThat(session.getToken()).isEqualTo(ConsistencyToken.empty());
+		assertThat(polled).isEmpty();
+	}
+
+	private static TaskInfo taskInfo(int taskUid) {
+		return new GsonJsonHandler().decode("{\"taskUid\": %d, \"indexUid\": \"movies\"}".formatted(taskUid),
+				TaskInfo.class);
+	}
+}
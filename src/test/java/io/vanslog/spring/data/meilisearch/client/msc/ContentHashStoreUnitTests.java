@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client.msc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for {@link ContentHashStore}.
+ *
+ * @author Junghoon Ban
+ */
+class ContentHashStoreUnitTests {
+
+	@TempDir Path directory;
+
+	@Test
+	void shouldReadWrittenHashes() throws IOException {
+
+		Path file = directory.resolve("movies.hashes");
+		ContentHashStore store = ContentHashStore.create(file, 0);
+		store.putAll(new long[] { 1, 2, 3 }, new long[] { 10, 20, 30 }, 3);
+		store.putAll(new long[] { 2, 3 }, new long[] { 0, 31 }, 2);
+
+		ContentHashStore read = ContentHashStore.read(file);
+
+		assertThat(read).isNotNull();
+		assertThat(read.size()).isEqualTo(2);
+		assertThat(read.get(1)).isEqualTo(10);
+		assertThat(read.get(2)).isEqualTo(LongLongHashMap.NO_VALUE);
+		assertThat(read.get(3)).isEqualTo(31);
+	}
+
+	@Test
+	void shouldIgnoreTruncatedRecord() throws IOException {
+
+		Path file = directory.resolve("movies.hashes");
+		ContentHashStore store = ContentHashStore.create(file, 0);
+		store.putAll(new long[] { 1, 2 }, new long[] { 10, 20 }, 2);
+		byte[] bytes = Files.readAllBytes(file);
+		Files.write(file, Arrays.copyOf(bytes, bytes.length - 4));
+
+		ContentHashStore read = ContentHashStore.read(file);
+
+		assertThat(read).isNotNull();
+		assertThat(read.size()).isEqualTo(1);
+		assertThat(read.get(1)).isEqualTo(10);
+	}
+
+	@Test
+	void shouldReturnNullForMissingOrForeignFile() throws IOException {
+
+		Path file = directory.resolve("movies.hashes");
+		assertThat(ContentHashStore.read(file)).isNull();
+
+		Files.writeString(file, "{\"id\":1}");
+		assertThat(ContentHashStore.read(file)).isNull();
+	}
+
+	@Test
+	void shouldCompactLog() throws IOException {
+
+		Path file = directory.resolve("movies.hashes");
+		ContentHashStore store = ContentHashStore.create(file, 1);
+		for (long i = 1; i <= 5_000; i++) {
+			store.putAll(new long[] { 1 }, new long[] { i }, 1);
+		}
+
+		assertThat(Files.size(file)).isLessThan(5_000 * 16);
+		ContentHashStore read = ContentHashStore.read(file);
+		assertThat(read).isNotNull();
+		assertThat(read.size()).isEqualTo(1);
+		assertThat(read.get(1)).isEqualTo(5_000);
+	}
+
+	@Test
+	void shouldDeleteFile() throws IOException {
+
+		Path file = directory.resolve("movies.hashes");
+		ContentHashStore store = ContentHashStore.create(file, 0);
+		store.putAll(new long[] { 1 }, new long[] { 10 }, 1);
+
+		store.delete();
+
+		assertThat(file).doesNotExist();
+	}
+}
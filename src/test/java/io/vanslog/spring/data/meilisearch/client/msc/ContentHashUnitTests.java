@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client.msc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ContentHash}.
+ *
+ * @author Junghoon Ban
+ */
+class ContentHashUnitTests {
+
+	@Test
+	void shouldMatchReferenceValues() {
+
+		assertThat(xxh64("")).isEqualTo(0xEF46DB3751D8E999L);
+		assertThat(xxh64("abc")).isEqualTo(0x44BC2CF5AD770999L);
+		assertThat(xxh64("Nobody inspects the spammish repetition")).isEqualTo(0xFBCEA83C8A378BF1L);
+	}
+
+	@Test
+	void shouldHashGivenRangeOnly() {
+
+		byte[] bytes = "[abc]".getBytes(StandardCharsets.UTF_8);
+
+		assertThat(ContentHash.xxh64(bytes, 1, 3, 0)).isEqualTo(xxh64("abc"));
+	}
+
+	@Test
+	void shouldDependOnSeed() {
+
+		byte[] bytes = "1".getBytes(StandardCharsets.UTF_8);
+
+		assertThat(ContentHash.of(bytes, 0, bytes.length, ContentHash.ID_SEED))
+				.isNotEqualTo(ContentHash.of(bytes, 0, bytes.length, ContentHash.CONTENT_SEED));
+	}
+
+	private static long xxh64(String input) {
+
+		byte[] bytes = input.getBytes(StandardCharsets.UTF_8);
+		return ContentHash.xxh64(bytes, 0, bytes.length, 0);
+	}
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client.msc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import io.vanslog.spring.data.meilisearch.core.convert.MappingMeilisearchConverter;
+import io.vanslog.spring.data.meilisearch.core.mapping.SimpleMeilisearchMappingContext;
+import io.vanslog.spring.data.meilisearch.entities.Movie;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Unit tests for {@link DocumentChangeTracker}.
+ *
+ * @author Junghoon Ban
+ */
+class DocumentChangeTrackerUnitTests {
+
+	private final DocumentChangeTracker tracker = new DocumentChangeTracker(
+			new MappingMeilisearchConverter(new SimpleMeilisearchMappingContext()));
+
+	@Test
+	void shouldReturnWholeDocumentWithoutSnapshot() {
+
+		ObjectNode document = tracker.toDocument(movie("A love story"));
+
+		assertThat(tracker.changes("movies", "id", "1", document)).isSameAs(document);
+	}
+
+	@Test
+	void shouldReturnChangedFieldsWithPrimaryKey() {
+
+		tracker.record("movies", "1", tracker.toDocument(movie("A love story")));
+
+		ObjectNode changes = tracker.changes("movies", "id", "1", tracker.toDocument(movie("A romance")));
+
+		assertThat(changes).hasToString("{\"id\":1,\"description\":\"A romance\"}");
+	}
+
+	@Test
+	void shouldClearRemovedFields() {
+
+		tracker.record("movies", "1", tracker.toDocument(movie("A love story")));
+
+		ObjectNode changes = tracker.changes("movies", "id", "1", tracker.toDocument(movie(null)));
+
+		assertThat(changes).hasToString("{\"id\":1,\"description\":null}");
+	}
+
+	@Test
+	void shouldReturnNullIfNothingChanged() {
+
+		tracker.record("movies", "1", tracker.toDocument(movie("A love story")));
+
+		assertThat(tracker.changes("movies", "id", "1", tracker.toDocument(movie("A love story")))).isNull();
+	}
+
+	@Test
+	void shouldForgetSnapshots() {
+
+		tracker.record("movies", "1", tracker.toDocument(movie("A love story")));
+		tracker.record("movies", "2", tracker.toDocument(movie("A love story")));
+		tracker.record("comics", "1", tracker.toDocument(movie("A love story")));
+		ObjectNode document = tracker.toDocument(movie("A love story"));
+
+		tracker.forget("movies", List.of("1"));
+		assertThat(tracker.changes("movies", "id", "1", document)).isSameAs(document);
+		assertThat(tracker.changes("movies", "id", "2", document)).isNull();
+
+		tracker.forgetAll("movies");
+		assertThat(tracker.changes("movies", "id", "2", document)).isSameAs(document);
+		assertThat(tracker.changes("comics", "id", "1", document)).isNull();
+	}
+
+	@Test
+	void shouldEncodeDocumentsAsArray() {
+
+		ObjectNode document = tracker.toDocument(movie(null));
+
+		assertThat(new String(tracker.encode(List.of(document)), StandardCharsets.UTF_8))
+				.isEqualTo("[{\"id\":1,\"title\":\"Carol\",\"genres\":[\"Romance\",\"Drama\"]}]");
+	}
+
+	private static Movie movie(String description) {
+		return new Movie(1, "Carol", description, new String[] { "Romance", "Drama" });
+	}
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client.msc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link DocumentFetcher}.
+ *
+ * @author Junghoon Ban
+ */
+class DocumentFetcherUnitTests {
+
+	@Test
+	void shouldFetchByIdsFromVersion114() {
+
+		assertThat(DocumentFetcher.supportsFetchByIds("1.14.0")).isTrue();
+		assertThat(DocumentFetcher.supportsFetchByIds("1.20.3")).isTrue();
+		assertThat(DocumentFetcher.supportsFetchByIds("2.0.0")).isTrue();
+	}
+
+	@Test
+	void shouldFetchSingleDocumentsBeforeVersion114() {
+
+		assertThat(DocumentFetcher.supportsFetchByIds("1.13.3")).isFalse();
+		assertThat(DocumentFetcher.supportsFetchByIds("1.2.0")).isFalse();
+		assertThat(DocumentFetcher.supportsFetchByIds("0.30.5")).isFalse();
+	}
+
+	@Test
+	void shouldIgnorePreReleaseSuffix() {
+		assertThat(DocumentFetcher.supportsFetchByIds("1.14.0-rc.1")).isTrue();
+	}
+
+	@Test
+	void shouldFetchSingleDocumentsForUnknownVersion() {
+
+		assertThat(DocumentFetcher.supportsFetchByIds(null)).isFalse();
+		assertThat(DocumentFetcher.supportsFetchByIds("")).isFalse();
+		assertThat(DocumentFetcher.supportsFetchByIds("nightly")).isFalse();
+	}
+}
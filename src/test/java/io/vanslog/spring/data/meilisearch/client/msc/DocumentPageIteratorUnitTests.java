@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client.msc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import io.vanslog.spring.data.meilisearch.UncategorizedMeilisearchException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link DocumentPageIterator}.
+ *
+ * @author Junghoon Ban
+ */
+class DocumentPageIteratorUnitTests {
+
+	private final Executor executor = Runnable::run;
+	private final List<Integer> requestedOffsets = new CopyOnWriteArrayList<>();
+
+	@Test
+	void shouldReadAllPages() {
+
+		DocumentPageIterator<Integer> iterator = new DocumentPageIterator<>(reader(5), 2, executor);
+
+		List<Integer> documents = new ArrayList<>();
+		iterator.forEachRemaining(documents::add);
+
+		assertThat(documents).containsExactly(0, 1, 2, 3, 4);
+		assertThat(requestedOffsets).containsExactly(0, 2, 4);
+	}
+
+	@Test
+	void shouldRequestOneMorePageWhenLastPageIsFull() {
+
+		DocumentPageIterator<Integer> iterator = new DocumentPageIterator<>(reader(4), 2, executor);
+
+		List<Integer> documents = new ArrayList<>();
+		iterator.forEachRemaining(documents::add);
+
+		assertThat(documents).containsExactly(0, 1, 2, 3);
+		assertThat(requestedOffsets).containsExactly(0, 2, 4);
+	}
+
+	@Test
+	void shouldPrefetchNextPageWhileCurrentPageIsConsumed() {
+
+		DocumentPageIterator<Integer> iterator = new DocumentPageIterator<>(reader(10), 2, executor);
+
+		assertThat(iterator.next()).isEqualTo(0);
+		assertThat(requestedOffsets).containsExactly(0, 2);
+	}
+
+	@Test
+	void shouldNotRequestPagesBeforeFirstAccess() {
+
+		new DocumentPageIterator<>(reader(10), 2, executor);
+
+		assertThat(requestedOffsets).isEmpty();
+	}
+
+	@Test
+	void shouldStopReadingWhenClosed() {
+
+		DocumentPageIterator<Integer> iterator = new DocumentPageIterator<>(reader(10), 2, executor);
+
+		iterator.next();
+		iterator.close();
+
+		assertThat(iterator.hasNext()).isFalse();
+		assertThat(requestedOffsets).containsExactly(0, 2);
+	}
+
+	@Test
+	void shouldPropagateReadFailures() {
+
+		DocumentPageIterator<Integer> iterator = new DocumentPageIterator<>((offset, limit) -> {
+			throw new UncategorizedMeilisearchException("Failed");
+		}, 2, executor);
+
+		assertThatThrownBy(iterator::hasNext).isInstanceOf(UncategorizedMeilisearchException.class)
+				.hasMessage("Failed");
+	}
+
+	private DocumentPageIterator.PageReader<Integer> reader(int total) {
+		return (offset, limit) -> {
+			requestedOffsets.add(offset);
+			return IntStream.range(offset, Math.min(total, offset + limit)).boxed().toList();
+		};
+	}
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client.msc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import io.vanslog.spring.data.meilisearch.UncategorizedMeilisearchException;
+import io.vanslog.spring.data.meilisearch.annotations.Document;
+import io.vanslog.spring.data.meilisearch.core.convert.MappingMeilisearchConverter;
+import io.vanslog.spring.data.meilisearch.core.mapping.SimpleMeilisearchMappingContext;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+
+/**
+ * Unit tests for {@link DocumentResponseReader}.
+ *
+ * @author Junghoon Ban
+ */
+class DocumentResponseReaderUnitTests {
+
+	private final DocumentResponseReader reader = new DocumentResponseReader(
+			new MappingMeilisearchConverter(new SimpleMeilisearchMappingContext()));
+
+	@Test
+	void shouldReadSingleDocument() {
+
+		Movie movie = reader.read("{\"id\":\"1\",\"title\":\"Carol\",\"year\":2015}", Movie.class);
+
+		assertThat(movie).isEqualTo(new Movie("1", "Carol", 2015));
+	}
+
+	@Test
+	void shouldReadPage() {
+
+		DocumentResponseReader.Page<Movie> page = reader.readPage("""
+				{"results":[{"id":"1","title":"Carol","year":2015},{"id":"2","title":"Wall-E","year":2008}],
+				"offset":20,"limit":2,"total":42}
+				""", Movie.class);
+
+		assertThat(page.results()).containsExactly(new Movie("1", "Carol", 2015), new Movie("2", "Wall-E", 2008));
+		assertThat(page.offset()).isEqualTo(20);
+		assertThat(page.total()).isEqualTo(42);
+	}
+
+	@Test
+	void shouldReadEmptyPage() {
+
+		DocumentResponseReader.Page<Movie> page = reader.readPage("{\"results\":[],\"offset\":0,\"total\":0}",
+				Movie.class);
+
+		assertThat(page.results()).isEmpty();
+		assertThat(page.total()).isZero();
+	}
+
+	@Test
+	void shouldFailOnMalformedResponse() {
+		assertThatExceptionOfType(UncategorizedMeilisearchException.class)
+				.isThrownBy(() -> reader.readPage("[]", Movie.class));
+	}
+
+	@Document(indexUid = "movies")
+	record Movie(@Id String id, String title, int year) {
+	}
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client.msc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import io.vanslog.spring.data.meilisearch.annotations.Document;
+import io.vanslog.spring.data.meilisearch.core.DocumentFormat;
+import io.vanslog.spring.data.meilisearch.core.IngestOptions;
+import io.vanslog.spring.data.meilisearch.core.convert.MappingMeilisearchConverter;
+import io.vanslog.spring.data.meilisearch.core.convert.MeilisearchConverter;
+import io.vanslog.spring.data.meilisearch.core.mapping.MeilisearchPersistentEntity;
+import io.vanslog.spring.data.meilisearch.core.mapping.SimpleMeilisearchMappingContext;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.lang.Nullable;
+
+/**
+ * Unit tests for {@link DocumentsBodyPublisher}.
+ *
+ * @author Junghoon Ban
+ */
+class DocumentsBodyPublisherUnitTests {
+
+	private static final MeilisearchConverter CONVERTER = new MappingMeilisearchConverter(
+			new SimpleMeilisearchMappingContext());
+
+	@Test
+	void shouldStreamDocumentsAsArray() throws Exception {
+
+		DocumentsBodyPublisher publisher = DocumentsBodyPublisher.of(CONVERTER,
+				List.of(new Movie("1", "Carol"), new Movie("2", "Wall-E")));
+
+		assertThat(read(publisher))
+				.isEqualTo("[{\"id\":\"1\",\"title\":\"Carol\"},{\"id\":\"2\",\"title\":\"Wall-E\"}]");
+		assertThat(publisher.getDocumentCount()).isEqualTo(2);
+		assertThat(publisher.contentLength()).isEqualTo(-1);
+	}
+
+	@Test
+	void shouldStreamEmptyArray() throws Exception {
+		assertThat(read(DocumentsBodyPublisher.of(CONVERTER, List.of()))).isEqualTo("[]");
+	}
+
+	@Test
+	void shouldStreamDocumentsLargerThanChunk() throws Exception {
+
+		List<Movie> movies = IntStream.range(0, 5_000) //
+				.mapToObj(i -> new Movie(String.valueOf(i), "Movie " + i)) //
+				.toList();
+		ByteArrayOutputStream expected = new ByteArrayOutputStream();
+		CONVERTER.writeAll(movies, expected);
+
+		String body = read(DocumentsBodyPublisher.of(CONVERTER, movies));
+
+		assertThat(expected.size()).isGreaterThan(DocumentsBodyPublisher.CHUNK_SIZE * 4);
+		assertThat(body).isEqualTo(expected.toString(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	void shouldReplayCollections() throws Exception {
+
+		DocumentsBodyPublisher publisher = DocumentsBodyPublisher.of(CONVERTER, List.of(new Movie("1", "Carol")));
+
+		assertThat(read(publisher)).isEqualTo(read(publisher));
+		assertThat(publisher.isReplayable()).isTrue();
+	}
+
+	@Test
+	void shouldSendIteratorsOnce() throws Exception {
+
+		DocumentsBodyPublisher publisher = DocumentsBodyPublisher.of(CONVERTER,
+				List.of(new Movie("1", "Carol")).iterator());
+
+		assertThat(publisher.isReplayable()).isTrue();
+		assertThat(read(publisher)).isEqualTo("[{\"id\":\"1\",\"title\":\"Carol\"}]");
+		assertThat(publisher.isReplayable()).isFalse();
+		assertThatExceptionOfType(ExecutionException.class).isThrownBy(() -> read(publisher))
+				.withCauseInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void shouldStreamNdjson() throws Exception {
+
+		DocumentsBodyPublisher publisher = DocumentsBodyPublisher
+				.of(CONVERTER, List.of(new Film("1", List.of("Drama")), new Film("2", List.of())))
+				.with(entity(Film.class), IngestOptions.builder().withFormat(DocumentFormat.NDJSON).build());
+
+		assertThat(publisher.getContentType()).isEqualTo("application/x-ndjson");
+		assertThat(read(publisher)).isEqualTo("{\"id\":\"1\",\"genres\":[\"Drama\"]}\n{\"id\":\"2\",\"genres\":[]}\n");
+	}
+
+	@Test
+	void shouldStreamCsvWithTypedHeader() throws Exception {
+
+		List<Rating> ratings = List.of(new Rating("1", "Carol, \"the\" film", 4.5, true),
+				new Rating("2", null, 3, false));
+		DocumentsBodyPublisher publisher = DocumentsBodyPublisher.of(CONVERTER, ratings).with(entity(Rating.class),
+				IngestOptions.builder().withFormat(DocumentFormat.CSV).build());
+
+		assertThat(publisher.getContentType()).isEqualTo("text/csv");
+		assertThat(read(publisher)).isEqualTo("""
+				id,title,score:number,recommended:boolean
+				1,"Carol, ""the"" film",4.5,true
+				2,,3.0,false
+				""");
+	}
+
+	@Test
+	void shouldTypeCsvColumnsByConvertedValues() throws Exception {
+
+		DocumentsBodyPublisher publisher = DocumentsBodyPublisher
+				.of(CONVERTER, List.of(new Screening("1", new Date(1_700_000_000_000L), null)))
+				.with(entity(Screening.class), IngestOptions.builder().withFormat(DocumentFormat.CSV).build());
+
+		assertThat(read(publisher)).isEqualTo("""
+				id,startsAt:number,seats:number
+				1,1700000000000,
+				""");
+	}
+
+	@Test
+	void shouldWriteCsvHeaderWithoutDocuments() throws Exception {
+
+		DocumentsBodyPublisher publisher = DocumentsBodyPublisher.of(CONVERTER, List.of())
+				.with(entity(Rating.class), IngestOptions.builder().withFormat(DocumentFormat.CSV).build());
+
+		assertThat(read(publisher)).isEqualTo("id,title,score:number,recommended:boolean\n");
+	}
+
+	@Test
+	void shouldSendNdjsonUnlessFormatIsSet() {
+
+		DocumentsBodyPublisher publisher = DocumentsBodyPublisher.of(CONVERTER, List.of());
+
+		assertThat(publisher.with(entity(Rating.class), IngestOptions.defaults()).getContentType())
+				.isEqualTo("application/x-ndjson");
+	}
+
+	@Test
+	void shouldRejectCsvForNestedEntities() {
+
+		DocumentsBodyPublisher publisher = DocumentsBodyPublisher.of(CONVERTER, List.of());
+		IngestOptions options = IngestOptions.builder().withFormat(DocumentFormat.CSV).build();
+
+		assertThatIllegalArgumentException().isThrownBy(() -> publisher.with(entity(Film.class), options))
+				.withMessageContaining("genres");
+	}
+
+	@Test
+	void shouldCompressWithGzip() throws Exception {
+
+		List<Film> films = IntStream.range(0, 2_000) //
+				.mapToObj(i -> new Film(String.valueOf(i), List.of("Drama", "Adventure"))) //
+				.toList();
+		DocumentsBodyPublisher plain = DocumentsBodyPublisher.of(CONVERTER, films).with(entity(Film.class),
+				IngestOptions.defaults());
+		DocumentsBodyPublisher compressed = DocumentsBodyPublisher.of(CONVERTER, films).with(entity(Film.class),
+				IngestOptions.builder().withGzip(true).build());
+
+		byte[] expected = readBytes(plain);
+		byte[] body = readBytes(compressed);
+
+		assertThat(compressed.isGzip()).isTrue();
+		assertThat(body.length).isLessThan(expected.length / 5);
+		try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(body))) {
+			assertThat(input.readAllBytes()).isEqualTo(expected);
+		}
+	}
+
+	private static MeilisearchPersistentEntity<?> entity(Class<?> type) {
+		return CONVERTER.getMappingContext().getRequiredPersistentEntity(type);
+	}
+
+	private static String read(DocumentsBodyPublisher publisher) throws Exception {
+		return new String(readBytes(publisher), StandardCharsets.UTF_8);
+	}
+
+	private static byte[] readBytes(DocumentsBodyPublisher publisher) throws Exception {
+
+		CompletableFuture<byte[]> body = new CompletableFuture<>();
+		publisher.subscribe(new Flow.Subscriber<>() {
+
+			private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+			@Override
+			public void onSubscribe(Flow.Subscription subscription) {
+				subscription.request(Long.MAX_VALUE);
+			}
+
+			@Override
+			public void onNext(ByteBuffer item) {
+				byte[] bytes = new byte[item.remaining()];
+				item.get(bytes);
+				output.writeBytes(bytes);
+			}
+
+			@Override
+			public void onError(Throwable throwable) {
+				body.completeExceptionally(throwable);
+			}
+
+			@Override
+			public void onComplete() {
+				body.complete(output.toByteArray());
+			}
+		});
+		return body.get(10, TimeUnit.SECONDS);
+	}
+
+	@Document(indexUid = "movies")
+	record Movie(@Id String id, String title) {
+	}
+
+	@Document(indexUid = "films")
+	record Film(@Id String id, List<String> genres) {
+	}
+
+	@Document(indexUid = "ratings")
+	record Rating(@Id String id, @Nullable String title, double score, boolean recommended) {
+	}
+
+	@Document(indexUid = "screenings")
+	record Screening(@Id String id, Date startsAt, @Nullable Integer seats) {
+	}
+}
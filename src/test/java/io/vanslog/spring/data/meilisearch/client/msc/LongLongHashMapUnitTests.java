@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client.msc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link LongLongHashMap}.
+ *
+ * @author Junghoon Ban
+ */
+class LongLongHashMapUnitTests {
+
+	@Test
+	void shouldPutGetAndRemove() {
+
+		LongLongHashMap map = new LongLongHashMap();
+
+		assertThat(map.put(1, 10)).isEqualTo(LongLongHashMap.NO_VALUE);
+		assertThat(map.put(1, 11)).isEqualTo(10);
+		assertThat(map.get(1)).isEqualTo(11);
+		assertThat(map.remove(1)).isEqualTo(11);
+		assertThat(map.get(1)).isEqualTo(LongLongHashMap.NO_VALUE);
+		assertThat(map.size()).isZero();
+	}
+
+	@Test
+	void shouldRejectZeroKeys() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new LongLongHashMap().put(0, 1));
+	}
+
+	@Test
+	void shouldBehaveLikeHashMap() {
+
+		LongLongHashMap map = new LongLongHashMap(4);
+		Map<Long, Long> expected = new HashMap<>();
+		Random random = new Random(42);
+
+		for (int i = 0; i < 100_000; i++) {
+			long key = 1 + random.nextInt(5_000);
+			if (random.nextInt(3) == 0) {
+				assertThat(map.remove(key)).isEqualTo(expected.getOrDefault(key, LongLongHashMap.NO_VALUE));
+				expected.remove(key);
+			} else {
+				long value = 1 + random.nextInt(1_000);
+				map.put(key, value);
+				expected.put(key, value);
+			}
+		}
+
+		assertThat(map.size()).isEqualTo(expected.size());
+		Map<Long, Long> actual = new HashMap<>();
+		map.forEach(actual::put);
+		assertThat(actual).isEqualTo(expected);
+	}
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client.msc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link MappedChunkBodyPublisher}.
+ *
+ * @author Junghoon Ban
+ */
+class MappedChunkBodyPublisherUnitTests {
+
+	@Test
+	void shouldPublishSlicesOnDemand() {
+
+		byte[] content = new byte[MappedChunkBodyPublisher.SLICE_SIZE * 2 + 10];
+		MappedChunkBodyPublisher publisher = new MappedChunkBodyPublisher(ByteBuffer.allocateDirect(content.length));
+		CollectingSubscriber subscriber = new CollectingSubscriber();
+
+		publisher.subscribe(subscriber);
+		subscriber.subscription.request(1);
+
+		assertThat(subscriber.slices).hasSize(1);
+		assertThat(subscriber.completed).isFalse();
+
+		subscriber.subscription.request(5);
+
+		assertThat(subscriber.slices).extracting(ByteBuffer::remaining)
+				.containsExactly(MappedChunkBodyPublisher.SLICE_SIZE, MappedChunkBodyPublisher.SLICE_SIZE, 10);
+		assertThat(subscriber.slices).allMatch(ByteBuffer::isReadOnly);
+		assertThat(subscriber.completed).isTrue();
+		assertThat(publisher.contentLength()).isEqualTo(content.length);
+	}
+
+	@Test
+	void shouldPublishFromStartForEverySubscription() {
+
+		MappedChunkBodyPublisher publisher = new MappedChunkBodyPublisher(ByteBuffer.wrap(new byte[] { 1, 2, 3 }));
+
+		for (int i = 0; i < 2; i++) {
+			CollectingSubscriber subscriber = new CollectingSubscriber();
+			publisher.subscribe(subscriber);
+			subscriber.subscription.request(Long.MAX_VALUE);
+
+			assertThat(subscriber.slices).singleElement().satisfies(slice -> assertThat(slice.remaining()).isEqualTo(3));
+			assertThat(subscriber.completed).isTrue();
+		}
+		assertThat(publisher.isReplayable()).isTrue();
+		assertThat(publisher.getContentType()).isEqualTo("application/x-ndjson");
+	}
+
+	@Test
+	void shouldRejectNonPositiveDemand() {
+
+		MappedChunkBodyPublisher publisher = new MappedChunkBodyPublisher(ByteBuffer.wrap(new byte[] { 1 }));
+		CollectingSubscriber subscriber = new CollectingSubscriber();
+
+		publisher.subscribe(subscriber);
+		subscriber.subscription.request(0);
+
+		assertThat(subscriber.error).isInstanceOf(IllegalArgumentException.class);
+		assertThat(subscriber.slices).isEmpty();
+	}
+
+	private static class CollectingSubscriber implements Flow.Subscriber<ByteBuffer> {
+
+		private final List<ByteBuffer> slices = new ArrayList<>();
+		private Flow.Subscription subscription;
+		private Throwable error;
+		private boolean completed;
+
+		@Override
+		public void onSubscribe(Flow.Subscription subscription) {
+			this.subscription = subscription;
+		}
+
+		@Override
+		public void onNext(ByteBuffer item) {
+			slices.add(item);
+		}
+
+		@Override
+		public void onError(Throwable throwable) {
+			this.error = throwable;
+		}
+
+		@Override
+		public void onComplete() {
+			this.completed = true;
+		}
+	}
+}
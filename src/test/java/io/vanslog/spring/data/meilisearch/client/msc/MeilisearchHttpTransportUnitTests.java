@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client.msc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import io.vanslog.spring.data.meilisearch.client.ClientConfiguration;
+import io.vanslog.spring.data.meilisearch.client.MeilisearchClient;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.meilisearch.sdk.SearchRequest;
+
+/**
+ * Unit tests for {@link MeilisearchHttpTransport}.
+ *
+ * @author Junghoon Ban
+ */
+class MeilisearchHttpTransportUnitTests {
+
+	private final MeilisearchHttpTransport transport = new MeilisearchHttpTransport(
+			new MeilisearchClient(ClientConfiguration.builder().connectedToLocalhost().withApiKey("masterKey").build()));
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	void shouldSendFilterArrayAsFilter() throws Exception {
+
+		SearchRequest request = SearchRequest.builder().q("wonder")
+				.filterArray(new String[][] { { "genres = Action", "genres = Drama" }, { "year > 2000" } }).build();
+
+		JsonNode body = objectMapper.readTree(transport.encode(request));
+
+		assertThat(body.has("filterArray")).isFalse();
+		assertThat(body.path("filter").get(0).get(1).asText()).isEqualTo("genres = Drama");
+		assertThat(body.path("q").asText()).isEqualTo("wonder");
+	}
+
+	@Test
+	void shouldOmitNullProperties() throws Exception {
+
+		SearchRequest request = SearchRequest.builder().q("carol").build();
+
+		JsonNode body = objectMapper.readTree(transport.encode(request));
+
+		assertThat(body.has("filter")).isFalse();
+	}
+
+	@Test
+	void shouldPassThroughEncodedBody() {
+		assertThat(transport.encode("[{\"id\":1}]")).isEqualTo("[{\"id\":1}]");
+	}
+
+	@Test
+	void shouldApplyResponseTimeoutToRequests() {
+
+		ClientConfiguration configuration = ClientConfiguration.builder().connectedToLocalhost().withApiKey("masterKey")
+				.withResponseTimeout(Duration.ofSeconds(3)).build();
+		MeilisearchHttpTransport transport = new MeilisearchHttpTransport(new MeilisearchClient(configuration));
+
+		assertThat(transport.request("GET", "/tasks", null).timeout()).contains(Duration.ofSeconds(3));
+		assertThat(this.transport.request("POST", "/indexes/movies/search", "{}").timeout())
+				.contains(Duration.ofSeconds(10));
+	}
+
+	@Test
+	void shouldEncodePathSegments() {
+		assertThat(MeilisearchHttpTransport.encodePathSegment("a b/c")).isEqualTo("a%20b%2Fc");
+	}
+}
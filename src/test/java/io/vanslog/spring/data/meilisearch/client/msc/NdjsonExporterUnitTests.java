@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client.msc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import io.vanslog.spring.data.meilisearch.UncategorizedMeilisearchException;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link NdjsonExporter}.
+ *
+ * @author Junghoon Ban
+ */
+class NdjsonExporterUnitTests {
+
+	@Test
+	void shouldConvertPageToNdjson() {
+
+		NdjsonExporter.Page page = NdjsonExporter.toNdjson("""
+				{"results":[{"id":1,"title":"Carol","genres":["Romance","Drama"]},{"id":2,"rating":{"imdb":8.1}}],
+				"offset":0,"limit":2,"total":5}
+				""");
+
+		assertThat(new String(page.content(), StandardCharsets.UTF_8)).isEqualTo("""
+				{"id":1,"title":"Carol","genres":["Romance","Drama"]}
+				{"id":2,"rating":{"imdb":8.1}}
+				""");
+		assertThat(page.documents()).isEqualTo(2);
+		assertThat(page.total()).isEqualTo(5);
+	}
+
+	@Test
+	void shouldConvertEmptyPage() {
+
+		NdjsonExporter.Page page = NdjsonExporter.toNdjson("{\"results\":[],\"offset\":0,\"limit\":20,\"total\":0}");
+
+		assertThat(page.content()).isEmpty();
+		assertThat(page.documents()).isZero();
+	}
+
+	@Test
+	void shouldFailOnMalformedResponse() {
+		assertThatExceptionOfType(UncategorizedMeilisearchException.class)
+				.isThrownBy(() -> NdjsonExporter.toNdjson("[]"));
+	}
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client.msc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link NdjsonFileImporter}.
+ *
+ * @author Junghoon Ban
+ */
+class NdjsonFileImporterUnitTests {
+
+	@Test
+	void shouldCutChunkAfterLastLineBreak() {
+
+		ByteBuffer window = window("{\"id\":1}\n{\"id\":2}\n{\"id\":");
+
+		assertThat(NdjsonFileImporter.chunkLength(window, false)).isEqualTo(18);
+	}
+
+	@Test
+	void shouldKeepWholeWindowAtEndOfFile() {
+
+		ByteBuffer window = window("{\"id\":1}\n{\"id\":2}");
+
+		assertThat(NdjsonFileImporter.chunkLength(window, true)).isEqualTo(window.limit());
+	}
+
+	@Test
+	void shouldRejectWindowWithoutLineBreak() {
+		assertThat(NdjsonFileImporter.chunkLength(window("{\"id\":1,\"title\":\"Car"), false)).isEqualTo(-1);
+	}
+
+	private static ByteBuffer window(String content) {
+		return ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8));
+	}
+}
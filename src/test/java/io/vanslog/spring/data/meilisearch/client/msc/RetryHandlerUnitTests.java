@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client.msc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import io.vanslog.spring.data.meilisearch.UncategorizedMeilisearchException;
+import io.vanslog.spring.data.meilisearch.client.ClientConfiguration;
+import io.vanslog.spring.data.meilisearch.client.MeilisearchClient;
+import io.vanslog.spring.data.meilisearch.client.RetryBudget;
+import io.vanslog.spring.data.meilisearch.client.RetryPolicy;
+import io.vanslog.spring.data.meilisearch.client.msc.RetryHandler.Failure;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+
+/**
+ * Unit tests for {@link RetryHandler} and {@link Idempotency}.
+ *
+ * @author Junghoon Ban
+ */
+class RetryHandlerUnitTests {
+
+	private final RetryPolicy policy = RetryPolicy.builder().withInitialBackoff(Duration.ZERO)
+			.withMaxBackoff(Duration.ZERO).build();
+	private final MeilisearchClient meilisearchClient = new MeilisearchClient(ClientConfiguration.builder()
+			.connectedToLocalhost().withApiKey("masterKey").withRetryPolicy(policy).build());
+	private final RetryHandler retryHandler = new RetryHandler(meilisearchClient);
+
+	@Test
+	void shouldClassifyStatus() {
+
+		assertThat(RetryHandler.classify(429)).isEqualTo(Failure.REJECTED);
+		assertThat(RetryHandler.classify(503)).isEqualTo(Failure.TRANSIENT);
+		assertThat(RetryHandler.classify(404)).isEqualTo(Failure.PERMANENT);
+		assertThat(RetryHandler.classify(200)).isEqualTo(Failure.PERMANENT);
+	}
+
+	@Test
+	void shouldClassifyExceptionByCause() {
+
+		assertThat(RetryHandler.classify(new UncategorizedMeilisearchException("failed", new ConnectException())))
+				.isEqualTo(Failure.REJECTED);
+		assertThat(RetryHandler.classify(new UncategorizedMeilisearchException("failed", new IOException("reset"))))
+				.isEqualTo(Failure.TRANSIENT);
+		assertThat(RetryHandler.classify(new UncategorizedMeilisearchException("failed", new JsonParseException(null, "{"))))
+				.isEqualTo(Failure.PERMANENT);
+		assertThat(RetryHandler.classify(new IllegalStateException())).isEqualTo(Failure.PERMANENT);
+	}
+
+	@Test
+	void shouldRetryTransientFailuresOfIdempotentRequestsOnly() {
+
+		assertThat(retryHandler.backoff(Idempotency.IDEMPOTENT, Failure.TRANSIENT, 1)).isNotNull();
+		assertThat(retryHandler.backoff(Idempotency.NON_IDEMPOTENT, Failure.TRANSIENT, 1)).isNull();
+		assertThat(retryHandler.backoff(Idempotency.NON_IDEMPOTENT, Failure.REJECTED, 1)).isNotNull();
+		assertThat(retryHandler.backoff(Idempotency.IDEMPOTENT, Failure.PERMANENT, 1)).isNull();
+	}
+
+	@Test
+	void shouldStopAfterMaxAttempts() {
+		assertThat(retryHandler.backoff(Idempotency.IDEMPOTENT, Failure.REJECTED, policy.getMaxAttempts())).isNull();
+	}
+
+	@Test
+	void shouldStopWhenBudgetIsSpent() {
+
+		RetryPolicy noBudget = RetryPolicy.builder().withBudgetRatio(0).withMinRetriesPerSecond(0).build();
+		RetryHandler handler = new RetryHandler(noBudget, new RetryBudget(noBudget));
+
+		assertThat(handler.backoff(Idempotency.IDEMPOTENT, Failure.REJECTED, 1)).isNull();
+	}
+
+	@Test
+	void shouldRetryCallback() {
+
+		AtomicInteger attempts = new AtomicInteger();
+
+		String result = retryHandler.execute(Idempotency.IDEMPOTENT, meilisearchClient, client -> {
+			if (attempts.incrementAndGet() < 3) {
+				throw new MeilisearchException(new ConnectException("Connection refused"));
+			}
+			return "done";
+		});
+
+		assertThat(result).isEqualTo("done");
+		assertThat(attempts).hasValue(3);
+	}
+
+	@Test
+	void shouldNotRetryPermanentFailure() {
+
+		AtomicInteger attempts = new AtomicInteger();
+
+		assertThatExceptionOfType(MeilisearchException.class)
+				.isThrownBy(() -> retryHandler.execute(Idempotency.IDEMPOTENT, meilisearchClient, client -> {
+					attempts.incrementAndGet();
+					throw new MeilisearchException("invalid");
+				}));
+		assertThat(attempts).hasValue(1);
+	}
+
+	@Test
+	void shouldClassifyIdempotency() {
+
+		assertThat(Idempotency.of("GET", "/indexes/movies/documents")).isEqualTo(Idempotency.IDEMPOTENT);
+		assertThat(Idempotency.of("POST", "/indexes/movies/documents?primaryKey=id")).isEqualTo(Idempotency.IDEMPOTENT);
+		assertThat(Idempotency.of("POST", "/indexes/movies/search")).isEqualTo(Idempotency.IDEMPOTENT);
+		assertThat(Idempotency.of("POST", "/indexes")).isEqualTo(Idempotency.NON_IDEMPOTENT);
+		assertThat(Idempotency.of("POST", "/indexes/movies/documents/edit")).isEqualTo(Idempotency.NON_IDEMPOTENT);
+	}
+}
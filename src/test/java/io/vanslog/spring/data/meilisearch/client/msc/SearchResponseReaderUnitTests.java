@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client.msc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import io.vanslog.spring.data.meilisearch.UncategorizedMeilisearchException;
+import io.vanslog.spring.data.meilisearch.core.SearchHit;
+import io.vanslog.spring.data.meilisearch.core.SearchHits;
+import io.vanslog.spring.data.meilisearch.core.TotalHitsRelation;
+import io.vanslog.spring.data.meilisearch.core.convert.MappingMeilisearchConverter;
+import io.vanslog.spring.data.meilisearch.core.convert.MeilisearchConverter;
+import io.vanslog.spring.data.meilisearch.core.mapping.SimpleMeilisearchMappingContext;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link SearchResponseReader}.
+ *
+ * @author Junghoon Ban
+ */
+class SearchResponseReaderUnitTests {
+
+	private static final MeilisearchConverter CONVERTER = new MappingMeilisearchConverter(
+			new SimpleMeilisearchMappingContext());
+
+	private final SearchResponseReader reader = new SearchResponseReader(CONVERTER);
+
+	@Test
+	void shouldReadSearchResponse() {
+
+		String body = """
+				{"hits":[{"id":1,"title":"Carol"},{"id":2,"title":"Wonder Woman"}],"query":"film",
+				"processingTimeMs":3,"facetDistribution":{"genres":{"Drama":1}},
+				"facetStats":{"year":{"min":1999.0,"max":2015.0}},"limit":20,"offset":0,"estimatedTotalHits":2}
+				""";
+
+		SearchHits<Movie> hits = reader.read(body, Movie.class);
+
+		assertThat(hits.getExecutionDuration()).isEqualTo(Duration.ofMillis(3));
+		assertThat(hits.getTotalHitsRelation()).isEqualTo(TotalHitsRelation.OFF);
+		assertThat(hits.getSearchHits()).extracting(SearchHit::getContent) //
+				.containsExactly(new Movie(1, "Carol"), new Movie(2, "Wonder Woman"));
+
+		SearchHit<Movie> hit = hits.getSearchHit(0);
+		assertThat(hit.getQuery()).isEqualTo("film");
+		assertThat(hit.getProcessingTimeMs()).isEqualTo(3);
+		assertThat(hit.getFacetStats()).containsOnlyKeys("year");
+		assertThat(hit.getFacetDistribution()).isNotNull();
+	}
+
+	@Test
+	void shouldReadTotalHitsOfPaginatedSearch() {
+
+		String body = """
+				{"hits":[{"id":1,"title":"Carol"}],"query":"","processingTimeMs":1,"hitsPerPage":1,"page":1,
+				"totalPages":3,"totalHits":3}
+				""";
+
+		SearchHits<Movie> hits = reader.read(body, Movie.class);
+
+		assertThat(hits.getTotalHits()).isEqualTo(3);
+		assertThat(hits.getTotalHitsRelation()).isEqualTo(TotalHitsRelation.EQUAL_TO);
+	}
+
+	@Test
+	void shouldSeparateFederationFromHit() {
+
+		String body = """
+				{"hits":[{"id":1,"title":"Carol","_federation":{"indexUid":"movies","queriesPosition":0,
+				"weightedRankingScore":0.9}},{"_federation":{"indexUid":"comics","queriesPosition":1},"id":2,
+				"title":"Batman"}],"processingTimeMs":2,"limit":20,"offset":0,"estimatedTotalHits":2}
+				""";
+
+		SearchHits<Movie> hits = reader.readFederated(body, Movie.class);
+
+		assertThat(hits.getSearchHits()).extracting(SearchHit::getContent) //
+				.containsExactly(new Movie(1, "Carol"), new Movie(2, "Batman"));
+		assertThat(hits.getSearchHits()).extracting(hit -> hit.getFederation().getIndexUid()) //
+				.containsExactly("movies", "comics");
+	}
+
+	@Test
+	void shouldConcatenateMultiSearchResults() {
+
+		String body = """
+				{"results":[{"indexUid":"movies","hits":[{"id":1,"title":"Carol"}],"query":"carol",
+				"processingTimeMs":2},{"indexUid":"movies","hits":[{"id":2,"title":"Batman"}],"query":"batman",
+				"processingTimeMs":5}]}
+				""";
+
+		SearchHits<Movie> hits = reader.readMultiSearch(body, Movie.class);
+
+		assertThat(hits.getExecutionDuration()).isEqualTo(Duration.ofMillis(5));
+		assertThat(hits.getSearchHits()).extracting(SearchHit::getQuery).containsExactly("carol", "batman");
+	}
+
+	@Test
+	void shouldFailOnMalformedResponse() {
+		assertThatExceptionOfType(UncategorizedMeilisearchException.class)
+				.isThrownBy(() -> reader.read("[]", Movie.class));
+	}
+
+	record Movie(int id, String title) {
+	}
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client.msc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import io.vanslog.spring.data.meilisearch.core.MeilisearchIndexOperations;
+import io.vanslog.spring.data.meilisearch.core.TaskPruningOptions;
+import io.vanslog.spring.data.meilisearch.core.TaskPruningResult;
+import io.vanslog.spring.data.meilisearch.entities.Movie;
+import io.vanslog.spring.data.meilisearch.junit.jupiter.MeilisearchTest;
+import io.vanslog.spring.data.meilisearch.junit.jupiter.MeilisearchTestConfiguration;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.ContextConfiguration;
+
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.model.TasksQuery;
+
+/**
+ * Integration tests for {@link TaskHistoryPruner}.
+ *
+ * @author Junghoon Ban
+ */
+@MeilisearchTest
+@ContextConfiguration(classes = { MeilisearchTestConfiguration.class })
+class TaskHistoryPrunerIntegrationTests extends AbstractMeilisearchTemplateIntegrationTests {
+
+	@Test
+	void shouldPruneFinishedTasks() throws MeilisearchException {
+
+		template.save(List.of(movie1, movie2));
+		// only prune the tasks of an index of this test, the instance is shared with the other tests
+		MeilisearchIndexOperations indexOps = template.indexOps("pruned-tasks");
+		indexOps.create();
+		indexOps.delete();
+		TaskPruningOptions options = TaskPruningOptions.builder() //
+				.withRetention(Duration.ZERO) //
+				.withIndexUids(List.of("pruned-tasks")) //
+				.withBatchSize(2) //
+				.withSchedule(TaskPruningOptions.MANUAL) //
+				.build();
+
+		try (TaskHistoryPruner pruner = new TaskHistoryPruner(template, options)) {
+			TaskPruningResult result = pruner.prune();
+
+			assertThat(result.getDeletedTasks()).isGreaterThanOrEqualTo(2);
+			assertThat(result.getBatches()).isPositive();
+			assertThat(result.getReclaimedBytes()).isNotNegative();
+			assertThat(pruner.getRuns()).isEqualTo(1);
+			assertThat(pruner.getDeletedTasks()).isEqualTo(result.getDeletedTasks());
+			assertThat(pruner.getLastResult()).isSameAs(result);
+		}
+		assertThat(meilisearchClient.getTasks(new TasksQuery().setIndexUids(new String[] { "pruned-tasks" }))
+				.getResults()).isEmpty();
+		assertThat(meilisearchClient.getTasks(new TasksQuery().setIndexUids(new String[] { "movies" })).getResults())
+				.isNotEmpty();
+		assertThat(template.multiGet(Movie.class)).containsExactlyInAnyOrder(movie1, movie2);
+	}
+}
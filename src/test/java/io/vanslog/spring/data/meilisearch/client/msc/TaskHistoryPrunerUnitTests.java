@@ -0,0 +1,246 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client.msc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import io.vanslog.spring.data.meilisearch.TaskStatusException;
+import io.vanslog.spring.data.meilisearch.core.MeilisearchCallback;
+import io.vanslog.spring.data.meilisearch.core.TaskPruningOptions;
+import io.vanslog.spring.data.meilisearch.core.TaskPruningResult;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.scheduling.support.CronExpression;
+
+import com.meilisearch.sdk.Client;
+import com.meilisearch.sdk.Config;
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.json.GsonJsonHandler;
+import com.meilisearch.sdk.model.DeleteTasksQuery;
+import com.meilisearch.sdk.model.TaskInfo;
+import com.meilisearch.sdk.model.TasksQuery;
+import com.meilisearch.sdk.model.TasksResults;
+
+/**
+ * Unit tests for {@link TaskHistoryPruner}.
+ *
+ * @author Junghoon Ban
+ */
+class TaskHistoryPrunerUnitTests {
+
+	private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+	private final Set<Integer> finishedTasks = new ConcurrentSkipListSet<>();
+	private final List<TasksQuery> lookups = new CopyOnWriteArrayList<>();
+	private final List<int[]> deletions = new CopyOnWriteArrayList<>();
+	private final AtomicInteger deletionTaskUids = new AtomicInteger(1000);
+	private volatile String deletionStatus = "succeeded";
+	private volatile boolean failing;
+
+	private final Client client = new Client(new Config("http://localhost:7700")) {
+		@Override
+		public TasksResults getTasks(TasksQuery param) throws MeilisearchException {
+
+			String results;
+			if (param.getUids() != null) {
+				// polled by the task tracker waiting for deletion tasks
+				results = IntStream.of(param.getUids())
+						.mapToObj(uid -> "{\"uid\": %d, \"status\": \"%s\"}".formatted(uid, deletionStatus))
+						.collect(Collectors.joining(","));
+			} else {
+				lookups.add(param);
+				results = finishedTasks.stream().limit(param.getLimit())
+						.map(uid -> "{\"uid\": %d, \"indexUid\": \"movies\", \"status\": \"succeeded\"}".formatted(uid))
+						.collect(Collectors.joining(","));
+			}
+			return new GsonJsonHandler().decode("{\"results\": [" + results + "]}", TasksResults.class);
+		}
+
+		@Override
+		public TaskInfo deleteTasks(DeleteTasksQuery param) throws MeilisearchException {
+
+			deletions.add(param.getUids());
+			IntStream.of(param.getUids()).forEach(finishedTasks::remove);
+			return new GsonJsonHandler().decode("{\"taskUid\": %d}".formatted(deletionTaskUids.incrementAndGet()),
+					TaskInfo.class);
+		}
+	};
+
+	private final MeilisearchClientExecutor executor = new MeilisearchClientExecutor() {
+		@Override
+		public <T> T execute(Idempotency idempotency, MeilisearchCallback<T> callback) {
+
+			if (failing) {
+				throw new DataAccessResourceFailureException("Meilisearch is unavailable.");
+			}
+			try {
+				return callback.doWithClient(client);
+			} catch (MeilisearchException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+	};
+
+	@Test
+	void shouldRunOffPeakByDefault() {
+
+		CronExpression schedule = CronExpression.parse(TaskPruningOptions.defaults().getSchedule());
+		ZonedDateTime evening = ZonedDateTime.of(2026, 10, 18, 22, 30, 0, 0, ZONE);
+
+		assertThat(TaskHistoryPruner.delayUntilNextRun(schedule, evening))
+				.isEqualTo(Duration.ofHours(4).plusMinutes(30));
+	}
+
+	@Test
+	void shouldRunLaterTheSameDayBeforeScheduledTime() {
+
+		CronExpression schedule = CronExpression.parse("0 30 4 * * *");
+		ZonedDateTime night = ZonedDateTime.of(2026, 10, 18, 1, 0, 0, 0, ZONE);
+
+		assertThat(TaskHistoryPruner.delayUntilNextRun(schedule, night))
+				.isEqualTo(Duration.ofHours(3).plusMinutes(30));
+	}
+
+	@Test
+	void shouldRejectInvalidSchedule() {
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> TaskPruningOptions.builder().withSchedule("every night"));
+		assertThat(TaskPruningOptions.builder().withSchedule(TaskPruningOptions.MANUAL).build().getSchedule())
+				.isEqualTo(TaskPruningOptions.MANUAL);
+	}
+
+	@Test
+	void shouldDeleteFinishedTasksInBatches() {
+
+		finishedTasks.addAll(List.of(1, 2, 3, 4, 5));
+		TaskPruningOptions options = options().withIndexUids(List.of("movies")).build();
+
+		try (TaskHistoryPruner pruner = pruner(options, () -> 0)) {
+			TaskPruningResult result = pruner.prune();
+
+			assertThat(result.getDeletedTasks()).isEqualTo(5);
+			assertThat(result.getBatches()).isEqualTo(3);
+			assertThat(pruner.getRuns()).isEqualTo(1);
+			assertThat(pruner.getDeletedTasks()).isEqualTo(5);
+			assertThat(pruner.getLastResult()).isSameAs(result);
+		}
+		assertThat(deletions).containsExactly(new int[] { 1, 2 }, new int[] { 3, 4 }, new int[] { 5 });
+		// a short batch means there are no more tasks to look up
+		assertThat(lookups).hasSize(3).allSatisfy(query -> {
+			assertThat(query.getIndexUids()).containsExactly("movies");
+			assertThat(query.getStatuses()).containsExactlyInAnyOrder("succeeded", "failed", "canceled");
+			assertThat(query.getBeforeFinishedAt()).isNotNull();
+		});
+	}
+
+	@Test
+	void shouldStopAfterMaxBatches() {
+
+		finishedTasks.addAll(IntStream.rangeClosed(1, 10).boxed().toList());
+
+		try (TaskHistoryPruner pruner = pruner(options().withMaxBatches(3).build(), () -> 0)) {
+			TaskPruningResult result = pruner.prune();
+
+			assertThat(result.getDeletedTasks()).isEqualTo(6);
+			assertThat(result.getBatches()).isEqualTo(3);
+			assertThat(finishedTasks).containsExactly(7, 8, 9, 10);
+			assertThat(lookups.get(0).getIndexUids()).isNull();
+
+			result = pruner.prune();
+
+			assertThat(result.getDeletedTasks()).isEqualTo(4);
+			assertThat(result.getBatches()).isEqualTo(2);
+			assertThat(finishedTasks).isEmpty();
+			assertThat(pruner.getRuns()).isEqualTo(2);
+			assertThat(pruner.getDeletedTasks()).isEqualTo(10);
+		}
+	}
+
+	@Test
+	void shouldFailRunIfDeletionTaskFails() {
+
+		finishedTasks.addAll(List.of(1, 2, 3));
+		deletionStatus = "failed";
+
+		try (TaskHistoryPruner pruner = pruner(options().build(), () -> 0)) {
+			assertThatExceptionOfType(TaskStatusException.class).isThrownBy(pruner::prune);
+			assertThat(pruner.getRuns()).isZero();
+			assertThat(pruner.getLastResult()).isNull();
+		}
+		assertThat(deletions).hasSize(1);
+	}
+
+	@Test
+	void shouldReportFailedRunAndClearFailureOnNextRun() {
+
+		finishedTasks.addAll(List.of(1, 2));
+		failing = true;
+
+		try (TaskHistoryPruner pruner = pruner(options().build(), () -> 0)) {
+			pruner.run();
+
+			assertThat(pruner.getLastFailure()).isInstanceOf(DataAccessResourceFailureException.class);
+			assertThat(pruner.getRuns()).isZero();
+
+			failing = false;
+			pruner.run();
+
+			assertThat(pruner.getLastFailure()).isNull();
+			assertThat(pruner.getRuns()).isEqualTo(1);
+			assertThat(pruner.getDeletedTasks()).isEqualTo(2);
+		}
+	}
+
+	@Test
+	void shouldNotReportNegativeReclaimedBytes() {
+
+		finishedTasks.add(1);
+		List<Long> sizes = new CopyOnWriteArrayList<>(List.of(100L, 150L, 150L, 100L));
+
+		try (TaskHistoryPruner pruner = pruner(options().build(), () -> sizes.remove(0))) {
+			assertThat(pruner.prune().getReclaimedBytes()).isZero();
+
+			finishedTasks.add(2);
+			assertThat(pruner.prune().getReclaimedBytes()).isEqualTo(50);
+			assertThat(pruner.getReclaimedBytes()).isEqualTo(50);
+		}
+	}
+
+	private TaskHistoryPruner pruner(TaskPruningOptions options, LongSupplier usedDatabaseSize) {
+
+		TaskTracker taskTracker = new TaskTracker(executor, Duration.ofSeconds(5), Duration.ofMillis(10),
+				Duration.ofMillis(50));
+		return new TaskHistoryPruner(executor, taskTracker, usedDatabaseSize, options);
+	}
+
+	private static TaskPruningOptions.Builder options() {
+		return TaskPruningOptions.builder().withBatchSize(2).withSchedule(TaskPruningOptions.MANUAL);
+	}
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client.msc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import io.vanslog.spring.data.meilisearch.core.TaskSupersessionOptions;
+import io.vanslog.spring.data.meilisearch.core.TaskSupersessionStats;
+import io.vanslog.spring.data.meilisearch.entities.Movie;
+import io.vanslog.spring.data.meilisearch.junit.jupiter.MeilisearchTest;
+import io.vanslog.spring.data.meilisearch.junit.jupiter.MeilisearchTestConfiguration;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.ContextConfiguration;
+
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+
+/**
+ * Integration tests for {@link TaskSupersession}.
+ *
+ * @author Junghoon Ban
+ */
+@MeilisearchTest
+@ContextConfiguration(classes = { MeilisearchTestConfiguration.class })
+class TaskSupersessionIntegrationTests extends AbstractMeilisearchTemplateIntegrationTests {
+
+	private static final String BLOCKER_INDEX_UID = "supersession-blocker";
+
+	@AfterEach
+	void tearDown() throws MeilisearchException {
+		deleteIndexIfExists(BLOCKER_INDEX_UID);
+	}
+
+	@Test
+	void shouldResolveSupersededSavesToNewerTask() throws MeilisearchException {
+
+		template.setTaskSupersession(TaskSupersessionOptions.defaults());
+		AsyncMeilisearchTemplate asyncTemplate = new AsyncMeilisearchTemplate(template);
+
+		// keep the task queue busy, so the saves stay enqueued until they are superseded
+		enqueueLongRunningTask();
+		List<List<Movie>> batches = new ArrayList<>();
+		List<CompletableFuture<List<Movie>>> saves = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			List<Movie> batch = List.of(new Movie(1, "Carol " + i, null, null),
+					new Movie(2, "Wonder Woman " + i, null, null));
+			batches.add(batch);
+			saves.add(asyncTemplate.save(batch));
+		}
+
+		for (int i = 0; i < saves.size(); i++) {
+			assertThat(saves.get(i).join()).isEqualTo(batches.get(i));
+		}
+		TaskSupersessionStats stats = template.getTaskSupersessionStats();
+		assertThat(stats).isNotNull();
+		assertThat(stats.getCancelledDocumentBatches()).isPositive();
+		assertThat(stats.getSavedDocuments()).isEqualTo(2 * stats.getCancelledDocumentBatches());
+		assertThat(template.multiGet(Movie.class)).containsExactlyInAnyOrderElementsOf(batches.get(9));
+	}
+
+	private void enqueueLongRunningTask() throws MeilisearchException {
+
+		StringBuilder documents = new StringBuilder("[");
+		for (int i = 0; i < 100_000; i++) {
+			documents.append(i == 0 ? "" : ",").append("{\"id\": ").append(i)
+					.append(", \"description\": \"a document to keep the task queue busy ").append(i).append("\"}");
+		}
+		meilisearchClient.index(BLOCKER_INDEX_UID).addDocuments(documents.append("]").toString());
+	}
+}
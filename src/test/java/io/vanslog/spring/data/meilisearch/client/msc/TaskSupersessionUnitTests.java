@@ -0,0 +1,187 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client.msc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import io.vanslog.spring.data.meilisearch.core.MeilisearchCallback;
+import io.vanslog.spring.data.meilisearch.core.TaskSupersessionOptions;
+import io.vanslog.spring.data.meilisearch.core.TaskSupersessionStats;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import com.meilisearch.sdk.model.Pagination;
+import com.meilisearch.sdk.model.Settings;
+
+/**
+ * Unit tests for {@link TaskSupersession}.
+ *
+ * @author Junghoon Ban
+ */
+class TaskSupersessionUnitTests {
+
+	private final TaskTracker taskTracker = new TaskTracker(new MeilisearchClientExecutor() {
+		@Override
+		public <T> T execute(Idempotency idempotency, MeilisearchCallback<T> callback) {
+			throw new UnsupportedOperationException();
+		}
+	}, Duration.ofSeconds(1), Duration.ofMillis(10), Duration.ofMillis(100));
+
+	private final List<List<Integer>> cancelRequests = new ArrayList<>();
+	private final List<CompletableFuture<List<Integer>>> cancellations = new ArrayList<>();
+
+	@Test
+	void shouldCancelOlderBatchOfSameDocuments() {
+
+		TaskSupersession supersession = supersession(TaskSupersessionOptions.defaults());
+
+		supersession.documentsEnqueued("movies", Set.of("1", "2"), 100, 1);
+		supersession.documentsEnqueued("movies", Set.of("1", "2", "3"), 150, 2);
+		cancellations.get(0).complete(List.of(1));
+
+		assertThat(cancelRequests).containsExactly(List.of(1));
+		TaskSupersessionStats stats = supersession.stats();
+		assertThat(stats.getCancelledTasks()).isEqualTo(1);
+		assertThat(stats.getCancelledDocumentBatches()).isEqualTo(1);
+		assertThat(stats.getSavedDocuments()).isEqualTo(2);
+		assertThat(stats.getSavedBytes()).isEqualTo(100);
+	}
+
+	@Test
+	void shouldKeepBatchWithDocumentsMissingFromNewerBatch() {
+
+		TaskSupersession supersession = supersession(TaskSupersessionOptions.defaults());
+
+		supersession.documentsEnqueued("movies", Set.of("1", "2"), 100, 1);
+		supersession.documentsEnqueued("movies", Set.of("2", "3"), 100, 2);
+		supersession.documentsEnqueued("books", Set.of("1", "2"), 100, 3);
+
+		assertThat(cancelRequests).isEmpty();
+	}
+
+	@Test
+	void shouldCancelTaskRegisteredAfterNewerTaskCoveringIt() {
+
+		TaskSupersession supersession = supersession(TaskSupersessionOptions.defaults());
+
+		supersession.documentsEnqueued("movies", Set.of("1", "2"), 100, 5);
+		supersession.documentsEnqueued("movies", Set.of("1"), 50, 4);
+
+		assertThat(cancelRequests).containsExactly(List.of(4));
+	}
+
+	@Test
+	void shouldOnlyCountTasksThatWereCancelled() {
+
+		TaskSupersession supersession = supersession(TaskSupersessionOptions.defaults());
+
+		supersession.documentsEnqueued("movies", Set.of("1"), 50, 1);
+		supersession.documentsEnqueued("movies", Set.of("1"), 50, 2);
+		cancellations.get(0).complete(List.of());
+
+		assertThat(cancelRequests).containsExactly(List.of(1));
+		assertThat(supersession.stats().getCancelledTasks()).isZero();
+	}
+
+	@Test
+	void shouldCancelSettingsUpdateCoveredByNewerUpdate() {
+
+		TaskSupersession supersession = supersession(TaskSupersessionOptions.defaults());
+
+		supersession.settingsEnqueued("movies", settings(new String[] { "title" }, null), 1);
+		supersession.settingsEnqueued("movies",
+				settings(new String[] { "title", "overview" }, new String[] { "genres" }), 2);
+		cancellations.get(0).complete(List.of(1));
+
+		assertThat(cancelRequests).containsExactly(List.of(1));
+		assertThat(supersession.stats().getCancelledSettingsUpdates()).isEqualTo(1);
+		assertThat(supersession.stats().getSavedDocuments()).isZero();
+	}
+
+	@Test
+	void shouldKeepSettingsUpdateSettingOtherSettings() {
+
+		TaskSupersession supersession = supersession(TaskSupersessionOptions.defaults());
+
+		supersession.settingsEnqueued("movies", settings(new String[] { "title" }, new String[] { "genres" }), 1);
+		supersession.settingsEnqueued("movies", settings(new String[] { "title" }, null), 2);
+
+		assertThat(cancelRequests).isEmpty();
+	}
+
+	@Test
+	void shouldDescendIntoNestedSettings() {
+
+		Settings settings = new Settings();
+		Pagination pagination = new Pagination();
+		pagination.setMaxTotalHits(100);
+		settings.setPagination(pagination);
+		settings.setSearchableAttributes(new String[] { "title" });
+
+		assertThat(TaskSupersession.settingPaths(settings)).containsExactlyInAnyOrder("/pagination/maxTotalHits",
+				"/searchableAttributes");
+	}
+
+	@Test
+	void shouldIgnoreDisabledKinds() {
+
+		TaskSupersession supersession = supersession(TaskSupersessionOptions.builder().withDocuments(false).build());
+
+		supersession.documentsEnqueued("movies", Set.of("1"), 50, 1);
+		supersession.documentsEnqueued("movies", Set.of("1"), 50, 2);
+
+		assertThat(cancelRequests).isEmpty();
+	}
+
+	@Test
+	void shouldForgetTasksBeyondLimit() {
+
+		TaskSupersession supersession = supersession(
+				TaskSupersessionOptions.builder().withMaxTrackedTasks(2).build());
+
+		supersession.documentsEnqueued("movies", Set.of("1"), 50, 1);
+		supersession.documentsEnqueued("movies", Set.of("2"), 50, 2);
+		supersession.documentsEnqueued("movies", Set.of("3"), 50, 3);
+		supersession.documentsEnqueued("movies", Set.of("1", "2", "3"), 150, 4);
+
+		assertThat(cancelRequests).containsExactly(List.of(2, 3));
+	}
+
+	private TaskSupersession supersession(TaskSupersessionOptions options) {
+
+		return new TaskSupersession(options, taskTracker, taskUids -> {
+			cancelRequests.add(IntStream.of(taskUids).sorted().boxed().toList());
+			CompletableFuture<List<Integer>> cancellation = new CompletableFuture<>();
+			cancellations.add(cancellation);
+			return cancellation;
+		});
+	}
+
+	private static Settings settings(String[] searchableAttributes, String[] filterableAttributes) {
+
+		Settings settings = new Settings();
+		settings.setSearchableAttributes(searchableAttributes);
+		settings.setFilterableAttributes(filterableAttributes);
+		return settings;
+	}
+}
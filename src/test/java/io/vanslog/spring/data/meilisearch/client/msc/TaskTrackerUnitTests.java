@@ -0,0 +1,224 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client.msc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import io.vanslog.spring.data.meilisearch.UncategorizedMeilisearchException;
+import io.vanslog.spring.data.meilisearch.core.MeilisearchCallback;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import com.meilisearch.sdk.Client;
+import com.meilisearch.sdk.Config;
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+import com.meilisearch.sdk.json.GsonJsonHandler;
+import com.meilisearch.sdk.model.Task;
+import com.meilisearch.sdk.model.TaskStatus;
+import com.meilisearch.sdk.model.TasksQuery;
+import com.meilisearch.sdk.model.TasksResults;
+
+/**
+ * Unit tests for {@link TaskTracker}.
+ *
+ * @author Junghoon Ban
+ */
+class TaskTrackerUnitTests {
+
+	private final Map<Integer, String> statuses = new ConcurrentHashMap<>();
+	private final List<int[]> queries = new CopyOnWriteArrayList<>();
+	private final List<Thread> pollers = new CopyOnWriteArrayList<>();
+	private final AtomicInteger failures = new AtomicInteger();
+	private final CountDownLatch gate = new CountDownLatch(0);
+
+	private final Client client = new Client(new Config("http://localhost:7700")) {
+		@Override
+		public TasksResults getTasks(TasksQuery param) throws MeilisearchException {
+
+			queries.add(param.getUids());
+			String results = IntStream.of(param.getUids()).filter(statuses::containsKey)
+					.mapToObj(uid -> "{\"uid\": %d, \"indexUid\": \"movies\", \"status\": \"%s\"}".formatted(uid,
+							statuses.get(uid)))
+					.collect(Collectors.joining(","));
+			return new GsonJsonHandler().decode("{\"results\": [" + results + "]}", TasksResults.class);
+		}
+	};
+
+	@Test
+	void shouldResolveTaskOnceFinished() throws Exception {
+
+		statuses.put(1, "enqueued");
+		TaskTracker taskTracker = taskTracker(executor(gate));
+
+		CompletableFuture<Task> future = taskTracker.track(1);
+		Thread.sleep(50);
+		assertThat(future).isNotDone();
+		statuses.put(1, "succeeded");
+
+		assertThat(taskTracker.await(future).getStatus()).isEqualTo(TaskStatus.SUCCEEDED);
+		assertThat(taskTracker.getPendingCount()).isZero();
+		assertThat(taskTracker.hasFinished("movies", 1)).isTrue();
+		assertThat(taskTracker.hasFinished("movies", 2)).isFalse();
+	}
+
+	@Test
+	void shouldSplitQueriesAtMaxUids() throws Exception {
+
+		CountDownLatch firstQuery = new CountDownLatch(1);
+		TaskTracker taskTracker = taskTracker(executor(firstQuery));
+		statuses.put(0, "enqueued");
+
+		taskTracker.track(0);
+		while (pollers.isEmpty()) {
+			Thread.sleep(1);
+		}
+		List<CompletableFuture<Task>> futures = IntStream.rangeClosed(1, TaskTracker.MAX_UIDS_PER_QUERY + 1)
+				.peek(uid -> statuses.put(uid, "succeeded")).mapToObj(taskTracker::track).toList();
+		statuses.put(0, "succeeded");
+		firstQuery.countDown();
+
+		futures.forEach(future -> assertThat(taskTracker.await(future).getStatus()).isEqualTo(TaskStatus.SUCCEEDED));
+		assertThat(queries).extracting(uids -> uids.length).containsExactly(1, TaskTracker.MAX_UIDS_PER_QUERY, 1);
+	}
+
+	@Test
+	void shouldFailTaskThatDoesNotFinishInTime() {
+
+		statuses.put(1, "processing");
+		TaskTracker taskTracker = taskTracker(executor(gate));
+
+		CompletableFuture<Task> future = taskTracker.track(1, Duration.ofMillis(50));
+
+		assertThatThrownBy(() -> taskTracker.await(future)).isInstanceOf(UncategorizedMeilisearchException.class)
+				.hasMessageContaining("Timed out waiting for task 1");
+		assertThat(taskTracker.getPendingCount()).isZero();
+	}
+
+	@Test
+	void shouldExtendExpiryWhenTrackedAgain() throws Exception {
+
+		statuses.put(1, "processing");
+		TaskTracker taskTracker = taskTracker(executor(gate));
+
+		CompletableFuture<Task> first = taskTracker.track(1, Duration.ofMillis(50));
+		CompletableFuture<Task> second = taskTracker.track(1, Duration.ofSeconds(5));
+		Thread.sleep(200);
+		assertThat(first).isNotDone();
+		statuses.put(1, "succeeded");
+
+		assertThat(taskTracker.await(first).getUid()).isEqualTo(1);
+		assertThat(taskTracker.await(second).getUid()).isEqualTo(1);
+	}
+
+	@Test
+	void shouldKeepTasksPendingWhilePollingFails() {
+
+		statuses.put(1, "succeeded");
+		failures.set(2);
+		TaskTracker taskTracker = taskTracker(executor(gate));
+
+		Task task = taskTracker.await(1);
+
+		assertThat(task.getStatus()).isEqualTo(TaskStatus.SUCCEEDED);
+		assertThat(failures).hasValue(0);
+		assertThat(queries).hasSizeGreaterThanOrEqualTo(3);
+	}
+
+	@Test
+	void shouldStopPollerOnceNothingIsPendingAndRestartIt() throws Exception {
+
+		statuses.put(1, "succeeded");
+		statuses.put(2, "succeeded");
+		TaskTracker taskTracker = taskTracker(executor(gate));
+
+		taskTracker.await(1);
+		Thread first = pollers.get(0);
+		first.join(TimeUnit.SECONDS.toMillis(1));
+		assertThat(first.isAlive()).isFalse();
+
+		assertThat(taskTracker.await(2).getUid()).isEqualTo(2);
+		assertThat(pollers.get(pollers.size() - 1)).isNotSameAs(first);
+	}
+
+	@Test
+	void shouldResolveSupersededTaskToNewerTask() {
+
+		statuses.put(1, "canceled");
+		statuses.put(2, "processing");
+		TaskTracker taskTracker = taskTracker(executor(gate));
+		taskTracker.supersede(1, 2);
+
+		CompletableFuture<Task> future = taskTracker.track(1);
+		assertThat(taskTracker.hasFinished("movies", 1)).isFalse();
+		statuses.put(2, "succeeded");
+
+		Task task = taskTracker.await(future);
+		assertThat(task.getUid()).isEqualTo(2);
+		assertThat(task.getStatus()).isEqualTo(TaskStatus.SUCCEEDED);
+		assertThat(taskTracker.hasFinished("movies", 2)).isTrue();
+	}
+
+	@Test
+	void shouldReportCancellationThatWasNotSuperseded() {
+
+		statuses.put(1, "canceled");
+		TaskTracker taskTracker = taskTracker(executor(gate));
+
+		assertThat(taskTracker.await(1).getStatus()).isEqualTo(TaskStatus.CANCELED);
+		assertThat(taskTracker.hasFinished("movies", 1)).isFalse();
+	}
+
+	private TaskTracker taskTracker(MeilisearchClientExecutor executor) {
+		return new TaskTracker(executor, Duration.ofSeconds(5), Duration.ofMillis(10), Duration.ofMillis(50));
+	}
+
+	private MeilisearchClientExecutor executor(CountDownLatch latch) {
+
+		return new MeilisearchClientExecutor() {
+			@Override
+			public <T> T execute(Idempotency idempotency, MeilisearchCallback<T> callback) {
+
+				pollers.add(Thread.currentThread());
+				try {
+					latch.await();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				if (failures.getAndUpdate(count -> Math.max(0, count - 1)) > 0) {
+					throw new DataAccessResourceFailureException("Meilisearch is unavailable");
+				}
+				try {
+					return callback.doWithClient(client);
+				} catch (MeilisearchException e) {
+					throw new IllegalStateException(e);
+				}
+			}
+		};
+	}
+}
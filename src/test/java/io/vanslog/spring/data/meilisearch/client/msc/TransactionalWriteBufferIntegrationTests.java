@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client.msc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import io.vanslog.spring.data.meilisearch.core.TransactionalWriteOptions;
+import io.vanslog.spring.data.meilisearch.entities.Movie;
+import io.vanslog.spring.data.meilisearch.junit.jupiter.MeilisearchTest;
+import io.vanslog.spring.data.meilisearch.junit.jupiter.MeilisearchTestConfiguration;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Integration tests for {@link TransactionalWriteBuffer}.
+ *
+ * @author Junghoon Ban
+ */
+@MeilisearchTest
+@ContextConfiguration(classes = { MeilisearchTestConfiguration.class })
+class TransactionalWriteBufferIntegrationTests extends AbstractMeilisearchTemplateIntegrationTests {
+
+	TransactionTemplate transaction = new TransactionTemplate(new NoOpTransactionManager());
+
+	@Test
+	void shouldSendTransactionalWritesAfterCommit() {
+
+		template.setTransactionalWrites(TransactionalWriteOptions.builder().withAwaitTasks(true).build());
+
+		transaction.executeWithoutResult(status -> {
+			template.save(movie1);
+			template.save(List.of(movie2, movie3));
+			template.delete(movie3);
+
+			assertThat(template.get("1", Movie.class)).isNull();
+		});
+
+		assertThat(template.multiGet(Movie.class)).containsExactlyInAnyOrder(movie1, movie2);
+	}
+
+	@Test
+	void shouldRejectUnbufferedWritesInTransaction() {
+
+		template.setTransactionalWrites(TransactionalWriteOptions.defaults());
+
+		transaction.executeWithoutResult(status -> {
+			assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+					.isThrownBy(() -> template.deleteAll(Movie.class));
+			assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+					.isThrownBy(() -> template.update(movie1));
+			assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+					.isThrownBy(() -> template.saveAll(Movie.class, List.of(movie2)));
+		});
+
+		template.saveAll(Movie.class, List.of(movie2));
+		assertThat(template.count(Movie.class)).isEqualTo(1);
+	}
+
+	@Test
+	void shouldRejectAsynchronousWritesInTransaction() {
+
+		template.setTransactionalWrites(TransactionalWriteOptions.defaults());
+		AsyncMeilisearchTemplate asyncTemplate = new AsyncMeilisearchTemplate(template);
+
+		transaction.executeWithoutResult(status -> {
+			assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+					.isThrownBy(() -> asyncTemplate.save(movie1));
+			assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+					.isThrownBy(() -> asyncTemplate.delete(movie1));
+			assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+					.isThrownBy(() -> asyncTemplate.deleteAll(Movie.class));
+		});
+
+		asyncTemplate.save(movie1).join();
+		assertThat(template.multiGet(Movie.class)).containsExactly(movie1);
+	}
+
+	@Test
+	void shouldDropTransactionalWritesOnRollback() {
+
+		template.setTransactionalWrites(TransactionalWriteOptions.defaults());
+
+		transaction.executeWithoutResult(status -> {
+			template.save(movie1);
+			status.setRollbackOnly();
+		});
+		template.save(movie2);
+
+		assertThat(template.multiGet(Movie.class)).containsExactly(movie2);
+	}
+
+	static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+
+		@Override
+		protected Object doGetTransaction() {
+			return new Object();
+		}
+
+		@Override
+		protected void doBegin(Object transaction, TransactionDefinition definition) {}
+
+		@Override
+		protected void doCommit(DefaultTransactionStatus status) {}
+
+		@Override
+		protected void doRollback(DefaultTransactionStatus status) {}
+	}
+}
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.client.msc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import io.vanslog.spring.data.meilisearch.UncategorizedMeilisearchException;
+import io.vanslog.spring.data.meilisearch.core.WriteLaneStats;
+import io.vanslog.spring.data.meilisearch.core.WritePriority;
+import io.vanslog.spring.data.meilisearch.core.WriteSchedulingOptions;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link WriteScheduler}.
+ *
+ * @author Junghoon Ban
+ */
+class WriteSchedulerUnitTests {
+
+	private final AtomicLong clock = new AtomicLong();
+	private final Map<String, CompletableFuture<String>> sent = new LinkedHashMap<>();
+
+	@Test
+	void shouldLimitConcurrentWrites() {
+
+		WriteScheduler scheduler = scheduler(WriteSchedulingOptions.builder().withMaxConcurrentWrites(2).build());
+
+		submit(scheduler, WritePriority.INTERACTIVE, "a", new byte[1]);
+		submit(scheduler, WritePriority.INTERACTIVE, "b", new byte[1]);
+		submit(scheduler, WritePriority.INTERACTIVE, "c", new byte[1]);
+
+		assertThat(sent).containsOnlyKeys("a", "b");
+
+		sent.get("a").complete("a");
+
+		assertThat(sent).containsOnlyKeys("a", "b", "c");
+	}
+
+	@Test
+	void shouldKeepOneSlotForInteractiveWrites() {
+
+		WriteScheduler scheduler = scheduler(WriteSchedulingOptions.builder().withMaxConcurrentWrites(3).build());
+
+		submit(scheduler, WritePriority.BULK, "bulk-1", new byte[1]);
+		submit(scheduler, WritePriority.BULK, "bulk-2", new byte[1]);
+		submit(scheduler, WritePriority.BULK, "bulk-3", new byte[1]);
+
+		assertThat(sent).containsOnlyKeys("bulk-1", "bulk-2");
+
+		submit(scheduler, WritePriority.INTERACTIVE, "interactive", new byte[1]);
+
+		assertThat(sent).containsOnlyKeys("bulk-1", "bulk-2", "interactive");
+
+		sent.get("interactive").complete("interactive");
+
+		assertThat(sent).containsOnlyKeys("bulk-1", "bulk-2", "interactive");
+
+		sent.get("bulk-1").complete("bulk-1");
+
+		assertThat(sent).containsOnlyKeys("bulk-1", "bulk-2", "interactive", "bulk-3");
+	}
+
+	@Test
+	void shouldLetInteractiveWritesSkipAheadOfBulkWrites() {
+
+		WriteScheduler scheduler = scheduler(WriteSchedulingOptions.builder().withMaxConcurrentWrites(1).build());
+		submit(scheduler, WritePriority.BULK, "bulk-1", new byte[1]);
+		submit(scheduler, WritePriority.BULK, "bulk-2", new byte[1]);
+		submit(scheduler, WritePriority.BULK, "bulk-3", new byte[1]);
+		submit(scheduler, WritePriority.INTERACTIVE, "interactive-1", new byte[1]);
+		submit(scheduler, WritePriority.INTERACTIVE, "interactive-2", new byte[1]);
+
+		completeAll();
+
+		assertThat(new ArrayList<>(sent.keySet())).containsExactly("bulk-1", "interactive-1", "interactive-2", "bulk-2",
+				"bulk-3");
+	}
+
+	@Test
+	void shouldShareDispatchesByWeight() {
+
+		WriteScheduler scheduler = scheduler(WriteSchedulingOptions.builder() //
+				.withMaxConcurrentWrites(1) //
+				.withWeight(WritePriority.INTERACTIVE, 2) //
+				.build());
+		submit(scheduler, WritePriority.INTERACTIVE, "blocker", new byte[1]);
+		for (int i = 1; i <= 3; i++) {
+			submit(scheduler, WritePriority.INTERACTIVE, "interactive-" + i, new byte[1]);
+			submit(scheduler, WritePriority.BULK, "bulk-" + i, new byte[1]);
+		}
+
+		completeAll();
+
+		assertThat(new ArrayList<>(sent.keySet())).containsExactly("blocker", "interactive-1", "bulk-1",
+				"interactive-2", "interactive-3", "bulk-2", "bulk-3");
+	}
+
+	@Test
+	void shouldRateLimitBulkWrites() {
+
+		WriteScheduler scheduler = scheduler(WriteSchedulingOptions.builder().withBulkBytesPerSecond(100).build());
+
+		submit(scheduler, WritePriority.BULK, "bulk-1", new byte[150]);
+		submit(scheduler, WritePriority.BULK, "bulk-2", new byte[10]);
+		submit(scheduler, WritePriority.INTERACTIVE, "interactive", new byte[1000]);
+
+		assertThat(sent).containsOnlyKeys("bulk-1", "interactive");
+
+		clock.addAndGet(Duration.ofMillis(500).toNanos());
+		sent.get("interactive").complete("interactive");
+
+		assertThat(sent).containsOnlyKeys("bulk-1", "interactive", "bulk-2");
+	}
+
+	@Test
+	void shouldReportLaneStats() {
+
+		WriteScheduler scheduler = scheduler(WriteSchedulingOptions.builder().withMaxConcurrentWrites(1).build());
+		submit(scheduler, WritePriority.BULK, "bulk-1", new byte[10]);
+		submit(scheduler, WritePriority.BULK, "bulk-2", new byte[20]);
+		clock.addAndGet(Duration.ofMillis(30).toNanos());
+		sent.get("bulk-1").complete("bulk-1");
+
+		List<WriteLaneStats> stats = scheduler.stats();
+
+		assertThat(stats).extracting(WriteLaneStats::getPriority).containsExactly(WritePriority.INTERACTIVE,
+				WritePriority.BULK);
+		WriteLaneStats bulk = stats.get(1);
+		assertThat(bulk.getQueueDepth()).isZero();
+		assertThat(bulk.getInFlight()).isEqualTo(1);
+		assertThat(bulk.getDispatched()).isEqualTo(2);
+		assertThat(bulk.getBytes()).isEqualTo(30);
+		assertThat(bulk.getMaxWait()).isEqualTo(Duration.ofMillis(30));
+		assertThat(bulk.getAverageWait()).isEqualTo(Duration.ofMillis(15));
+	}
+
+	@Test
+	void shouldPropagateFailures() {
+
+		WriteScheduler scheduler = scheduler(WriteSchedulingOptions.defaults());
+		CompletableFuture<String> result = scheduler.submit(WritePriority.INTERACTIVE, new byte[1],
+				() -> CompletableFuture.failedFuture(new UncategorizedMeilisearchException("Failed.")));
+
+		assertThatExceptionOfType(ExecutionException.class).isThrownBy(result::get)
+				.withCauseInstanceOf(UncategorizedMeilisearchException.class);
+		assertThat(scheduler.stats().get(0).getInFlight()).isZero();
+	}
+
+	private WriteScheduler scheduler(WriteSchedulingOptions options) {
+		return new WriteScheduler(options, clock::get);
+	}
+
+	private void submit(WriteScheduler scheduler, WritePriority priority, String name, byte[] body) {
+		scheduler.submit(priority, body, () -> {
+			CompletableFuture<String> response = new CompletableFuture<>();
+			sent.put(name, response);
+			return response;
+		});
+	}
+
+	private void completeAll() {
+
+		for (int i = 0; i < sent.size(); i++) {
+			String name = new ArrayList<>(sent.keySet()).get(i);
+			sent.get(name).complete(name);
+		}
+	}
+}
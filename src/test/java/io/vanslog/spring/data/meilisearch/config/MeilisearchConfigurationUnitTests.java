@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.*;
 import io.vanslog.spring.data.meilisearch.annotations.Document;
 import io.vanslog.spring.data.meilisearch.client.ClientConfiguration;
 import io.vanslog.spring.data.meilisearch.client.MeilisearchClient;
+import io.vanslog.spring.data.meilisearch.core.AsyncMeilisearchOperations;
 import io.vanslog.spring.data.meilisearch.core.MeilisearchOperations;
 import io.vanslog.spring.data.meilisearch.repository.MeilisearchRepository;
 import io.vanslog.spring.data.meilisearch.repository.config.EnableMeilisearchRepositories;
@@ -47,6 +48,7 @@ class MeilisearchConfigurationUnitTests {
 	@Autowired private MeilisearchClient meilisearchClient;
 	@Autowired private MeilisearchOperations meilisearchTemplate;
 	@Autowired private io.vanslog.spring.data.meilisearch.client.msc.MeilisearchTemplate clientMeilisearchTemplate;
+	@Autowired private AsyncMeilisearchOperations asyncMeilisearchOperations;
 	@Autowired private ApplySettingsFalseRepository applySettingsFalseRepository;
 
 	@Test
@@ -71,6 +73,11 @@ class MeilisearchConfigurationUnitTests {
 		assertThat(meilisearchTemplate).isSameAs(clientMeilisearchTemplate);
 	}
 
+	@Test
+	void shouldBackAsyncOperationsWithMeilisearchTemplate() {
+		assertThat(asyncMeilisearchOperations.blocking()).isSameAs(meilisearchTemplate);
+	}
+
 	@Test
 	void shouldExposeInstanceAndIndexOperationsFromMeilisearchTemplate() {
 		assertThat(meilisearchTemplate.instanceOps()).isNotNull();
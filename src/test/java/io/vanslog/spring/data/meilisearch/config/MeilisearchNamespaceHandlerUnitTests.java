@@ -18,13 +18,16 @@ package io.vanslog.spring.data.meilisearch.config;
 import static org.assertj.core.api.Assertions.*;
 
 import io.vanslog.spring.data.meilisearch.annotations.Document;
+import io.vanslog.spring.data.meilisearch.client.ClientConfiguration;
 import io.vanslog.spring.data.meilisearch.client.MeilisearchClient;
 import io.vanslog.spring.data.meilisearch.client.MeilisearchClientFactoryBean;
+import io.vanslog.spring.data.meilisearch.client.RetryPolicy;
 import io.vanslog.spring.data.meilisearch.client.msc.MeilisearchTemplate;
 import io.vanslog.spring.data.meilisearch.core.MeilisearchOperations;
 import io.vanslog.spring.data.meilisearch.repository.MeilisearchRepository;
 
 import java.lang.reflect.Field;
+import java.time.Duration;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -65,6 +68,29 @@ class MeilisearchNamespaceHandlerUnitTests {
 		assertThat(jsonHandlerField.get(meilisearchClient)).isInstanceOf(com.meilisearch.sdk.json.GsonJsonHandler.class);
 	}
 
+	@Test
+	void shouldConfigureRetryPolicy() {
+
+		MeilisearchClient meilisearchClient = (MeilisearchClient) context.getBean("meilisearchClient");
+		RetryPolicy retryPolicy = meilisearchClient.getClientConfiguration().getRetryPolicy();
+
+		assertThat(retryPolicy.getMaxAttempts()).isEqualTo(5);
+		assertThat(retryPolicy.getInitialBackoff()).isEqualTo(Duration.ofMillis(50));
+		assertThat(retryPolicy.getMaxBackoff()).isEqualTo(Duration.ofMillis(500));
+		assertThat(retryPolicy.getBudgetRatio()).isEqualTo(0.2);
+		assertThat(retryPolicy.getMinRetriesPerSecond()).isEqualTo(RetryPolicy.defaults().getMinRetriesPerSecond());
+	}
+
+	@Test
+	void shouldConfigureTimeouts() {
+
+		MeilisearchClient meilisearchClient = (MeilisearchClient) context.getBean("meilisearchClient");
+		ClientConfiguration configuration = meilisearchClient.getClientConfiguration();
+
+		assertThat(configuration.getConnectTimeout()).isEqualTo(Duration.ofSeconds(2));
+		assertThat(configuration.getResponseTimeout()).isEqualTo(Duration.ofSeconds(30));
+	}
+
 	@Test
 	void shouldCreateMeilisearchRepository() {
 		assertThat(context.getBean(ApplySettingsFalseRepository.class)).isInstanceOf(ApplySettingsFalseRepository.class);
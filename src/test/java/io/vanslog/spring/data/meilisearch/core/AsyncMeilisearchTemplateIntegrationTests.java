@@ -0,0 +1,162 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import io.vanslog.spring.data.meilisearch.client.MeilisearchClient;
+import io.vanslog.spring.data.meilisearch.client.msc.AsyncMeilisearchTemplate;
+import io.vanslog.spring.data.meilisearch.client.msc.ConsistencySession;
+import io.vanslog.spring.data.meilisearch.client.msc.MeilisearchTemplate;
+import io.vanslog.spring.data.meilisearch.core.query.BasicQuery;
+import io.vanslog.spring.data.meilisearch.entities.Movie;
+import io.vanslog.spring.data.meilisearch.junit.jupiter.MeilisearchTest;
+import io.vanslog.spring.data.meilisearch.junit.jupiter.MeilisearchTestConfiguration;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+
+import com.meilisearch.sdk.exceptions.MeilisearchException;
+
+/**
+ * Integration tests for {@link AsyncMeilisearchOperations}.
+ *
+ * @author Junghoon Ban
+ */
+@MeilisearchTest
+@ContextConfiguration(classes = { MeilisearchTestConfiguration.class })
+class AsyncMeilisearchTemplateIntegrationTests {
+
+	@Autowired MeilisearchClient meilisearchClient;
+	@Autowired AsyncMeilisearchOperations asyncMeilisearchTemplate;
+
+	Movie movie1 = new Movie(1, "Carol", "A love story", new String[] { "Romance", "Drama" });
+	Movie movie2 = new Movie(2, "Wonder Woman", "A superhero film", new String[] { "Action", "Adventure" });
+	Movie movie3 = new Movie(3, "Life of Pi", "A survival film", new String[] { "Adventure", "Drama" });
+
+	@BeforeEach
+	void setUp() throws MeilisearchException {
+		asyncMeilisearchTemplate.deleteAll(Movie.class).join();
+	}
+
+	@Test
+	void shouldCompleteSaveWhenTaskFinished() {
+
+		List<Movie> saved = asyncMeilisearchTemplate.save(List.of(movie1, movie2)).join();
+
+		assertThat(saved).containsExactly(movie1, movie2);
+		assertThat(asyncMeilisearchTemplate.count(Movie.class).join()).isEqualTo(2);
+	}
+
+	@Test
+	void shouldRunIndependentSavesConcurrently() {
+
+		CompletableFuture<Movie> first = asyncMeilisearchTemplate.save(movie1);
+		CompletableFuture<Movie> second = asyncMeilisearchTemplate.save(movie2);
+		CompletableFuture<Movie> third = asyncMeilisearchTemplate.save(movie3);
+
+		CompletableFuture.allOf(first, second, third).join();
+
+		assertThat(asyncMeilisearchTemplate.get("2", Movie.class).join()).isEqualTo(movie2);
+		assertThat(asyncMeilisearchTemplate.exists("3", Movie.class).join()).isTrue();
+	}
+
+	@Test
+	void shouldResendUnchangedDocumentsAfterDeleteAll(@TempDir Path directory) {
+
+		MeilisearchTemplate template = new MeilisearchTemplate(meilisearchClient);
+		template.setChangeDetection(ChangeDetectionOptions.builder().withDirectory(directory).build());
+		AsyncMeilisearchTemplate asyncTemplate = new AsyncMeilisearchTemplate(template);
+
+		template.save(movie1);
+		asyncTemplate.deleteAll(Movie.class).join();
+		template.save(movie1);
+
+		assertThat(template.get("1", Movie.class)).isEqualTo(movie1);
+	}
+
+	@Test
+	void shouldKeepWritePriorityOfCaller() {
+
+		MeilisearchTemplate template = new MeilisearchTemplate(meilisearchClient);
+		template.setWriteScheduling(WriteSchedulingOptions.defaults());
+		AsyncMeilisearchTemplate asyncTemplate = new AsyncMeilisearchTemplate(template);
+
+		template.withWritePriority(WritePriority.BULK, () -> asyncTemplate.save(movie1)).join();
+
+		assertThat(template.getWriteLaneStats()).extracting(WriteLaneStats::getPriority, WriteLaneStats::getDispatched)
+				.containsExactly(tuple(WritePriority.INTERACTIVE, 0L), tuple(WritePriority.BULK, 1L));
+	}
+
+	@Test
+	void shouldReadOwnPipelinedWritesWithinSession() {
+
+		MeilisearchTemplate template = (MeilisearchTemplate) asyncMeilisearchTemplate.blocking();
+		ConsistencySession session = template.openSession();
+		AsyncMeilisearchTemplate sessionTemplate = ((AsyncMeilisearchTemplate) asyncMeilisearchTemplate)
+				.withSession(session);
+
+		sessionTemplate.save(List.of(movie1, movie2));
+		sessionTemplate.save(movie3);
+
+		assertThat(sessionTemplate.count(Movie.class).join()).isEqualTo(3);
+		assertThat(sessionTemplate.get("3", Movie.class).join()).isEqualTo(movie3);
+		assertThat(session.getToken().getTaskUid("movies")).isNotNull();
+	}
+
+	@Test
+	void shouldContinueSessionFromToken() {
+
+		MeilisearchTemplate template = (MeilisearchTemplate) asyncMeilisearchTemplate.blocking();
+		ConsistencySession session = template.openSession();
+		template.withSession(session, () -> template.save(movie1));
+
+		ConsistencyToken token = ConsistencyToken.parse(session.getToken().encode());
+		AsyncMeilisearchTemplate continued = ((AsyncMeilisearchTemplate) asyncMeilisearchTemplate)
+				.withSession(template.openSession(token));
+
+		assertThat(token).isEqualTo(session.getToken());
+		assertThat(continued.get("1", Movie.class).join()).isEqualTo(movie1);
+	}
+
+	@Test
+	void shouldSearchAsynchronously() {
+
+		asyncMeilisearchTemplate.save(List.of(movie1, movie2, movie3)).join();
+
+		SearchHits<Movie> hits = asyncMeilisearchTemplate.search(new BasicQuery(movie2.getTitle()), Movie.class).join();
+
+		assertThat(hits.getSearchHits()).extracting(SearchHit::getContent).contains(movie2);
+	}
+
+	@Test
+	void shouldDeleteAsynchronously() {
+
+		asyncMeilisearchTemplate.save(List.of(movie1, movie2)).join();
+
+		Boolean deleted = asyncMeilisearchTemplate.delete(movie1).join();
+
+		assertThat(deleted).isTrue();
+		assertThat(asyncMeilisearchTemplate.get("1", Movie.class).join()).isNull();
+	}
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ConsistencyToken}.
+ *
+ * @author Junghoon Ban
+ */
+class ConsistencyTokenUnitTests {
+
+	@Test
+	void shouldKeepLatestTaskPerIndex() {
+
+		ConsistencyToken token = ConsistencyToken.empty().with("movies", 12).with("movies", 7).with("books", 3);
+
+		assertThat(token.getTaskUid("movies")).isEqualTo(12);
+		assertThat(token.getTaskUid("books")).isEqualTo(3);
+		assertThat(token.getTaskUid("comics")).isNull();
+	}
+
+	@Test
+	void shouldNotChangeRecordedToken() {
+
+		ConsistencyToken token = ConsistencyToken.empty().with("movies", 12);
+
+		token.with("movies", 13);
+
+		assertThat(token.getTaskUid("movies")).isEqualTo(12);
+		assertThat(token.with("movies", 10)).isSameAs(token);
+	}
+
+	@Test
+	void shouldMergeTokens() {
+
+		ConsistencyToken first = ConsistencyToken.empty().with("movies", 12).with("books", 3);
+		ConsistencyToken second = ConsistencyToken.empty().with("movies", 8).with("comics", 20);
+
+		assertThat(first.merge(second).getTaskUids()).containsOnly(entry("movies", 12), entry("books", 3),
+				entry("comics", 20));
+	}
+
+	@Test
+	void shouldRoundTripEncodedToken() {
+
+		ConsistencyToken token = ConsistencyToken.empty().with("movies", 12).with("books", 3);
+
+		assertThat(token.encode()).isEqualTo("books:3,movies:12");
+		assertThat(ConsistencyToken.parse(token.encode())).isEqualTo(token);
+	}
+
+	@Test
+	void shouldParseEmptyToken() {
+
+		assertThat(ConsistencyToken.parse(null).isEmpty()).isTrue();
+		assertThat(ConsistencyToken.parse("")).isSameAs(ConsistencyToken.empty());
+		assertThat(ConsistencyToken.empty().encode()).isEmpty();
+	}
+
+	@Test
+	void shouldRejectMalformedToken() {
+
+		assertThatIllegalArgumentException().isThrownBy(() -> ConsistencyToken.parse("movies"));
+		assertThatIllegalArgumentException().isThrownBy(() -> ConsistencyToken.parse("movies:"));
+		assertThatIllegalArgumentException().isThrownBy(() -> ConsistencyToken.parse("movies:abc"));
+		assertThatIllegalArgumentException().isThrownBy(() -> ConsistencyToken.parse("movies:-1"));
+	}
+}
@@ -18,7 +18,10 @@ package io.vanslog.spring.data.meilisearch.core;
 import static org.assertj.core.api.Assertions.*;
 
 import io.vanslog.spring.data.meilisearch.annotations.Document;
+import io.vanslog.spring.data.meilisearch.client.ClientConfiguration;
 import io.vanslog.spring.data.meilisearch.client.MeilisearchClient;
+import io.vanslog.spring.data.meilisearch.client.msc.BufferedMeilisearchWriter;
+import io.vanslog.spring.data.meilisearch.client.msc.MeilisearchTemplate;
 import io.vanslog.spring.data.meilisearch.core.federation.FederationResponse;
 import io.vanslog.spring.data.meilisearch.core.query.BaseQuery;
 import io.vanslog.spring.data.meilisearch.core.query.BasicQuery;
@@ -29,13 +32,25 @@ import io.vanslog.spring.data.meilisearch.entities.Movie;
 import io.vanslog.spring.data.meilisearch.junit.jupiter.MeilisearchTest;
 import io.vanslog.spring.data.meilisearch.junit.jupiter.MeilisearchTestConfiguration;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.annotation.Id;
 import org.springframework.test.context.ContextConfiguration;
@@ -67,7 +82,7 @@ class MeilisearchTemplateIntegrationTests {
 
 	private static final List<String> LIFECYCLE_INDEX_UIDS = List.of("lifecycle-create-index",
 			"lifecycle-get-list-index", "lifecycle-update-index", "lifecycle-delete-index", "runtime-settings-index",
-			"runtime-settings-reset-index");
+			"runtime-settings-reset-index", "tracked-movies");
 
 	@BeforeEach
 	void setUp() throws MeilisearchException {
@@ -98,6 +113,102 @@ class MeilisearchTemplateIntegrationTests {
 		assertThat(saved).isEqualTo(movies);
 	}
 
+	@Test
+	void shouldUpdateEntity() {
+
+		meilisearchTemplate.save(movie1);
+
+		Movie renamed = new Movie(1, "Carol (2015)", null, null);
+		meilisearchTemplate.update(renamed);
+
+		Movie updated = meilisearchTemplate.get("1", Movie.class);
+		assertThat(updated.getTitle()).isEqualTo("Carol (2015)");
+		assertThat(updated.getDescription()).isEqualTo(movie1.getDescription());
+		assertThat(updated.getGenres()).isEqualTo(movie1.getGenres());
+	}
+
+	@Test
+	void shouldUpdateChangedFieldsOfTrackedEntity() throws MeilisearchException {
+
+		meilisearchTemplate.save(new TrackedMovie(1, "Carol", 10));
+		TrackedMovie loaded = meilisearchTemplate.get("1", TrackedMovie.class);
+
+		TaskInfo taskInfo = meilisearchClient.index("tracked-movies")
+				.updateDocuments("[{\"id\":1,\"title\":\"Carol (2015)\"}]");
+		meilisearchClient.index("tracked-movies").waitForTask(taskInfo.getTaskUid(),
+				meilisearchClient.getRequestTimeout(), meilisearchClient.getRequestInterval());
+
+		loaded.setViews(11);
+		meilisearchTemplate.updateAll(List.of(loaded));
+
+		TrackedMovie updated = meilisearchTemplate.get("1", TrackedMovie.class);
+		assertThat(updated.getTitle()).isEqualTo("Carol (2015)");
+		assertThat(updated.getViews()).isEqualTo(11);
+	}
+
+	@Test
+	void shouldSaveStreamedEntities() {
+
+		long saved = meilisearchTemplate.saveAll(Movie.class, Stream.of(movie1, movie2, movie3));
+
+		assertThat(saved).isEqualTo(3);
+		assertThat(meilisearchTemplate.multiGet(Movie.class)).containsExactlyInAnyOrder(movie1, movie2, movie3);
+	}
+
+	@Test
+	void shouldSaveCompressedNdjson() {
+
+		IngestOptions options = IngestOptions.builder().withGzip(true).build();
+
+		long saved = meilisearchTemplate.saveAll(Movie.class, List.of(movie1, movie2, movie3), options);
+
+		assertThat(saved).isEqualTo(3);
+		assertThat(meilisearchTemplate.multiGet(Movie.class)).containsExactlyInAnyOrder(movie1, movie2, movie3);
+	}
+
+	@Test
+	void shouldImportNdjsonFile(@TempDir Path directory) throws IOException {
+
+		Path file = directory.resolve("movies.ndjson");
+		try (OutputStream output = Files.newOutputStream(file)) {
+			for (Movie movie : List.of(movie1, movie2, movie3)) {
+				meilisearchTemplate.getMeilisearchConverter().write(movie, output);
+				output.write('\n');
+			}
+		}
+		Path checkpoint = directory.resolve("movies.checkpoint");
+		FileImportOptions options = FileImportOptions.builder() //
+				.withMaxBytesPerChunk(150) //
+				.withCheckpoint(checkpoint) //
+				.build();
+
+		FileImportResult result = meilisearchTemplate.importNdjson(Movie.class, file, options);
+
+		assertThat(result.isSucceeded()).isTrue();
+		assertThat(result.getChunks()).isGreaterThan(1);
+		assertThat(result.getResumeOffset()).isEqualTo(Files.size(file));
+		assertThat(checkpoint).doesNotExist();
+		assertThat(meilisearchTemplate.multiGet(Movie.class)).containsExactlyInAnyOrder(movie1, movie2, movie3);
+	}
+
+	@Test
+	void shouldExportNdjsonFile(@TempDir Path directory) throws IOException {
+
+		meilisearchTemplate.save(List.of(movie1, movie2, movie3));
+		Path file = directory.resolve("movies.ndjson");
+		ExportOptions options = ExportOptions.builder() //
+				.withPageSize(1) //
+				.withParallelism(2) //
+				.build();
+
+		ExportResult result = meilisearchTemplate.indexOps(Movie.class).exportNdjson(file, options);
+
+		assertThat(result.getDocuments()).isEqualTo(3);
+		assertThat(result.getPages()).isEqualTo(3);
+		assertThat(result.getBytes()).isEqualTo(Files.size(file));
+		assertThat(Files.readAllLines(file)).hasSize(3).allSatisfy(line -> assertThat(line).startsWith("{"));
+	}
+
 	@Test
 	void shouldGetEntity() {
 
@@ -133,6 +244,37 @@ class MeilisearchTemplateIntegrationTests {
 		assertThat(savedMovies).containsExactlyInAnyOrder(movie2, movie3);
 	}
 
+	@Test
+	void shouldStreamAllEntities() {
+
+		List<Movie> movies = List.of(movie1, movie2, movie3);
+		meilisearchTemplate.save(movies);
+
+		try (Stream<Movie> stream = meilisearchTemplate.streamAll(Movie.class, 2)) {
+			assertThat(stream).containsExactlyInAnyOrder(movie1, movie2, movie3);
+		}
+		assertThat(meilisearchTemplate.iterateAll(Movie.class)).containsExactlyInAnyOrder(movie1, movie2, movie3);
+	}
+
+	@Test
+	void shouldWriteBufferedOperations() {
+
+		Movie renamed = new Movie(1, "Carol (2015)", "A love story", new String[] { "Romance", "Drama" });
+
+		BufferedWriteOptions options = BufferedWriteOptions.builder().withFlushInterval(Duration.ofMinutes(1)).build();
+
+		try (BufferedMeilisearchWriter writer = new BufferedMeilisearchWriter((MeilisearchTemplate) meilisearchTemplate,
+				options)) {
+			writer.saveAll(List.of(movie1, movie2, movie3));
+			writer.save(renamed);
+			writer.delete(movie2);
+
+			assertThat(writer.getBufferedCount()).isEqualTo(3);
+		}
+
+		assertThat(meilisearchTemplate.multiGet(Movie.class)).containsExactlyInAnyOrder(renamed, movie3);
+	}
+
 	@Test
 	void shouldGetCertainEntities() {
 
@@ -144,6 +286,17 @@ class MeilisearchTemplateIntegrationTests {
 		assertThat(savedMovies).containsExactlyInAnyOrder(movie1, movie3);
 	}
 
+	@Test
+	void shouldGetCertainEntitiesInRequestedOrder() {
+
+		List<Movie> movies = List.of(movie1, movie2, movie3);
+		meilisearchTemplate.save(movies);
+
+		List<Movie> savedMovies = meilisearchTemplate.multiGet(Movie.class, List.of("3", "42", "1", "3"));
+
+		assertThat(savedMovies).containsExactly(movie3, movie1);
+	}
+
 	@Test
 	void shouldGetCertainEntitiesWithPagination() {
 
@@ -176,6 +329,16 @@ class MeilisearchTemplateIntegrationTests {
 		assertThat(exists).isFalse();
 	}
 
+	@Test
+	void shouldReturnExistingDocumentIds() {
+
+		meilisearchTemplate.save(List.of(movie1, movie3));
+
+		Set<String> existing = meilisearchTemplate.existsAll(Movie.class, List.of("3", "2", "1", "42"));
+
+		assertThat(existing).containsExactly("3", "1");
+	}
+
 	@Test
 	void shouldCountDocuments() {
 
@@ -206,6 +369,37 @@ class MeilisearchTemplateIntegrationTests {
 		assertThat(result).isTrue();
 	}
 
+	@Test
+	void shouldDeleteDocumentsByFilter() {
+
+		meilisearchTemplate.applySettings(Movie.class); // make genres filterable
+		meilisearchTemplate.save(List.of(movie1, movie2, movie3));
+
+		boolean result = meilisearchTemplate.delete(Movie.class, "genres = Drama");
+
+		assertThat(result).isTrue();
+		assertThat(meilisearchTemplate.multiGet(Movie.class)).containsExactly(movie2);
+	}
+
+	@Test
+	void shouldEditDocumentsByFunction() throws Exception {
+
+		enableExperimentalFeature("editDocumentsByFunction");
+		meilisearchTemplate.applySettings(Movie.class); // make genres filterable
+		meilisearchTemplate.save(List.of(movie1, movie2, movie3));
+
+		DocumentEditRequest request = DocumentEditRequest.builder() //
+				.withFunction("doc.title = doc.title + context.suffix") //
+				.withFilter("genres = Adventure") //
+				.withContext("suffix", " (edited)") //
+				.build();
+		boolean result = meilisearchTemplate.edit(Movie.class, request);
+
+		assertThat(result).isTrue();
+		assertThat(meilisearchTemplate.multiGet(Movie.class)).extracting(Movie::getTitle)
+				.containsExactlyInAnyOrder("Carol", "Wonder Woman (edited)", "Life of Pi (edited)");
+	}
+
 	@Test
 	void shouldDeleteAllDocuments() {
 
@@ -541,6 +735,60 @@ class MeilisearchTemplateIntegrationTests {
 		}
 	}
 
+	@Document(indexUid = "tracked-movies", dirtyTracking = true)
+	static class TrackedMovie {
+
+		@Id private int id;
+		private String title;
+		private int views;
+
+		public TrackedMovie() {}
+
+		TrackedMovie(int id, String title, int views) {
+			this.id = id;
+			this.title = title;
+			this.views = views;
+		}
+
+		public int getId() {
+			return id;
+		}
+
+		public void setId(int id) {
+			this.id = id;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+
+		public void setTitle(String title) {
+			this.title = title;
+		}
+
+		public int getViews() {
+			return views;
+		}
+
+		public void setViews(int views) {
+			this.views = views;
+		}
+	}
+
+	private void enableExperimentalFeature(String feature) throws IOException, InterruptedException {
+
+		ClientConfiguration configuration = meilisearchClient.getClientConfiguration();
+		URI uri = URI.create(configuration.getHostUrl() + "/experimental-features");
+		HttpRequest request = HttpRequest.newBuilder(uri) //
+				.method("PATCH", HttpRequest.BodyPublishers.ofString("{\"" + feature + "\":true}")) //
+				.header("Content-Type", "application/json") //
+				.header("Authorization", "Bearer " + configuration.getApiKey()) //
+				.build();
+
+		HttpResponse<String> response = HttpClient.newHttpClient().send(request, HttpResponse.BodyHandlers.ofString());
+		assertThat(response.statusCode()).as(response.body()).isEqualTo(200);
+	}
+
 	private void deleteLifecycleIndexes() throws MeilisearchException {
 
 		for (String indexUid : LIFECYCLE_INDEX_UIDS) {
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import io.vanslog.spring.data.meilisearch.core.query.BasicQuery;
+import io.vanslog.spring.data.meilisearch.core.query.IndexQuery;
+import io.vanslog.spring.data.meilisearch.entities.Movie;
+import io.vanslog.spring.data.meilisearch.junit.jupiter.MeilisearchTest;
+import io.vanslog.spring.data.meilisearch.junit.jupiter.ReactiveMeilisearchTestConfiguration;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.ContextConfiguration;
+
+/**
+ * Integration tests for {@link ReactiveMeilisearchOperations}.
+ *
+ * @author Junghoon Ban
+ */
+@MeilisearchTest
+@ContextConfiguration(classes = { ReactiveMeilisearchTestConfiguration.class })
+class ReactiveMeilisearchTemplateIntegrationTests {
+
+	@Autowired ReactiveMeilisearchOperations operations;
+
+	Movie movie1 = new Movie(1, "Carol", "A love story", new String[] { "Romance", "Drama" });
+	Movie movie2 = new Movie(2, "Wonder Woman", "A superhero film", new String[] { "Action", "Adventure" });
+	Movie movie3 = new Movie(3, "Life of Pi", "A survival film", new String[] { "Adventure", "Drama" });
+
+	@BeforeEach
+	void setUp() {
+		operations.deleteAll(Movie.class).block();
+	}
+
+	@Test
+	void shouldSaveAndGetEntity() {
+
+		operations.save(movie1) //
+				.as(StepVerifier::create) //
+				.expectNext(movie1) //
+				.verifyComplete();
+
+		operations.get("1", Movie.class) //
+				.as(StepVerifier::create) //
+				.expectNext(movie1) //
+				.verifyComplete();
+	}
+
+	@Test
+	void shouldCompleteEmptyWhenDocumentDoesNotExist() {
+
+		operations.get("42", Movie.class) //
+				.as(StepVerifier::create) //
+				.verifyComplete();
+
+		operations.exists("42", Movie.class) //
+				.as(StepVerifier::create) //
+				.expectNext(false) //
+				.verifyComplete();
+	}
+
+	@Test
+	void shouldReturnExistingDocumentIds() {
+
+		operations.save(List.of(movie1, movie3)).blockLast();
+
+		operations.existsAll(Movie.class, List.of("3", "2", "1")) //
+				.as(StepVerifier::create) //
+				.assertNext(existing -> assertThat(existing).containsExactly("3", "1")) //
+				.verifyComplete();
+	}
+
+	@Test
+	void shouldStreamAllDocuments() {
+
+		operations.save(List.of(movie1, movie2, movie3)).blockLast();
+
+		operations.multiGet(Movie.class) //
+				.as(StepVerifier::create) //
+				.expectNextCount(3) //
+				.verifyComplete();
+
+		operations.count(Movie.class) //
+				.as(StepVerifier::create) //
+				.expectNext(3L) //
+				.verifyComplete();
+	}
+
+	@Test
+	void shouldGetDocumentsByIdInRequestedOrder() {
+
+		operations.save(List.of(movie1, movie2, movie3)).blockLast();
+
+		operations.multiGet(Movie.class, List.of("3", "42", "1")) //
+				.as(StepVerifier::create) //
+				.expectNext(movie3, movie1) //
+				.verifyComplete();
+	}
+
+	@Test
+	void shouldStreamSearchHits() {
+
+		operations.save(List.of(movie1, movie2, movie3)).blockLast();
+
+		operations.search(new BasicQuery(movie2.getTitle()), Movie.class) //
+				.map(SearchHit::getContent) //
+				.as(StepVerifier::create) //
+				.expectNext(movie2) //
+				.thenConsumeWhile(movie -> true) //
+				.verifyComplete();
+	}
+
+	@Test
+	void shouldMultiSearch() {
+
+		operations.save(List.of(movie1, movie2, movie3)).blockLast();
+
+		List<SearchHit<Movie>> hits = operations
+				.multiSearch(List.of(new IndexQuery(movie1.getTitle()), new IndexQuery(movie3.getTitle())), Movie.class)
+				.collectList().block();
+
+		assertThat(hits).extracting(SearchHit::getContent).contains(movie1, movie3);
+	}
+
+	@Test
+	void shouldDeleteEntities() {
+
+		operations.save(List.of(movie1, movie2, movie3)).blockLast();
+
+		operations.delete(List.of(movie1, movie2)) //
+				.as(StepVerifier::create) //
+				.expectNext(true) //
+				.verifyComplete();
+
+		operations.count(Movie.class) //
+				.as(StepVerifier::create) //
+				.expectNext(1L) //
+				.verifyComplete();
+	}
+}
@@ -17,10 +17,28 @@ package io.vanslog.spring.data.meilisearch.core.convert;
 
 import static org.assertj.core.api.Assertions.*;
 
+import io.vanslog.spring.data.meilisearch.annotations.Document;
 import io.vanslog.spring.data.meilisearch.core.mapping.SimpleMeilisearchMappingContext;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
+import org.springframework.lang.Nullable;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
 
 /**
  * Unit tests for {@link MappingMeilisearchConverter}.
@@ -34,6 +52,9 @@ class MappingMeilisearchConverterUnitTests {
 	@BeforeEach
 	void setUp() {
 		converter = new MappingMeilisearchConverter(new SimpleMeilisearchMappingContext());
+		converter.setConversions(new MeilisearchCustomConversions(
+				List.of(LocalDateToStringConverter.INSTANCE, StringToLocalDateConverter.INSTANCE)));
+		converter.afterPropertiesSet();
 	}
 
 	@Test
@@ -45,4 +66,247 @@ class MappingMeilisearchConverterUnitTests {
 	void shouldReturnConversionService() {
 		assertThat(converter.getConversionService()).isNotNull();
 	}
+
+	@Test
+	void shouldWriteEntityOmittingNullProperties() {
+
+		Book book = new Book();
+		book.setId("1");
+		book.setTitle("Dune");
+		book.setPages(412);
+
+		assertThat(write(book)).isEqualTo("{\"id\":\"1\",\"title\":\"Dune\",\"pages\":412}");
+	}
+
+	@Test
+	void shouldWriteNestedValues() {
+
+		Book book = new Book();
+		book.setId("1");
+		book.setAuthor(new Author("Frank Herbert", 1920));
+		book.setTags(List.of("classic", "space"));
+		book.setRatings(Map.of("goodreads", 4));
+		book.setGenre(Genre.SCIENCE_FICTION);
+
+		assertThat(write(book)).isEqualTo("{\"id\":\"1\",\"pages\":0,\"author\":{\"name\":\"Frank Herbert\","
+				+ "\"born\":1920},\"tags\":[\"classic\",\"space\"],\"ratings\":{\"goodreads\":4},"
+				+ "\"genre\":\"SCIENCE_FICTION\"}");
+	}
+
+	@Test
+	void shouldApplyCustomConversions() {
+
+		Book book = new Book();
+		book.setId("1");
+		book.setPublished(LocalDate.of(1965, 8, 1));
+
+		String json = write(book);
+
+		assertThat(json).isEqualTo("{\"id\":\"1\",\"pages\":0,\"published\":\"1965-08-01\"}");
+		assertThat(read(Book.class, json).getPublished()).isEqualTo(LocalDate.of(1965, 8, 1));
+	}
+
+	@Test
+	void shouldWriteDateAsEpochMillis() {
+
+		String json = write(new Screening("1", new Date(1_700_000_000_000L)));
+
+		assertThat(json).isEqualTo("{\"id\":\"1\",\"startsAt\":1700000000000}");
+		assertThat(read(Screening.class, json).startsAt()).isEqualTo(new Date(1_700_000_000_000L));
+	}
+
+	@Test
+	void shouldWriteAllAsArray() {
+
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+		converter.writeAll(List.of(new Author("Ursula K. Le Guin", 1929), new Author("Stanisław Lem", 1921)), output);
+
+		assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo(
+				"[{\"name\":\"Ursula K. Le Guin\",\"born\":1929},{\"name\":\"Stanisław Lem\",\"born\":1921}]");
+	}
+
+	@Test
+	void shouldReadEntityThroughProperties() {
+
+		Book book = read(Book.class, """
+				{"id":"1","title":"Dune","pages":412,"_rankingScore":0.9,"_formatted":{"title":"<em>Dune</em>"},
+				"author":{"name":"Frank Herbert","born":1920},"tags":["classic","space"],"ratings":{"goodreads":4},
+				"genre":"SCIENCE_FICTION"}
+				""");
+
+		assertThat(book.getId()).isEqualTo("1");
+		assertThat(book.getTitle()).isEqualTo("Dune");
+		assertThat(book.getPages()).isEqualTo(412);
+		assertThat(book.getAuthor()).isEqualTo(new Author("Frank Herbert", 1920));
+		assertThat(book.getTags()).containsExactly("classic", "space");
+		assertThat(book.getRatings()).containsEntry("goodreads", 4);
+		assertThat(book.getGenre()).isEqualTo(Genre.SCIENCE_FICTION);
+	}
+
+	@Test
+	void shouldReadRecordThroughCanonicalConstructor() {
+
+		Author author = read(Author.class, "{\"born\":1920,\"name\":\"Frank Herbert\"}");
+
+		assertThat(author).isEqualTo(new Author("Frank Herbert", 1920));
+	}
+
+	@Test
+	void shouldUseDefaultsForMissingCreatorArguments() {
+
+		Author author = read(Author.class, "{\"name\":\"Anonymous\"}");
+
+		assertThat(author).isEqualTo(new Author("Anonymous", 0));
+	}
+
+	@Test
+	void shouldReadCollectionTypesOfProperties() {
+
+		Shelf shelf = read(Shelf.class, "{\"id\":7,\"codes\":[1,2,2],\"weights\":[1.5,2]}");
+
+		assertThat(shelf.id()).isEqualTo(7L);
+		assertThat(shelf.codes()).containsExactlyInAnyOrder(1L, 2L);
+		assertThat(shelf.weights()).containsExactly(1.5, 2.0);
+	}
+
+	@Test
+	void shouldFailOnMalformedDocument() {
+		assertThatExceptionOfType(RuntimeException.class).isThrownBy(() -> read(Author.class, "[1]"));
+	}
+
+	private String write(Object entity) {
+
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		converter.write(entity, output);
+		return output.toString(StandardCharsets.UTF_8);
+	}
+
+	private <T> T read(Class<T> type, String json) {
+
+		try (JsonParser parser = new JsonFactory().createParser(json)) {
+			return converter.read(type, parser);
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	@Document(indexUid = "books")
+	public static class Book {
+
+		@Id private String id;
+		@Nullable private String title;
+		private int pages;
+		@Nullable private Author author;
+		@Nullable private List<String> tags;
+		@Nullable private Map<String, Integer> ratings;
+		@Nullable private Genre genre;
+		@Nullable private LocalDate published;
+
+		public String getId() {
+			return id;
+		}
+
+		public void setId(String id) {
+			this.id = id;
+		}
+
+		@Nullable
+		public String getTitle() {
+			return title;
+		}
+
+		public void setTitle(@Nullable String title) {
+			this.title = title;
+		}
+
+		public int getPages() {
+			return pages;
+		}
+
+		public void setPages(int pages) {
+			this.pages = pages;
+		}
+
+		@Nullable
+		public Author getAuthor() {
+			return author;
+		}
+
+		public void setAuthor(@Nullable Author author) {
+			this.author = author;
+		}
+
+		@Nullable
+		public List<String> getTags() {
+			return tags;
+		}
+
+		public void setTags(@Nullable List<String> tags) {
+			this.tags = tags;
+		}
+
+		@Nullable
+		public Map<String, Integer> getRatings() {
+			return ratings;
+		}
+
+		public void setRatings(@Nullable Map<String, Integer> ratings) {
+			this.ratings = ratings;
+		}
+
+		@Nullable
+		public Genre getGenre() {
+			return genre;
+		}
+
+		public void setGenre(@Nullable Genre genre) {
+			this.genre = genre;
+		}
+
+		@Nullable
+		public LocalDate getPublished() {
+			return published;
+		}
+
+		public void setPublished(@Nullable LocalDate published) {
+			this.published = published;
+		}
+	}
+
+	public record Author(String name, int born) {
+	}
+
+	public record Screening(@Id String id, Date startsAt) {
+	}
+
+	@Document(indexUid = "shelves")
+	public record Shelf(@Id long id, Set<Long> codes, double[] weights) {
+	}
+
+	public enum Genre {
+		SCIENCE_FICTION, FANTASY
+	}
+
+	@WritingConverter
+	enum LocalDateToStringConverter implements Converter<LocalDate, String> {
+
+		INSTANCE;
+
+		@Override
+		public String convert(LocalDate source) {
+			return source.toString();
+		}
+	}
+
+	@ReadingConverter
+	enum StringToLocalDateConverter implements Converter<String, LocalDate> {
+
+		INSTANCE;
+
+		@Override
+		public LocalDate convert(String source) {
+			return LocalDate.parse(source);
+		}
+	}
 }
@@ -23,8 +23,10 @@ import io.vanslog.spring.data.meilisearch.junit.jupiter.MeilisearchTest;
 import io.vanslog.spring.data.meilisearch.junit.jupiter.MeilisearchTestConfiguration;
 import io.vanslog.spring.data.meilisearch.repository.config.EnableMeilisearchRepositories;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -33,6 +35,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ContextConfiguration;
 
 /**
@@ -100,6 +103,32 @@ class MeilisearchRepositoryIntegrationTests {
 		assertThat(saved2).isPresent();
 	}
 
+	@Test
+	void shouldUpdateDocuments() {
+		// given
+		int documentId = 1;
+		Movie movie = new Movie();
+		movie.setId(documentId);
+		movie.setTitle("Carol");
+		movie.setDescription("A love story");
+		movie.setGenres(new String[] { "Romance", "Drama" });
+		movieRepository.save(movie);
+
+		Movie renamed = new Movie();
+		renamed.setId(documentId);
+		renamed.setTitle("Carol (2015)");
+
+		// when
+		movieRepository.updateAll(List.of(renamed));
+
+		// then
+		Optional<Movie> updated = movieRepository.findById(documentId);
+		assertThat(updated).hasValueSatisfying(it -> {
+			assertThat(it.getTitle()).isEqualTo("Carol (2015)");
+			assertThat(it.getDescription()).isEqualTo("A love story");
+		});
+	}
+
 	@Test
 	void shouldDeleteDocument() {
 		// given
@@ -173,6 +202,21 @@ class MeilisearchRepositoryIntegrationTests {
 		assertThat(saved).hasSize(1);
 	}
 
+	@Test
+	void shouldDeleteDocumentsByFilter() {
+		// given
+		Movie movie1 = new Movie(1, "Carol", "A love story", new String[] { "Romance", "Drama" });
+		Movie movie2 = new Movie(2, "Wonder Woman", "A superhero film", new String[] { "Action", "Adventure" });
+		movieRepository.saveAll(List.of(movie1, movie2));
+
+		// when
+		boolean deleted = movieRepository.deleteAllByFilter("genres = Romance");
+
+		// then
+		assertThat(deleted).isTrue();
+		assertThat(movieRepository.findAll()).containsExactly(movie2);
+	}
+
 	@Test
 	void shouldDeleteDocumentsById() {
 		// given
@@ -324,6 +368,33 @@ class MeilisearchRepositoryIntegrationTests {
 		assertThat(page.getTotalPages()).isEqualTo(1);
 	}
 
+	@Test
+	void shouldStreamAllBeyondMaxTotalHits() {
+		// given
+		int elementCount = 11;
+
+		List<TotalHitsLimited> entities = new ArrayList<>();
+		for (int i = 0; i < elementCount; i++) {
+			TotalHitsLimited entity = new TotalHitsLimited(); // It is limited to 10 hits.
+			entity.id = i;
+			entity.name = "name" + i;
+			entities.add(entity);
+		}
+		totalHitsLimitedRepository.saveAll(entities);
+
+		// when
+		long streamed;
+		try (Stream<TotalHitsLimited> stream = totalHitsLimitedRepository.streamAll()) {
+			streamed = stream.count();
+		}
+
+		// then
+		assertThat(streamed).isEqualTo(elementCount);
+		assertThat(totalHitsLimitedRepository.findAll()).hasSize(elementCount);
+		assertThat(totalHitsLimitedRepository.iterateAll()).hasSize(elementCount);
+		assertThat(totalHitsLimitedRepository.findAll(Sort.by("name"))).hasSize(elementCount);
+	}
+
 	interface MovieRepository extends MeilisearchRepository<Movie, Integer> {}
 
 	interface TotalHitsLimitedRepository extends MeilisearchRepository<TotalHitsLimited, String> {}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import io.vanslog.spring.data.meilisearch.entities.Movie;
+import io.vanslog.spring.data.meilisearch.entities.SortableMovie;
+import io.vanslog.spring.data.meilisearch.entities.TotalHitsLimited;
+import io.vanslog.spring.data.meilisearch.junit.jupiter.MeilisearchTest;
+import io.vanslog.spring.data.meilisearch.junit.jupiter.ReactiveMeilisearchTestConfiguration;
+import io.vanslog.spring.data.meilisearch.repository.config.EnableReactiveMeilisearchRepositories;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ContextConfiguration;
+
+/**
+ * Integration tests for {@link ReactiveMeilisearchRepository}.
+ *
+ * @author Junghoon Ban
+ */
+@MeilisearchTest
+@ContextConfiguration(classes = ReactiveMeilisearchRepositoryIntegrationTests.Config.class)
+class ReactiveMeilisearchRepositoryIntegrationTests {
+
+	@Autowired private ReactiveMovieRepository movieRepository;
+	@Autowired private ReactiveSortableMovieRepository sortableMovieRepository;
+	@Autowired private ReactiveTotalHitsLimitedRepository totalHitsLimitedRepository;
+
+	Movie movie1 = new Movie(1, "Carol", "A love story", new String[] { "Romance", "Drama" });
+	Movie movie2 = new Movie(2, "Wonder Woman", "A superhero film", new String[] { "Action", "Adventure" });
+	Movie movie3 = new Movie(3, "Life of Pi", "A survival film", new String[] { "Adventure", "Drama" });
+
+	@BeforeEach
+	void setUp() {
+		movieRepository.deleteAll().block();
+	}
+
+	@Test
+	void shouldSaveDocument() {
+
+		movieRepository.save(movie1) //
+				.as(StepVerifier::create) //
+				.expectNext(movie1) //
+				.verifyComplete();
+
+		movieRepository.findById(1) //
+				.as(StepVerifier::create) //
+				.expectNext(movie1) //
+				.verifyComplete();
+	}
+
+	@Test
+	void shouldSaveDocumentsFromPublisher() {
+
+		movieRepository.saveAll(Flux.just(movie1, movie2, movie3)) //
+				.as(StepVerifier::create) //
+				.expectNextCount(3) //
+				.verifyComplete();
+
+		movieRepository.count() //
+				.as(StepVerifier::create) //
+				.expectNext(3L) //
+				.verifyComplete();
+	}
+
+	@Test
+	void shouldFindAllDocuments() {
+
+		movieRepository.saveAll(List.of(movie1, movie2, movie3)).blockLast();
+
+		movieRepository.findAll() //
+				.as(StepVerifier::create) //
+				.expectNextCount(3) //
+				.verifyComplete();
+	}
+
+	@Test
+	void shouldDeleteDocumentById() {
+
+		movieRepository.saveAll(List.of(movie1, movie2)).blockLast();
+
+		movieRepository.deleteById(1) //
+				.as(StepVerifier::create) //
+				.verifyComplete();
+
+		movieRepository.existsById(1) //
+				.as(StepVerifier::create) //
+				.expectNext(false) //
+				.verifyComplete();
+	}
+
+	@Test
+	void shouldFindAllSortedDocuments() {
+
+		sortableMovieRepository
+				.saveAll(List.of(sortable(1, "Carol"), sortable(2, "Wonder Woman"), sortable(3, "Life of Pi")))
+				.blockLast();
+
+		sortableMovieRepository.findAll(Sort.by(Sort.Direction.DESC, "title")) //
+				.map(Movie::getTitle) //
+				.as(StepVerifier::create) //
+				.expectNext("Wonder Woman", "Life of Pi", "Carol") //
+				.verifyComplete();
+	}
+
+	@Test
+	void shouldFindAllSortedDocumentsBeyondMaxTotalHits() {
+
+		List<TotalHitsLimited> entities = new ArrayList<>();
+		for (int i = 0; i < 11; i++) {
+			TotalHitsLimited entity = new TotalHitsLimited(); // It is limited to 10 hits.
+			entity.id = i;
+			entity.name = "name" + i;
+			entities.add(entity);
+		}
+		totalHitsLimitedRepository.deleteAll().then(totalHitsLimitedRepository.saveAll(entities).then()).block();
+
+		totalHitsLimitedRepository.findAll(Sort.by(Sort.Direction.DESC, "name")) //
+				.map(entity -> entity.name) //
+				.collectList() //
+				.as(StepVerifier::create) //
+				.assertNext(names -> assertThat(names).hasSize(11) //
+						.startsWith("name9", "name8") //
+						.endsWith("name1", "name0")) //
+				.verifyComplete();
+	}
+
+	private static SortableMovie sortable(int id, String title) {
+		SortableMovie movie = new SortableMovie();
+		movie.setId(id);
+		movie.setTitle(title);
+		return movie;
+	}
+
+	interface ReactiveMovieRepository extends ReactiveMeilisearchRepository<Movie, Integer> {}
+
+	interface ReactiveSortableMovieRepository extends ReactiveMeilisearchRepository<SortableMovie, Integer> {}
+
+	interface ReactiveTotalHitsLimitedRepository extends ReactiveMeilisearchRepository<TotalHitsLimited, String> {}
+
+	@Configuration
+	@Import(ReactiveMeilisearchTestConfiguration.class)
+	@EnableReactiveMeilisearchRepositories(basePackages = "io.vanslog.spring.data.meilisearch.repository",
+			considerNestedRepositories = true)
+	static class Config {}
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.repository.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import io.vanslog.spring.data.meilisearch.core.mapping.SimpleMeilisearchMappingContext;
+import io.vanslog.spring.data.meilisearch.entities.Movie;
+
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.Sort;
+import org.springframework.lang.Nullable;
+
+/**
+ * Unit tests for {@link SortComparator}.
+ *
+ * @author Junghoon Ban
+ */
+class SortComparatorUnitTests {
+
+	private final SimpleMeilisearchMappingContext mappingContext = new SimpleMeilisearchMappingContext();
+
+	private final Movie carol = new Movie(1, "Carol", null, null);
+	private final Movie lifeOfPi = new Movie(2, "life of Pi", null, null);
+	private final Movie untitled = new Movie(3, null, null, null);
+	private final Movie wonderWoman = new Movie(4, "Wonder Woman", null, null);
+
+	@Test
+	void shouldSortByPropertyWithMissingValuesLast() {
+
+		List<Movie> movies = List.of(wonderWoman, untitled, carol);
+
+		assertThat(movies.stream().sorted(movieComparator(Sort.by("title"))))
+				.containsExactly(carol, wonderWoman, untitled);
+		assertThat(movies.stream().sorted(movieComparator(Sort.by(Sort.Direction.DESC, "title"))))
+				.containsExactly(wonderWoman, carol, untitled);
+	}
+
+	@Test
+	void shouldHonourIgnoreCaseAndNullHandling() {
+
+		Sort sort = Sort.by(Sort.Order.asc("title").ignoreCase().nullsFirst());
+
+		assertThat(List.of(wonderWoman, lifeOfPi, untitled, carol).stream().sorted(movieComparator(sort)))
+				.containsExactly(untitled, carol, lifeOfPi, wonderWoman);
+	}
+
+	@Test
+	void shouldSortByFollowingOrdersOnEqualValues() {
+
+		Movie otherCarol = new Movie(5, "Carol", null, null);
+		Sort sort = Sort.by(Sort.Order.asc("title"), Sort.Order.desc("id"));
+
+		assertThat(List.of(carol, wonderWoman, otherCarol).stream().sorted(movieComparator(sort)))
+				.containsExactly(otherCarol, carol, wonderWoman);
+	}
+
+	@Test
+	void shouldRejectUnknownProperty() {
+
+		assertThatIllegalArgumentException().isThrownBy(() -> movieComparator(Sort.by("rating")))
+				.withMessageContaining("rating");
+	}
+
+	@Test
+	void shouldSortByNestedPropertyWithMissingValuesLast() {
+
+		Book dune = new Book(1, new Author("Frank Herbert"), null, null);
+		Book emma = new Book(2, new Author("Jane Austen"), null, null);
+		Book anonymous = new Book(3, new Author(null), null, null);
+		Book unknown = new Book(4, null, null, null);
+		List<Book> books = List.of(unknown, emma, anonymous, dune);
+
+		assertThat(books.stream().sorted(bookComparator(Sort.by("author.name"))))
+				.containsExactly(dune, emma, unknown, anonymous);
+		assertThat(books.stream().sorted(bookComparator(Sort.by(Sort.Direction.DESC, "author.name"))))
+				.containsExactly(emma, dune, unknown, anonymous);
+	}
+
+	@Test
+	void shouldRejectUnknownNestedProperty() {
+
+		assertThatIllegalArgumentException().isThrownBy(() -> bookComparator(Sort.by("author.age")))
+				.withMessageContaining("author.age");
+		assertThatIllegalArgumentException().isThrownBy(() -> bookComparator(Sort.by("id.value")))
+				.withMessageContaining("id.value");
+	}
+
+	@Test
+	void shouldRejectNestedPropertyOfCollection() {
+
+		assertThatIllegalArgumentException().isThrownBy(() -> bookComparator(Sort.by("editors.name")))
+				.withMessageContaining("editors");
+	}
+
+	@Test
+	void shouldSortNumbersBeforeStringsInEitherDirection() {
+
+		Book one = new Book(1, null, 1, null);
+		Book two = new Book(2, null, 2.5, null);
+		Book good = new Book(3, null, "good", null);
+		Book bad = new Book(4, null, "bad", null);
+		Book yes = new Book(5, null, true, null);
+		Book unrated = new Book(6, null, null, null);
+		List<Book> books = List.of(good, unrated, two, yes, bad, one);
+
+		assertThat(books.stream().sorted(bookComparator(Sort.by("rating"))))
+				.containsExactly(one, two, bad, good, yes, unrated);
+		assertThat(books.stream().sorted(bookComparator(Sort.by(Sort.Direction.DESC, "rating"))))
+				.containsExactly(two, one, yes, good, bad, unrated);
+	}
+
+	@Test
+	void shouldSortCollectionsByTheirFirstElementInSortOrder() {
+
+		Book classic = new Book(1, null, null, List.of("drama", "classic"));
+		Book scifi = new Book(2, null, null, List.of("scifi", "adventure", "epic"));
+		Book numbered = new Book(3, null, null, List.of("zebra", 42));
+		Book untagged = new Book(4, null, null, List.of());
+		List<Book> books = List.of(untagged, scifi, classic, numbered);
+
+		assertThat(books.stream().sorted(bookComparator(Sort.by("tags"))))
+				.containsExactly(numbered, scifi, classic, untagged);
+		assertThat(books.stream().sorted(bookComparator(Sort.by(Sort.Direction.DESC, "tags"))))
+				.containsExactly(numbered, scifi, classic, untagged);
+	}
+
+	private Comparator<Movie> movieComparator(Sort sort) {
+		return SortComparator.of(sort, Movie.class, mappingContext);
+	}
+
+	private Comparator<Book> bookComparator(Sort sort) {
+		return SortComparator.of(sort, Book.class, mappingContext);
+	}
+
+	static class Book {
+
+		@Id private final int id;
+		@Nullable private final Author author;
+		@Nullable private final Object rating;
+		@Nullable private final List<Object> tags;
+		@Nullable private List<Author> editors;
+
+		Book(int id, @Nullable Author author, @Nullable Object rating, @Nullable List<Object> tags) {
+			this.id = id;
+			this.author = author;
+			this.rating = rating;
+			this.tags = tags;
+		}
+	}
+
+	static class Author {
+
+		@Nullable private final String name;
+
+		Author(@Nullable String name) {
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.core
+
+import io.vanslog.spring.data.meilisearch.core.query.BasicQuery
+import io.vanslog.spring.data.meilisearch.entities.Movie
+import io.vanslog.spring.data.meilisearch.entities.SortableMovie
+import io.vanslog.spring.data.meilisearch.junit.jupiter.MeilisearchTest
+import io.vanslog.spring.data.meilisearch.junit.jupiter.MeilisearchTestConfiguration
+import kotlinx.coroutines.flow.map
+import kotlinx.coroutines.flow.toList
+import kotlinx.coroutines.runBlocking
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.data.domain.PageRequest
+import org.springframework.data.domain.Sort
+import org.springframework.test.context.ContextConfiguration
+
+/**
+ * Integration tests for the Kotlin coroutine extensions of [ReactiveMeilisearchOperations].
+ *
+ * @author Junghoon Ban
+ */
+@MeilisearchTest
+@ContextConfiguration(classes = [MeilisearchTestConfiguration::class])
+class ReactiveMeilisearchOperationsExtensionsIntegrationTests {
+
+	@Autowired
+	lateinit var operations: ReactiveMeilisearchOperations
+
+	private val movie1 = Movie(1, "Carol", "A love story", arrayOf("Romance", "Drama"))
+	private val movie2 = Movie(2, "Wonder Woman", "A superhero film", arrayOf("Action", "Adventure"))
+	private val movie3 = Movie(3, "Life of Pi", "A survival film", arrayOf("Adventure", "Drama"))
+
+	@BeforeEach
+	fun setUp() = runBlocking<Unit> {
+		operations.deleteAllAndAwait(Movie::class.java)
+	}
+
+	@Test
+	fun shouldPageThroughSearchHits() = runBlocking<Unit> {
+
+		operations.saveAndAwait(listOf(movie1, movie2, movie3))
+		val query = BasicQuery.builder().withPageable(PageRequest.of(0, 2)).build()
+
+		val ids = operations.searchAsFlow<Movie>(query).map { it.content.id }.toList()
+
+		assertThat(ids).containsExactlyInAnyOrder(1, 2, 3)
+		assertThat(query.pageable).isEqualTo(PageRequest.of(0, 2))
+	}
+
+	@Test
+	fun shouldKeepSortOfQueryWhilePaging() = runBlocking<Unit> {
+
+		operations.applySettingsAndAwait(SortableMovie::class.java)
+		operations.saveAndAwait(listOf(movie1, movie2, movie3))
+		val query = BasicQuery.builder().withPageable(PageRequest.of(0, 2, Sort.by("title"))).build()
+
+		val titles = operations.searchAsFlow<SortableMovie>(query).map { it.content.title }.toList()
+
+		assertThat(titles).containsExactly("Carol", "Life of Pi", "Wonder Woman")
+		assertThat(query.sort).isEqualTo(Sort.by("title"))
+		assertThat(query.pageable).isEqualTo(PageRequest.of(0, 2, Sort.by("title")))
+	}
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.vanslog.spring.data.meilisearch.repository
+
+import io.vanslog.spring.data.meilisearch.entities.Movie
+import io.vanslog.spring.data.meilisearch.entities.SortableMovie
+import io.vanslog.spring.data.meilisearch.junit.jupiter.MeilisearchTest
+import io.vanslog.spring.data.meilisearch.junit.jupiter.ReactiveMeilisearchTestConfiguration
+import io.vanslog.spring.data.meilisearch.repository.config.EnableReactiveMeilisearchRepositories
+import kotlinx.coroutines.flow.flowOf
+import kotlinx.coroutines.flow.map
+import kotlinx.coroutines.flow.toList
+import kotlinx.coroutines.runBlocking
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.Test
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.context.annotation.Configuration
+import org.springframework.context.annotation.Import
+import org.springframework.data.domain.Sort
+import org.springframework.test.context.ContextConfiguration
+
+/**
+ * Integration tests for [CoroutineMeilisearchRepository].
+ *
+ * @author Junghoon Ban
+ */
+@MeilisearchTest
+@ContextConfiguration(classes = [CoroutineMeilisearchRepositoryIntegrationTests.Config::class])
+class CoroutineMeilisearchRepositoryIntegrationTests {
+
+	@Autowired
+	lateinit var movieRepository: CoroutineMovieRepository
+
+	@Autowired
+	lateinit var sortableMovieRepository: CoroutineSortableMovieRepository
+
+	private val movie1 = Movie(1, "Carol", "A love story", arrayOf("Romance", "Drama"))
+	private val movie2 = Movie(2, "Wonder Woman", "A superhero film", arrayOf("Action", "Adventure"))
+	private val movie3 = Movie(3, "Life of Pi", "A survival film", arrayOf("Adventure", "Drama"))
+
+	@BeforeEach
+	fun setUp() = runBlocking<Unit> {
+		movieRepository.deleteAll()
+	}
+
+	@Test
+	fun shouldSaveDocument() = runBlocking<Unit> {
+
+		assertThat(movieRepository.save(movie1)).isEqualTo(movie1)
+		assertThat(movieRepository.findById(1)).isEqualTo(movie1)
+		assertThat(movieRepository.findById(42)).isNull()
+	}
+
+	@Test
+	fun shouldSaveDocumentsFromFlow() = runBlocking<Unit> {
+
+		assertThat(movieRepository.saveAll(flowOf(movie1, movie2, movie3)).toList()).hasSize(3)
+		assertThat(movieRepository.count()).isEqualTo(3L)
+		assertThat(movieRepository.findAll().toList()).hasSize(3)
+	}
+
+	@Test
+	fun shouldDeleteDocumentById() = runBlocking<Unit> {
+
+		movieRepository.saveAll(listOf(movie1, movie2)).toList()
+		movieRepository.deleteById(1)
+
+		assertThat(movieRepository.existsById(1)).isFalse()
+		assertThat(movieRepository.existsById(2)).isTrue()
+	}
+
+	@Test
+	fun shouldFindAllSortedDocuments() = runBlocking<Unit> {
+
+		sortableMovieRepository.saveAll(listOf(sortable(1, "Carol"), sortable(2, "Wonder Woman"),
+				sortable(3, "Life of Pi"))).toList()
+
+		val titles = sortableMovieRepository.findAll(Sort.by(Sort.Direction.DESC, "title")).map { it.title }.toList()
+
+		assertThat(titles).containsExactly("Wonder Woman", "Life of Pi", "Carol")
+	}
+
+	private fun sortable(id: Int, title: String) = SortableMovie().apply {
+		this.id = id
+		this.title = title
+	}
+
+	interface CoroutineMovieRepository : CoroutineMeilisearchRepository<Movie, Int>
+
+	interface CoroutineSortableMovieRepository : CoroutineMeilisearchRepository<SortableMovie, Int>
+
+	@Configuration
+	@Import(ReactiveMeilisearchTestConfiguration::class)
+	@EnableReactiveMeilisearchRepositories(basePackages = ["io.vanslog.spring.data.meilisearch.repository"],
+			considerNestedRepositories = true)
+	open class Config
+}